@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+
+/**
+ * Benchmark for reading and writing entities with {@link MappingRedisConverter}. Run with
+ *
+ * <pre>
+ * <code>
+ * mvn -Pjmh test-compile exec:java -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.classpathScope=test
+ * </code>
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MappingRedisConverterBenchmark {
+
+	private MappingRedisConverter converter;
+	private Customer customer;
+	private RedisData data;
+
+	@Setup
+	public void setUp() {
+
+		converter = new MappingRedisConverter(new RedisMappingContext(), null, null);
+		converter.afterPropertiesSet();
+
+		Address home = new Address();
+		home.street = "Winespring Inn";
+		home.city = "Emond's Field";
+		home.country = "Andor";
+
+		Address work = new Address();
+		work.street = "White Tower";
+		work.city = "Tar Valon";
+		work.country = "Tar Valon";
+
+		customer = new Customer();
+		customer.id = "rand";
+		customer.firstname = "rand";
+		customer.lastname = "al'thor";
+		customer.age = 19;
+		customer.birthdate = new Date(0);
+		customer.address = home;
+		customer.addresses = Arrays.asList(home, work);
+		customer.nicknames = Arrays.asList("dragon reborn", "car'a'carn", "coramoor");
+		customer.attributes = Collections.singletonMap("sword", "heron marked");
+
+		data = new RedisData();
+		converter.write(customer, data);
+	}
+
+	@Benchmark
+	public RedisData write() {
+
+		RedisData sink = new RedisData();
+		converter.write(customer, sink);
+		return sink;
+	}
+
+	@Benchmark
+	public Customer read() {
+		return converter.read(Customer.class, data);
+	}
+
+	@RedisHash("customers")
+	static class Customer {
+
+		@Id String id;
+		String firstname;
+		String lastname;
+		Integer age;
+		Date birthdate;
+		Address address;
+		List<Address> addresses;
+		List<String> nicknames;
+		Map<String, String> attributes;
+	}
+
+	static class Address {
+
+		String street;
+		String city;
+		String country;
+	}
+}
@@ -115,6 +115,22 @@ public class ClusterCommandExecutor implements DisposableBean {
 		return executeCommandOnSingleNode(cmd, node, 0);
 	}
 
+	/**
+	 * Run {@link ClusterCommandCallback} on given {@link RedisClusterNode} using the {@link AsyncTaskExecutor}.
+	 *
+	 * @param cmd must not be {@literal null}.
+	 * @param node must not be {@literal null}.
+	 * @return the {@link Future} holding the {@link NodeResult}.
+	 */
+	<S, T> Future<NodeResult<T>> executeCommandAsyncOnSingleNode(ClusterCommandCallback<S, T> cmd,
+			RedisClusterNode node) {
+
+		Assert.notNull(cmd, "ClusterCommandCallback must not be null!");
+		Assert.notNull(node, "RedisClusterNode must not be null!");
+
+		return executor.submit(() -> executeCommandOnSingleNode(cmd, node));
+	}
+
 	private <S, T> NodeResult<T> executeCommandOnSingleNode(ClusterCommandCallback<S, T> cmd, RedisClusterNode node,
 			int redirectCount) {
 
@@ -321,7 +337,7 @@ public class ClusterCommandExecutor implements DisposableBean {
 		}
 	}
 
-	private ClusterTopology getClusterTopology() {
+	ClusterTopology getClusterTopology() {
 		return this.topologyProvider.getTopology();
 	}
 
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.springframework.data.redis.connection.ClusterCommandExecutor.ClusterCommandCallback;
+import org.springframework.data.redis.connection.ClusterCommandExecutor.NodeResult;
+import org.springframework.data.redis.core.ScanCursor;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ScanCursor} iterating {@code SCAN} over all master nodes of a cluster behind a single cursor. Nodes are
+ * scanned one after another or, using a {@code parallelism} greater than one, up to that many nodes concurrently via
+ * the {@link ClusterCommandExecutor}. {@link ScanOptions#getCount()} applies per node and page.
+ * <p>
+ * The composite {@link #getCursorId() cursor id} holds the index of the lowest node not yet completed in its upper 16
+ * bits and that node's cursor in the lower 48 bits, so a scan can be resumed by passing the id back in. Resuming a
+ * parallel scan restarts the other nodes that were in progress, which may return keys again just like {@code SCAN}
+ * itself may. Resuming is only meaningful as long as the set of master nodes does not change.
+ *
+ * @since 2.0
+ */
+public class ClusterScanCursor extends ScanCursor<byte[]> {
+
+	private static final int NODE_SHIFT = 48;
+	private static final long NODE_CURSOR_MASK = (1L << NODE_SHIFT) - 1;
+
+	private final ClusterCommandExecutor executor;
+	private final NodeScanCallback<?> callback;
+	private final int parallelism;
+	private final List<RedisClusterNode> nodes;
+
+	private final Map<Integer, Long> active = new LinkedHashMap<>();
+	private int nextNode;
+
+	/**
+	 * Creates new {@link ClusterScanCursor} scanning one node at a time.
+	 *
+	 * @param cursorId the composite cursor id to resume from, {@literal 0} to start from the beginning.
+	 * @param options can be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 */
+	public ClusterScanCursor(long cursorId, ScanOptions options, ClusterCommandExecutor executor,
+			NodeScanCallback<?> callback) {
+		this(cursorId, options, executor, callback, 1);
+	}
+
+	/**
+	 * Creates new {@link ClusterScanCursor}.
+	 *
+	 * @param cursorId the composite cursor id to resume from, {@literal 0} to start from the beginning.
+	 * @param options can be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @param parallelism number of nodes scanned concurrently. Must be greater than zero.
+	 */
+	public ClusterScanCursor(long cursorId, ScanOptions options, ClusterCommandExecutor executor,
+			NodeScanCallback<?> callback, int parallelism) {
+
+		super(cursorId, options);
+
+		Assert.notNull(executor, "ClusterCommandExecutor must not be null!");
+		Assert.notNull(callback, "NodeScanCallback must not be null!");
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+
+		this.executor = executor;
+		this.callback = callback;
+		this.parallelism = parallelism;
+
+		List<RedisClusterNode> masters = new ArrayList<>(executor.getClusterTopology().getActiveMasterNodes());
+		masters.sort(Comparator.comparing(node -> node.getHost() + ":" + node.getPort()));
+		this.nodes = Collections.unmodifiableList(masters);
+
+		int node = nodeIndex(cursorId);
+		if (node < nodes.size()) {
+			active.put(node, nodeCursor(cursorId));
+		}
+		this.nextNode = node + 1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.ScanCursor#doScan(long, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	protected ScanIteration<byte[]> doScan(long cursorId, ScanOptions options) {
+
+		while (active.size() < parallelism && nextNode < nodes.size()) {
+			active.put(nextNode++, 0L);
+		}
+
+		if (active.isEmpty()) {
+			return new ScanIteration<>(0, Collections.<byte[]> emptyList());
+		}
+
+		Map<Integer, ScanIteration<byte[]>> pages = active.size() == 1 ? scanSingle(options) : scanConcurrently(options);
+
+		List<byte[]> items = new ArrayList<>();
+		for (Map.Entry<Integer, ScanIteration<byte[]>> page : pages.entrySet()) {
+
+			items.addAll(page.getValue().getItems());
+
+			if (page.getValue().getCursorId() == 0) {
+				active.remove(page.getKey());
+			} else {
+				active.put(page.getKey(), page.getValue().getCursorId());
+			}
+		}
+
+		return new ScanIteration<>(compositeCursorId(), items);
+	}
+
+	/**
+	 * @return the master nodes in scan order.
+	 */
+	public List<RedisClusterNode> getNodes() {
+		return nodes;
+	}
+
+	private Map<Integer, ScanIteration<byte[]>> scanSingle(ScanOptions options) {
+
+		Map.Entry<Integer, Long> entry = active.entrySet().iterator().next();
+
+		return Collections.singletonMap(entry.getKey(), executor
+				.executeCommandOnSingleNode(callback(callback, entry.getValue(), options), nodes.get(entry.getKey()))
+				.getValue());
+	}
+
+	private Map<Integer, ScanIteration<byte[]>> scanConcurrently(ScanOptions options) {
+
+		Map<Integer, Future<NodeResult<ScanIteration<byte[]>>>> futures = new LinkedHashMap<>();
+		for (Map.Entry<Integer, Long> entry : active.entrySet()) {
+			futures.put(entry.getKey(), executor.executeCommandAsyncOnSingleNode(
+					callback(callback, entry.getValue(), options), nodes.get(entry.getKey())));
+		}
+
+		Map<Integer, ScanIteration<byte[]>> pages = new LinkedHashMap<>();
+		for (Map.Entry<Integer, Future<NodeResult<ScanIteration<byte[]>>>> entry : futures.entrySet()) {
+
+			try {
+				pages.put(entry.getKey(), entry.getValue().get().getValue());
+			} catch (ExecutionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+						: new ClusterCommandExecutionFailureException(e.getCause());
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				throw new ClusterCommandExecutionFailureException(e);
+			}
+		}
+		return pages;
+	}
+
+	private long compositeCursorId() {
+
+		if (!active.isEmpty()) {
+
+			Map.Entry<Integer, Long> lowest = active.entrySet().iterator().next();
+			for (Map.Entry<Integer, Long> entry : active.entrySet()) {
+				if (entry.getKey() < lowest.getKey()) {
+					lowest = entry;
+				}
+			}
+			return compose(lowest.getKey(), lowest.getValue());
+		}
+
+		return nextNode < nodes.size() ? compose(nextNode, 0) : 0;
+	}
+
+	private static <S> ClusterCommandCallback<S, ScanIteration<byte[]>> callback(NodeScanCallback<S> callback,
+			long cursorId, ScanOptions options) {
+		return client -> callback.doScan(client, cursorId, options);
+	}
+
+	private static long compose(int node, long nodeCursor) {
+
+		Assert.state((nodeCursor & ~NODE_CURSOR_MASK) == 0,
+				() -> String.format("Node cursor %s exceeds %s bits!", nodeCursor, NODE_SHIFT));
+		return ((long) node << NODE_SHIFT) | nodeCursor;
+	}
+
+	private static int nodeIndex(long cursorId) {
+		return (int) (cursorId >>> NODE_SHIFT);
+	}
+
+	private static long nodeCursor(long cursorId) {
+		return cursorId & NODE_CURSOR_MASK;
+	}
+
+	/**
+	 * Callback running a single {@code SCAN} iteration on a node.
+	 *
+	 * @param <S> native driver connection type.
+	 */
+	public interface NodeScanCallback<S> {
+
+		/**
+		 * @param client the native connection to the node.
+		 * @param cursorId the node specific cursor id.
+		 * @param options never {@literal null}.
+		 * @return the {@link ScanIteration} holding the next node cursor id.
+		 */
+		ScanIteration<byte[]> doScan(S client, long cursorId, ScanOptions options);
+	}
+}
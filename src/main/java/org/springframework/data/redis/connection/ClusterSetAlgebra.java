@@ -0,0 +1,327 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.util.ByteArraySet;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.util.Assert;
+
+/**
+ * Cross-slot {@code SINTER}, {@code SUNION} and {@code SDIFF} including their {@code *STORE} variants for Redis
+ * Cluster. Instead of loading every set via {@code SMEMBERS}, the members of the driving set are streamed via
+ * {@code SSCAN} in batches and checked against the other sets through a driver specific, pipelined
+ * {@link MembershipLookup}. Intersections are driven by the set with the lowest {@code SCARD}.
+ * <p>
+ * {@code *STORE} operations write results to the destination in batches as they are computed unless the destination
+ * is one of the source keys, in which case the result is computed up front.
+ *
+ * @since 2.0
+ */
+public class ClusterSetAlgebra {
+
+	/**
+	 * Default number of members fetched per {@code SSCAN} and checked per {@link MembershipLookup} round trip.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	private final RedisSetCommands setCommands;
+	private final RedisKeyCommands keyCommands;
+	private final MembershipLookup membershipLookup;
+	private final int batchSize;
+
+	/**
+	 * Creates new {@link ClusterSetAlgebra} using the {@link #DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param setCommands must not be {@literal null}.
+	 * @param keyCommands must not be {@literal null}.
+	 * @param membershipLookup must not be {@literal null}.
+	 */
+	public ClusterSetAlgebra(RedisSetCommands setCommands, RedisKeyCommands keyCommands,
+			MembershipLookup membershipLookup) {
+		this(setCommands, keyCommands, membershipLookup, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Creates new {@link ClusterSetAlgebra}.
+	 *
+	 * @param setCommands must not be {@literal null}.
+	 * @param keyCommands must not be {@literal null}.
+	 * @param membershipLookup must not be {@literal null}.
+	 * @param batchSize must be greater than zero.
+	 */
+	public ClusterSetAlgebra(RedisSetCommands setCommands, RedisKeyCommands keyCommands,
+			MembershipLookup membershipLookup, int batchSize) {
+
+		Assert.notNull(setCommands, "RedisSetCommands must not be null!");
+		Assert.notNull(keyCommands, "RedisKeyCommands must not be null!");
+		Assert.notNull(membershipLookup, "MembershipLookup must not be null!");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.setCommands = setCommands;
+		this.keyCommands = keyCommands;
+		this.membershipLookup = membershipLookup;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Intersect all given sets.
+	 *
+	 * @param keys must not be {@literal null} or empty.
+	 * @return never {@literal null}.
+	 */
+	public Set<byte[]> intersect(byte[]... keys) {
+		return collect(sink -> intersect(keys, sink));
+	}
+
+	/**
+	 * Intersect all given sets and store the result at {@code destKey}.
+	 *
+	 * @param destKey must not be {@literal null}.
+	 * @param keys must not be {@literal null} or empty.
+	 * @return the number of elements stored at {@code destKey}.
+	 */
+	public Long intersectAndStore(byte[] destKey, byte[]... keys) {
+		return store(destKey, keys, sink -> intersect(keys, sink));
+	}
+
+	/**
+	 * Union all given sets.
+	 *
+	 * @param keys must not be {@literal null} or empty.
+	 * @return never {@literal null}.
+	 */
+	public Set<byte[]> union(byte[]... keys) {
+		return collect(sink -> union(keys, sink));
+	}
+
+	/**
+	 * Union all given sets and store the result at {@code destKey}.
+	 *
+	 * @param destKey must not be {@literal null}.
+	 * @param keys must not be {@literal null} or empty.
+	 * @return the number of elements stored at {@code destKey}.
+	 */
+	public Long unionAndStore(byte[] destKey, byte[]... keys) {
+		return store(destKey, keys, sink -> union(keys, sink));
+	}
+
+	/**
+	 * Diff the first set against all others.
+	 *
+	 * @param keys must not be {@literal null} or empty.
+	 * @return never {@literal null}.
+	 */
+	public Set<byte[]> diff(byte[]... keys) {
+		return collect(sink -> diff(keys, sink));
+	}
+
+	/**
+	 * Diff the first set against all others and store the result at {@code destKey}.
+	 *
+	 * @param destKey must not be {@literal null}.
+	 * @param keys must not be {@literal null} or empty.
+	 * @return the number of elements stored at {@code destKey}.
+	 */
+	public Long diffAndStore(byte[] destKey, byte[]... keys) {
+		return store(destKey, keys, sink -> diff(keys, sink));
+	}
+
+	private void intersect(byte[][] keys, Consumer<List<byte[]>> sink) {
+
+		assertKeys(keys);
+
+		List<SizedKey> sizedKeys = new ArrayList<>(keys.length);
+		for (byte[] key : keys) {
+
+			Long size = setCommands.sCard(key);
+			if (size == null || size == 0) {
+				return;
+			}
+			sizedKeys.add(new SizedKey(key, size));
+		}
+
+		sizedKeys.sort(Comparator.comparingLong(sizedKey -> sizedKey.size));
+
+		List<byte[]> others = new ArrayList<>(sizedKeys.size() - 1);
+		for (SizedKey sizedKey : sizedKeys.subList(1, sizedKeys.size())) {
+			others.add(sizedKey.key);
+		}
+
+		scan(sizedKeys.get(0).key, batch -> sink.accept(filter(batch, others, true)));
+	}
+
+	private void union(byte[][] keys, Consumer<List<byte[]>> sink) {
+
+		assertKeys(keys);
+
+		for (byte[] key : keys) {
+			scan(key, sink);
+		}
+	}
+
+	private void diff(byte[][] keys, Consumer<List<byte[]>> sink) {
+
+		assertKeys(keys);
+
+		List<byte[]> others = new ArrayList<>(keys.length - 1);
+		for (byte[] key : Arrays.copyOfRange(keys, 1, keys.length)) {
+
+			Long size = setCommands.sCard(key);
+			if (size != null && size > 0) {
+				others.add(key);
+			}
+		}
+
+		scan(keys[0], batch -> sink.accept(filter(batch, others, false)));
+	}
+
+	/**
+	 * Retain the members of {@code batch} that are ({@code contained} is {@literal true}) or are not members of all
+	 * {@code others}.
+	 */
+	private List<byte[]> filter(List<byte[]> batch, List<byte[]> others, boolean contained) {
+
+		List<byte[]> candidates = batch;
+		for (byte[] other : others) {
+
+			if (candidates.isEmpty()) {
+				break;
+			}
+
+			List<Boolean> membership = membershipLookup.isMember(other, candidates);
+			List<byte[]> retained = new ArrayList<>(candidates.size());
+
+			for (int i = 0; i < candidates.size(); i++) {
+				if (Boolean.TRUE.equals(membership.get(i)) == contained) {
+					retained.add(candidates.get(i));
+				}
+			}
+			candidates = retained;
+		}
+		return candidates;
+	}
+
+	private void scan(byte[] key, Consumer<List<byte[]>> sink) {
+
+		Cursor<byte[]> cursor = setCommands.sScan(key, ScanOptions.scanOptions().count(batchSize).build());
+
+		try {
+
+			List<byte[]> batch = new ArrayList<>(batchSize);
+			while (cursor.hasNext()) {
+
+				batch.add(cursor.next());
+				if (batch.size() == batchSize) {
+					sink.accept(batch);
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				sink.accept(batch);
+			}
+		} finally {
+			try {
+				cursor.close();
+			} catch (IOException e) {
+				throw new RedisSystemException("Cannot close SSCAN cursor", e);
+			}
+		}
+	}
+
+	private Set<byte[]> collect(Consumer<Consumer<List<byte[]>>> operation) {
+
+		ByteArraySet result = new ByteArraySet();
+		operation.accept(result::addAll);
+
+		return result.isEmpty() ? Collections.emptySet() : result.asRawSet();
+	}
+
+	private Long store(byte[] destKey, byte[][] keys, Consumer<Consumer<List<byte[]>>> operation) {
+
+		Assert.notNull(destKey, "Destination key must not be null!");
+
+		boolean destinationIsSource = false;
+		for (byte[] key : keys) {
+			destinationIsSource |= Arrays.equals(destKey, key);
+		}
+
+		if (destinationIsSource) {
+
+			Set<byte[]> result = collect(operation);
+
+			keyCommands.del(destKey);
+			add(destKey, new ArrayList<>(result));
+		} else {
+
+			keyCommands.del(destKey);
+			operation.accept(batch -> add(destKey, batch));
+		}
+
+		Long size = setCommands.sCard(destKey);
+		return size != null ? size : 0L;
+	}
+
+	private void add(byte[] destKey, List<byte[]> members) {
+
+		for (int from = 0; from < members.size(); from += batchSize) {
+
+			List<byte[]> chunk = members.subList(from, Math.min(from + batchSize, members.size()));
+			setCommands.sAdd(destKey, chunk.toArray(new byte[chunk.size()][]));
+		}
+	}
+
+	private static void assertKeys(byte[][] keys) {
+		Assert.notEmpty(keys, "Keys must not be null or empty!");
+	}
+
+	/**
+	 * Driver specific membership check of multiple values against a single set, preferably sent as one pipelined round
+	 * trip.
+	 */
+	public interface MembershipLookup {
+
+		/**
+		 * @param key the set to check.
+		 * @param values the values to check.
+		 * @return the {@code SISMEMBER} result for each of the {@code values}, in the same order.
+		 */
+		List<Boolean> isMember(byte[] key, List<byte[]> values);
+	}
+
+	private static class SizedKey {
+
+		private final byte[] key;
+		private final long size;
+
+		SizedKey(byte[] key, long size) {
+
+			this.key = key;
+			this.size = size;
+		}
+	}
+}
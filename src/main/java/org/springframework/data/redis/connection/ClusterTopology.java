@@ -15,9 +15,16 @@
  */
 package org.springframework.data.redis.connection;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import org.springframework.data.redis.ClusterStateFailureException;
 import org.springframework.util.Assert;
@@ -25,6 +32,9 @@ import org.springframework.util.StringUtils;
 
 /**
  * {@link ClusterTopology} holds snapshot like information about {@link RedisClusterNode}s.
+ * <p>
+ * Slot based lookups use an index of slot ranges that is built on first access. Its size depends on the number of slot
+ * ranges rather than the number of slots, so topologies that are recreated frequently remain cheap.
  * 
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -33,6 +43,7 @@ import org.springframework.util.StringUtils;
 public class ClusterTopology {
 
 	private final Set<RedisClusterNode> nodes;
+	private volatile SlotIndex slotIndex;
 
 	/**
 	 * Creates new instance of {@link ClusterTopology}.
@@ -106,17 +117,10 @@ public class ClusterTopology {
 	 * Get the {@link RedisClusterNode}s (master and slave) serving s specific slot.
 	 * 
 	 * @param slot
-	 * @return never {@literal null}.
+	 * @return never {@literal null}. The returned {@link Set} is unmodifiable.
 	 */
 	public Set<RedisClusterNode> getSlotServingNodes(int slot) {
-
-		Set<RedisClusterNode> slotServingNodes = new LinkedHashSet<RedisClusterNode>(nodes.size());
-		for (RedisClusterNode node : nodes) {
-			if (node.servesSlot(slot)) {
-				slotServingNodes.add(node);
-			}
-		}
-		return slotServingNodes;
+		return getSlotIndex().getServingNodes(slot);
 	}
 
 	/**
@@ -131,10 +135,9 @@ public class ClusterTopology {
 		Assert.notNull(key, "Key for node lookup must not be null!");
 
 		int slot = ClusterSlotHashUtil.calculateSlot(key);
-		for (RedisClusterNode node : nodes) {
-			if (node.isMaster() && node.servesSlot(slot)) {
-				return node;
-			}
+		RedisClusterNode node = getSlotIndex().getMaster(slot);
+		if (node != null) {
+			return node;
 		}
 		throw new ClusterStateFailureException(String.format("Could not find master node serving slot %s for key '%s',",
 				slot, key));
@@ -209,11 +212,164 @@ public class ClusterTopology {
 
 	/**
 	 * @param key must not be {@literal null}.
-	 * @return {@literal null}.
+	 * @return never {@literal null}. The returned {@link Set} is unmodifiable.
 	 */
 	public Set<RedisClusterNode> getKeyServingNodes(byte[] key) {
 
 		Assert.notNull(key, "Key must not be null for Cluster Node lookup.");
 		return getSlotServingNodes(ClusterSlotHashUtil.calculateSlot(key));
 	}
+
+	private SlotIndex getSlotIndex() {
+
+		SlotIndex index = slotIndex;
+		if (index == null) {
+			index = new SlotIndex(nodes);
+			slotIndex = index;
+		}
+		return index;
+	}
+
+	/**
+	 * Lookup table mapping slot ranges to their serving nodes. Slots are grouped into segments of consecutive slots served
+	 * by the same nodes, so the index is built from the slot ranges of the nodes rather than per slot. Segments served by
+	 * the same nodes share a single {@link Set}.
+	 *
+	 * @since 2.0
+	 */
+	@SuppressWarnings("unchecked")
+	private static class SlotIndex {
+
+		private final int[] segmentStarts;
+		private final RedisClusterNode[] masters;
+		private final Set<RedisClusterNode>[] servingNodes;
+
+		SlotIndex(Set<RedisClusterNode> nodes) {
+
+			List<RedisClusterNode> servingCandidates = new ArrayList<>(nodes.size());
+			List<int[]> candidateRuns = new ArrayList<>(nodes.size());
+			SortedSet<Integer> boundaries = new TreeSet<>();
+			boundaries.add(0);
+
+			for (RedisClusterNode node : nodes) {
+
+				if (node.getSlotRange() == null) {
+					continue;
+				}
+
+				int[] runs = runs(node.getSlotRange().getSlotsArray());
+				if (runs.length == 0) {
+					continue;
+				}
+
+				for (int boundary : runs) {
+					if (boundary < ClusterSlotHashUtil.SLOT_COUNT) {
+						boundaries.add(boundary);
+					}
+				}
+
+				servingCandidates.add(node);
+				candidateRuns.add(runs);
+			}
+
+			segmentStarts = new int[boundaries.size()];
+			int pos = 0;
+			for (Integer boundary : boundaries) {
+				segmentStarts[pos++] = boundary;
+			}
+
+			List<RedisClusterNode>[] segments = new List[segmentStarts.length];
+			for (int i = 0; i < servingCandidates.size(); i++) {
+
+				int[] runs = candidateRuns.get(i);
+				for (int run = 0; run < runs.length; run += 2) {
+
+					int last = segment(runs[run + 1] - 1);
+					for (int segment = segment(runs[run]); segment <= last; segment++) {
+
+						if (segments[segment] == null) {
+							segments[segment] = new ArrayList<>();
+						}
+						segments[segment].add(servingCandidates.get(i));
+					}
+				}
+			}
+
+			masters = new RedisClusterNode[segmentStarts.length];
+			servingNodes = new Set[segmentStarts.length];
+			Map<Set<RedisClusterNode>, Set<RedisClusterNode>> distinct = new HashMap<>();
+
+			for (int segment = 0; segment < segments.length; segment++) {
+
+				if (segments[segment] == null) {
+
+					servingNodes[segment] = Collections.emptySet();
+					continue;
+				}
+
+				Set<RedisClusterNode> serving = new LinkedHashSet<>(segments[segment]);
+				Set<RedisClusterNode> shared = distinct.get(serving);
+				if (shared == null) {
+					shared = Collections.unmodifiableSet(serving);
+					distinct.put(serving, shared);
+				}
+				servingNodes[segment] = shared;
+
+				for (RedisClusterNode node : shared) {
+					if (node.isMaster()) {
+						masters[segment] = node;
+						break;
+					}
+				}
+			}
+		}
+
+		RedisClusterNode getMaster(int slot) {
+			return isValid(slot) ? masters[segment(slot)] : null;
+		}
+
+		Set<RedisClusterNode> getServingNodes(int slot) {
+			return isValid(slot) ? servingNodes[segment(slot)] : Collections.<RedisClusterNode> emptySet();
+		}
+
+		private int segment(int slot) {
+
+			int index = Arrays.binarySearch(segmentStarts, slot);
+			return index >= 0 ? index : -index - 2;
+		}
+
+		private static boolean isValid(int slot) {
+			return slot >= 0 && slot < ClusterSlotHashUtil.SLOT_COUNT;
+		}
+
+		/**
+		 * Collapse the given slots into runs of consecutive valid slots.
+		 *
+		 * @return pairs of the first slot and the slot following the last slot of each run.
+		 */
+		private static int[] runs(int[] slots) {
+
+			Arrays.sort(slots);
+
+			int[] runs = new int[slots.length * 2];
+			int count = 0;
+
+			for (int slot : slots) {
+
+				if (!isValid(slot)) {
+					continue;
+				}
+
+				if (count > 0 && slot <= runs[count - 1]) {
+					runs[count - 1] = Math.max(runs[count - 1], slot + 1);
+					continue;
+				}
+
+				runs[count++] = slot;
+				runs[count++] = slot + 1;
+			}
+
+			return Arrays.copyOf(runs, count);
+		}
+	}
 }
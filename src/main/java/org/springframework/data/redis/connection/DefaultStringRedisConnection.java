@@ -43,6 +43,7 @@ import org.springframework.data.redis.connection.convert.MapConverter;
 import org.springframework.data.redis.connection.convert.SetConverter;
 import org.springframework.data.redis.core.ConvertingCursor;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanIteration;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.core.types.RedisClientInfo;
@@ -2851,6 +2852,15 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 		return this.delegate.sScan(key, options);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sScanPage(byte[], long, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public ScanIteration<byte[]> sScanPage(byte[] key, long cursorId, ScanOptions options) {
+		return this.delegate.sScanPage(key, cursorId, options);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisHashCommands#hscan(byte[], org.springframework.data.redis.core.ScanOptions)
@@ -2860,6 +2870,15 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 		return this.delegate.hScan(key, options);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hScanPage(byte[], long, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public ScanIteration<Entry<byte[], byte[]>> hScanPage(byte[] key, long cursorId, ScanOptions options) {
+		return this.delegate.hScanPage(key, cursorId, options);
+	}
+
 	/**
 	 * Specifies if pipelined and tx results should be deserialized to Strings. If false, results of
 	 * {@link #closePipeline()} and {@link #exec()} will be of the type returned by the underlying connection
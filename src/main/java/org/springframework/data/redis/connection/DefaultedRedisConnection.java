@@ -28,6 +28,7 @@ import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Metric;
 import org.springframework.data.geo.Point;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanIteration;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.core.types.RedisClientInfo;
@@ -605,6 +606,13 @@ public interface DefaultedRedisConnection extends RedisConnection {
 		return setCommands().sScan(key, options);
 	}
 
+	/** @deprecated in favor of {@link RedisConnection#setCommands()}}. */
+	@Override
+	@Deprecated
+	default ScanIteration<byte[]> sScanPage(byte[] key, long cursorId, ScanOptions options) {
+		return setCommands().sScanPage(key, cursorId, options);
+	}
+
 	// ZSET COMMANDS
 
 	/** @deprecated in favor of {@link RedisConnection#zSetCommands()}}. */
@@ -908,6 +916,13 @@ public interface DefaultedRedisConnection extends RedisConnection {
 		return hashCommands().hScan(key, options);
 	}
 
+	/** @deprecated in favor of {@link RedisConnection#hashCommands()}}. */
+	@Override
+	@Deprecated
+	default ScanIteration<Entry<byte[], byte[]>> hScanPage(byte[] key, long cursorId, ScanOptions options) {
+		return hashCommands().hScanPage(key, cursorId, options);
+	}
+
 	// GEO COMMANDS
 
 	/** @deprecated in favor of {@link RedisConnection#geoCommands()}}. */
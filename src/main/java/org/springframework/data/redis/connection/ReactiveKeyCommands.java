@@ -29,6 +29,7 @@ import org.springframework.data.redis.connection.ReactiveRedisConnection.Command
 import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyCommand;
 import org.springframework.data.redis.connection.ReactiveRedisConnection.MultiValueResponse;
 import org.springframework.data.redis.connection.ReactiveRedisConnection.NumericResponse;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.util.Assert;
 
 /**
@@ -63,6 +64,52 @@ public interface ReactiveKeyCommands {
 	 */
 	Flux<BooleanResponse<KeyCommand>> exists(Publisher<KeyCommand> keys);
 
+	/**
+	 * Count how many of the given {@literal keys} exist.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return
+	 * @see <a href="http://redis.io/commands/exists">Redis Documentation: EXISTS</a>
+	 */
+	default Mono<Long> mExists(List<ByteBuffer> keys) {
+
+		Assert.notEmpty(keys, "Keys must not be empty or null!");
+
+		return mExists(Mono.just(keys)).next().map(NumericResponse::getOutput);
+	}
+
+	/**
+	 * Count how many of the given {@literal keys} exist in batches.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return {@link Flux} of {@link NumericResponse} holding the {@literal keys} along with the number of existing keys.
+	 * @see <a href="http://redis.io/commands/exists">Redis Documentation: EXISTS</a>
+	 */
+	Flux<NumericResponse<List<ByteBuffer>, Long>> mExists(Publisher<List<ByteBuffer>> keys);
+
+	/**
+	 * Alter the last access time of given {@literal keys}.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return the number of keys that were touched.
+	 * @see <a href="http://redis.io/commands/touch">Redis Documentation: TOUCH</a>
+	 */
+	default Mono<Long> touch(List<ByteBuffer> keys) {
+
+		Assert.notEmpty(keys, "Keys must not be empty or null!");
+
+		return touch(Mono.just(keys)).next().map(NumericResponse::getOutput);
+	}
+
+	/**
+	 * Alter the last access time of given {@literal keys} in batches.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return {@link Flux} of {@link NumericResponse} holding the {@literal keys} along with the number of keys touched.
+	 * @see <a href="http://redis.io/commands/touch">Redis Documentation: TOUCH</a>
+	 */
+	Flux<NumericResponse<List<ByteBuffer>, Long>> touch(Publisher<List<ByteBuffer>> keys);
+
 	/**
 	 * Determine the type stored at {@literal key}.
 	 *
@@ -109,6 +156,29 @@ public interface ReactiveKeyCommands {
 	 */
 	Flux<MultiValueResponse<ByteBuffer, ByteBuffer>> keys(Publisher<ByteBuffer> patterns);
 
+	/**
+	 * Use a {@link Flux} to iterate over keys. The resulting {@link Flux} acts as a cursor and issues {@code SCAN}
+	 * commands itself as long as the subscriber signals demand.
+	 *
+	 * @return the {@link Flux} emitting {@link ByteBuffer keys} one by one.
+	 * @see <a href="http://redis.io/commands/scan">Redis Documentation: SCAN</a>
+	 * @since 2.0
+	 */
+	default Flux<ByteBuffer> scan() {
+		return scan(ScanOptions.NONE);
+	}
+
+	/**
+	 * Use a {@link Flux} to iterate over keys. The resulting {@link Flux} acts as a cursor and issues {@code SCAN}
+	 * commands itself as long as the subscriber signals demand.
+	 *
+	 * @param options must not be {@literal null}.
+	 * @return the {@link Flux} emitting {@link ByteBuffer keys} one by one.
+	 * @see <a href="http://redis.io/commands/scan">Redis Documentation: SCAN</a>
+	 * @since 2.0
+	 */
+	Flux<ByteBuffer> scan(ScanOptions options);
+
 	/**
 	 * Return a random key from the keyspace.
 	 *
@@ -16,13 +16,18 @@
 package org.springframework.data.redis.connection;
 
 import lombok.Data;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.Closeable;
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.function.Function;
 
+import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Range.Bound;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.util.Assert;
 
 /**
@@ -114,6 +119,58 @@ public interface ReactiveRedisConnection extends Closeable {
 	 */
 	ReactiveHyperLogLogCommands hyperLogLogCommands();
 
+	/**
+	 * Get {@link ReactiveScriptingCommands}.
+	 *
+	 * @return never {@literal null}.
+	 */
+	ReactiveScriptingCommands scriptingCommands();
+
+	/**
+	 * Execute the commands issued by {@code commands} as pipeline. Commands dispatched while invoking {@code commands}
+	 * are buffered and written to the connection in a single batch. Results are emitted in the order of the returned
+	 * command {@link Publisher}s, each command contributing its own elements. Commands that are not dispatched until
+	 * after {@code commands} returns are sent individually.
+	 *
+	 * @param commands function issuing commands on the given connection and returning their result {@link Publisher}s.
+	 *          Must not be {@literal null}.
+	 * @return {@link Flux} emitting the results of all commands in order.
+	 */
+	Flux<Object> executePipelined(Function<ReactiveRedisConnection, ? extends Iterable<? extends Publisher<?>>> commands);
+
+	/**
+	 * Execute the commands issued by {@code commands} inside a {@code MULTI}/{@code EXEC} transaction. {@code MULTI}, the
+	 * commands and {@code EXEC} are written to the connection in a single batch. Results are emitted in the order of the
+	 * returned command {@link Publisher}s once {@code EXEC} completes. The returned {@link Flux} completes without
+	 * emitting any result if the transaction was discarded because a {@link #watch(ByteBuffer...) watched} key was
+	 * modified.
+	 *
+	 * @param commands function issuing commands on the given connection and returning their result {@link Publisher}s.
+	 *          Must not be {@literal null}.
+	 * @return {@link Flux} emitting the results of all commands in order.
+	 * @see <a href="http://redis.io/commands/multi">Redis Documentation: MULTI</a>
+	 * @see <a href="http://redis.io/commands/exec">Redis Documentation: EXEC</a>
+	 */
+	Flux<Object> executeInTransaction(
+			Function<ReactiveRedisConnection, ? extends Iterable<? extends Publisher<?>>> commands);
+
+	/**
+	 * Watch given {@code keys} for modifications during a transaction started with {@link #executeInTransaction(Function)}.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return {@link Mono} emitting the status reply.
+	 * @see <a href="http://redis.io/commands/watch">Redis Documentation: WATCH</a>
+	 */
+	Mono<String> watch(ByteBuffer... keys);
+
+	/**
+	 * Flushes all the previously {@link #watch(ByteBuffer...)} keys.
+	 *
+	 * @return {@link Mono} emitting the status reply.
+	 * @see <a href="http://redis.io/commands/unwatch">Redis Documentation: UNWATCH</a>
+	 */
+	Mono<String> unwatch();
+
 	/**
 	 * Base interface for Redis commands executed with a reactive infrastructure.
 	 *
@@ -234,6 +291,55 @@ public interface ReactiveRedisConnection extends Closeable {
 		}
 	}
 
+	/**
+	 * {@link Command} for key-bound scan operations like {@code HSCAN}, {@code SSCAN} and {@code ZSCAN}.
+	 *
+	 * @since 2.0
+	 */
+	class KeyScanCommand extends KeyCommand {
+
+		private final ScanOptions options;
+
+		private KeyScanCommand(ByteBuffer key, ScanOptions options) {
+
+			super(key);
+			this.options = options;
+		}
+
+		/**
+		 * Creates a new {@link KeyScanCommand} given a {@code key}.
+		 *
+		 * @param key must not be {@literal null}.
+		 * @return a new {@link KeyScanCommand} for {@code key}.
+		 */
+		public static KeyScanCommand key(ByteBuffer key) {
+
+			Assert.notNull(key, "Key must not be null!");
+
+			return new KeyScanCommand(key, ScanOptions.NONE);
+		}
+
+		/**
+		 * Applies {@link ScanOptions}. Constructs a new command instance with all previously configured properties.
+		 *
+		 * @param options must not be {@literal null}.
+		 * @return a new {@link KeyScanCommand} with {@link ScanOptions} applied.
+		 */
+		public KeyScanCommand withOptions(ScanOptions options) {
+
+			Assert.notNull(options, "ScanOptions must not be null!");
+
+			return new KeyScanCommand(getKey(), options);
+		}
+
+		/**
+		 * @return the {@link ScanOptions}.
+		 */
+		public ScanOptions getOptions() {
+			return options;
+		}
+	}
+
 	/**
 	 * Base class for command responses.
 	 *
@@ -17,6 +17,9 @@ package org.springframework.data.redis.connection;
 
 import java.util.Set;
 
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
 /**
  * {@link RedisClusterConnection} allows sending commands to dedicated nodes within the cluster. A
  * {@link RedisClusterNode} can be obtained from {@link #clusterGetNodes()} or it can be constructed using either
@@ -51,6 +54,19 @@ public interface RedisClusterConnection extends RedisConnection, RedisClusterCom
 	 */
 	byte[] randomKey(RedisClusterNode node);
 
+	/**
+	 * Use a {@link Cursor} to iterate over keys on all master nodes of the cluster scanning up to {@code parallelism}
+	 * nodes concurrently.
+	 *
+	 * @param options can be {@literal null}.
+	 * @param parallelism number of nodes scanned concurrently. Must be greater than zero.
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 * @see RedisKeyCommands#scan(ScanOptions)
+	 * @see ClusterScanCursor
+	 */
+	Cursor<byte[]> scan(ScanOptions options, int parallelism);
+
 	/**
 	 * Get {@link RedisClusterServerCommands}.
 	 *
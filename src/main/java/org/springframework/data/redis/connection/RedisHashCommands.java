@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanIteration;
 import org.springframework.data.redis.core.ScanOptions;
 
 /**
@@ -170,4 +171,19 @@ public interface RedisHashCommands {
 	 * @see <a href="http://redis.io/commands/hscan">Redis Documentation: HSCAN</a>
 	 */
 	Cursor<Map.Entry<byte[], byte[]>> hScan(byte[] key, ScanOptions options);
+
+	/**
+	 * Read a single page of entries in hash at {@code key} starting at {@code cursorId}. Unlike
+	 * {@link #hScan(byte[], ScanOptions)} no state is kept between calls, so the connection can be released after each
+	 * page.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param cursorId {@literal 0} to start a new iteration, otherwise the cursor id returned by the previous page.
+	 * @param options must not be {@literal null}.
+	 * @return the entries along with the cursor id of the next page, which is {@literal 0} once the iteration is
+	 *         complete.
+	 * @since 2.0
+	 * @see <a href="http://redis.io/commands/hscan">Redis Documentation: HSCAN</a>
+	 */
+	ScanIteration<Map.Entry<byte[], byte[]>> hScanPage(byte[] key, long cursorId, ScanOptions options);
 }
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanIteration;
 import org.springframework.data.redis.core.ScanOptions;
 
 /**
@@ -184,4 +185,19 @@ public interface RedisSetCommands {
 	 * @see <a href="http://redis.io/commands/scan">Redis Documentation: SCAN</a>
 	 */
 	Cursor<byte[]> sScan(byte[] key, ScanOptions options);
+
+	/**
+	 * Read a single page of elements in set at {@code key} starting at {@code cursorId}. Unlike
+	 * {@link #sScan(byte[], ScanOptions)} no state is kept between calls, so the connection can be released after each
+	 * page.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param cursorId {@literal 0} to start a new iteration, otherwise the cursor id returned by the previous page.
+	 * @param options must not be {@literal null}.
+	 * @return the elements along with the cursor id of the next page, which is {@literal 0} once the iteration is
+	 *         complete.
+	 * @since 2.0
+	 * @see <a href="http://redis.io/commands/sscan">Redis Documentation: SSCAN</a>
+	 */
+	ScanIteration<byte[]> sScanPage(byte[] key, long cursorId, ScanOptions options);
 }
@@ -43,6 +43,8 @@ import org.springframework.data.redis.connection.ClusterCommandExecutor.MultiKey
 import org.springframework.data.redis.connection.ClusterCommandExecutor.NodeResult;
 import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
 import org.springframework.data.redis.connection.convert.Converters;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.util.Assert;
 
 /**
@@ -215,7 +217,7 @@ public class JedisClusterConnection implements DefaultedRedisClusterConnection {
 	 */
 	@Override
 	public RedisScriptingCommands scriptingCommands() {
-		return JedisClusterScriptingCommands.INSTANCE;
+		return new JedisClusterScriptingCommands(this);
 	}
 
 	private JedisClusterKeyCommands doGetKeyCommands() {
@@ -236,6 +238,15 @@ public class JedisClusterConnection implements DefaultedRedisClusterConnection {
 		return doGetKeyCommands().randomKey(node);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisClusterConnection#scan(org.springframework.data.redis.core.ScanOptions, int)
+	 */
+	@Override
+	public Cursor<byte[]> scan(ScanOptions options, int parallelism) {
+		return doGetKeyCommands().scan(options, parallelism);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisTxCommands#multi()
@@ -234,16 +234,25 @@ class JedisClusterHashCommands implements RedisHashCommands {
 
 			@Override
 			protected ScanIteration<Entry<byte[], byte[]>> doScan(long cursorId, ScanOptions options) {
-
-				ScanParams params = JedisConverters.toScanParams(options);
-
-				redis.clients.jedis.ScanResult<Map.Entry<byte[], byte[]>> result = connection.getCluster().hscan(key,
-						JedisConverters.toBytes(cursorId), params);
-				return new ScanIteration<>(Long.valueOf(result.getStringCursor()), result.getResult());
+				return hScanPage(key, cursorId, options);
 			}
 		}.open();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hScanPage(byte[], long, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public ScanIteration<Entry<byte[], byte[]>> hScanPage(byte[] key, long cursorId, ScanOptions options) {
+
+		ScanParams params = JedisConverters.toScanParams(options);
+
+		redis.clients.jedis.ScanResult<Map.Entry<byte[], byte[]>> result = connection.getCluster().hscan(key,
+				JedisConverters.toBytes(cursorId), params);
+		return new ScanIteration<>(Long.valueOf(result.getStringCursor()), result.getResult());
+	}
+
 	private DataAccessException convertJedisAccessException(Exception ex) {
 		return connection.convertJedisAccessException(ex);
 	}
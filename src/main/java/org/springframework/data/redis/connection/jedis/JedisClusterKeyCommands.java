@@ -15,6 +15,9 @@
  */
 package org.springframework.data.redis.connection.jedis;
 
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.ScanResult;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -25,7 +28,8 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.dao.DataAccessException;
-import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.ClusterScanCursor;
+import org.springframework.data.redis.connection.ClusterScanCursor.NodeScanCallback;
 import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.RedisClusterNode;
@@ -36,6 +40,7 @@ import org.springframework.data.redis.connection.convert.Converters;
 import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisClusterCommandCallback;
 import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisMultiKeyClusterCommandCallback;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanIteration;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -128,7 +133,22 @@ class JedisClusterKeyCommands implements RedisKeyCommands {
 	 */
 	@Override
 	public Cursor<byte[]> scan(ScanOptions options) {
-		throw new InvalidDataAccessApiUsageException("Scan is not supported across multiple nodes within a cluster");
+		return scan(options, 1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisClusterConnection#scan(org.springframework.data.redis.core.ScanOptions, int)
+	 */
+	public Cursor<byte[]> scan(ScanOptions options, int parallelism) {
+
+		return new ClusterScanCursor(0, options, connection.getClusterCommandExecutor(),
+				(NodeScanCallback<Jedis>) (client, cursorId, scanOptions) -> {
+
+					ScanResult<byte[]> result = client.scan(JedisConverters.toBytes(cursorId),
+							JedisConverters.toScanParams(scanOptions));
+					return new ScanIteration<>(Long.valueOf(result.getStringCursor()), result.getResult());
+				}, parallelism).open();
 	}
 
 	/*
@@ -15,30 +15,49 @@
  */
 package org.springframework.data.redis.connection.jedis;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterNode;
 import org.springframework.data.redis.connection.RedisScriptingCommands;
 import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisClusterCommandCallback;
+import org.springframework.util.Assert;
 
 /**
+ * {@link RedisScriptingCommands} for Redis Cluster. {@code EVAL} and {@code EVALSHA} are routed to the master serving
+ * the slot of the given keys which therefore all have to map to the same slot. Scripts without keys run on an arbitrary
+ * master. {@code SCRIPT LOAD}, {@code SCRIPT EXISTS} and {@code SCRIPT FLUSH} are sent to all master nodes.
+ *
  * @author Mark Paluch
  * @since 2.0
  */
-enum JedisClusterScriptingCommands implements RedisScriptingCommands {
+class JedisClusterScriptingCommands implements RedisScriptingCommands {
+
+	private final JedisClusterConnection connection;
 
-	INSTANCE;
+	public JedisClusterScriptingCommands(JedisClusterConnection connection) {
+		this.connection = connection;
+	}
 
-	/* 
+	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisScriptingCommands#scriptFlush()
 	 */
 	@Override
 	public void scriptFlush() {
-		throw new InvalidDataAccessApiUsageException("ScriptFlush is not supported in cluster environment.");
+
+		connection.getClusterCommandExecutor()
+				.executeCommandOnAllNodes((JedisClusterCommandCallback<String>) client -> client.scriptFlush());
 	}
 
-	/* 
+	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisScriptingCommands#scriptKill()
 	 */
@@ -47,48 +66,132 @@ enum JedisClusterScriptingCommands implements RedisScriptingCommands {
 		throw new InvalidDataAccessApiUsageException("ScriptKill is not supported in cluster environment.");
 	}
 
-	/* 
+	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisScriptingCommands#scriptLoad(byte[])
 	 */
 	@Override
 	public String scriptLoad(byte[] script) {
-		throw new InvalidDataAccessApiUsageException("ScriptLoad is not supported in cluster environment.");
+
+		Assert.notNull(script, "Script must not be null!");
+
+		Collection<byte[]> shas = connection.getClusterCommandExecutor()
+				.executeCommandOnAllNodes((JedisClusterCommandCallback<byte[]>) client -> client.scriptLoad(script))
+				.resultsAsList();
+
+		return shas.isEmpty() ? null : JedisConverters.toString(shas.iterator().next());
 	}
 
-	/* 
+	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisScriptingCommands#scriptExists(java.lang.String[])
 	 */
 	@Override
 	public List<Boolean> scriptExists(String... scriptShas) {
-		throw new InvalidDataAccessApiUsageException("ScriptExists is not supported in cluster environment.");
+
+		Assert.notEmpty(scriptShas, "Script SHAs must not be empty!");
+
+		Collection<List<Boolean>> existsPerNode = connection.getClusterCommandExecutor().executeCommandOnAllNodes(
+				(JedisClusterCommandCallback<List<Boolean>>) client -> client.scriptExists(scriptShas)).resultsAsList();
+
+		List<Boolean> result = new ArrayList<>(scriptShas.length);
+		for (int i = 0; i < scriptShas.length; i++) {
+
+			boolean exists = !existsPerNode.isEmpty();
+			for (List<Boolean> nodeResult : existsPerNode) {
+				exists &= Boolean.TRUE.equals(nodeResult.get(i));
+			}
+			result.add(exists);
+		}
+		return result;
 	}
 
-	/* 
+	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisScriptingCommands#eval(byte[], org.springframework.data.redis.connection.ReturnType, int, byte[][])
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T> T eval(byte[] script, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
-		throw new InvalidDataAccessApiUsageException("Eval is not supported in cluster environment.");
+
+		Assert.notNull(script, "Script must not be null!");
+
+		Object result;
+		if (numKeys > 0) {
+
+			assertKeysInSameSlot(numKeys, keysAndArgs);
+
+			try {
+				result = connection.getCluster().eval(script, numKeys, keysAndArgs);
+			} catch (Exception ex) {
+				throw convertJedisAccessException(ex);
+			}
+		} else {
+			result = executeOnArbitraryMaster((JedisClusterCommandCallback<Object>) client -> client.eval(script,
+					JedisConverters.toBytes(numKeys), keysAndArgs));
+		}
+
+		return (T) new JedisScriptReturnConverter(returnType).convert(result);
 	}
 
-	/* 
+	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisScriptingCommands#evalSha(java.lang.String, org.springframework.data.redis.connection.ReturnType, int, byte[][])
 	 */
 	@Override
 	public <T> T evalSha(String scriptSha, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
-		throw new InvalidDataAccessApiUsageException("EvalSha is not supported in cluster environment.");
+		return evalSha(JedisConverters.toBytes(scriptSha), returnType, numKeys, keysAndArgs);
 	}
 
-	/* 
+	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisScriptingCommands#evalSha(byte[], org.springframework.data.redis.connection.ReturnType, int, byte[][])
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T> T evalSha(byte[] scriptSha, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
-		throw new InvalidDataAccessApiUsageException("EvalSha is not supported in cluster environment.");
+
+		Assert.notNull(scriptSha, "Script SHA must not be null!");
+
+		Object result;
+		if (numKeys > 0) {
+
+			assertKeysInSameSlot(numKeys, keysAndArgs);
+
+			try {
+				result = connection.getCluster().evalsha(scriptSha, numKeys, keysAndArgs);
+			} catch (Exception ex) {
+				throw convertJedisAccessException(ex);
+			}
+		} else {
+			result = executeOnArbitraryMaster(
+					(JedisClusterCommandCallback<Object>) client -> client.evalsha(scriptSha, numKeys, keysAndArgs));
+		}
+
+		return (T) new JedisScriptReturnConverter(returnType).convert(result);
+	}
+
+	private Object executeOnArbitraryMaster(JedisClusterCommandCallback<Object> callback) {
+
+		List<RedisClusterNode> masters = new ArrayList<>(
+				connection.getTopologyProvider().getTopology().getActiveMasterNodes());
+
+		return connection.getClusterCommandExecutor()
+				.executeCommandOnSingleNode(callback, masters.get(ThreadLocalRandom.current().nextInt(masters.size())))
+				.getValue();
+	}
+
+	private static void assertKeysInSameSlot(int numKeys, byte[]... keysAndArgs) {
+
+		Assert.isTrue(keysAndArgs != null && keysAndArgs.length >= numKeys,
+				"Number of keys must not exceed the number of keys and arguments!");
+
+		if (!ClusterSlotHashUtil.isSameSlotForAllKeys(Arrays.copyOf(keysAndArgs, numKeys))) {
+			throw new InvalidDataAccessApiUsageException("All keys of a script must map to the same slot!");
+		}
+	}
+
+	private DataAccessException convertJedisAccessException(Exception ex) {
+		return connection.convertJedisAccessException(ex);
 	}
 }
@@ -15,19 +15,20 @@
  */
 package org.springframework.data.redis.connection.jedis;
 
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.ScanParams;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ClusterSetAlgebra;
 import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterNode;
 import org.springframework.data.redis.connection.RedisSetCommands;
-import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisMultiKeyClusterCommandCallback;
-import org.springframework.data.redis.connection.util.ByteArraySet;
+import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisClusterCommandCallback;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.ScanCursor;
 import org.springframework.data.redis.core.ScanIteration;
@@ -153,31 +154,7 @@ class JedisClusterSetCommands implements RedisSetCommands {
 			}
 		}
 
-		Collection<Set<byte[]>> resultList = connection.getClusterCommandExecutor()
-				.executeMuliKeyCommand((JedisMultiKeyClusterCommandCallback<Set<byte[]>>) (client, key) -> client.smembers(key),
-						Arrays.asList(keys))
-				.resultsAsList();
-
-		ByteArraySet result = null;
-
-		for (Set<byte[]> value : resultList) {
-
-			ByteArraySet tmp = new ByteArraySet(value);
-			if (result == null) {
-				result = tmp;
-			} else {
-				result.retainAll(tmp);
-				if (result.isEmpty()) {
-					break;
-				}
-			}
-		}
-
-		if (result.isEmpty()) {
-			return Collections.emptySet();
-		}
-
-		return result.asRawSet();
+		return setAlgebra().intersect(keys);
 	}
 
 	/*
@@ -197,11 +174,7 @@ class JedisClusterSetCommands implements RedisSetCommands {
 			}
 		}
 
-		Set<byte[]> result = sInter(keys);
-		if (result.isEmpty()) {
-			return 0L;
-		}
-		return sAdd(destKey, result.toArray(new byte[result.size()][]));
+		return setAlgebra().intersectAndStore(destKey, keys);
 	}
 
 	/*
@@ -219,21 +192,7 @@ class JedisClusterSetCommands implements RedisSetCommands {
 			}
 		}
 
-		Collection<Set<byte[]>> resultList = connection.getClusterCommandExecutor()
-				.executeMuliKeyCommand((JedisMultiKeyClusterCommandCallback<Set<byte[]>>) (client, key) -> client.smembers(key),
-						Arrays.asList(keys))
-				.resultsAsList();
-
-		ByteArraySet result = new ByteArraySet();
-		for (Set<byte[]> entry : resultList) {
-			result.addAll(entry);
-		}
-
-		if (result.isEmpty()) {
-			return Collections.emptySet();
-		}
-
-		return result.asRawSet();
+		return setAlgebra().union(keys);
 	}
 
 	/*
@@ -253,11 +212,7 @@ class JedisClusterSetCommands implements RedisSetCommands {
 			}
 		}
 
-		Set<byte[]> result = sUnion(keys);
-		if (result.isEmpty()) {
-			return 0L;
-		}
-		return sAdd(destKey, result.toArray(new byte[result.size()][]));
+		return setAlgebra().unionAndStore(destKey, keys);
 	}
 
 	/*
@@ -275,24 +230,7 @@ class JedisClusterSetCommands implements RedisSetCommands {
 			}
 		}
 
-		byte[] source = keys[0];
-		byte[][] others = Arrays.copyOfRange(keys, 1, keys.length);
-
-		ByteArraySet values = new ByteArraySet(sMembers(source));
-		Collection<Set<byte[]>> resultList = connection.getClusterCommandExecutor()
-				.executeMuliKeyCommand((JedisMultiKeyClusterCommandCallback<Set<byte[]>>) (client, key) -> client.smembers(key),
-						Arrays.asList(others))
-				.resultsAsList();
-
-		if (values.isEmpty()) {
-			return Collections.emptySet();
-		}
-
-		for (Set<byte[]> singleNodeValue : resultList) {
-			values.removeAll(singleNodeValue);
-		}
-
-		return values.asRawSet();
+		return setAlgebra().diff(keys);
 	}
 
 	/*
@@ -312,12 +250,7 @@ class JedisClusterSetCommands implements RedisSetCommands {
 			}
 		}
 
-		Set<byte[]> diff = sDiff(keys);
-		if (diff.isEmpty()) {
-			return 0L;
-		}
-
-		return sAdd(destKey, diff.toArray(new byte[diff.size()][]));
+		return setAlgebra().diffAndStore(destKey, keys);
 	}
 
 	/*
@@ -377,15 +310,53 @@ class JedisClusterSetCommands implements RedisSetCommands {
 
 			@Override
 			protected ScanIteration<byte[]> doScan(long cursorId, ScanOptions options) {
-
-				ScanParams params = JedisConverters.toScanParams(options);
-				redis.clients.jedis.ScanResult<byte[]> result = connection.getCluster().sscan(key,
-						JedisConverters.toBytes(cursorId), params);
-				return new ScanIteration<>(Long.valueOf(result.getStringCursor()), result.getResult());
+				return sScanPage(key, cursorId, options);
 			}
 		}.open();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sScanPage(byte[], long, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public ScanIteration<byte[]> sScanPage(byte[] key, long cursorId, ScanOptions options) {
+
+		ScanParams params = JedisConverters.toScanParams(options);
+		redis.clients.jedis.ScanResult<byte[]> result = connection.getCluster().sscan(key,
+				JedisConverters.toBytes(cursorId), params);
+		return new ScanIteration<>(Long.valueOf(result.getStringCursor()), result.getResult());
+	}
+
+	private ClusterSetAlgebra setAlgebra() {
+		return new ClusterSetAlgebra(this, connection.keyCommands(), this::isMember);
+	}
+
+	/**
+	 * Pipeline {@code SISMEMBER} for all {@code values} on the node serving {@code key}.
+	 */
+	private List<Boolean> isMember(byte[] key, List<byte[]> values) {
+
+		RedisClusterNode node = connection.getTopologyProvider().getTopology().getKeyServingMasterNode(key);
+
+		return connection.getClusterCommandExecutor()
+				.executeCommandOnSingleNode((JedisClusterCommandCallback<List<Boolean>>) client -> {
+
+					Pipeline pipeline = client.pipelined();
+					List<Response<Boolean>> responses = new ArrayList<>(values.size());
+					for (byte[] value : values) {
+						responses.add(pipeline.sismember(key, value));
+					}
+					pipeline.sync();
+
+					List<Boolean> result = new ArrayList<>(responses.size());
+					for (Response<Boolean> response : responses) {
+						result.add(response.get());
+					}
+					return result;
+				}, node).getValue();
+	}
+
 	private DataAccessException convertJedisAccessException(Exception ex) {
 		return connection.convertJedisAccessException(ex);
 	}
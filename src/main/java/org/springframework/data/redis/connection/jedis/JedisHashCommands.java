@@ -354,16 +354,7 @@ class JedisHashCommands implements RedisHashCommands {
 
 			@Override
 			protected ScanIteration<Entry<byte[], byte[]>> doScan(byte[] key, long cursorId, ScanOptions options) {
-
-				if (isQueueing() || isPipelined()) {
-					throw new UnsupportedOperationException("'HSCAN' cannot be called in pipeline / transaction mode.");
-				}
-
-				ScanParams params = JedisConverters.toScanParams(options);
-
-				ScanResult<Entry<byte[], byte[]>> result = connection.getJedis().hscan(key, JedisConverters.toBytes(cursorId),
-						params);
-				return new ScanIteration<>(Long.valueOf(result.getStringCursor()), result.getResult());
+				return hScanPage(key, cursorId, options);
 			}
 
 			protected void doClose() {
@@ -373,6 +364,24 @@ class JedisHashCommands implements RedisHashCommands {
 		}.open();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hScanPage(byte[], long, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public ScanIteration<Entry<byte[], byte[]>> hScanPage(byte[] key, long cursorId, ScanOptions options) {
+
+		if (isQueueing() || isPipelined()) {
+			throw new UnsupportedOperationException("'HSCAN' cannot be called in pipeline / transaction mode.");
+		}
+
+		ScanParams params = JedisConverters.toScanParams(options);
+
+		ScanResult<Entry<byte[], byte[]>> result = connection.getJedis().hscan(key, JedisConverters.toBytes(cursorId),
+				params);
+		return new ScanIteration<>(Long.valueOf(result.getStringCursor()), result.getResult());
+	}
+
 	private boolean isPipelined() {
 		return connection.isPipelined();
 	}
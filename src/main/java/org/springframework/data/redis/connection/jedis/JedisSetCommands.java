@@ -383,16 +383,7 @@ class JedisSetCommands implements RedisSetCommands {
 
 			@Override
 			protected ScanIteration<byte[]> doScan(byte[] key, long cursorId, ScanOptions options) {
-
-				if (isQueueing() || isPipelined()) {
-					throw new UnsupportedOperationException("'SSCAN' cannot be called in pipeline / transaction mode.");
-				}
-
-				ScanParams params = JedisConverters.toScanParams(options);
-
-				redis.clients.jedis.ScanResult<byte[]> result = connection.getJedis().sscan(key,
-						JedisConverters.toBytes(cursorId), params);
-				return new ScanIteration<>(Long.valueOf(result.getStringCursor()), result.getResult());
+				return sScanPage(key, cursorId, options);
 			}
 
 			protected void doClose() {
@@ -401,6 +392,24 @@ class JedisSetCommands implements RedisSetCommands {
 		}.open();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sScanPage(byte[], long, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public ScanIteration<byte[]> sScanPage(byte[] key, long cursorId, ScanOptions options) {
+
+		if (isQueueing() || isPipelined()) {
+			throw new UnsupportedOperationException("'SSCAN' cannot be called in pipeline / transaction mode.");
+		}
+
+		ScanParams params = JedisConverters.toScanParams(options);
+
+		redis.clients.jedis.ScanResult<byte[]> result = connection.getJedis().sscan(key,
+				JedisConverters.toBytes(cursorId), params);
+		return new ScanIteration<>(Long.valueOf(result.getStringCursor()), result.getResult());
+	}
+
 	private boolean isPipelined() {
 		return connection.isPipelined();
 	}
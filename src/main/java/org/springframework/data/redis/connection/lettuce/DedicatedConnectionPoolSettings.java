@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Settings for the pool of dedicated native connections {@link LettuceConnectionFactory} maintains for blocking and
+ * transactional operations, and for all operations if native connection sharing is disabled.
+ *
+ * @since 2.0
+ * @see LettuceClientConfiguration.LettuceClientConfigurationBuilder#dedicatedConnectionPool(DedicatedConnectionPoolSettings)
+ */
+public final class DedicatedConnectionPoolSettings {
+
+	private static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(1);
+
+	private final int maxTotal;
+	private final Duration idleTimeout;
+	private final Duration maxWait;
+
+	private DedicatedConnectionPoolSettings(int maxTotal, Duration idleTimeout, Duration maxWait) {
+
+		Assert.isTrue(maxTotal > 0, "Max total must be greater than zero!");
+		Assert.notNull(idleTimeout, "Idle timeout must not be null!");
+		Assert.isTrue(!idleTimeout.isNegative(), "Idle timeout must not be negative!");
+		Assert.notNull(maxWait, "Max wait must not be null!");
+		Assert.isTrue(!maxWait.isNegative(), "Max wait must not be negative!");
+
+		this.maxTotal = maxTotal;
+		this.idleTimeout = idleTimeout;
+		this.maxWait = maxWait;
+	}
+
+	/**
+	 * Create new {@link DedicatedConnectionPoolSettings} waiting up to one second for a connection when the pool is
+	 * exhausted.
+	 *
+	 * @param maxTotal maximum number of connections, borrowed and idle. Must be greater than zero.
+	 * @param idleTimeout time after which idle connections are closed. {@link Duration#ZERO} keeps idle connections
+	 *          open. Must not be {@literal null}.
+	 * @return new {@link DedicatedConnectionPoolSettings}.
+	 */
+	public static DedicatedConnectionPoolSettings of(int maxTotal, Duration idleTimeout) {
+		return new DedicatedConnectionPoolSettings(maxTotal, idleTimeout, DEFAULT_MAX_WAIT);
+	}
+
+	/**
+	 * Create new {@link DedicatedConnectionPoolSettings} applying the given max wait.
+	 *
+	 * @param maxWait time to wait for a connection when the pool is exhausted. Must not be {@literal null}.
+	 * @return new {@link DedicatedConnectionPoolSettings}.
+	 */
+	public DedicatedConnectionPoolSettings withMaxWait(Duration maxWait) {
+		return new DedicatedConnectionPoolSettings(maxTotal, idleTimeout, maxWait);
+	}
+
+	/**
+	 * @return maximum number of connections, borrowed and idle.
+	 */
+	public int getMaxTotal() {
+		return maxTotal;
+	}
+
+	/**
+	 * @return time after which idle connections are closed. {@link Duration#ZERO} if idle connections are kept open.
+	 */
+	public Duration getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/**
+	 * @return time to wait for a connection when the pool is exhausted.
+	 */
+	public Duration getMaxWait() {
+		return maxWait;
+	}
+}
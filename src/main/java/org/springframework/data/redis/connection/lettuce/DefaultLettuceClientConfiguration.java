@@ -16,6 +16,7 @@
 package org.springframework.data.redis.connection.lettuce;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.resource.ClientResources;
 
 import java.time.Duration;
@@ -34,17 +35,25 @@ class DefaultLettuceClientConfiguration implements LettuceClientConfiguration {
 	private final boolean startTls;
 	private final Optional<ClientResources> clientResources;
 	private final Optional<ClientOptions> clientOptions;
+	private final Optional<ReadFrom> readFrom;
+	private final Optional<DedicatedConnectionPoolSettings> dedicatedConnectionPool;
+	private final Duration healthCheckInterval;
 	private final Duration timeout;
 	private final Duration shutdownTimeout;
 
 	DefaultLettuceClientConfiguration(boolean useSsl, boolean verifyPeer, boolean startTls,
-			ClientResources clientResources, ClientOptions clientOptions, Duration timeout, Duration shutdownTimeout) {
+			ClientResources clientResources, ClientOptions clientOptions, ReadFrom readFrom,
+			DedicatedConnectionPoolSettings dedicatedConnectionPool, Duration healthCheckInterval, Duration timeout,
+			Duration shutdownTimeout) {
 
 		this.useSsl = useSsl;
 		this.verifyPeer = verifyPeer;
 		this.startTls = startTls;
 		this.clientResources = Optional.ofNullable(clientResources);
 		this.clientOptions = Optional.ofNullable(clientOptions);
+		this.readFrom = Optional.ofNullable(readFrom);
+		this.dedicatedConnectionPool = Optional.ofNullable(dedicatedConnectionPool);
+		this.healthCheckInterval = healthCheckInterval;
 		this.timeout = timeout;
 		this.shutdownTimeout = shutdownTimeout;
 	}
@@ -89,6 +98,30 @@ class DefaultLettuceClientConfiguration implements LettuceClientConfiguration {
 		return clientOptions;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration#getReadFrom()
+	 */
+	@Override
+	public Optional<ReadFrom> getReadFrom() {
+		return readFrom;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration#getDedicatedConnectionPool()
+	 */
+	@Override
+	public Optional<DedicatedConnectionPoolSettings> getDedicatedConnectionPool() {
+		return dedicatedConnectionPool;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration#getHealthCheckInterval()
+	 */
+	@Override
+	public Duration getHealthCheckInterval() {
+		return healthCheckInterval;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration#getTimeout()
 	 */
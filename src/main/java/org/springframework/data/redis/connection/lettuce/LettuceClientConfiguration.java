@@ -16,6 +16,7 @@
 package org.springframework.data.redis.connection.lettuce;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.resource.ClientResources;
 
@@ -36,6 +37,9 @@ import org.springframework.util.Assert;
  * <li>Whether to use StartTLS</li>
  * <li>Optional {@link ClientResources}</li>
  * <li>Optional {@link ClientOptions}</li>
+ * <li>Optional {@link ReadFrom} policy routing read-only commands to replicas</li>
+ * <li>Optional {@link DedicatedConnectionPoolSettings pool} for dedicated connections</li>
+ * <li>Health check {@link Duration interval}</li>
  * <li>Client {@link Duration timeout}</li>
  * <li>Shutdown {@link Duration timeout}</li>
  * </ul>
@@ -74,6 +78,29 @@ public interface LettuceClientConfiguration {
 	 */
 	Optional<ClientOptions> getClientOptions();
 
+	/**
+	 * @return the optional {@link ReadFrom} policy applied to read-only commands. Reads go to the master if absent.
+	 */
+	default Optional<ReadFrom> getReadFrom() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return the optional {@link DedicatedConnectionPoolSettings} to pool dedicated connections with. Dedicated
+	 *         connections are opened and closed on demand if absent.
+	 */
+	default Optional<DedicatedConnectionPoolSettings> getDedicatedConnectionPool() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return the interval in which the shared native connection is pinged in the background if
+	 *         {@link LettuceConnectionFactory#setValidateConnection(boolean) validation} is enabled.
+	 */
+	default Duration getHealthCheckInterval() {
+		return Duration.ofSeconds(1);
+	}
+
 	/**
 	 * @return the timeout.
 	 */
@@ -108,6 +135,12 @@ public interface LettuceClientConfiguration {
 	 * <dd>none</dd>
 	 * <dt>Client Resources</dt>
 	 * <dd>none</dd>
+	 * <dt>Read From</dt>
+	 * <dd>none (master)</dd>
+	 * <dt>Dedicated Connection Pool</dt>
+	 * <dd>none</dd>
+	 * <dt>Health Check Interval</dt>
+	 * <dd>1 Second</dd>
 	 * <dt>Connect Timeout</dt>
 	 * <dd>60 Seconds</dd>
 	 * <dt>Shutdown Timeout</dt>
@@ -150,6 +183,39 @@ public interface LettuceClientConfiguration {
 		 */
 		LettuceClientConfigurationBuilder clientOptions(ClientOptions clientOptions);
 
+		/**
+		 * Configure the {@link ReadFrom} policy for read-only commands, such as {@link ReadFrom#SLAVE_PREFERRED},
+		 * {@link ReadFrom#NEAREST} or {@link RoundRobinReplicaReadFrom}. The policy applies to the shared native
+		 * connection of Sentinel, standalone and cluster setups. Dedicated connections used for blocking and
+		 * transactional operations keep talking to the master.
+		 *
+		 * @param readFrom must not be {@literal null}.
+		 * @return {@literal this} builder.
+		 * @throws IllegalArgumentException if readFrom is {@literal null}.
+		 */
+		LettuceClientConfigurationBuilder readFrom(ReadFrom readFrom);
+
+		/**
+		 * Pool dedicated connections used for blocking and transactional operations, and for all operations if native
+		 * connection sharing is disabled, according to the given {@link DedicatedConnectionPoolSettings}. Does not apply
+		 * to Redis Cluster or if a {@link LettucePool} is configured on {@link LettuceConnectionFactory}.
+		 *
+		 * @param settings must not be {@literal null}.
+		 * @return {@literal this} builder.
+		 * @throws IllegalArgumentException if settings is {@literal null}.
+		 */
+		LettuceClientConfigurationBuilder dedicatedConnectionPool(DedicatedConnectionPoolSettings settings);
+
+		/**
+		 * Configure the interval in which the shared native connection is pinged in the background if
+		 * {@link LettuceConnectionFactory#setValidateConnection(boolean) validation} is enabled.
+		 *
+		 * @param healthCheckInterval must not be {@literal null}.
+		 * @return {@literal this} builder.
+		 * @throws IllegalArgumentException if healthCheckInterval is {@literal null} or not positive.
+		 */
+		LettuceClientConfigurationBuilder healthCheckInterval(Duration healthCheckInterval);
+
 		/**
 		 * Configure a command timeout.
 		 *
@@ -222,6 +288,9 @@ public interface LettuceClientConfiguration {
 		private boolean startTls;
 		private ClientResources clientResources;
 		private ClientOptions clientOptions;
+		private ReadFrom readFrom;
+		private DedicatedConnectionPoolSettings dedicatedConnectionPool;
+		private Duration healthCheckInterval = Duration.ofSeconds(1);
 		private Duration timeout = Duration.ofSeconds(RedisURI.DEFAULT_TIMEOUT);
 		private Duration shutdownTimeout = Duration.ofMillis(100);
 
@@ -295,6 +364,47 @@ public interface LettuceClientConfiguration {
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder#readFrom(io.lettuce.core.ReadFrom)
+		 */
+		@Override
+		public LettuceClientConfigurationBuilder readFrom(ReadFrom readFrom) {
+
+			Assert.notNull(readFrom, "ReadFrom must not be null!");
+
+			this.readFrom = readFrom;
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder#dedicatedConnectionPool(org.springframework.data.redis.connection.lettuce.DedicatedConnectionPoolSettings)
+		 */
+		@Override
+		public LettuceClientConfigurationBuilder dedicatedConnectionPool(DedicatedConnectionPoolSettings settings) {
+
+			Assert.notNull(settings, "DedicatedConnectionPoolSettings must not be null!");
+
+			this.dedicatedConnectionPool = settings;
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder#healthCheckInterval(java.time.Duration)
+		 */
+		@Override
+		public LettuceClientConfigurationBuilder healthCheckInterval(Duration healthCheckInterval) {
+
+			Assert.notNull(healthCheckInterval, "Duration must not be null!");
+			Assert.isTrue(!healthCheckInterval.isNegative() && !healthCheckInterval.isZero(),
+					"Health check interval must be positive!");
+
+			this.healthCheckInterval = healthCheckInterval;
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder#timeout(java.time.Duration)
@@ -328,7 +438,7 @@ public interface LettuceClientConfiguration {
 		@Override
 		public LettuceClientConfiguration build() {
 			return new DefaultLettuceClientConfiguration(useSsl, verifyPeer, startTls, clientResources, clientOptions,
-					timeout, shutdownTimeout);
+					readFrom, dedicatedConnectionPool, healthCheckInterval, timeout, shutdownTimeout);
 		}
 	}
 }
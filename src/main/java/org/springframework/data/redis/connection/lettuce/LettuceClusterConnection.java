@@ -48,6 +48,8 @@ import org.springframework.data.redis.connection.ClusterCommandExecutor.MultiKey
 import org.springframework.data.redis.connection.ClusterCommandExecutor.NodeResult;
 import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
 import org.springframework.data.redis.connection.convert.Converters;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
@@ -95,8 +97,24 @@ public class LettuceClusterConnection extends LettuceConnection implements Defau
 	 * @param executor must not be {@literal null}.
 	 */
 	public LettuceClusterConnection(RedisClusterClient clusterClient, ClusterCommandExecutor executor) {
+		this(null, clusterClient, executor);
+	}
 
-		super(null, 100, clusterClient, null, 0);
+	/**
+	 * Creates new {@link LettuceClusterConnection} using {@link RedisClusterClient} running commands across the cluster
+	 * via given {@link ClusterCommandExecutor}. Key based commands are sent through the given thread-safe
+	 * {@code sharedConnection} while blocking operations use a dedicated connection.
+	 *
+	 * @param sharedConnection the native cluster connection shared with other {@link LettuceClusterConnection}s. Can be
+	 *          {@literal null} to use a dedicated connection for all commands.
+	 * @param clusterClient must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public LettuceClusterConnection(StatefulRedisClusterConnection<byte[], byte[]> sharedConnection,
+			RedisClusterClient clusterClient, ClusterCommandExecutor executor) {
+
+		super(sharedConnection, 100, clusterClient, null, 0);
 
 		Assert.notNull(clusterClient, "RedisClusterClient must not be null.");
 		Assert.notNull(executor, "ClusterCommandExecutor must not be null.");
@@ -192,6 +210,15 @@ public class LettuceClusterConnection extends LettuceConnection implements Defau
 		return new LettuceClusterServerCommands(this);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceConnection#scriptingCommands()
+	 */
+	@Override
+	public RedisScriptingCommands scriptingCommands() {
+		return new LettuceClusterScriptingCommands(this);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisClusterCommands#getClusterSlaves(org.springframework.data.redis.connection.RedisClusterNode)
@@ -439,6 +466,15 @@ public class LettuceClusterConnection extends LettuceConnection implements Defau
 		return doGetClusterKeyCommands().randomKey(node);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisClusterConnection#scan(org.springframework.data.redis.core.ScanOptions, int)
+	 */
+	@Override
+	public Cursor<byte[]> scan(ScanOptions options, int parallelism) {
+		return doGetClusterKeyCommands().scan(options, parallelism);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisConnectionCommands#select(int)
@@ -616,7 +652,8 @@ public class LettuceClusterConnection extends LettuceConnection implements Defau
 	}
 
 	/**
-	 * Lettuce specific implementation of {@link ClusterTopologyProvider}.
+	 * Lettuce specific implementation of {@link ClusterTopologyProvider}. The converted {@link ClusterTopology} is cached
+	 * and only rebuilt once Lettuce reloads its {@link Partitions}, which replaces the partition node instances.
 	 *
 	 * @author Christoph Strobl
 	 * @since 1.7
@@ -624,6 +661,7 @@ public class LettuceClusterConnection extends LettuceConnection implements Defau
 	static class LettuceClusterTopologyProvider implements ClusterTopologyProvider {
 
 		private final RedisClusterClient client;
+		private volatile CachedTopology cached;
 
 		/**
 		 * @param client must not be {@literal null}.
@@ -640,8 +678,61 @@ public class LettuceClusterConnection extends LettuceConnection implements Defau
 		 */
 		@Override
 		public ClusterTopology getTopology() {
-			return new ClusterTopology(
-					new LinkedHashSet<>(LettuceConverters.partitionsToClusterNodes(client.getPartitions())));
+
+			Collection<io.lettuce.core.cluster.models.partitions.RedisClusterNode> partitions = client.getPartitions()
+					.getPartitions();
+			CachedTopology cached = this.cached;
+
+			if (cached != null && cached.isBasedOn(partitions)) {
+				return cached.topology;
+			}
+
+			List<io.lettuce.core.cluster.models.partitions.RedisClusterNode> source = new ArrayList<>(partitions);
+
+			Set<RedisClusterNode> nodes = new LinkedHashSet<>(source.size());
+			for (io.lettuce.core.cluster.models.partitions.RedisClusterNode node : source) {
+				nodes.add(LettuceConverters.toRedisClusterNode(node));
+			}
+
+			cached = new CachedTopology(source, new ClusterTopology(nodes));
+			this.cached = cached;
+			return cached.topology;
+		}
+	}
+
+	/**
+	 * {@link ClusterTopology} along with the Lettuce partition nodes it was converted from.
+	 *
+	 * @since 2.0
+	 */
+	private static class CachedTopology {
+
+		private final List<io.lettuce.core.cluster.models.partitions.RedisClusterNode> source;
+		private final ClusterTopology topology;
+
+		CachedTopology(List<io.lettuce.core.cluster.models.partitions.RedisClusterNode> source, ClusterTopology topology) {
+
+			this.source = source;
+			this.topology = topology;
+		}
+
+		/**
+		 * @param partitions the current partition nodes.
+		 * @return {@literal true} if {@code partitions} still hold the very same node instances.
+		 */
+		boolean isBasedOn(Collection<io.lettuce.core.cluster.models.partitions.RedisClusterNode> partitions) {
+
+			if (partitions.size() != source.size()) {
+				return false;
+			}
+
+			int index = 0;
+			for (io.lettuce.core.cluster.models.partitions.RedisClusterNode node : partitions) {
+				if (index >= source.size() || node != source.get(index++)) {
+					return false;
+				}
+			}
+			return index == source.size();
 		}
 	}
 
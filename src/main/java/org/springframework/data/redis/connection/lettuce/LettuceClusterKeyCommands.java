@@ -15,18 +15,23 @@
  */
 package org.springframework.data.redis.connection.lettuce;
 
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 
-import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.ClusterScanCursor;
+import org.springframework.data.redis.connection.ClusterScanCursor.NodeScanCallback;
 import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 import org.springframework.data.redis.connection.RedisClusterNode;
 import org.springframework.data.redis.connection.SortParameters;
 import org.springframework.data.redis.connection.lettuce.LettuceClusterConnection.LettuceClusterCommandCallback;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanIteration;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -51,7 +56,34 @@ class LettuceClusterKeyCommands extends LettuceKeyCommands {
 	 */
 	@Override
 	public Cursor<byte[]> scan(long cursorId, ScanOptions options) {
-		throw new InvalidDataAccessApiUsageException("Scan is not supported across multiple nodes within a cluster.");
+		return scan(cursorId, options, 1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisClusterConnection#scan(org.springframework.data.redis.core.ScanOptions, int)
+	 */
+	public Cursor<byte[]> scan(ScanOptions options, int parallelism) {
+		return scan(0, options, parallelism);
+	}
+
+	/**
+	 * Resume a cluster wide {@code SCAN} from the composite cursor id of a previous {@link ClusterScanCursor}.
+	 *
+	 * @param cursorId the composite cursor id.
+	 * @param options can be {@literal null}.
+	 * @param parallelism number of nodes scanned concurrently. Must be greater than zero.
+	 * @return never {@literal null}.
+	 */
+	Cursor<byte[]> scan(long cursorId, ScanOptions options, int parallelism) {
+
+		return new ClusterScanCursor(cursorId, options, connection.getClusterCommandExecutor(),
+				(NodeScanCallback<RedisClusterCommands<byte[], byte[]>>) (client, nodeCursorId, scanOptions) -> {
+
+					KeyScanCursor<byte[]> keyScanCursor = client.scan(connection.getScanCursor(nodeCursorId),
+							connection.getScanArgs(scanOptions));
+					return new ScanIteration<>(Long.valueOf(keyScanCursor.getCursor()), keyScanCursor.getKeys());
+				}, parallelism).open();
 	}
 
 	/*
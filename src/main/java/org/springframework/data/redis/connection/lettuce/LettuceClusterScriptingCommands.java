@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.connection.lettuce.LettuceClusterConnection.LettuceClusterCommandCallback;
+import org.springframework.util.Assert;
+
+/**
+ * Cluster variant of {@link LettuceScriptingCommands} sending {@code SCRIPT LOAD}, {@code SCRIPT EXISTS} and
+ * {@code SCRIPT FLUSH} to all master nodes so that scripts can be run via {@code EVALSHA} regardless of the node
+ * serving their keys.
+ *
+ * @since 2.0
+ */
+class LettuceClusterScriptingCommands extends LettuceScriptingCommands {
+
+	private final LettuceClusterConnection connection;
+
+	public LettuceClusterScriptingCommands(LettuceClusterConnection connection) {
+
+		super(connection);
+		this.connection = connection;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceScriptingCommands#scriptFlush()
+	 */
+	@Override
+	public void scriptFlush() {
+
+		connection.getClusterCommandExecutor()
+				.executeCommandOnAllNodes((LettuceClusterCommandCallback<String>) client -> client.scriptFlush());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceScriptingCommands#scriptLoad(byte[])
+	 */
+	@Override
+	public String scriptLoad(byte[] script) {
+
+		Assert.notNull(script, "Script must not be null!");
+
+		Collection<String> shas = connection.getClusterCommandExecutor()
+				.executeCommandOnAllNodes((LettuceClusterCommandCallback<String>) client -> client.scriptLoad(script))
+				.resultsAsList();
+
+		return shas.isEmpty() ? null : shas.iterator().next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceScriptingCommands#scriptExists(java.lang.String[])
+	 */
+	@Override
+	public List<Boolean> scriptExists(String... scriptShas) {
+
+		Assert.notEmpty(scriptShas, "Script SHAs must not be empty!");
+
+		Collection<List<Boolean>> existsPerNode = connection.getClusterCommandExecutor().executeCommandOnAllNodes(
+				(LettuceClusterCommandCallback<List<Boolean>>) client -> client.scriptExists(scriptShas)).resultsAsList();
+
+		List<Boolean> result = new ArrayList<>(scriptShas.length);
+		for (int i = 0; i < scriptShas.length; i++) {
+
+			boolean exists = !existsPerNode.isEmpty();
+			for (List<Boolean> nodeResult : existsPerNode) {
+				exists &= Boolean.TRUE.equals(nodeResult.get(i));
+			}
+			result.add(exists);
+		}
+		return result;
+	}
+}
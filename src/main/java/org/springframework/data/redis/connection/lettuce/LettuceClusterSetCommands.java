@@ -15,16 +15,17 @@
  */
 package org.springframework.data.redis.connection.lettuce;
 
-import io.lettuce.core.api.sync.RedisSetCommands;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.data.redis.connection.ClusterSetAlgebra;
 import org.springframework.data.redis.connection.ClusterSlotHashUtil;
-import org.springframework.data.redis.connection.lettuce.LettuceClusterConnection.LettuceMultiKeyClusterCommandCallback;
-import org.springframework.data.redis.connection.util.ByteArraySet;
 import org.springframework.data.redis.util.ByteUtils;
 
 /**
@@ -71,30 +72,7 @@ class LettuceClusterSetCommands extends LettuceSetCommands {
 			return super.sInter(keys);
 		}
 
-		Collection<Set<byte[]>> nodeResult = connection.getClusterCommandExecutor()
-				.executeMuliKeyCommand((LettuceMultiKeyClusterCommandCallback<Set<byte[]>>) RedisSetCommands::smembers,
-						Arrays.asList(keys))
-				.resultsAsList();
-
-		ByteArraySet result = null;
-		for (Set<byte[]> entry : nodeResult) {
-
-			ByteArraySet tmp = new ByteArraySet(entry);
-			if (result == null) {
-				result = tmp;
-			} else {
-				result.retainAll(tmp);
-				if (result.isEmpty()) {
-					break;
-				}
-			}
-		}
-
-		if (result == null || result.isEmpty()) {
-			return Collections.emptySet();
-		}
-
-		return result.asRawSet();
+		return setAlgebra().intersect(keys);
 	}
 
 	/*
@@ -110,11 +88,7 @@ class LettuceClusterSetCommands extends LettuceSetCommands {
 			return super.sInterStore(destKey, keys);
 		}
 
-		Set<byte[]> result = sInter(keys);
-		if (result.isEmpty()) {
-			return 0L;
-		}
-		return sAdd(destKey, result.toArray(new byte[result.size()][]));
+		return setAlgebra().intersectAndStore(destKey, keys);
 	}
 
 	/*
@@ -128,21 +102,7 @@ class LettuceClusterSetCommands extends LettuceSetCommands {
 			return super.sUnion(keys);
 		}
 
-		Collection<Set<byte[]>> nodeResult = connection.getClusterCommandExecutor()
-				.executeMuliKeyCommand((LettuceMultiKeyClusterCommandCallback<Set<byte[]>>) RedisSetCommands::smembers,
-						Arrays.asList(keys))
-				.resultsAsList();
-
-		ByteArraySet result = new ByteArraySet();
-		for (Set<byte[]> entry : nodeResult) {
-			result.addAll(entry);
-		}
-
-		if (result.isEmpty()) {
-			return Collections.emptySet();
-		}
-
-		return result.asRawSet();
+		return setAlgebra().union(keys);
 	}
 
 	/*
@@ -158,11 +118,7 @@ class LettuceClusterSetCommands extends LettuceSetCommands {
 			return super.sUnionStore(destKey, keys);
 		}
 
-		Set<byte[]> result = sUnion(keys);
-		if (result.isEmpty()) {
-			return 0L;
-		}
-		return sAdd(destKey, result.toArray(new byte[result.size()][]));
+		return setAlgebra().unionAndStore(destKey, keys);
 	}
 
 	/*
@@ -176,24 +132,7 @@ class LettuceClusterSetCommands extends LettuceSetCommands {
 			return super.sDiff(keys);
 		}
 
-		byte[] source = keys[0];
-		byte[][] others = Arrays.copyOfRange(keys, 1, keys.length);
-
-		ByteArraySet values = new ByteArraySet(sMembers(source));
-		Collection<Set<byte[]>> nodeResult = connection.getClusterCommandExecutor()
-				.executeMuliKeyCommand((LettuceMultiKeyClusterCommandCallback<Set<byte[]>>) RedisSetCommands::smembers,
-						Arrays.asList(others))
-				.resultsAsList();
-
-		if (values.isEmpty()) {
-			return Collections.emptySet();
-		}
-
-		for (Set<byte[]> toSubstract : nodeResult) {
-			values.removeAll(toSubstract);
-		}
-
-		return values.asRawSet();
+		return setAlgebra().diff(keys);
 	}
 
 	/*
@@ -209,11 +148,33 @@ class LettuceClusterSetCommands extends LettuceSetCommands {
 			return super.sDiffStore(destKey, keys);
 		}
 
-		Set<byte[]> diff = sDiff(keys);
-		if (diff.isEmpty()) {
-			return 0L;
-		}
+		return setAlgebra().diffAndStore(destKey, keys);
+	}
+
+	private ClusterSetAlgebra setAlgebra() {
+		return new ClusterSetAlgebra(this, connection.keyCommands(), this::isMember);
+	}
 
-		return sAdd(destKey, diff.toArray(new byte[diff.size()][]));
+	/**
+	 * Send {@code SISMEMBER} for all {@code values} without waiting for replies in between.
+	 */
+	private List<Boolean> isMember(byte[] key, List<byte[]> values) {
+
+		try {
+
+			RedisClusterAsyncCommands<byte[], byte[]> commands = connection.getAsyncConnection();
+			List<RedisFuture<Boolean>> futures = new ArrayList<>(values.size());
+			for (byte[] value : values) {
+				futures.add(commands.sismember(key, value));
+			}
+
+			List<Boolean> result = new ArrayList<>(values.size());
+			for (RedisFuture<Boolean> future : futures) {
+				result.add(LettuceFutures.awaitOrCancel(future, connection.getTimeout(), TimeUnit.MILLISECONDS));
+			}
+			return result;
+		} catch (Exception ex) {
+			throw connection.convertLettuceAccessException(ex);
+		}
 	}
 }
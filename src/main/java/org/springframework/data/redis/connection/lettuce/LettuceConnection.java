@@ -268,6 +268,21 @@ public class LettuceConnection extends AbstractRedisConnection {
 	public LettuceConnection(StatefulRedisConnection<byte[], byte[]> sharedConnection, long timeout,
 			AbstractRedisClient client, LettucePool pool, int defaultDbIndex) {
 
+		this((StatefulConnection<byte[], byte[]>) sharedConnection, timeout, client, pool, defaultDbIndex);
+	}
+
+	/**
+	 * @param sharedConnection A native standalone or cluster connection that is shared with other
+	 *          {@link LettuceConnection}s. Should not be used for transactions or blocking operations.
+	 * @param timeout The connection timeout (in milliseconds)
+	 * @param client The {@link AbstractRedisClient} to use when making dedicated connections.
+	 * @param pool The connection pool to use for blocking and tx operations.
+	 * @param defaultDbIndex The db index to use along with {@link RedisClient} when establishing a dedicated connection.
+	 * @since 2.0
+	 */
+	protected LettuceConnection(StatefulConnection<byte[], byte[]> sharedConnection, long timeout,
+			AbstractRedisClient client, LettucePool pool, int defaultDbIndex) {
+
 		this.asyncSharedConn = sharedConnection;
 		this.timeout = timeout;
 		this.client = client;
@@ -826,6 +841,9 @@ public class LettuceConnection extends AbstractRedisConnection {
 			if (asyncSharedConn instanceof StatefulRedisConnection) {
 				return ((StatefulRedisConnection<byte[], byte[]>) asyncSharedConn).async();
 			}
+			if (asyncSharedConn instanceof StatefulRedisClusterConnection) {
+				return ((StatefulRedisClusterConnection<byte[], byte[]>) asyncSharedConn).async();
+			}
 		}
 		return getAsyncDedicatedConnection();
 	}
@@ -906,26 +924,16 @@ public class LettuceConnection extends AbstractRedisConnection {
 				String.format("%s is not a supported connection type.", asyncDedicatedConn.getClass().getName()));
 	}
 
+	long getTimeout() {
+		return timeout;
+	}
+
 	io.lettuce.core.ScanCursor getScanCursor(long cursorId) {
 		return io.lettuce.core.ScanCursor.of(Long.toString(cursorId));
 	}
 
 	ScanArgs getScanArgs(ScanOptions options) {
-		if (options == null) {
-			return null;
-		}
-
-		ScanArgs scanArgs = new ScanArgs();
-
-		if (options.getPattern() != null) {
-			scanArgs.match(options.getPattern());
-		}
-
-		if (options.getCount() != null) {
-			scanArgs.limit(options.getCount());
-		}
-
-		return scanArgs;
+		return LettuceConverters.toScanArgs(options);
 	}
 
 	private void validateCommandIfRunningInTransactionMode(CommandType cmd, byte[]... args) {
@@ -17,18 +17,25 @@ package org.springframework.data.redis.connection.lettuce;
 
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.ClusterClientOptions;
 import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.masterslave.MasterSlave;
+import io.lettuce.core.masterslave.StatefulRedisMasterSlaveConnection;
 import io.lettuce.core.resource.ClientResources;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
@@ -60,11 +67,14 @@ import org.springframework.util.ClassUtils;
  * Connection factory creating <a href="http://github.com/mp911de/lettuce">Lettuce</a>-based connections.
  * <p>
  * This factory creates a new {@link LettuceConnection} on each call to {@link #getConnection()}. Multiple
- * {@link LettuceConnection}s share a single thread-safe native connection by default.
+ * {@link LettuceConnection}s share a single thread-safe native connection by default. In cluster mode
+ * {@link LettuceClusterConnection}s share a single native cluster connection the same way.
  * <p>
  * The shared native connection is never closed by {@link LettuceConnection}, therefore it is not validated by default
- * on {@link #getConnection()}. Use {@link #setValidateConnection(boolean)} to change this behavior if necessary. Inject
- * a {@link Pool} to pool dedicated connections. If shareNativeConnection is true, the pool will be used to select a
+ * on {@link #getConnection()}. Use {@link #setValidateConnection(boolean)} to change this behavior if necessary.
+ * Validation pings the shared connection in the background and replaces it on the next {@link #getConnection()} once a
+ * ping failed. Configure {@link LettuceClientConfiguration#getDedicatedConnectionPool() pooling} or inject a
+ * {@link Pool} to pool dedicated connections. If shareNativeConnection is true, the pool will be used to select a
  * connection for blocking and tx operations only, which should not share a connection. If native connection sharing is
  * disabled, the selected connection will be used for all operations.
  * <p>
@@ -95,11 +105,18 @@ public class LettuceConnectionFactory
 	private AbstractRedisClient client;
 	private boolean validateConnection = false;
 	private boolean shareNativeConnection = true;
-	private StatefulRedisConnection<byte[], byte[]> connection;
+	private volatile StatefulRedisConnection<byte[], byte[]> connection;
+	private volatile StatefulRedisClusterConnection<byte[], byte[]> clusterConnection;
+	private volatile boolean sharedConnectionValid = true;
+	private volatile ScheduledFuture<?> healthCheck;
+	private RedisFuture<String> pendingHealthCheck;
+	private long pendingHealthCheckStarted;
 	private LettucePool pool;
+	private boolean dedicatedConnectionPoolOwned;
 	/** Synchronization monitor for the shared Connection */
 	private final Object connectionMonitor = new Object();
 	private boolean convertPipelineAndTxResults = true;
+	private int reactiveClusterSlotConcurrency = LettuceReactiveClusterSlotExecutor.DEFAULT_CONCURRENCY;
 	private RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration("localhost", 6379);
 	private RedisSentinelConfiguration sentinelConfiguration;
 	private RedisClusterConfiguration clusterConfiguration;
@@ -217,7 +234,17 @@ public class LettuceConnectionFactory
 	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
 	 */
 	public void afterPropertiesSet() {
+
 		this.client = createRedisClient();
+
+		if (pool == null && !isClusterAware()) {
+			clientConfiguration.getDedicatedConnectionPool().ifPresent(settings -> {
+
+				this.pool = new LettuceDedicatedConnectionPool(client, this::createDedicatedConnection, settings,
+						client.getResources().eventExecutorGroup());
+				this.dedicatedConnectionPoolOwned = true;
+			});
+		}
 	}
 
 	/*
@@ -226,8 +253,19 @@ public class LettuceConnectionFactory
 	 */
 	public void destroy() {
 
+		synchronized (this.connectionMonitor) {
+			if (healthCheck != null) {
+				healthCheck.cancel(false);
+				healthCheck = null;
+			}
+		}
+
 		resetConnection();
 
+		if (dedicatedConnectionPoolOwned) {
+			pool.destroy();
+		}
+
 		try {
 			Duration timeout = clientConfiguration.getShutdownTimeout();
 			client.shutdown(timeout.toMillis(), timeout.toMillis(), TimeUnit.MILLISECONDS);
@@ -276,7 +314,8 @@ public class LettuceConnectionFactory
 			throw new InvalidDataAccessApiUsageException("Cluster is not configured!");
 		}
 
-		return new LettuceClusterConnection((RedisClusterClient) client, clusterCommandExecutor);
+		return new LettuceClusterConnection(getSharedClusterConnection(), (RedisClusterClient) client,
+				clusterCommandExecutor);
 	}
 
 	/*
@@ -298,16 +337,21 @@ public class LettuceConnectionFactory
 			throw new InvalidDataAccessApiUsageException("Cluster is not configured!");
 		}
 
-		return new LettuceReactiveRedisClusterConnection((RedisClusterClient) client);
+		return new LettuceReactiveRedisClusterConnection((RedisClusterClient) client, reactiveClusterSlotConcurrency);
 	}
 
 	public void initConnection() {
 
 		synchronized (this.connectionMonitor) {
-			if (this.connection != null) {
+			if (this.connection != null || this.clusterConnection != null) {
 				resetConnection();
 			}
-			this.connection = createLettuceConnector();
+			if (isClusterAware()) {
+				this.clusterConnection = createLettuceClusterConnector();
+			} else {
+				this.connection = createLettuceConnector();
+			}
+			this.sharedConnectionValid = true;
 		}
 	}
 
@@ -319,7 +363,11 @@ public class LettuceConnectionFactory
 			if (this.connection != null) {
 				this.connection.close();
 			}
+			if (this.clusterConnection != null) {
+				this.clusterConnection.close();
+			}
 			this.connection = null;
+			this.clusterConnection = null;
 		}
 	}
 
@@ -330,10 +378,15 @@ public class LettuceConnectionFactory
 		synchronized (this.connectionMonitor) {
 
 			boolean valid = false;
+			StatefulConnection<byte[], byte[]> sharedConnection = isClusterAware() ? clusterConnection : connection;
 
-			if (connection.isOpen()) {
+			if (sharedConnection != null && sharedConnection.isOpen()) {
 				try {
-					connection.sync().ping();
+					if (sharedConnection instanceof StatefulRedisClusterConnection) {
+						clusterConnection.sync().ping();
+					} else {
+						connection.sync().ping();
+					}
 					valid = true;
 				} catch (Exception e) {
 					log.debug("Validation failed", e);
@@ -485,15 +538,15 @@ public class LettuceConnectionFactory
 	}
 
 	/**
-	 * Enables validation of the shared native Lettuce connection on calls to {@link #getConnection()}. A new connection
-	 * will be created and used if validation fails.
+	 * Enables validation of the shared native Lettuce connection. A new connection will be created and used on the next
+	 * call to {@link #getConnection()} if validation fails.
 	 * <p>
 	 * Lettuce will automatically reconnect until close is called, which should never happen through
 	 * {@link LettuceConnection} if a shared native connection is used, therefore the default is false.
 	 * <p>
-	 * Setting this to true will result in a round-trip call to the server on each new connection, so this setting should
-	 * only be used if connection sharing is enabled and there is code that is actively closing the native Lettuce
-	 * connection.
+	 * Setting this to true pings the shared connection in the background every
+	 * {@link LettuceClientConfiguration#getHealthCheckInterval() health check interval} and checks whether it is still
+	 * open on each new connection. {@link #getConnection()} does not wait for a round-trip to the server.
 	 *
 	 * @param validateConnection enable connection validation.
 	 */
@@ -697,6 +750,32 @@ public class LettuceConnectionFactory
 		this.convertPipelineAndTxResults = convertPipelineAndTxResults;
 	}
 
+	/**
+	 * Returns the maximum number of slot groups a multi-key command is executed against concurrently on a reactive
+	 * cluster connection.
+	 *
+	 * @return the slot concurrency.
+	 * @since 2.0
+	 */
+	public int getReactiveClusterSlotConcurrency() {
+		return reactiveClusterSlotConcurrency;
+	}
+
+	/**
+	 * Sets the maximum number of slot groups a multi-key command (such as {@code MGET} or {@code DEL}) is executed
+	 * against concurrently on a reactive cluster connection. Keys spanning multiple slots are grouped by slot and one
+	 * command is issued per group.
+	 *
+	 * @param reactiveClusterSlotConcurrency must be greater than zero.
+	 * @since 2.0
+	 */
+	public void setReactiveClusterSlotConcurrency(int reactiveClusterSlotConcurrency) {
+
+		Assert.isTrue(reactiveClusterSlotConcurrency > 0, "Reactive cluster slot concurrency must be greater than zero!");
+
+		this.reactiveClusterSlotConcurrency = reactiveClusterSlotConcurrency;
+	}
+
 	/**
 	 * @return true when {@link RedisSentinelConfiguration} is present.
 	 * @since 1.5
@@ -714,26 +793,145 @@ public class LettuceConnectionFactory
 	}
 
 	protected StatefulRedisConnection<byte[], byte[]> getSharedConnection() {
-		if (shareNativeConnection) {
-			synchronized (this.connectionMonitor) {
-				if (this.connection == null) {
-					initConnection();
-				}
-				if (validateConnection) {
-					validateConnection();
-				}
-				return this.connection;
+
+		if (!shareNativeConnection) {
+			return null;
+		}
+
+		StatefulRedisConnection<byte[], byte[]> connection = this.connection;
+		if (connection != null && isUsable(connection) && (!validateConnection || healthCheck != null)) {
+			return connection;
+		}
+
+		synchronized (this.connectionMonitor) {
+			if (this.connection == null || !isUsable(this.connection)) {
+				initConnection();
 			}
-		} else {
+			if (validateConnection) {
+				scheduleHealthCheck();
+			}
+			return this.connection;
+		}
+	}
+
+	/**
+	 * Returns the native cluster connection shared across {@link LettuceClusterConnection}s or {@literal null} if native
+	 * connection sharing is disabled.
+	 *
+	 * @return the shared {@link StatefulRedisClusterConnection}. Can be {@literal null}.
+	 * @since 2.0
+	 */
+	protected StatefulRedisClusterConnection<byte[], byte[]> getSharedClusterConnection() {
+
+		if (!shareNativeConnection) {
 			return null;
 		}
+
+		StatefulRedisClusterConnection<byte[], byte[]> connection = this.clusterConnection;
+		if (connection != null && isUsable(connection) && (!validateConnection || healthCheck != null)) {
+			return connection;
+		}
+
+		synchronized (this.connectionMonitor) {
+			if (this.clusterConnection == null || !isUsable(this.clusterConnection)) {
+				initConnection();
+			}
+			if (validateConnection) {
+				scheduleHealthCheck();
+			}
+			return this.clusterConnection;
+		}
+	}
+
+	/**
+	 * Check the shared native connection by sending an asynchronous {@code PING}. The shared connection is replaced on
+	 * the next request for a connection if it was closed or the ping failed. A ping still pending from the previous check
+	 * is awaited rather than treated as a failure since it may just queue behind slow commands on the shared connection.
+	 * It is considered failed once it is pending for longer than the command timeout (or the health check interval if
+	 * that is longer).
+	 *
+	 * @since 2.0
+	 */
+	void checkSharedConnection() {
+
+		StatefulConnection<byte[], byte[]> sharedConnection = isClusterAware() ? clusterConnection : connection;
+		RedisFuture<String> previous = pendingHealthCheck;
+
+		if (sharedConnection == null) {
+			return;
+		}
+
+		if (!sharedConnection.isOpen()) {
+
+			invalidateSharedConnection(sharedConnection, null);
+			return;
+		}
+
+		if (previous != null && !previous.isDone()) {
+
+			long timeout = Math.max(clientConfiguration.getCommandTimeout().toNanos(),
+					clientConfiguration.getHealthCheckInterval().toNanos());
+
+			if (System.nanoTime() - pendingHealthCheckStarted > timeout) {
+
+				previous.cancel(false);
+				invalidateSharedConnection(sharedConnection, null);
+			}
+			return;
+		}
+
+		RedisFuture<String> ping = sharedConnection instanceof StatefulRedisClusterConnection
+				? ((StatefulRedisClusterConnection<byte[], byte[]>) sharedConnection).async().ping()
+				: ((StatefulRedisConnection<byte[], byte[]>) sharedConnection).async().ping();
+
+		pendingHealthCheck = ping;
+		pendingHealthCheckStarted = System.nanoTime();
+		ping.whenComplete((pong, error) -> {
+			if (error != null) {
+				invalidateSharedConnection(sharedConnection, error);
+			}
+		});
+	}
+
+	private boolean isUsable(StatefulConnection<byte[], byte[]> connection) {
+		return !validateConnection || (sharedConnectionValid && connection.isOpen());
+	}
+
+	private void invalidateSharedConnection(StatefulConnection<byte[], byte[]> checked, Throwable error) {
+
+		if (checked == connection || checked == clusterConnection) {
+
+			log.warn("Validation of shared connection failed. Creating a new connection.", error);
+			sharedConnectionValid = false;
+		}
+	}
+
+	private void scheduleHealthCheck() {
+
+		if (healthCheck == null) {
+
+			long interval = clientConfiguration.getHealthCheckInterval().toMillis();
+			healthCheck = client.getResources().eventExecutorGroup().scheduleWithFixedDelay(this::checkSharedConnection,
+					interval, interval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private StatefulConnection<byte[], byte[]> createDedicatedConnection() {
+
+		StatefulRedisConnection<byte[], byte[]> connection = ((RedisClient) client).connect(LettuceConnection.CODEC);
+		if (getDatabase() > 0) {
+			connection.sync().select(getDatabase());
+		}
+		return connection;
 	}
 
 	protected StatefulRedisConnection<byte[], byte[]> createLettuceConnector() {
 		try {
 
 			StatefulRedisConnection<byte[], byte[]> connection = null;
-			if (client instanceof RedisClient) {
+			if (client instanceof RedisClient && clientConfiguration.getReadFrom().isPresent()) {
+				connection = connectMasterSlave((RedisClient) client, clientConfiguration.getReadFrom().get());
+			} else if (client instanceof RedisClient) {
 				connection = ((RedisClient) client).connect(LettuceConnection.CODEC);
 				if (getDatabase() > 0) {
 					connection.sync().select(getDatabase());
@@ -747,6 +945,40 @@ public class LettuceConnectionFactory
 		}
 	}
 
+	/**
+	 * Connects the thread-safe native cluster connection to be shared across {@link LettuceClusterConnection}s.
+	 *
+	 * @return the {@link StatefulRedisClusterConnection}.
+	 * @since 2.0
+	 */
+	protected StatefulRedisClusterConnection<byte[], byte[]> createLettuceClusterConnector() {
+		try {
+
+			StatefulRedisClusterConnection<byte[], byte[]> connection = ((RedisClusterClient) client)
+					.connect(LettuceConnection.CODEC);
+			clientConfiguration.getReadFrom().ifPresent(connection::setReadFrom);
+			return connection;
+		} catch (RedisException e) {
+			throw new RedisConnectionFailureException("Unable to connect to Redis Cluster", e);
+		}
+	}
+
+	/**
+	 * Connects to the master and its replicas, discovered through Sentinel or the master's replication info, routing
+	 * read-only commands according to the given {@link ReadFrom}.
+	 */
+	private StatefulRedisConnection<byte[], byte[]> connectMasterSlave(RedisClient client, ReadFrom readFrom) {
+
+		RedisURI uri = isRedisSentinelAware() ? getSentinelRedisURI()
+				: createRedisURIAndApplySettings(getHostName(), getPort());
+		uri.setDatabase(getDatabase());
+
+		StatefulRedisMasterSlaveConnection<byte[], byte[]> connection = MasterSlave.connect(client, LettuceConnection.CODEC,
+				uri);
+		connection.setReadFrom(readFrom);
+		return connection;
+	}
+
 	private AbstractRedisClient createRedisClient() {
 
 		if (isRedisSentinelAware()) {
@@ -852,6 +1084,7 @@ public class LettuceConnectionFactory
 		private ClientResources clientResources;
 		private Duration timeout = Duration.ofSeconds(RedisURI.DEFAULT_TIMEOUT);
 		private Duration shutdownTimeout = Duration.ofMillis(100);
+		private Duration healthCheckInterval = Duration.ofSeconds(1);
 
 		/* (non-Javadoc)
 		 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration#isUseSsl()
@@ -909,6 +1142,30 @@ public class LettuceConnectionFactory
 			return Optional.empty();
 		}
 
+		/* (non-Javadoc)
+		 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration#getReadFrom()
+		 */
+		@Override
+		public Optional<ReadFrom> getReadFrom() {
+			return Optional.empty();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration#getDedicatedConnectionPool()
+		 */
+		@Override
+		public Optional<DedicatedConnectionPoolSettings> getDedicatedConnectionPool() {
+			return Optional.empty();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration#getHealthCheckInterval()
+		 */
+		@Override
+		public Duration getHealthCheckInterval() {
+			return healthCheckInterval;
+		}
+
 		/* (non-Javadoc)
 		 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration#getTimeout()
 		 */
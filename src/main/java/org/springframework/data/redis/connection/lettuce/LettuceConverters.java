@@ -57,6 +57,7 @@ import org.springframework.data.redis.connection.convert.Converters;
 import org.springframework.data.redis.connection.convert.ListConverter;
 import org.springframework.data.redis.connection.convert.LongToBooleanConverter;
 import org.springframework.data.redis.connection.convert.StringToRedisClientInfoConverter;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.core.types.RedisClientInfo;
 import org.springframework.data.redis.util.ByteUtils;
@@ -797,6 +798,32 @@ abstract public class LettuceConverters extends Converters {
 		return args;
 	}
 
+	/**
+	 * Convert {@link ScanOptions} into {@link ScanArgs}.
+	 *
+	 * @param options can be {@literal null}.
+	 * @return {@literal null} if {@literal options} is {@literal null}.
+	 * @since 2.0
+	 */
+	public static ScanArgs toScanArgs(ScanOptions options) {
+
+		if (options == null) {
+			return null;
+		}
+
+		ScanArgs scanArgs = new ScanArgs();
+
+		if (options.getPattern() != null) {
+			scanArgs.match(options.getPattern());
+		}
+
+		if (options.getCount() != null) {
+			scanArgs.limit(options.getCount());
+		}
+
+		return scanArgs;
+	}
+
 	static Converter<List<byte[]>, Long> toTimeConverter() {
 		return BYTES_LIST_TO_TIME_CONVERTER;
 	}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.api.StatefulConnection;
+
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.redis.connection.PoolException;
+import org.springframework.util.Assert;
+
+/**
+ * {@link LettucePool} of dedicated {@link StatefulConnection}s created by {@link LettuceConnectionFactory}. Idle
+ * connections are kept in a lock-free deque and handed out most recently used first, so that connections at the tail
+ * of the deque run idle and get closed by a periodic eviction task once they exceed the
+ * {@link DedicatedConnectionPoolSettings#getIdleTimeout() idle timeout}. The number of connections is bounded by a
+ * {@link Semaphore} which is only contended once the pool is exhausted. Borrowed connections are tracked so that
+ * returning a connection twice does not release its permit twice.
+ *
+ * @since 2.0
+ */
+class LettuceDedicatedConnectionPool implements LettucePool {
+
+	private final Log log = LogFactory.getLog(getClass());
+
+	private final AbstractRedisClient client;
+	private final Supplier<StatefulConnection<byte[], byte[]>> connector;
+	private final DedicatedConnectionPoolSettings settings;
+	private final Semaphore permits;
+	private final Deque<IdleConnection> idle = new ConcurrentLinkedDeque<>();
+	private final Set<StatefulConnection<byte[], byte[]>> borrowed = ConcurrentHashMap.newKeySet();
+	private final ScheduledFuture<?> eviction;
+
+	private volatile boolean closed;
+
+	/**
+	 * @param client must not be {@literal null}.
+	 * @param connector creates new connections. Must not be {@literal null}.
+	 * @param settings must not be {@literal null}.
+	 * @param scheduler runs the eviction of idle connections. Can be {@literal null} to not evict idle connections.
+	 */
+	LettuceDedicatedConnectionPool(AbstractRedisClient client, Supplier<StatefulConnection<byte[], byte[]>> connector,
+			DedicatedConnectionPoolSettings settings, ScheduledExecutorService scheduler) {
+
+		Assert.notNull(client, "AbstractRedisClient must not be null!");
+		Assert.notNull(connector, "Connector must not be null!");
+		Assert.notNull(settings, "DedicatedConnectionPoolSettings must not be null!");
+
+		this.client = client;
+		this.connector = connector;
+		this.settings = settings;
+		this.permits = new Semaphore(settings.getMaxTotal());
+
+		long idleTimeout = settings.getIdleTimeout().toMillis();
+		this.eviction = scheduler != null && idleTimeout > 0 ? scheduler.scheduleWithFixedDelay(this::evictIdle,
+				idleTimeout, Math.max(idleTimeout / 2, 1), TimeUnit.MILLISECONDS) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.Pool#getResource()
+	 */
+	@Override
+	public StatefulConnection<byte[], byte[]> getResource() {
+
+		Assert.state(!closed, "Pool is closed!");
+
+		try {
+			if (!permits.tryAcquire(settings.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new PoolException(String.format("Could not get a resource from the pool: all %d connections in use",
+						settings.getMaxTotal()));
+			}
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new PoolException("Interrupted while waiting for a resource from the pool", e);
+		}
+
+		try {
+
+			IdleConnection candidate;
+			while ((candidate = idle.pollFirst()) != null) {
+
+				if (candidate.connection.isOpen()) {
+					return borrow(candidate.connection);
+				}
+				close(candidate.connection);
+			}
+
+			return borrow(connector.get());
+		} catch (RuntimeException e) {
+
+			permits.release();
+			throw new PoolException("Could not get a resource from the pool", e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.Pool#returnResource(java.lang.Object)
+	 */
+	@Override
+	public void returnResource(StatefulConnection<byte[], byte[]> resource) {
+
+		Assert.notNull(resource, "Resource must not be null!");
+
+		release(resource);
+
+		if (closed || !resource.isOpen()) {
+			close(resource);
+		} else {
+			idle.offerFirst(new IdleConnection(resource, System.nanoTime()));
+		}
+		permits.release();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.Pool#returnBrokenResource(java.lang.Object)
+	 */
+	@Override
+	public void returnBrokenResource(StatefulConnection<byte[], byte[]> resource) {
+
+		Assert.notNull(resource, "Resource must not be null!");
+
+		release(resource);
+		close(resource);
+		permits.release();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.Pool#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		closed = true;
+
+		if (eviction != null) {
+			eviction.cancel(false);
+		}
+
+		IdleConnection candidate;
+		while ((candidate = idle.pollFirst()) != null) {
+			close(candidate.connection);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettucePool#getClient()
+	 */
+	@Override
+	public AbstractRedisClient getClient() {
+		return client;
+	}
+
+	/**
+	 * @return number of idle connections.
+	 */
+	int getIdleCount() {
+		return idle.size();
+	}
+
+	/**
+	 * Close idle connections that exceeded the idle timeout.
+	 */
+	void evictIdle() {
+
+		long idleSince = System.nanoTime() - settings.getIdleTimeout().toNanos();
+
+		IdleConnection candidate;
+		while ((candidate = idle.peekLast()) != null && candidate.since - idleSince <= 0) {
+			if (idle.removeLastOccurrence(candidate)) {
+				close(candidate.connection);
+			}
+		}
+	}
+
+	private StatefulConnection<byte[], byte[]> borrow(StatefulConnection<byte[], byte[]> connection) {
+
+		borrowed.add(connection);
+		return connection;
+	}
+
+	private void release(StatefulConnection<byte[], byte[]> connection) {
+
+		if (!borrowed.remove(connection)) {
+			throw new PoolException("Resource was not borrowed from this pool or has already been returned");
+		}
+	}
+
+	private void close(StatefulConnection<byte[], byte[]> connection) {
+
+		try {
+			connection.close();
+		} catch (RuntimeException e) {
+			log.debug("Failed to close pooled connection", e);
+		}
+	}
+
+	private static class IdleConnection {
+
+		final StatefulConnection<byte[], byte[]> connection;
+		final long since;
+
+		IdleConnection(StatefulConnection<byte[], byte[]> connection, long since) {
+
+			this.connection = connection;
+			this.since = since;
+		}
+	}
+}
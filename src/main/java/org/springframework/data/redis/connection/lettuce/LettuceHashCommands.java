@@ -342,19 +342,7 @@ class LettuceHashCommands implements RedisHashCommands {
 
 			@Override
 			protected ScanIteration<Entry<byte[], byte[]>> doScan(byte[] key, long cursorId, ScanOptions options) {
-
-				if (isQueueing() || isPipelined()) {
-					throw new UnsupportedOperationException("'HSCAN' cannot be called in pipeline / transaction mode.");
-				}
-
-				io.lettuce.core.ScanCursor scanCursor = connection.getScanCursor(cursorId);
-				ScanArgs scanArgs = connection.getScanArgs(options);
-
-				MapScanCursor<byte[], byte[]> mapScanCursor = getConnection().hscan(key, scanCursor, scanArgs);
-				String nextCursorId = mapScanCursor.getCursor();
-
-				Map<byte[], byte[]> values = mapScanCursor.getMap();
-				return new ScanIteration<>(Long.valueOf(nextCursorId), values.entrySet());
+				return hScanPage(key, cursorId, options);
 			}
 
 			protected void doClose() {
@@ -364,6 +352,27 @@ class LettuceHashCommands implements RedisHashCommands {
 		}.open();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hScanPage(byte[], long, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public ScanIteration<Entry<byte[], byte[]>> hScanPage(byte[] key, long cursorId, ScanOptions options) {
+
+		if (isQueueing() || isPipelined()) {
+			throw new UnsupportedOperationException("'HSCAN' cannot be called in pipeline / transaction mode.");
+		}
+
+		io.lettuce.core.ScanCursor scanCursor = connection.getScanCursor(cursorId);
+		ScanArgs scanArgs = connection.getScanArgs(options);
+
+		MapScanCursor<byte[], byte[]> mapScanCursor = getConnection().hscan(key, scanCursor, scanArgs);
+		String nextCursorId = mapScanCursor.getCursor();
+
+		Map<byte[], byte[]> values = mapScanCursor.getMap();
+		return new ScanIteration<>(Long.valueOf(nextCursorId), values.entrySet());
+	}
+
 	private boolean isPipelined() {
 		return connection.isPipelined();
 	}
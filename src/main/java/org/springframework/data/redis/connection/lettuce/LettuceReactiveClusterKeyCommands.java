@@ -28,6 +28,7 @@ import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 import org.springframework.data.redis.connection.ReactiveClusterKeyCommands;
 import org.springframework.data.redis.connection.ReactiveRedisConnection.BooleanResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.NumericResponse;
 import org.springframework.data.redis.connection.RedisClusterNode;
 import org.springframework.util.Assert;
 
@@ -128,6 +129,57 @@ class LettuceReactiveClusterKeyCommands extends LettuceReactiveKeyCommands imple
 		}));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceReactiveKeyCommands#mDel(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<List<ByteBuffer>, Long>> mDel(Publisher<List<ByteBuffer>> keysCollection) {
+
+		return connection.execute(cmd -> Flux.from(keysCollection).concatMap(keys -> {
+
+			Assert.notEmpty(keys, "Keys must not be null!");
+
+			return connection.getSlotExecutor()
+					.executeAndSum(keys, slotKeys -> cmd.del(slotKeys.toArray(new ByteBuffer[slotKeys.size()])))
+					.map(value -> new NumericResponse<>(keys, value));
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceReactiveKeyCommands#mExists(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<List<ByteBuffer>, Long>> mExists(Publisher<List<ByteBuffer>> keysCollection) {
+
+		return connection.execute(cmd -> Flux.from(keysCollection).concatMap(keys -> {
+
+			Assert.notEmpty(keys, "Keys must not be null!");
+
+			return connection.getSlotExecutor()
+					.executeAndSum(keys, slotKeys -> cmd.exists(slotKeys.toArray(new ByteBuffer[slotKeys.size()])))
+					.map(value -> new NumericResponse<>(keys, value));
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceReactiveKeyCommands#touch(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<List<ByteBuffer>, Long>> touch(Publisher<List<ByteBuffer>> keysCollection) {
+
+		return connection.execute(cmd -> Flux.from(keysCollection).concatMap(keys -> {
+
+			Assert.notEmpty(keys, "Keys must not be null!");
+
+			return connection.getSlotExecutor()
+					.executeAndSum(keys, slotKeys -> cmd.touch(slotKeys.toArray(new ByteBuffer[slotKeys.size()])))
+					.map(value -> new NumericResponse<>(keys, value));
+		}));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.lettuce.LettuceReactiveKeyCommands#move(org.reactivestreams.Publisher)
 	 */
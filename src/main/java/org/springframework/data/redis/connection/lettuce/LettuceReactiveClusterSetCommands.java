@@ -21,7 +21,6 @@ import reactor.core.publisher.Mono;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.reactivestreams.Publisher;
 import org.springframework.data.redis.connection.ClusterSlotHashUtil;
@@ -38,13 +37,18 @@ import org.springframework.util.Assert;
  */
 class LettuceReactiveClusterSetCommands extends LettuceReactiveSetCommands implements ReactiveClusterSetCommands {
 
+	private final LettuceReactiveRedisClusterConnection connection;
+
 	/**
 	 * Create new {@link LettuceReactiveSetCommands}.
 	 *
 	 * @param connection must not be {@literal null}.
 	 */
-	public LettuceReactiveClusterSetCommands(LettuceReactiveRedisConnection connection) {
+	public LettuceReactiveClusterSetCommands(LettuceReactiveRedisClusterConnection connection) {
+
 		super(connection);
+
+		this.connection = connection;
 	}
 
 	/* (non-Javadoc)
@@ -61,7 +65,9 @@ class LettuceReactiveClusterSetCommands extends LettuceReactiveSetCommands imple
 				return super.sUnion(Mono.just(command));
 			}
 
-			Flux<ByteBuffer> result = Flux.merge(command.getKeys().stream().map(cmd::smembers).collect(Collectors.toList()))
+			Flux<ByteBuffer> result = connection.getSlotExecutor().executeAndMerge(command.getKeys(),
+					slotKeys -> slotKeys.size() == 1 ? cmd.smembers(slotKeys.get(0))
+							: cmd.sunion(slotKeys.toArray(new ByteBuffer[slotKeys.size()])))
 					.distinct();
 
 			return Mono.just(new CommandResponse<>(command, result));
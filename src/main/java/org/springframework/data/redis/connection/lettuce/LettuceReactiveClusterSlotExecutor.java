@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Executes multi-key commands on a Redis Cluster by grouping keys by their hash slot and issuing one command per slot
+ * group. Slot groups are executed concurrently, bounded by the configured {@code concurrency}.
+ *
+ * @since 2.0
+ */
+class LettuceReactiveClusterSlotExecutor {
+
+	/**
+	 * Default number of slot groups executed concurrently.
+	 */
+	static final int DEFAULT_CONCURRENCY = 16;
+
+	private final int concurrency;
+
+	/**
+	 * Create new {@link LettuceReactiveClusterSlotExecutor} using {@link #DEFAULT_CONCURRENCY}.
+	 */
+	LettuceReactiveClusterSlotExecutor() {
+		this(DEFAULT_CONCURRENCY);
+	}
+
+	/**
+	 * Create new {@link LettuceReactiveClusterSlotExecutor}.
+	 *
+	 * @param concurrency maximum number of slot groups executed concurrently. Must be greater than zero.
+	 */
+	LettuceReactiveClusterSlotExecutor(int concurrency) {
+
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Execute {@code command} per slot group and assemble the individual results in the order of the given
+	 * {@code keys}. {@code command} is expected to emit one element per key of the slot group, in key order.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @param command must not be {@literal null}.
+	 * @return {@link Mono} emitting the results in the order of {@code keys}.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Mono<List<T>> executeInKeyOrder(List<ByteBuffer> keys, Function<List<ByteBuffer>, Publisher<T>> command) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+		Assert.notNull(command, "Command must not be null!");
+
+		Collection<SlotGroup> groups = groupBySlot(keys);
+
+		if (groups.size() <= 1) {
+			return Flux.from(command.apply(keys)).collectList();
+		}
+
+		return Flux.fromIterable(groups)
+				.flatMap(group -> Flux.from(command.apply(group.keys)).collectList().map(values -> Tuples.of(group, values)),
+						concurrency)
+				.collect(() -> new Object[keys.size()], (results, groupResult) -> assign(results, groupResult))
+				.map(results -> (List<T>) Arrays.asList(results));
+	}
+
+	/**
+	 * Execute {@code command} per slot group and sum up the individual results.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @param command must not be {@literal null}.
+	 * @return {@link Mono} emitting the sum of all slot group results.
+	 */
+	Mono<Long> executeAndSum(List<ByteBuffer> keys, Function<List<ByteBuffer>, Publisher<Long>> command) {
+
+		return executeAndMerge(keys, command).reduce(0L, Long::sum);
+	}
+
+	/**
+	 * Execute {@code command} per slot group and merge the emitted elements as they arrive.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @param command must not be {@literal null}.
+	 * @return {@link Flux} emitting the elements of all slot groups.
+	 */
+	<T> Flux<T> executeAndMerge(List<ByteBuffer> keys, Function<List<ByteBuffer>, Publisher<T>> command) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+		Assert.notNull(command, "Command must not be null!");
+
+		Collection<SlotGroup> groups = groupBySlot(keys);
+
+		if (groups.size() <= 1) {
+			return Flux.from(command.apply(keys));
+		}
+
+		return Flux.fromIterable(groups).flatMap(group -> command.apply(group.keys), concurrency);
+	}
+
+	private static void assign(Object[] results, Tuple2<SlotGroup, ? extends List<?>> groupResult) {
+
+		SlotGroup group = groupResult.getT1();
+		List<?> values = groupResult.getT2();
+
+		if (values.size() != group.positions.size()) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Expected %d results for slot %d but received %d!", group.positions.size(), group.slot, values.size()));
+		}
+
+		for (int i = 0; i < values.size(); i++) {
+			results[group.positions.get(i)] = values.get(i);
+		}
+	}
+
+	private static Collection<SlotGroup> groupBySlot(List<ByteBuffer> keys) {
+
+		Map<Integer, SlotGroup> groups = new LinkedHashMap<>();
+
+		for (int i = 0; i < keys.size(); i++) {
+
+			ByteBuffer key = keys.get(i);
+			int slot = ClusterSlotHashUtil.calculateSlot(ByteUtils.getBytes(key));
+
+			groups.computeIfAbsent(slot, SlotGroup::new).add(key, i);
+		}
+
+		return groups.values();
+	}
+
+	/**
+	 * Keys mapping to the same slot along with their position in the original key list.
+	 */
+	private static class SlotGroup {
+
+		final int slot;
+		final List<ByteBuffer> keys = new ArrayList<>();
+		final List<Integer> positions = new ArrayList<>();
+
+		SlotGroup(int slot) {
+			this.slot = slot;
+		}
+
+		void add(ByteBuffer key, int position) {
+
+			keys.add(key);
+			positions.add(position);
+		}
+	}
+}
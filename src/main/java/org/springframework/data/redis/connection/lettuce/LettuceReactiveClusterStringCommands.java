@@ -27,6 +27,7 @@ import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 import org.springframework.data.redis.connection.ReactiveClusterStringCommands;
 import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.util.Assert;
 
 /**
  * @author Christoph Strobl
@@ -35,13 +36,37 @@ import org.springframework.data.redis.connection.ReactiveRedisConnection;
 class LettuceReactiveClusterStringCommands extends LettuceReactiveStringCommands
 		implements ReactiveClusterStringCommands {
 
+	private final LettuceReactiveRedisClusterConnection connection;
+
 	/**
 	 * Create new {@link LettuceReactiveStringCommands}.
 	 *
 	 * @param connection must not be {@literal null}.
 	 */
-	public LettuceReactiveClusterStringCommands(LettuceReactiveRedisConnection connection) {
+	public LettuceReactiveClusterStringCommands(LettuceReactiveRedisClusterConnection connection) {
+
 		super(connection);
+
+		this.connection = connection;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceReactiveStringCommands#mGet(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<ReactiveRedisConnection.MultiValueResponse<List<ByteBuffer>, ByteBuffer>> mGet(
+			Publisher<List<ByteBuffer>> keyCollections) {
+
+		return connection.execute(cmd -> Flux.from(keyCollections).concatMap(keys -> {
+
+			Assert.notNull(keys, "Keys must not be null!");
+
+			return connection.getSlotExecutor()
+					.executeInKeyOrder(keys,
+							slotKeys -> cmd.mget(slotKeys.toArray(new ByteBuffer[slotKeys.size()]))
+									.map(value -> value.getValueOrElse(EMPTY_BYTE_BUFFER)))
+					.map(values -> new ReactiveRedisConnection.MultiValueResponse<>(keys, values));
+		}));
 	}
 
 	/* (non-Javadoc)
@@ -36,8 +36,24 @@ import org.springframework.util.StringUtils;
 class LettuceReactiveRedisClusterConnection extends LettuceReactiveRedisConnection
 		implements ReactiveRedisClusterConnection {
 
+	private final LettuceReactiveClusterSlotExecutor slotExecutor;
+
 	public LettuceReactiveRedisClusterConnection(RedisClusterClient client) {
+		this(client, LettuceReactiveClusterSlotExecutor.DEFAULT_CONCURRENCY);
+	}
+
+	/**
+	 * Create new {@link LettuceReactiveRedisClusterConnection}.
+	 *
+	 * @param client must not be {@literal null}.
+	 * @param slotConcurrency maximum number of slot groups a multi-key command is executed against concurrently. Must be
+	 *          greater than zero.
+	 */
+	public LettuceReactiveRedisClusterConnection(RedisClusterClient client, int slotConcurrency) {
+
 		super(client);
+
+		this.slotExecutor = new LettuceReactiveClusterSlotExecutor(slotConcurrency);
 	}
 
 	/* (non-Javadoc)
@@ -128,6 +144,13 @@ class LettuceReactiveRedisClusterConnection extends LettuceReactiveRedisConnecti
 		return Flux.defer(() -> callback.doWithCommands(getCommands(node))).onErrorMap(translateException());
 	}
 
+	/**
+	 * @return the {@link LettuceReactiveClusterSlotExecutor} used to fan out multi-key commands across slots.
+	 */
+	LettuceReactiveClusterSlotExecutor getSlotExecutor() {
+		return slotExecutor;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.lettuce.LettuceReactiveRedisConnection#getConnection()
 	 */
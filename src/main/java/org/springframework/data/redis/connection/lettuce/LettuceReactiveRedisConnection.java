@@ -17,19 +17,27 @@ package org.springframework.data.redis.connection.lettuce;
 
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.TransactionResult;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.cluster.api.reactive.RedisClusterReactiveCommands;
 import io.lettuce.core.codec.RedisCodec;
+import reactor.core.publisher.ConnectableFlux;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.reactivestreams.Publisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.data.redis.connection.ReactiveGeoCommands;
 import org.springframework.data.redis.connection.ReactiveHashCommands;
@@ -38,6 +46,7 @@ import org.springframework.data.redis.connection.ReactiveKeyCommands;
 import org.springframework.data.redis.connection.ReactiveListCommands;
 import org.springframework.data.redis.connection.ReactiveNumberCommands;
 import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveScriptingCommands;
 import org.springframework.data.redis.connection.ReactiveSetCommands;
 import org.springframework.data.redis.connection.ReactiveStringCommands;
 import org.springframework.data.redis.connection.ReactiveZSetCommands;
@@ -141,6 +150,78 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 		return new LettuceReactiveHyperLogLogCommands(this);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#scriptingCommands()
+	 */
+	@Override
+	public ReactiveScriptingCommands scriptingCommands() {
+		return new LettuceReactiveScriptingCommands(this);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#executePipelined(java.util.function.Function)
+	 */
+	@Override
+	public Flux<Object> executePipelined(
+			Function<ReactiveRedisConnection, ? extends Iterable<? extends Publisher<?>>> commands) {
+
+		Assert.notNull(commands, "Commands must not be null!");
+
+		return Flux.defer(() -> Flux.concat(batch(() -> dispatch(commands.apply(this))))).onErrorMap(translateException());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#executeInTransaction(java.util.function.Function)
+	 */
+	@Override
+	public Flux<Object> executeInTransaction(
+			Function<ReactiveRedisConnection, ? extends Iterable<? extends Publisher<?>>> commands) {
+
+		Assert.notNull(commands, "Commands must not be null!");
+
+		return Flux.defer(() -> {
+
+			RedisReactiveCommands<ByteBuffer, ByteBuffer> cmd = getTransactionalCommands();
+			List<Flux<Object>> results = new ArrayList<>();
+
+			Flux<TransactionResult> exec = batch(() -> {
+
+				Flux<String> multi = dispatch(cmd.multi());
+
+				try {
+					results.addAll(dispatch(commands.apply(this)));
+				} catch (RuntimeException e) {
+
+					dispatch(cmd.discard());
+					throw e;
+				}
+
+				return multi.thenMany(dispatch(cmd.exec()));
+			});
+
+			return exec.concatMap(result -> result.wasDiscarded() ? Flux.empty() : Flux.concat(results));
+		}).onErrorMap(translateException());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#watch(java.nio.ByteBuffer[])
+	 */
+	@Override
+	public Mono<String> watch(ByteBuffer... keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		return Mono.defer(() -> getTransactionalCommands().watch(keys)).onErrorMap(translateException());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#unwatch()
+	 */
+	@Override
+	public Mono<String> unwatch() {
+		return Mono.defer(() -> getTransactionalCommands().unwatch()).onErrorMap(translateException());
+	}
+
 	/**
 	 * @param callback
 	 * @return
@@ -172,6 +253,66 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 		throw new RuntimeException("o.O unknown connection type " + connection);
 	}
 
+	@SuppressWarnings("unchecked")
+	protected RedisReactiveCommands<ByteBuffer, ByteBuffer> getTransactionalCommands() {
+
+		if (connection instanceof StatefulRedisConnection) {
+			return ((StatefulRedisConnection<ByteBuffer, ByteBuffer>) connection).reactive();
+		}
+
+		throw new InvalidDataAccessApiUsageException(
+				String.format("Transactions are not supported by connection of type %s", connection.getClass()));
+	}
+
+	/**
+	 * Invoke {@code dispatcher} with auto-flushing disabled so that all commands dispatched within are written to the
+	 * transport in a single batch once {@code dispatcher} returns.
+	 *
+	 * @param dispatcher must not be {@literal null}.
+	 * @return the result of {@code dispatcher}.
+	 */
+	private <T> T batch(Supplier<T> dispatcher) {
+
+		StatefulConnection<ByteBuffer, ByteBuffer> connection = getConnection();
+		connection.setAutoFlushCommands(false);
+
+		try {
+			return dispatcher.get();
+		} finally {
+
+			connection.flushCommands();
+			connection.setAutoFlushCommands(true);
+		}
+	}
+
+	/**
+	 * Subscribe to each of the given command {@link Publisher}s so that the commands get dispatched in iteration order
+	 * and retain their results for later consumption.
+	 *
+	 * @param commands must not be {@literal null}.
+	 * @return the results of the individual commands.
+	 */
+	private static List<Flux<Object>> dispatch(Iterable<? extends Publisher<?>> commands) {
+
+		Assert.notNull(commands, "Commands must not be null!");
+
+		List<Flux<Object>> results = new ArrayList<>();
+
+		for (Publisher<?> command : commands) {
+			results.add(dispatch(command));
+		}
+
+		return results;
+	}
+
+	private static <T> Flux<T> dispatch(Publisher<? extends T> command) {
+
+		ConnectableFlux<T> result = Flux.<T> from(command).replay();
+		result.connect();
+
+		return result;
+	}
+
 	<T> Function<Throwable, Throwable> translateException() {
 
 		return throwable -> {
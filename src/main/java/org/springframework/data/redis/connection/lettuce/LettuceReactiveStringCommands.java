@@ -41,7 +41,7 @@ import org.springframework.util.Assert;
  */
 class LettuceReactiveStringCommands implements ReactiveStringCommands {
 
-	private final static ByteBuffer EMPTY_BYTE_BUFFER = ByteBuffer.wrap(new byte[0]);
+	final static ByteBuffer EMPTY_BYTE_BUFFER = ByteBuffer.wrap(new byte[0]);
 	private final LettuceReactiveRedisConnection connection;
 
 	/**
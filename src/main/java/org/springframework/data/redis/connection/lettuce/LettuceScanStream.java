@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.ScanCursor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Utility to expose Lettuce {@literal SCAN} cursor iterations as {@link Flux}. Cursor pages are fetched lazily: the
+ * next {@literal SCAN}, {@literal HSCAN}, {@literal SSCAN} or {@literal ZSCAN} call is issued only after all elements
+ * of the current page were consumed by downstream subscribers. Pages are fetched by repeating the scan with the
+ * cursor returned by the previous call, so long iterations do not nest subscribers.
+ *
+ * @since 2.0
+ */
+abstract class LettuceScanStream {
+
+	private LettuceScanStream() {}
+
+	/**
+	 * Create a {@link Flux} that emits the elements of the scan iteration starting at {@link ScanCursor#INITIAL}.
+	 *
+	 * @param scanFunction function issuing the actual scan command given a {@link ScanCursor}, must not be
+	 *          {@literal null}.
+	 * @param elementExtractor function extracting the elements from a cursor page, must not be {@literal null}.
+	 * @return the {@link Flux} emitting all scanned elements.
+	 */
+	static <C extends ScanCursor, T> Flux<T> scan(Function<ScanCursor, Mono<C>> scanFunction,
+			Function<C, Collection<T>> elementExtractor) {
+
+		return Flux.defer(() -> {
+
+			AtomicReference<ScanCursor> cursor = new AtomicReference<>(ScanCursor.INITIAL);
+
+			return Mono.defer(() -> scanFunction.apply(cursor.get())) //
+					.doOnNext(cursor::set) //
+					.repeat(() -> !cursor.get().isFinished()) //
+					.concatMapIterable(elementExtractor, 1);
+		});
+	}
+}
@@ -384,19 +384,7 @@ class LettuceSetCommands implements RedisSetCommands {
 
 			@Override
 			protected ScanIteration<byte[]> doScan(byte[] key, long cursorId, ScanOptions options) {
-
-				if (isQueueing() || isPipelined()) {
-					throw new UnsupportedOperationException("'SSCAN' cannot be called in pipeline / transaction mode.");
-				}
-
-				io.lettuce.core.ScanCursor scanCursor = connection.getScanCursor(cursorId);
-				ScanArgs scanArgs = connection.getScanArgs(options);
-
-				ValueScanCursor<byte[]> valueScanCursor = getConnection().sscan(key, scanCursor, scanArgs);
-				String nextCursorId = valueScanCursor.getCursor();
-
-				List<byte[]> values = connection.failsafeReadScanValues(valueScanCursor.getValues(), null);
-				return new ScanIteration<>(Long.valueOf(nextCursorId), values);
+				return sScanPage(key, cursorId, options);
 			}
 
 			protected void doClose() {
@@ -406,6 +394,27 @@ class LettuceSetCommands implements RedisSetCommands {
 		}.open();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sScanPage(byte[], long, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public ScanIteration<byte[]> sScanPage(byte[] key, long cursorId, ScanOptions options) {
+
+		if (isQueueing() || isPipelined()) {
+			throw new UnsupportedOperationException("'SSCAN' cannot be called in pipeline / transaction mode.");
+		}
+
+		io.lettuce.core.ScanCursor scanCursor = connection.getScanCursor(cursorId);
+		ScanArgs scanArgs = connection.getScanArgs(options);
+
+		ValueScanCursor<byte[]> valueScanCursor = getConnection().sscan(key, scanCursor, scanArgs);
+		String nextCursorId = valueScanCursor.getCursor();
+
+		List<byte[]> values = connection.failsafeReadScanValues(valueScanCursor.getValues(), null);
+		return new ScanIteration<>(Long.valueOf(nextCursorId), values);
+	}
+
 	private boolean isPipelined() {
 		return connection.isPipelined();
 	}
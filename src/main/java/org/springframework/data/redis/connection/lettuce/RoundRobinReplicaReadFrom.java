@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.models.role.RedisInstance;
+import io.lettuce.core.models.role.RedisNodeDescription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ReadFrom} policy spreading reads across replicas in round-robin fashion. Each selection rotates the order of
+ * the available replicas by one, listing masters last so that they serve reads only if no replica is reachable.
+ * <p>
+ * Note that Lettuce resolves read candidates once per connection in Sentinel and standalone setups and once per slot
+ * in cluster mode, so the rotation distributes connections and slots rather than single commands.
+ *
+ * @since 2.0
+ * @see LettuceClientConfiguration.LettuceClientConfigurationBuilder#readFrom(ReadFrom)
+ */
+public class RoundRobinReplicaReadFrom extends ReadFrom {
+
+	private final AtomicInteger offset = new AtomicInteger();
+
+	/*
+	 * (non-Javadoc)
+	 * @see io.lettuce.core.ReadFrom#select(io.lettuce.core.ReadFrom.Nodes)
+	 */
+	@Override
+	public List<RedisNodeDescription> select(Nodes nodes) {
+
+		List<RedisNodeDescription> replicas = new ArrayList<>();
+		List<RedisNodeDescription> masters = new ArrayList<>();
+
+		for (RedisNodeDescription node : nodes.getNodes()) {
+			if (node.getRole() == RedisInstance.Role.SLAVE) {
+				replicas.add(node);
+			} else if (node.getRole() == RedisInstance.Role.MASTER) {
+				masters.add(node);
+			}
+		}
+
+		if (replicas.isEmpty()) {
+			return masters;
+		}
+
+		int start = Math.floorMod(offset.getAndIncrement(), replicas.size());
+		List<RedisNodeDescription> selection = new ArrayList<>(replicas.size() + masters.size());
+
+		for (int i = 0; i < replicas.size(); i++) {
+			selection.add(replicas.get((start + i) % replicas.size()));
+		}
+		selection.addAll(masters);
+
+		return selection;
+	}
+}
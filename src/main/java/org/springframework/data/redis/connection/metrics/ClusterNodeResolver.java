@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.ClusterTopology;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves the master node serving a key according to a {@link ClusterTopology} snapshot refreshed every
+ * {@value InstrumentedRedisConnectionFactory#TOPOLOGY_REFRESH_INTERVAL} seconds. The snapshot is refreshed in the
+ * background on a connection of its own so that neither the commands nor the connections of the caller are involved.
+ * Keys are not resolved to a node until the first snapshot is available.
+ *
+ * @since 2.0
+ */
+class ClusterNodeResolver implements Function<byte[], RedisNode> {
+
+	private final Log log = LogFactory.getLog(getClass());
+
+	private final RedisConnectionFactory connectionFactory;
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+
+	private volatile Executor refreshExecutor;
+	private volatile ClusterTopology topology;
+	private volatile Long refreshed;
+
+	/**
+	 * @param connectionFactory obtains the connection to fetch the topology with. Must not be {@literal null}.
+	 * @param threadNamePrefix prefix of the threads refreshing the topology by default.
+	 */
+	ClusterNodeResolver(RedisConnectionFactory connectionFactory, String threadNamePrefix) {
+
+		this.connectionFactory = connectionFactory;
+		this.refreshExecutor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+	}
+
+	/**
+	 * @param refreshExecutor must not be {@literal null}.
+	 */
+	void setRefreshExecutor(Executor refreshExecutor) {
+
+		Assert.notNull(refreshExecutor, "Topology refresh executor must not be null!");
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.function.Function#apply(java.lang.Object)
+	 */
+	@Override
+	public RedisNode apply(byte[] key) {
+
+		ClusterTopology topology = this.topology;
+		Long refreshed = this.refreshed;
+
+		if (refreshed == null || System.nanoTime() - refreshed > TimeUnit.SECONDS
+				.toNanos(InstrumentedRedisConnectionFactory.TOPOLOGY_REFRESH_INTERVAL)) {
+			refresh();
+		}
+
+		return topology != null ? topology.getKeyServingMasterNode(key) : null;
+	}
+
+	private void refresh() {
+
+		if (!refreshing.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			refreshExecutor.execute(() -> {
+
+				try {
+					this.topology = fetchTopology();
+				} catch (RuntimeException e) {
+					log.debug("Failed to refresh cluster topology", e);
+				} finally {
+
+					this.refreshed = System.nanoTime();
+					refreshing.set(false);
+				}
+			});
+		} catch (RuntimeException e) {
+
+			refreshing.set(false);
+			log.debug("Failed to schedule cluster topology refresh", e);
+		}
+	}
+
+	private ClusterTopology fetchTopology() {
+
+		RedisClusterConnection connection = connectionFactory.getClusterConnection();
+
+		try {
+
+			Set<RedisClusterNode> nodes = new LinkedHashSet<>();
+			connection.clusterGetNodes().forEach(nodes::add);
+			return new ClusterTopology(nodes);
+		} finally {
+			connection.close();
+		}
+	}
+}
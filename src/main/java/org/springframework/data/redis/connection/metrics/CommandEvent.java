@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.util.Optional;
+
+import org.springframework.data.redis.connection.RedisNode;
+
+/**
+ * A single command executed on an instrumented connection. The command name is derived from the name of the invoked
+ * connection method, e.g. {@code BLPOP} for {@code bLPop}. Payload sizes cover the binary keys, values and arguments
+ * sent and received, not the bytes of the Redis protocol.
+ * <p>
+ * Commands issued while the connection is pipelining or queueing a transaction are {@link #isQueued() queued}. Their
+ * duration covers queueing the command only, the round trip is recorded for the command completing the batch such as
+ * {@code CLOSEPIPELINE} or {@code EXEC}.
+ *
+ * @since 2.0
+ */
+public final class CommandEvent {
+
+	private final String command;
+	private final RedisNode node;
+	private final long duration;
+	private final long bytesOut;
+	private final long bytesIn;
+	private final Throwable error;
+	private final boolean queued;
+
+	CommandEvent(String command, RedisNode node, long duration, long bytesOut, long bytesIn, Throwable error,
+			boolean queued) {
+
+		this.command = command;
+		this.node = node;
+		this.duration = duration;
+		this.bytesOut = bytesOut;
+		this.bytesIn = bytesIn;
+		this.error = error;
+		this.queued = queued;
+	}
+
+	/**
+	 * @return the command name. Never {@literal null}.
+	 */
+	public String getCommand() {
+		return command;
+	}
+
+	/**
+	 * Get the node the command was sent to. The node is known for commands addressing a
+	 * {@link org.springframework.data.redis.connection.RedisClusterNode} and for keyed commands on cluster connections.
+	 *
+	 * @return {@link Optional#empty()} if the node is unknown.
+	 */
+	public Optional<RedisNode> getNode() {
+		return Optional.ofNullable(node);
+	}
+
+	/**
+	 * @return the duration in nanoseconds.
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * @return number of payload bytes sent.
+	 */
+	public long getBytesOut() {
+		return bytesOut;
+	}
+
+	/**
+	 * @return number of payload bytes received. Zero unless sizing results is enabled on the instrumented connection
+	 *         factory.
+	 */
+	public long getBytesIn() {
+		return bytesIn;
+	}
+
+	/**
+	 * @return the error the command failed with or {@link Optional#empty()} if the command succeeded.
+	 */
+	public Optional<Throwable> getError() {
+		return Optional.ofNullable(error);
+	}
+
+	/**
+	 * @return {@literal true} if the command was queued in a pipeline or transaction.
+	 */
+	public boolean isQueued() {
+		return queued;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "CommandEvent [command=" + command + ", node=" + node + ", duration=" + duration + ", bytesOut=" + bytesOut
+				+ ", bytesIn=" + bytesIn + ", error=" + error + ", queued=" + queued + "]";
+	}
+}
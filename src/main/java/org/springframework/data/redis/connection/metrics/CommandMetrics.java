@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link CommandRecorder} aggregating {@link CommandStatistics} per command and per node.
+ *
+ * @since 2.0
+ */
+public class CommandMetrics implements CommandRecorder {
+
+	private final Map<String, CommandStatistics> commands = new ConcurrentHashMap<>();
+	private final Map<String, CommandStatistics> nodes = new ConcurrentHashMap<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.metrics.CommandRecorder#record(org.springframework.data.redis.connection.metrics.CommandEvent)
+	 */
+	@Override
+	public void record(CommandEvent event) {
+
+		Assert.notNull(event, "CommandEvent must not be null!");
+
+		commands.computeIfAbsent(event.getCommand(), key -> new CommandStatistics()).record(event);
+		event.getNode().ifPresent(
+				node -> nodes.computeIfAbsent(node.asString(), key -> new CommandStatistics()).record(event));
+	}
+
+	/**
+	 * @return {@link CommandStatistics} by command name. Never {@literal null}.
+	 */
+	public Map<String, CommandStatistics> getCommandStatistics() {
+		return Collections.unmodifiableMap(commands);
+	}
+
+	/**
+	 * @return {@link CommandStatistics} by node in {@code host:port} notation. Never {@literal null}.
+	 */
+	public Map<String, CommandStatistics> getNodeStatistics() {
+		return Collections.unmodifiableMap(nodes);
+	}
+
+	/**
+	 * Discard all recorded statistics.
+	 */
+	public void reset() {
+
+		commands.clear();
+		nodes.clear();
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+/**
+ * SPI to receive a {@link CommandEvent} for each command executed on an instrumented connection. Implementations are
+ * called on the thread completing the command and must therefore be thread-safe and must not block.
+ *
+ * @since 2.0
+ * @see CommandMetrics
+ * @see InstrumentedRedisConnectionFactory
+ * @see InstrumentedReactiveRedisConnectionFactory
+ */
+public interface CommandRecorder {
+
+	/**
+	 * Record a completed command.
+	 *
+	 * @param event never {@literal null}.
+	 */
+	void record(CommandEvent event);
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.springframework.data.redis.connection.DecoratedRedisConnection;
+import org.springframework.data.redis.connection.RedisCommands;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link InvocationHandler} recording a {@link CommandEvent} for each command invoked on a {@link RedisConnection} or
+ * one of its feature-specific command interfaces. Only methods declared by the {@code Redis*Commands} interfaces (and
+ * the connection interfaces implementing them by default) along with pipeline boundaries are considered commands.
+ * Accessors such as {@link RedisConnection#isPipelined()} are passed through without being recorded.
+ * <p>
+ * Methods are classified once and cached. Whether a command is queued is tracked from the pipeline and transaction
+ * boundaries invoked through the proxy instead of asking the connection on each command.
+ *
+ * @since 2.0
+ */
+class CommandRecordingInvocationHandler implements InvocationHandler {
+
+	private static final String COMMANDS_PACKAGE = ClassUtils.getPackageName(RedisCommands.class);
+	private static final Pattern COMMANDS_INTERFACE = Pattern
+			.compile("Redis\\w*Commands|RedisClusterConnection|DefaultedRedis\\w*Connection");
+	private static final Set<String> NON_COMMANDS = new HashSet<>(Arrays.asList("isSubscribed", "getSubscription"));
+	private static final Set<String> BATCH_COMMANDS = new HashSet<>(
+			Arrays.asList("openPipeline", "closePipeline", "multi", "exec", "discard"));
+
+	private static final Map<Method, CommandMethod> METHODS = new ConcurrentHashMap<>();
+
+	private final Object target;
+	private final BatchState batch;
+	private final CommandRecorder recorder;
+	private final Function<byte[], RedisNode> nodeResolver;
+	private final boolean recordResultSizes;
+
+	/**
+	 * @param target the object to invoke commands on.
+	 * @param batch the pipeline and transaction state of the connection owning {@code target}.
+	 * @param recorder the {@link CommandRecorder} to notify.
+	 * @param nodeResolver resolves the node serving a key. Can be {@literal null}.
+	 * @param recordResultSizes whether to compute the payload size of results.
+	 */
+	private CommandRecordingInvocationHandler(Object target, BatchState batch, CommandRecorder recorder,
+			Function<byte[], RedisNode> nodeResolver, boolean recordResultSizes) {
+
+		this.target = target;
+		this.batch = batch;
+		this.recorder = recorder;
+		this.nodeResolver = nodeResolver;
+		this.recordResultSizes = recordResultSizes;
+	}
+
+	/**
+	 * Create a proxy for the given {@link RedisConnection} implementing all its interfaces along with
+	 * {@link DecoratedRedisConnection}.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends RedisConnection> T proxy(T connection, CommandRecorder recorder,
+			Function<byte[], RedisNode> nodeResolver, boolean recordResultSizes) {
+
+		Set<Class<?>> interfaces = new LinkedHashSet<>(
+				ClassUtils.getAllInterfacesForClassAsSet(connection.getClass(), connection.getClass().getClassLoader()));
+		interfaces.add(DecoratedRedisConnection.class);
+
+		BatchState batch = new BatchState(connection.isPipelined(), connection.isQueueing());
+
+		return (T) Proxy.newProxyInstance(connection.getClass().getClassLoader(), interfaces.toArray(new Class<?>[0]),
+				new CommandRecordingInvocationHandler(connection, batch, recorder, nodeResolver, recordResultSizes));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+		CommandMethod commandMethod = METHODS.get(method);
+		if (commandMethod == null) {
+			commandMethod = METHODS.computeIfAbsent(method, CommandMethod::of);
+		}
+
+		switch (commandMethod.kind) {
+
+			case EQUALS:
+				return proxy == args[0];
+			case HASH_CODE:
+				return System.identityHashCode(proxy);
+			case GET_DELEGATE:
+				return target;
+			case FEATURE_COMMANDS:
+				return proxyFeatureCommands(method.getReturnType(), invokeTarget(method, args));
+			case PASS_THROUGH:
+				return invokeTarget(method, args);
+			default:
+				return invokeCommand(commandMethod, method, args);
+		}
+	}
+
+	private Object proxyFeatureCommands(Class<?> type, Object commands) {
+
+		if (commands == null) {
+			return null;
+		}
+
+		return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				new CommandRecordingInvocationHandler(commands, batch, recorder, nodeResolver, recordResultSizes));
+	}
+
+	private Object invokeCommand(CommandMethod commandMethod, Method method, Object[] args) throws Throwable {
+
+		boolean queued = commandMethod.kind == Kind.COMMAND && batch.isBatching();
+		long start = System.nanoTime();
+		Object result = null;
+		Throwable error = null;
+
+		try {
+
+			result = invokeTarget(method, args);
+			return result;
+		} catch (Throwable e) {
+
+			error = e;
+			throw e;
+		} finally {
+
+			long duration = System.nanoTime() - start;
+
+			if (commandMethod.kind == Kind.BATCH) {
+				batch.update(method.getName(), error == null);
+			}
+			recorder.record(new CommandEvent(commandMethod.command, resolveNode(args), duration, Payloads.sizeOf(args),
+					recordResultSizes ? Payloads.sizeOf(result) : 0, error, queued));
+		}
+	}
+
+	private Object invokeTarget(Method method, Object[] args) throws Throwable {
+
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	private RedisNode resolveNode(Object[] args) {
+
+		if (args == null || args.length == 0) {
+			return null;
+		}
+
+		for (Object arg : args) {
+			if (arg instanceof RedisNode) {
+				return (RedisNode) arg;
+			}
+		}
+
+		if (nodeResolver != null && args[0] instanceof byte[]) {
+			try {
+				return nodeResolver.apply((byte[]) args[0]);
+			} catch (RuntimeException e) {
+				return null;
+			}
+		}
+
+		return null;
+	}
+
+	private enum Kind {
+		EQUALS, HASH_CODE, GET_DELEGATE, FEATURE_COMMANDS, BATCH, COMMAND, PASS_THROUGH
+	}
+
+	/**
+	 * Classification of a proxied {@link Method} along with the name of the command it issues.
+	 */
+	private static class CommandMethod {
+
+		private final Kind kind;
+		private final String command;
+
+		private CommandMethod(Kind kind, String command) {
+
+			this.kind = kind;
+			this.command = command;
+		}
+
+		static CommandMethod of(Method method) {
+
+			String name = method.getName();
+			Class<?> type = method.getDeclaringClass();
+			int parameterCount = method.getParameterCount();
+
+			if (name.equals("equals") && parameterCount == 1) {
+				return new CommandMethod(Kind.EQUALS, null);
+			}
+
+			if (name.equals("hashCode") && parameterCount == 0) {
+				return new CommandMethod(Kind.HASH_CODE, null);
+			}
+
+			if (name.equals("getDelegate") && type == DecoratedRedisConnection.class) {
+				return new CommandMethod(Kind.GET_DELEGATE, null);
+			}
+
+			Class<?> returnType = method.getReturnType();
+			if (parameterCount == 0 && returnType.isInterface() && returnType.getSimpleName().endsWith("Commands")) {
+				return new CommandMethod(Kind.FEATURE_COMMANDS, null);
+			}
+
+			String command = name.toUpperCase(Locale.ENGLISH);
+
+			if (BATCH_COMMANDS.contains(name)) {
+				return new CommandMethod(Kind.BATCH, command);
+			}
+
+			if (!NON_COMMANDS.contains(name) && COMMANDS_PACKAGE.equals(ClassUtils.getPackageName(type))
+					&& COMMANDS_INTERFACE.matcher(type.getSimpleName()).matches()) {
+				return new CommandMethod(Kind.COMMAND, command);
+			}
+
+			return new CommandMethod(Kind.PASS_THROUGH, null);
+		}
+	}
+
+	/**
+	 * Pipeline and transaction state of a connection shared by the proxies of its feature-specific command interfaces.
+	 */
+	private static class BatchState {
+
+		private volatile boolean pipelined;
+		private volatile boolean queueing;
+
+		BatchState(boolean pipelined, boolean queueing) {
+
+			this.pipelined = pipelined;
+			this.queueing = queueing;
+		}
+
+		boolean isBatching() {
+			return pipelined || queueing;
+		}
+
+		/**
+		 * @param batchCommand the name of the invoked batch boundary.
+		 * @param succeeded whether the command succeeded. Batches are considered closed even if closing them failed.
+		 */
+		void update(String batchCommand, boolean succeeded) {
+
+			switch (batchCommand) {
+				case "openPipeline":
+					pipelined |= succeeded;
+					break;
+				case "closePipeline":
+					pipelined = false;
+					break;
+				case "multi":
+					queueing |= succeeded;
+					break;
+				default:
+					queueing = false;
+			}
+		}
+	}
+
+	/**
+	 * Computes payload sizes of binary arguments and results.
+	 */
+	static class Payloads {
+
+		private static final int MAX_DEPTH = 3;
+
+		static long sizeOf(Object value) {
+			return sizeOf(value, 0);
+		}
+
+		private static long sizeOf(Object value, int depth) {
+
+			if (value == null || depth > MAX_DEPTH) {
+				return 0;
+			}
+
+			if (value instanceof byte[]) {
+				return ((byte[]) value).length;
+			}
+
+			if (value instanceof ByteBuffer) {
+				return ((ByteBuffer) value).remaining();
+			}
+
+			long size = 0;
+			if (value instanceof Object[]) {
+				for (Object element : (Object[]) value) {
+					size += sizeOf(element, depth + 1);
+				}
+			} else if (value instanceof Collection) {
+				for (Object element : (Collection<?>) value) {
+					size += sizeOf(element, depth + 1);
+				}
+			} else if (value instanceof Map) {
+				for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+					size += sizeOf(entry.getKey(), depth + 1) + sizeOf(entry.getValue(), depth + 1);
+				}
+			}
+			return size;
+		}
+	}
+}
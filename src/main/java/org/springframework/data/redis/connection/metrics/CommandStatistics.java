@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated statistics of the commands recorded by {@link CommandMetrics} for a single command or node. Latencies of
+ * {@link CommandEvent#isQueued() queued} commands are not recorded since they do not include a round trip.
+ *
+ * @since 2.0
+ */
+public class CommandStatistics {
+
+	private final LongAdder count = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final LongAdder bytesOut = new LongAdder();
+	private final LongAdder bytesIn = new LongAdder();
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	void record(CommandEvent event) {
+
+		count.increment();
+		bytesOut.add(event.getBytesOut());
+		bytesIn.add(event.getBytesIn());
+
+		if (event.getError().isPresent()) {
+			errors.increment();
+		}
+
+		if (!event.isQueued()) {
+			latency.record(event.getDuration());
+		}
+	}
+
+	/**
+	 * @return number of executed commands.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return number of failed commands.
+	 */
+	public long getErrorCount() {
+		return errors.sum();
+	}
+
+	/**
+	 * @return total number of payload bytes sent.
+	 */
+	public long getBytesOut() {
+		return bytesOut.sum();
+	}
+
+	/**
+	 * @return total number of payload bytes received.
+	 */
+	public long getBytesIn() {
+		return bytesIn.sum();
+	}
+
+	/**
+	 * @return the {@link LatencyHistogram} of the command durations. Never {@literal null}.
+	 */
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "CommandStatistics [count=" + getCount() + ", errors=" + getErrorCount() + ", bytesOut=" + getBytesOut()
+				+ ", bytesIn=" + getBytesIn() + ", p50=" + latency.getValueAtPercentile(50) + ", p99="
+				+ latency.getValueAtPercentile(99) + ", max=" + latency.getMax() + "]";
+	}
+}
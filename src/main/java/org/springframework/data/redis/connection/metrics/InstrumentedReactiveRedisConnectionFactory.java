@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReactiveRedisClusterConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveRedisConnectionFactory} decorating the connections of another {@link ReactiveRedisConnectionFactory}
+ * to record a {@link CommandEvent} for each command. Commands streamed through a
+ * {@link org.reactivestreams.Publisher} are recorded per response, timed from emitting the command to receiving its
+ * response. Other commands are recorded per subscription, timed from subscription to termination.
+ * <p>
+ * Keyed commands on cluster connections are attributed to the master node serving the key the same way as by
+ * {@link InstrumentedRedisConnectionFactory}, provided the decorated factory is a {@link RedisConnectionFactory} as
+ * well to fetch the cluster topology with. Sizes of received payloads are only computed if
+ * {@link #setRecordResultSizes(boolean) enabled}.
+ *
+ * @since 2.0
+ * @see InstrumentedRedisConnectionFactory
+ */
+public class InstrumentedReactiveRedisConnectionFactory implements ReactiveRedisConnectionFactory {
+
+	private final ReactiveRedisConnectionFactory connectionFactory;
+	private final CommandRecorder recorder;
+	private final ClusterNodeResolver nodeResolver;
+
+	private volatile boolean recordResultSizes;
+
+	/**
+	 * Creates a new {@link InstrumentedReactiveRedisConnectionFactory}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param recorder must not be {@literal null}.
+	 */
+	public InstrumentedReactiveRedisConnectionFactory(ReactiveRedisConnectionFactory connectionFactory,
+			CommandRecorder recorder) {
+
+		Assert.notNull(connectionFactory, "ReactiveRedisConnectionFactory must not be null!");
+		Assert.notNull(recorder, "CommandRecorder must not be null!");
+
+		this.connectionFactory = connectionFactory;
+		this.recorder = recorder;
+		this.nodeResolver = connectionFactory instanceof RedisConnectionFactory
+				? new ClusterNodeResolver((RedisConnectionFactory) connectionFactory,
+						InstrumentedReactiveRedisConnectionFactory.class.getSimpleName() + "-")
+				: null;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to refresh the cluster topology in the background. Defaults to a
+	 * {@link SimpleAsyncTaskExecutor}.
+	 *
+	 * @param topologyRefreshExecutor must not be {@literal null}.
+	 */
+	public void setTopologyRefreshExecutor(Executor topologyRefreshExecutor) {
+
+		Assert.notNull(topologyRefreshExecutor, "Topology refresh executor must not be null!");
+
+		if (nodeResolver != null) {
+			nodeResolver.setRefreshExecutor(topologyRefreshExecutor);
+		}
+	}
+
+	/**
+	 * Sets whether to compute the payload size of command results reported by {@link CommandEvent#getBytesIn()}.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param recordResultSizes
+	 */
+	public void setRecordResultSizes(boolean recordResultSizes) {
+		this.recordResultSizes = recordResultSizes;
+	}
+
+	/**
+	 * @return the decorated {@link ReactiveRedisConnectionFactory}.
+	 */
+	public ReactiveRedisConnectionFactory getConnectionFactory() {
+		return connectionFactory;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnectionFactory#getReactiveConnection()
+	 */
+	@Override
+	public ReactiveRedisConnection getReactiveConnection() {
+		ReactiveRedisConnection connection = connectionFactory.getReactiveConnection();
+		return ReactiveCommandRecordingInvocationHandler.proxy(connection, recorder, null, recordResultSizes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnectionFactory#getReactiveClusterConnection()
+	 */
+	@Override
+	public ReactiveRedisClusterConnection getReactiveClusterConnection() {
+		ReactiveRedisClusterConnection connection = connectionFactory.getReactiveClusterConnection();
+		return ReactiveCommandRecordingInvocationHandler.proxy(connection, recorder, nodeResolver, recordResultSizes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.dao.support.PersistenceExceptionTranslator#translateExceptionIfPossible(java.lang.RuntimeException)
+	 */
+	@Override
+	public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+		return connectionFactory.translateExceptionIfPossible(ex);
+	}
+}
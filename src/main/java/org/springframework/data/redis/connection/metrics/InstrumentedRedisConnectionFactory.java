@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ClusterTopology;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisConnectionFactory} decorating the connections of another {@link RedisConnectionFactory} to record a
+ * {@link CommandEvent} for each executed command, including commands issued in pipelines and transactions.
+ * Connections handed out implement {@link org.springframework.data.redis.connection.DecoratedRedisConnection} to
+ * expose the underlying connection.
+ * <p>
+ * Keyed commands on cluster connections are attributed to the master node serving the key according to a
+ * {@link ClusterTopology} snapshot refreshed every {@value #TOPOLOGY_REFRESH_INTERVAL} seconds. The snapshot is
+ * refreshed in the background on a connection of its own so that neither the commands nor the connections of the
+ * caller are involved. Keyed commands are not attributed to a node until the first snapshot is available.
+ * <p>
+ * Sizes of received payloads are only computed if {@link #setRecordResultSizes(boolean) enabled} as sizing large
+ * results requires traversing them.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * <code>
+ * CommandMetrics metrics = new CommandMetrics();
+ * RedisTemplate&lt;String, String&gt; template = new RedisTemplate&lt;&gt;();
+ * template.setConnectionFactory(new InstrumentedRedisConnectionFactory(connectionFactory, metrics));
+ * </code>
+ * </pre>
+ *
+ * @since 2.0
+ */
+public class InstrumentedRedisConnectionFactory implements RedisConnectionFactory {
+
+	/**
+	 * Interval in seconds to refresh the {@link ClusterTopology} used to resolve key serving nodes.
+	 */
+	public static final long TOPOLOGY_REFRESH_INTERVAL = 60;
+
+	private final RedisConnectionFactory connectionFactory;
+	private final CommandRecorder recorder;
+	private final ClusterNodeResolver nodeResolver;
+
+	private volatile boolean recordResultSizes;
+
+	/**
+	 * Creates a new {@link InstrumentedRedisConnectionFactory}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param recorder must not be {@literal null}.
+	 */
+	public InstrumentedRedisConnectionFactory(RedisConnectionFactory connectionFactory, CommandRecorder recorder) {
+
+		Assert.notNull(connectionFactory, "RedisConnectionFactory must not be null!");
+		Assert.notNull(recorder, "CommandRecorder must not be null!");
+
+		this.connectionFactory = connectionFactory;
+		this.recorder = recorder;
+		this.nodeResolver = new ClusterNodeResolver(connectionFactory,
+				InstrumentedRedisConnectionFactory.class.getSimpleName() + "-");
+	}
+
+	/**
+	 * Sets the {@link Executor} used to refresh the {@link ClusterTopology} in the background. Defaults to a
+	 * {@link SimpleAsyncTaskExecutor}.
+	 *
+	 * @param topologyRefreshExecutor must not be {@literal null}.
+	 */
+	public void setTopologyRefreshExecutor(Executor topologyRefreshExecutor) {
+		nodeResolver.setRefreshExecutor(topologyRefreshExecutor);
+	}
+
+	/**
+	 * Sets whether to compute the payload size of command results reported by {@link CommandEvent#getBytesIn()}.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param recordResultSizes
+	 */
+	public void setRecordResultSizes(boolean recordResultSizes) {
+		this.recordResultSizes = recordResultSizes;
+	}
+
+	/**
+	 * @return the decorated {@link RedisConnectionFactory}.
+	 */
+	public RedisConnectionFactory getConnectionFactory() {
+		return connectionFactory;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnectionFactory#getConnection()
+	 */
+	@Override
+	public RedisConnection getConnection() {
+
+		RedisConnection connection = connectionFactory.getConnection();
+		if (connection instanceof RedisClusterConnection) {
+			return instrument((RedisClusterConnection) connection);
+		}
+		return CommandRecordingInvocationHandler.proxy(connection, recorder, null, recordResultSizes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnectionFactory#getClusterConnection()
+	 */
+	@Override
+	public RedisClusterConnection getClusterConnection() {
+		return instrument(connectionFactory.getClusterConnection());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnectionFactory#getConvertPipelineAndTxResults()
+	 */
+	@Override
+	public boolean getConvertPipelineAndTxResults() {
+		return connectionFactory.getConvertPipelineAndTxResults();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnectionFactory#getSentinelConnection()
+	 */
+	@Override
+	public RedisSentinelConnection getSentinelConnection() {
+		return connectionFactory.getSentinelConnection();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.dao.support.PersistenceExceptionTranslator#translateExceptionIfPossible(java.lang.RuntimeException)
+	 */
+	@Override
+	public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+		return connectionFactory.translateExceptionIfPossible(ex);
+	}
+
+	private RedisClusterConnection instrument(RedisClusterConnection connection) {
+		return CommandRecordingInvocationHandler.proxy(connection, recorder, nodeResolver, recordResultSizes);
+	}
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.Command;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.CommandResponse;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.metrics.CommandRecordingInvocationHandler.Payloads;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link InvocationHandler} recording {@link CommandEvent}s for the {@link Publisher}s returned by a
+ * {@link ReactiveRedisConnection} or one of its feature-specific command interfaces.
+ * <p>
+ * Methods consuming a {@link Publisher} of {@link Command}s are recorded once per emitted {@link CommandResponse},
+ * timed from the emission of the matching {@link Command}. Responses are matched to commands in emission order. Other
+ * methods returning a {@link Mono} or {@link Flux} are recorded once per subscription, timed from subscription to
+ * termination. Sent payload sizes cover the keys of the emitted {@link Command}s, received payload sizes the binary
+ * outputs of {@link CommandResponse}s.
+ *
+ * @since 2.0
+ */
+class ReactiveCommandRecordingInvocationHandler implements InvocationHandler {
+
+	private static final String EQUALS = "equals";
+	private static final String HASH_CODE = "hashCode";
+
+	private static final Set<String> NON_COMMANDS = new HashSet<>(Arrays.asList("close", "toString"));
+
+	private final Object target;
+	private final CommandRecorder recorder;
+	private final Function<byte[], RedisNode> nodeResolver;
+	private final boolean recordResultSizes;
+
+	/**
+	 * @param target the object to invoke commands on.
+	 * @param recorder the {@link CommandRecorder} to notify.
+	 * @param nodeResolver resolves the node serving a key. Can be {@literal null}.
+	 * @param recordResultSizes whether to compute the payload size of results.
+	 */
+	ReactiveCommandRecordingInvocationHandler(Object target, CommandRecorder recorder,
+			Function<byte[], RedisNode> nodeResolver, boolean recordResultSizes) {
+
+		this.target = target;
+		this.recorder = recorder;
+		this.nodeResolver = nodeResolver;
+		this.recordResultSizes = recordResultSizes;
+	}
+
+	/**
+	 * Create a proxy for the given {@link ReactiveRedisConnection} implementing all its interfaces.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends ReactiveRedisConnection> T proxy(T connection, CommandRecorder recorder,
+			Function<byte[], RedisNode> nodeResolver, boolean recordResultSizes) {
+
+		Class<?>[] interfaces = ClassUtils.getAllInterfacesForClass(connection.getClass(),
+				connection.getClass().getClassLoader());
+
+		return (T) Proxy.newProxyInstance(connection.getClass().getClassLoader(), interfaces,
+				new ReactiveCommandRecordingInvocationHandler(connection, recorder, nodeResolver, recordResultSizes));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+		String name = method.getName();
+
+		if (name.equals(EQUALS) && args != null && args.length == 1) {
+			return proxy == args[0];
+		} else if (name.equals(HASH_CODE) && args == null) {
+			return System.identityHashCode(proxy);
+		}
+
+		if (NON_COMMANDS.contains(name)) {
+			return invokeTarget(method, args);
+		}
+
+		Class<?> type = method.getReturnType();
+		if ((args == null || args.length == 0) && type.isInterface() && type.getSimpleName().endsWith("Commands")) {
+
+			Object commands = invokeTarget(method, args);
+			return commands == null ? null
+					: Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+							new ReactiveCommandRecordingInvocationHandler(commands, recorder, nodeResolver,
+									recordResultSizes));
+		}
+
+		String command = name.toUpperCase(Locale.ENGLISH);
+		int commandsIndex = indexOfCommands(method, args);
+
+		if (commandsIndex >= 0 && (type == Mono.class || type == Flux.class)) {
+
+			Flux<?> responses = Flux.defer(() -> {
+
+				Exchange exchange = new Exchange(command, findNode(args));
+				Object[] wrapped = args.clone();
+				wrapped[commandsIndex] = Flux.from((Publisher<?>) args[commandsIndex]).doOnNext(exchange::sent);
+
+				return exchange.observe(Flux.from(invokeDeferred(method, wrapped)));
+			});
+
+			return type == Mono.class ? Mono.from(responses) : responses;
+		}
+
+		if (type == Mono.class) {
+			return Mono.defer(() -> {
+
+				Recording recording = new Recording(command, resolveNode(args), args);
+				return recording.observe(Mono.from(invokeDeferred(method, args)));
+			});
+		}
+
+		if (type == Flux.class) {
+			return Flux.defer(() -> {
+
+				Recording recording = new Recording(command, resolveNode(args), args);
+				return recording.observe(Flux.from(invokeDeferred(method, args)));
+			});
+		}
+
+		Recording recording = new Recording(command, resolveNode(args), args);
+		Object result;
+
+		try {
+			result = invokeTarget(method, args);
+		} catch (Throwable e) {
+
+			recording.error.set(e);
+			recording.record();
+			throw e;
+		}
+
+		recording.received(result);
+		recording.record();
+		return result;
+	}
+
+	/**
+	 * Invoke the target for a single subscription to a deferred {@link Mono} or {@link Flux}. Failures to obtain the
+	 * {@link Publisher} are emitted as error.
+	 */
+	private Publisher<?> invokeDeferred(Method method, Object[] args) {
+
+		try {
+			return (Publisher<?>) invokeTarget(method, args);
+		} catch (Throwable e) {
+			return Mono.error(e);
+		}
+	}
+
+	private Object invokeTarget(Method method, Object[] args) throws Throwable {
+
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	/**
+	 * @return the index of the {@link Publisher} argument emitting the commands to execute or {@literal -1} if none.
+	 */
+	private static int indexOfCommands(Method method, Object[] args) {
+
+		if (args == null) {
+			return -1;
+		}
+
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		for (int i = 0; i < args.length; i++) {
+			if (parameterTypes[i] == Publisher.class && args[i] instanceof Publisher) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static RedisNode findNode(Object[] args) {
+
+		if (args != null) {
+			for (Object arg : args) {
+				if (arg instanceof RedisNode) {
+					return (RedisNode) arg;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Resolve the node addressed by the given arguments or serving the key passed as first argument.
+	 */
+	private RedisNode resolveNode(Object[] args) {
+
+		RedisNode node = findNode(args);
+		if (node != null || args == null || args.length == 0) {
+			return node;
+		}
+
+		return args[0] instanceof ByteBuffer ? resolveNode((ByteBuffer) args[0]) : null;
+	}
+
+	private RedisNode resolveNode(ByteBuffer key) {
+
+		if (nodeResolver == null || key == null) {
+			return null;
+		}
+
+		try {
+			return nodeResolver.apply(ByteUtils.getBytes(key));
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static long sizeOf(Object value) {
+
+		if (value instanceof Command) {
+			return Payloads.sizeOf(((Command) value).getKey());
+		}
+
+		if (value instanceof CommandResponse) {
+			return Payloads.sizeOf(((CommandResponse<?, ?>) value).getOutput());
+		}
+
+		return Payloads.sizeOf(value);
+	}
+
+	/**
+	 * Commands emitted to and responses received from a single subscription to a command {@link Publisher}.
+	 */
+	private class Exchange {
+
+		final String command;
+		final RedisNode node;
+		final Queue<Sent> sent = new ConcurrentLinkedQueue<>();
+		volatile long subscribed = System.nanoTime();
+
+		/**
+		 * @param node the node addressed by all commands. Can be {@literal null} to resolve the node per command.
+		 */
+		Exchange(String command, RedisNode node) {
+
+			this.command = command;
+			this.node = node;
+		}
+
+		void sent(Object command) {
+
+			RedisNode target = node != null || !(command instanceof Command) ? node
+					: resolveNode(((Command) command).getKey());
+			sent.add(new Sent(System.nanoTime(), sizeOf(command), target));
+		}
+
+		void received(Object response) {
+			record(sent.poll(), recordResultSizes ? sizeOf(response) : 0, null);
+		}
+
+		void failed(Throwable error) {
+			record(sent.poll(), 0, error);
+		}
+
+		<T> Flux<T> observe(Flux<T> flux) {
+			return flux.doOnSubscribe(subscription -> subscribed = System.nanoTime()) //
+					.doOnNext(this::received) //
+					.doOnError(this::failed);
+		}
+
+		private void record(Sent command, long bytesIn, Throwable error) {
+
+			long start = command != null ? command.time : subscribed;
+			recorder.record(new CommandEvent(this.command, command != null ? command.node : node,
+					System.nanoTime() - start, command != null ? command.bytesOut : 0, bytesIn, error, false));
+		}
+	}
+
+	/**
+	 * A {@link Command} emitted to the target awaiting its response.
+	 */
+	private static class Sent {
+
+		final long time;
+		final long bytesOut;
+		final RedisNode node;
+
+		Sent(long time, long bytesOut, RedisNode node) {
+
+			this.time = time;
+			this.bytesOut = bytesOut;
+			this.node = node;
+		}
+	}
+
+	/**
+	 * State of a single command invocation.
+	 */
+	private class Recording {
+
+		final String command;
+		final RedisNode node;
+		final long bytesOut;
+		final AtomicLong start = new AtomicLong(System.nanoTime());
+		final AtomicLong bytesIn = new AtomicLong();
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+
+		Recording(String command, RedisNode node, Object[] args) {
+
+			this.command = command;
+			this.node = node;
+			long bytesOut = 0;
+			if (args != null) {
+				for (Object arg : args) {
+					bytesOut += sizeOf(arg);
+				}
+			}
+			this.bytesOut = bytesOut;
+		}
+
+		<T> Mono<T> observe(Mono<T> mono) {
+			return mono.doOnSubscribe(subscription -> start()) //
+					.doOnNext(this::received) //
+					.doOnError(error::set) //
+					.doFinally(signal -> record());
+		}
+
+		<T> Flux<T> observe(Flux<T> flux) {
+			return flux.doOnSubscribe(subscription -> start()) //
+					.doOnNext(this::received) //
+					.doOnError(error::set) //
+					.doFinally(signal -> record());
+		}
+
+		void start() {
+			start.set(System.nanoTime());
+		}
+
+		void received(Object value) {
+
+			if (recordResultSizes) {
+				bytesIn.addAndGet(sizeOf(value));
+			}
+		}
+
+		void record() {
+			recorder.record(new CommandEvent(command, node, System.nanoTime() - start.get(), bytesOut, bytesIn.get(),
+					error.get(), false));
+		}
+	}
+}
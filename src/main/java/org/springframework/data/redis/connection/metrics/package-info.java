@@ -0,0 +1,4 @@
+/**
+ * Instrumentation of Redis connections recording command latency, throughput and payload sizes.
+ */
+package org.springframework.data.redis.connection.metrics;
@@ -0,0 +1,593 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Multiplexes blocking list pops of many logical consumers onto a small number of connections. Instead of blocking one
+ * connection per waiting caller, callers register their interest in an element of a list and a fixed number of workers
+ * issue {@literal BLPOP}/{@literal BRPOP} for all requested keys at once, handing out popped elements to the waiting
+ * callers in the order they registered.
+ * <p>
+ * Keys are partitioned across the workers, so each key is watched by at most one connection at a time. A worker picks
+ * up keys requested while it is already blocked once its current command returns, which takes at most the
+ * {@link #setPollTimeout(long) poll timeout}. Elements that were popped after their consumer gave up are pushed back
+ * to the end of the list they were popped from. Elements that cannot be deserialized fail the consumer they were popped
+ * for and are moved to the {@link #setDeadLetterKey(Object) dead letter list} if configured, or dropped otherwise.
+ * <p>
+ * The returned {@link CompletableFuture futures} are completed on the {@link #setCallbackExecutor(Executor) callback
+ * executor}, never on a worker thread, so dependent stages cannot hold up the blocking pops of other consumers.
+ * <p>
+ * Each worker obtains a connection through {@link RedisOperations#execute(RedisCallback)} and keeps it for its
+ * lifetime. The connection is only returned, and a new one obtained after the poll timeout, if a command fails.
+ * <p>
+ * On a {@link RedisClusterConnection} a single blocking command only watches keys mapping to the same
+ * {@link ClusterSlotHashUtil#calculateSlot(byte[]) slot} as {@literal BLPOP}/{@literal BRPOP} cannot span slots. The
+ * slots of the keys assigned to a worker are watched in turns, which delays keys of other slots by up to one poll
+ * timeout per turn.
+ *
+ * @param <K> the Redis key type.
+ * @param <V> the Redis value type.
+ * @since 2.0
+ * @see ReactiveBlockingListConsumer
+ */
+public class BlockingListConsumer<K, V> implements InitializingBean, DisposableBean {
+
+	/**
+	 * Default thread name prefix: "BlockingListConsumer-".
+	 */
+	public static final String DEFAULT_THREAD_NAME_PREFIX = ClassUtils.getShortName(BlockingListConsumer.class) + "-";
+
+	/**
+	 * The default poll timeout: 1 second.
+	 */
+	public static final long DEFAULT_POLL_TIMEOUT = 1;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final RedisOperations<K, V> template;
+	private final Map<PopKey, Queue<CompletableFuture<V>>> waiters = new ConcurrentHashMap<>();
+
+	private int concurrency = 1;
+	private long pollTimeout = DEFAULT_POLL_TIMEOUT;
+	private Executor taskExecutor;
+	private Executor callbackExecutor;
+	private K deadLetterKey;
+	private List<Worker> workers;
+
+	private volatile boolean running;
+
+	/**
+	 * Creates a new {@link BlockingListConsumer} popping elements via the given {@link RedisOperations}.
+	 *
+	 * @param template must not be {@literal null}.
+	 */
+	public BlockingListConsumer(RedisOperations<K, V> template) {
+
+		Assert.notNull(template, "RedisOperations must not be null!");
+		this.template = template;
+	}
+
+	/**
+	 * Set the number of workers and therefore the maximum number of connections blocked at the same time. Defaults to
+	 * {@literal 1}.
+	 *
+	 * @param concurrency must be greater than zero.
+	 */
+	public void setConcurrency(int concurrency) {
+
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Set the timeout in seconds for a single blocking pop command. Keys requested while a worker is blocked are
+	 * considered at the latest after this timeout. Defaults to {@value #DEFAULT_POLL_TIMEOUT} second.
+	 *
+	 * @param pollTimeout must be greater than zero.
+	 */
+	public void setPollTimeout(long pollTimeout) {
+
+		Assert.isTrue(pollTimeout > 0, "Poll timeout must be greater than zero!");
+		this.pollTimeout = pollTimeout;
+	}
+
+	/**
+	 * Set the {@link Executor} running the workers. Each worker occupies a thread of the executor for the lifetime of
+	 * this consumer. Defaults to a {@link SimpleAsyncTaskExecutor}.
+	 *
+	 * @param taskExecutor can be {@literal null}.
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Set the {@link Executor} completing the {@link CompletableFuture futures} handed out to consumers, and therefore
+	 * running their dependent stages unless those are registered with an executor of their own. Defaults to
+	 * {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param callbackExecutor can be {@literal null}.
+	 */
+	public void setCallbackExecutor(Executor callbackExecutor) {
+		this.callbackExecutor = callbackExecutor;
+	}
+
+	/**
+	 * Set the key of the list elements that cannot be deserialized are appended to. Such elements are dropped and
+	 * logged if not set.
+	 *
+	 * @param deadLetterKey can be {@literal null}.
+	 */
+	public void setDeadLetterKey(K deadLetterKey) {
+		this.deadLetterKey = deadLetterKey;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		if (running) {
+			return;
+		}
+
+		if (taskExecutor == null) {
+			taskExecutor = new SimpleAsyncTaskExecutor(DEFAULT_THREAD_NAME_PREFIX);
+		}
+
+		if (callbackExecutor == null) {
+			callbackExecutor = ForkJoinPool.commonPool();
+		}
+
+		running = true;
+
+		workers = new ArrayList<>(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+
+			Worker worker = new Worker(i);
+			workers.add(worker);
+			taskExecutor.execute(worker);
+		}
+	}
+
+	/**
+	 * Stop the workers and cancel all pending pops.
+	 */
+	@Override
+	public void destroy() {
+
+		running = false;
+
+		if (workers != null) {
+			for (Worker worker : workers) {
+				worker.wakeUp();
+			}
+		}
+
+		for (Queue<CompletableFuture<V>> queue : waiters.values()) {
+
+			CompletableFuture<V> waiter;
+			while ((waiter = queue.poll()) != null) {
+				waiter.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * @return {@literal true} if the workers are running.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Remove and get the first element of the list stored at {@code key} as soon as one is available.
+	 * <p>
+	 * Cancelling the returned {@link CompletableFuture} withdraws the request.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the {@link CompletableFuture} completed with the popped element.
+	 * @see <a href="http://redis.io/commands/blpop">Redis Documentation: BLPOP</a>
+	 */
+	public CompletableFuture<V> leftPopAsync(K key) {
+		return pop(Direction.LEFT, key);
+	}
+
+	/**
+	 * Remove and get the last element of the list stored at {@code key} as soon as one is available.
+	 * <p>
+	 * Cancelling the returned {@link CompletableFuture} withdraws the request.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the {@link CompletableFuture} completed with the popped element.
+	 * @see <a href="http://redis.io/commands/brpop">Redis Documentation: BRPOP</a>
+	 */
+	public CompletableFuture<V> rightPopAsync(K key) {
+		return pop(Direction.RIGHT, key);
+	}
+
+	/**
+	 * Remove and get the first element of the list stored at {@code key}, waiting until an element becomes available or
+	 * the {@code timeout} is reached.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param timeout
+	 * @param unit must not be {@literal null}.
+	 * @return {@literal null} when the timeout is reached.
+	 * @see <a href="http://redis.io/commands/blpop">Redis Documentation: BLPOP</a>
+	 */
+	public V leftPop(K key, long timeout, TimeUnit unit) {
+		return await(leftPopAsync(key), timeout, unit);
+	}
+
+	/**
+	 * Remove and get the last element of the list stored at {@code key}, waiting until an element becomes available or
+	 * the {@code timeout} is reached.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param timeout
+	 * @param unit must not be {@literal null}.
+	 * @return {@literal null} when the timeout is reached.
+	 * @see <a href="http://redis.io/commands/brpop">Redis Documentation: BRPOP</a>
+	 */
+	public V rightPop(K key, long timeout, TimeUnit unit) {
+		return await(rightPopAsync(key), timeout, unit);
+	}
+
+	private CompletableFuture<V> pop(Direction direction, K key) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.state(running, "BlockingListConsumer is not running!");
+
+		byte[] rawKey = rawKey(key);
+		PopKey popKey = new PopKey(direction, rawKey);
+		CompletableFuture<V> waiter = new CompletableFuture<>();
+
+		waiters.compute(popKey, (k, queue) -> {
+
+			Queue<CompletableFuture<V>> target = queue != null ? queue : new ConcurrentLinkedQueue<>();
+			target.add(waiter);
+			return target;
+		});
+
+		waiter.whenComplete((value, error) -> {
+			if (waiter.isCancelled()) {
+				withdraw(popKey, waiter);
+			}
+		});
+
+		workers.get(popKey.worker(workers.size())).wakeUp();
+
+		return waiter;
+	}
+
+	private void withdraw(PopKey key, CompletableFuture<V> waiter) {
+
+		waiters.computeIfPresent(key, (k, queue) -> {
+
+			queue.remove(waiter);
+			return queue.isEmpty() ? null : queue;
+		});
+	}
+
+	private V await(CompletableFuture<V> waiter, long timeout, TimeUnit unit) {
+
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		try {
+			return waiter.get(timeout, unit);
+		} catch (TimeoutException e) {
+
+			return waiter.cancel(false) ? null : waiter.getNow(null);
+		} catch (CancellationException e) {
+			return null;
+		} catch (InterruptedException e) {
+
+			waiter.cancel(false);
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Hand out a popped element to the first consumer still waiting for it or push it back using the given
+	 * {@link RedisConnection}. Elements that cannot be deserialized are never pushed back but fail the first waiting
+	 * consumer and are moved to the dead letter list, if any.
+	 */
+	void dispatch(RedisConnection connection, Direction direction, byte[] rawKey, byte[] rawValue) {
+
+		PopKey key = new PopKey(direction, rawKey);
+
+		V value;
+		try {
+			value = deserializeValue(rawValue);
+		} catch (RuntimeException e) {
+
+			discard(connection, rawValue, e);
+
+			CompletableFuture<V> waiter = nextWaiter(key);
+			if (waiter != null) {
+				callback(() -> waiter.completeExceptionally(e));
+			}
+			return;
+		}
+
+		CompletableFuture<V> waiter = nextWaiter(key);
+		if (waiter == null) {
+
+			pushBack(connection, direction, rawKey, rawValue);
+			return;
+		}
+
+		callback(() -> {
+
+			// the consumer gave up while the callback was queued
+			if (!waiter.complete(value)) {
+				template.execute((RedisCallback<Void>) callbackConnection -> {
+
+					pushBack(callbackConnection, direction, rawKey, rawValue);
+					return null;
+				});
+			}
+		});
+	}
+
+	private CompletableFuture<V> nextWaiter(PopKey key) {
+
+		Queue<CompletableFuture<V>> queue = waiters.get(key);
+
+		CompletableFuture<V> waiter;
+		while (queue != null && (waiter = queue.poll()) != null) {
+
+			withdraw(key, waiter);
+			if (!waiter.isDone()) {
+				return waiter;
+			}
+		}
+		return null;
+	}
+
+	private void callback(Runnable callback) {
+
+		try {
+			callbackExecutor.execute(callback);
+		} catch (RejectedExecutionException e) {
+			callback.run();
+		}
+	}
+
+	private void discard(RedisConnection connection, byte[] rawValue, RuntimeException cause) {
+
+		if (deadLetterKey != null) {
+
+			connection.rPush(rawKey(deadLetterKey), rawValue);
+			logger.warn("Moved element that cannot be deserialized to dead letter list.", cause);
+			return;
+		}
+
+		logger.warn("Dropped element that cannot be deserialized.", cause);
+	}
+
+	private static void pushBack(RedisConnection connection, Direction direction, byte[] rawKey, byte[] rawValue) {
+
+		if (direction == Direction.LEFT) {
+			connection.lPush(rawKey, rawValue);
+		} else {
+			connection.rPush(rawKey, rawValue);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] rawKey(K key) {
+
+		RedisSerializer<K> keySerializer = (RedisSerializer<K>) template.getKeySerializer();
+		if (keySerializer == null && key instanceof byte[]) {
+			return (byte[]) key;
+		}
+		return keySerializer.serialize(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	private V deserializeValue(byte[] rawValue) {
+
+		RedisSerializer<V> valueSerializer = (RedisSerializer<V>) template.getValueSerializer();
+		return valueSerializer != null ? valueSerializer.deserialize(rawValue) : (V) rawValue;
+	}
+
+	enum Direction {
+		LEFT, RIGHT
+	}
+
+	/**
+	 * Blocks a single connection on all keys assigned to it.
+	 */
+	private class Worker implements Runnable {
+
+		private final int index;
+		private final Object monitor = new Object();
+		private Direction lastDirection = Direction.RIGHT;
+		private int round;
+
+		Worker(int index) {
+			this.index = index;
+		}
+
+		void wakeUp() {
+
+			synchronized (monitor) {
+				monitor.notifyAll();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+
+			while (running && !Thread.currentThread().isInterrupted()) {
+
+				try {
+					template.execute((RedisCallback<Void>) connection -> {
+
+						while (running && !Thread.currentThread().isInterrupted()) {
+							poll(connection);
+						}
+						return null;
+					});
+				} catch (RuntimeException e) {
+
+					logger.warn("Blocking pop failed. Retrying after " + pollTimeout + " second(s).", e);
+					sleep();
+				}
+			}
+		}
+
+		private void poll(RedisConnection connection) {
+
+			List<byte[]> left = new ArrayList<>();
+			List<byte[]> right = new ArrayList<>();
+
+			for (Map.Entry<PopKey, Queue<CompletableFuture<V>>> entry : waiters.entrySet()) {
+
+				PopKey key = entry.getKey();
+				if (key.worker(workers.size()) == index && !entry.getValue().isEmpty()) {
+					(key.direction == Direction.LEFT ? left : right).add(key.getArray());
+				}
+			}
+
+			if (left.isEmpty() && right.isEmpty()) {
+
+				synchronized (monitor) {
+					try {
+						monitor.wait(TimeUnit.SECONDS.toMillis(pollTimeout));
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return;
+			}
+
+			// alternate directions if both are requested so neither starves
+			Direction direction = right.isEmpty() || (!left.isEmpty() && lastDirection == Direction.RIGHT) ? Direction.LEFT
+					: Direction.RIGHT;
+			List<byte[]> candidates = direction == Direction.LEFT ? left : right;
+			lastDirection = direction;
+
+			if (connection instanceof RedisClusterConnection) {
+				candidates = sameSlot(candidates);
+			}
+
+			byte[][] keys = candidates.toArray(new byte[0][]);
+			int timeout = (int) pollTimeout;
+			List<byte[]> result = direction == Direction.LEFT ? connection.bLPop(timeout, keys)
+					: connection.bRPop(timeout, keys);
+
+			if (result != null && result.size() == 2) {
+				dispatch(connection, direction, result.get(0), result.get(1));
+			}
+		}
+
+		/**
+		 * Select the keys sharing the slot of one of the given keys, taking turns across polls.
+		 */
+		private List<byte[]> sameSlot(List<byte[]> keys) {
+
+			int slot = ClusterSlotHashUtil.calculateSlot(keys.get(Math.floorMod(round++, keys.size())));
+
+			List<byte[]> sameSlot = new ArrayList<>(keys.size());
+			for (byte[] key : keys) {
+				if (ClusterSlotHashUtil.calculateSlot(key) == slot) {
+					sameSlot.add(key);
+				}
+			}
+			return sameSlot;
+		}
+
+		private void sleep() {
+
+			try {
+				Thread.sleep(TimeUnit.SECONDS.toMillis(pollTimeout));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Binary key along with the end of the list to pop from.
+	 */
+	private static class PopKey extends ByteArrayWrapper {
+
+		private final Direction direction;
+
+		PopKey(Direction direction, byte[] key) {
+
+			super(key);
+			this.direction = direction;
+		}
+
+		int worker(int workers) {
+			return Math.floorMod(hashCode(), workers);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.connection.util.ByteArrayWrapper#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			return super.equals(obj) && obj instanceof PopKey && direction == ((PopKey) obj).direction;
+		}
+	}
+}
@@ -356,6 +356,18 @@ public class DefaultReactiveSetOperations<K, V> implements ReactiveSetOperations
 		return createFlux(connection -> connection.sRandMember(rawKey(key), -count).map(this::readValue));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.core.ReactiveSetOperations#scan(java.lang.Object, org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public Flux<V> scan(K key, ScanOptions options) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(options, "ScanOptions must not be null!");
+
+		return createFlux(connection -> connection.sScan(rawKey(key), options).map(this::readValue));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.redis.core.ReactiveSetOperations#delete(java.lang.Object)
 	 */
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.redis.connection.util.ByteArraySet;
+import org.springframework.data.redis.core.convert.GeoIndexedPropertyValue;
+import org.springframework.data.redis.core.convert.IndexedData;
+import org.springframework.data.redis.core.convert.SimpleIndexedPropertyValue;
+import org.springframework.data.redis.repository.query.RedisOperationChain;
+import org.springframework.data.redis.repository.query.RedisOperationChain.NearPath;
+import org.springframework.data.redis.repository.query.RedisOperationChain.PathAndValue;
+import org.springframework.data.redis.repository.query.RedisOperationChain.RangePath;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Key layout of the <a href="http://redis.io/topics/indexes">secondary index</a> structures and the index lookups
+ * required to evaluate a {@link RedisOperationChain}. Shared by {@link IndexWriter}, {@link RedisQueryEngine} and
+ * {@link ReactiveRedisKeyValueAdapter} so that only the actual I/O differs between the blocking and reactive API.
+ *
+ * @since 2.0
+ */
+class IndexKeys {
+
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates new {@link IndexKeys}.
+	 *
+	 * @param conversionService must not be {@literal null}.
+	 */
+	IndexKeys(ConversionService conversionService) {
+
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * @return {@literal true} if the given {@link RedisOperationChain} requires an index lookup, {@literal false} if all
+	 *         objects within the keyspace match.
+	 */
+	static boolean hasIndexCriteria(RedisOperationChain criteria) {
+
+		return criteria != null && (!CollectionUtils.isEmpty(criteria.getSismember())
+				|| !CollectionUtils.isEmpty(criteria.getOrSismember()) || criteria.getNear() != null
+				|| !CollectionUtils.isEmpty(criteria.getRange()));
+	}
+
+	/**
+	 * Retain the {@code candidates} contained in {@code matching} preserving the order of {@code candidates}.
+	 *
+	 * @param candidates must not be {@literal null}.
+	 * @param matching must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	static List<byte[]> retain(Collection<byte[]> candidates, Collection<byte[]> matching) {
+
+		ByteArraySet lookup = new ByteArraySet(matching);
+		List<byte[]> result = new ArrayList<byte[]>(Math.min(candidates.size(), lookup.size()));
+
+		for (byte[] candidate : candidates) {
+			if (lookup.contains(candidate)) {
+				result.add(candidate);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return the key of the set holding all index keys the given key is stored in.
+	 */
+	byte[] indexHelperKey(String keyspace, byte[] key) {
+		return ByteUtils.concatAll(toBytes(keyspace + ":"), key, toBytes(":idx"));
+	}
+
+	/**
+	 * @return the key of the set holding the sorted set backed index keys the given key is stored in.
+	 */
+	byte[] sortedIndexHelperKey(String keyspace, byte[] key) {
+		return ByteUtils.concatAll(toBytes(keyspace + ":"), key, toBytes(":idx:zset"));
+	}
+
+	/**
+	 * @return the key of the set holding the ids of objects having the indexed value.
+	 */
+	byte[] indexKey(SimpleIndexedPropertyValue indexedData) {
+		return ByteUtils.concat(toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName() + ":"),
+				toBytes(indexedData.getValue()));
+	}
+
+	/**
+	 * @return the key of the sorted set backing geo and range indexes.
+	 */
+	byte[] indexKey(IndexedData indexedData) {
+		return toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName());
+	}
+
+	/**
+	 * Compute the index lookups for the given {@link RedisOperationChain}.
+	 *
+	 * @param criteria must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	IndexQuery query(RedisOperationChain criteria, String keyspace) {
+
+		String prefix = keyspace + ":";
+
+		List<RangeLookup> ranges = new ArrayList<RangeLookup>(criteria.getRange().size());
+		for (RangePath range : criteria.getRange()) {
+			ranges.add(new RangeLookup(toBytes(prefix + range.getPath()), range));
+		}
+
+		NearPath near = criteria.getNear();
+
+		return new IndexQuery(keys(prefix, criteria.getSismember()), keys(prefix, criteria.getOrSismember()),
+				near != null ? toBytes(prefix + GeoIndexedPropertyValue.geoIndexName(near.getPath())) : null,
+				near != null ? new Circle(near.getPoint(), near.getDistance()) : null, ranges);
+	}
+
+	private List<byte[]> keys(String prefix, Collection<PathAndValue> source) {
+
+		if (CollectionUtils.isEmpty(source)) {
+			return Collections.emptyList();
+		}
+
+		List<byte[]> keys = new ArrayList<byte[]>(source.size());
+		for (PathAndValue pathAndValue : source) {
+			keys.add(ByteUtils.concat(toBytes(prefix + pathAndValue.getPath() + ":"), toBytes(pathAndValue.getFirstValue())));
+		}
+
+		return keys;
+	}
+
+	private byte[] toBytes(Object source) {
+
+		if (source == null) {
+			return new byte[] {};
+		}
+
+		if (source instanceof byte[]) {
+			return (byte[]) source;
+		}
+
+		if (conversionService.canConvert(source.getClass(), byte[].class)) {
+			return conversionService.convert(source, byte[].class);
+		}
+
+		throw new InvalidDataAccessApiUsageException(String.format(
+				"Cannot convert %s to binary representation for index key generation. "
+						+ "Are you missing a Converter? Did you register a non PathBasedRedisIndexDefinition that might apply to a complex type?",
+				source.getClass()));
+	}
+
+	/**
+	 * Index lookups evaluating a {@link RedisOperationChain}. The ids returned by {@literal SINTER} of
+	 * {@link #getIntersectKeys()}, {@literal SUNION} of {@link #getUnionKeys()} and {@literal GEORADIUS} of
+	 * {@link #getGeoKey()} are concatenated and then narrowed down by each {@link RangeLookup} using
+	 * {@link IndexKeys#retain(Collection, Collection)}. Without any of the former the ids of the first
+	 * {@link RangeLookup} are used as candidates.
+	 *
+	 * @since 2.0
+	 */
+	static class IndexQuery {
+
+		private final List<byte[]> intersectKeys;
+		private final List<byte[]> unionKeys;
+		private final byte[] geoKey;
+		private final Circle geoWithin;
+		private final List<RangeLookup> ranges;
+
+		IndexQuery(List<byte[]> intersectKeys, List<byte[]> unionKeys, byte[] geoKey, Circle geoWithin,
+				List<RangeLookup> ranges) {
+
+			this.intersectKeys = intersectKeys;
+			this.unionKeys = unionKeys;
+			this.geoKey = geoKey;
+			this.geoWithin = geoWithin;
+			this.ranges = ranges;
+		}
+
+		/**
+		 * @return the set index keys to {@literal SINTER}. Empty if none.
+		 */
+		List<byte[]> getIntersectKeys() {
+			return intersectKeys;
+		}
+
+		/**
+		 * @return the set index keys to {@literal SUNION}. Empty if none.
+		 */
+		List<byte[]> getUnionKeys() {
+			return unionKeys;
+		}
+
+		/**
+		 * @return the geo index key or {@literal null} if there is no near criteria.
+		 */
+		byte[] getGeoKey() {
+			return geoKey;
+		}
+
+		/**
+		 * @return the area to look up within {@link #getGeoKey()} or {@literal null} if there is no near criteria.
+		 */
+		Circle getGeoWithin() {
+			return geoWithin;
+		}
+
+		/**
+		 * @return the range lookups narrowing down the candidates. Empty if none.
+		 */
+		List<RangeLookup> getRanges() {
+			return ranges;
+		}
+
+		/**
+		 * @return {@literal true} if candidates are looked up via set or geo indexes before applying
+		 *         {@link #getRanges()}.
+		 */
+		boolean hasCandidateLookups() {
+			return !intersectKeys.isEmpty() || !unionKeys.isEmpty() || geoKey != null;
+		}
+	}
+
+	/**
+	 * {@literal ZRANGEBYSCORE} lookup of a range index.
+	 *
+	 * @since 2.0
+	 */
+	static class RangeLookup {
+
+		private final byte[] key;
+		private final RangePath range;
+
+		RangeLookup(byte[] key, RangePath range) {
+
+			this.key = key;
+			this.range = range;
+		}
+
+		/**
+		 * @return the sorted set backing the range index.
+		 */
+		byte[] getKey() {
+			return key;
+		}
+
+		/**
+		 * @return the bounds to look up.
+		 */
+		RangePath getRange() {
+			return range;
+		}
+	}
+}
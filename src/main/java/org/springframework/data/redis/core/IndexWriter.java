@@ -15,17 +15,25 @@
  */
 package org.springframework.data.redis.core;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.util.ByteArraySet;
 import org.springframework.data.redis.core.convert.GeoIndexedPropertyValue;
 import org.springframework.data.redis.core.convert.IndexedData;
+import org.springframework.data.redis.core.convert.RangeIndexedPropertyValue;
 import org.springframework.data.redis.core.convert.RedisConverter;
 import org.springframework.data.redis.core.convert.RemoveIndexedData;
 import org.springframework.data.redis.core.convert.SimpleIndexedPropertyValue;
-import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
@@ -35,6 +43,9 @@ import org.springframework.util.ObjectUtils;
  * Redis. Depending on the type of {@link IndexedData} it uses eg. Sets with specific names to add actually referenced
  * keys to. While doing so {@link IndexWriter} also keeps track of all indexes associated with the root types key, which
  * allows to remove the root key from all indexes in case of deletion.
+ * <p>
+ * Index keys backed by a sorted set (eg. geo and range indexes) are additionally tracked in a separate helper set so that the
+ * root key can be removed from all its indexes within a single pipeline without looking up the type of each index.
  *
  * @author Christoph Strobl
  * @author Rob Winch
@@ -42,8 +53,11 @@ import org.springframework.util.ObjectUtils;
  */
 class IndexWriter {
 
+	private static final int DELETE_BATCH_SIZE = 100;
+
 	private final RedisConnection connection;
 	private final RedisConverter converter;
+	private final IndexKeys indexKeys;
 
 	/**
 	 * Creates new {@link IndexWriter}.
@@ -59,6 +73,7 @@ class IndexWriter {
 
 		this.connection = connection;
 		this.converter = converter;
+		this.indexKeys = new IndexKeys(converter.getConversionService());
 	}
 
 	/**
@@ -116,42 +131,152 @@ class IndexWriter {
 	}
 
 	/**
-	 * Removes a key from all available indexes.
+	 * Removes a key from all available indexes. Reads the index helper sets and removes the key from all indexes
+	 * listed there in one pipeline. Falls back to sequential commands for cluster connections.
 	 *
 	 * @param key must not be {@literal null}.
 	 */
+	@SuppressWarnings("unchecked")
 	public void removeKeyFromIndexes(String keyspace, Object key) {
 
 		Assert.notNull(key, "Key must not be null!");
 
 		byte[] binKey = toBytes(key);
-		byte[] indexHelperKey = ByteUtils.concatAll(toBytes(keyspace + ":"), binKey, toBytes(":idx"));
+		byte[] indexHelperKey = indexKeys.indexHelperKey(keyspace, binKey);
+		byte[] sortedIndexHelperKey = indexKeys.sortedIndexHelperKey(keyspace, binKey);
+
+		boolean pipeline = isPipelineSupported();
+
+		Set<byte[]> indexKeys;
+		Set<byte[]> sortedIndexKeys;
+
+		if (pipeline) {
+
+			connection.openPipeline();
+			connection.sMembers(indexHelperKey);
+			connection.sMembers(sortedIndexHelperKey);
+			List<Object> helpers = connection.closePipeline();
+
+			indexKeys = (Set<byte[]>) helpers.get(0);
+			sortedIndexKeys = (Set<byte[]>) helpers.get(1);
+		} else {
+
+			indexKeys = connection.sMembers(indexHelperKey);
+			sortedIndexKeys = connection.sMembers(sortedIndexHelperKey);
+		}
+
+		List<byte[]> setIndexKeys = setIndexKeys(indexKeys, sortedIndexKeys);
 
-		for (byte[] indexKey : connection.sMembers(indexHelperKey)) {
+		if (!pipeline) {
 
-			DataType type = connection.type(indexKey);
-			if (DataType.ZSET.equals(type)) {
-				connection.zRem(indexKey, binKey);
-			} else {
-				connection.sRem(indexKey, binKey);
+			removeFromSortedSetIndexes(sortedIndexKeys, binKey);
+			for (byte[] indexKey : setIndexKeys) {
+				removeFromSetIndex(indexKey, binKey);
 			}
+			connection.del(indexHelperKey, sortedIndexHelperKey);
+			return;
+		}
+
+		connection.openPipeline();
+
+		removeFromSortedSetIndexes(sortedIndexKeys, binKey);
+		for (byte[] indexKey : setIndexKeys) {
+			connection.sRem(indexKey, binKey);
 		}
+		connection.del(indexHelperKey, sortedIndexHelperKey);
+
+		try {
+			connection.closePipeline();
+		} catch (RedisPipelineException e) {
+
+			// sorted set indexes written before their type got tracked end up in the plain helper set
+			List<Object> results = e.getPipelineResult();
+			int offset = sortedIndexKeys != null ? sortedIndexKeys.size() : 0;
 
-		connection.del(indexHelperKey);
+			for (int i = 0; i < setIndexKeys.size(); i++) {
+				if (results.get(offset + i) instanceof Exception) {
+					connection.zRem(setIndexKeys.get(i), binKey);
+				}
+			}
+		}
 	}
 
 	/**
-	 * Removes all indexes.
+	 * Removes all indexes. Uses {@literal SCAN} to iterate the keyspace and deletes matching keys in batches.
 	 */
 	public void removeAllIndexes(String keyspace) {
 
-		Set<byte[]> potentialIndex = connection.keys(toBytes(keyspace + ":*"));
+		List<byte[]> batch = new ArrayList<byte[]>(DELETE_BATCH_SIZE);
+
+		try (Cursor<byte[]> cursor = connection
+				.scan(ScanOptions.scanOptions().match(keyspace + ":*").count(DELETE_BATCH_SIZE).build())) {
 
-		if (!potentialIndex.isEmpty()) {
-			connection.del(potentialIndex.toArray(new byte[potentialIndex.size()][]));
+			while (cursor.hasNext()) {
+
+				batch.add(cursor.next());
+
+				if (batch.size() == DELETE_BATCH_SIZE) {
+					connection.del(batch.toArray(new byte[batch.size()][]));
+					batch.clear();
+				}
+			}
+		} catch (IOException e) {
+			throw new RedisSystemException("Could not close cursor", e);
+		}
+
+		if (!batch.isEmpty()) {
+			connection.del(batch.toArray(new byte[batch.size()][]));
 		}
 	}
 
+	private void removeFromSortedSetIndexes(Set<byte[]> sortedIndexKeys, byte[] key) {
+
+		if (CollectionUtils.isEmpty(sortedIndexKeys)) {
+			return;
+		}
+
+		for (byte[] indexKey : sortedIndexKeys) {
+			connection.zRem(indexKey, key);
+		}
+	}
+
+	private void removeFromSetIndex(byte[] indexKey, byte[] key) {
+
+		try {
+			connection.sRem(indexKey, key);
+		} catch (DataAccessException e) {
+
+			// sorted set indexes written before their type got tracked end up in the plain helper set
+			connection.zRem(indexKey, key);
+		}
+	}
+
+	private boolean isPipelineSupported() {
+		return !(connection instanceof RedisClusterConnection) && !connection.isPipelined() && !connection.isQueueing();
+	}
+
+	private static List<byte[]> setIndexKeys(Set<byte[]> indexKeys, Set<byte[]> sortedIndexKeys) {
+
+		if (CollectionUtils.isEmpty(indexKeys)) {
+			return Collections.emptyList();
+		}
+
+		if (CollectionUtils.isEmpty(sortedIndexKeys)) {
+			return new ArrayList<byte[]>(indexKeys);
+		}
+
+		ByteArraySet sorted = new ByteArraySet(sortedIndexKeys);
+		List<byte[]> result = new ArrayList<byte[]>(indexKeys.size());
+
+		for (byte[] indexKey : indexKeys) {
+			if (!sorted.contains(indexKey)) {
+				result.add(indexKey);
+			}
+		}
+
+		return result;
+	}
+
 	private void removeKeyFromExistingIndexes(byte[] key, Iterable<IndexedData> indexValues) {
 
 		for (IndexedData indexData : indexValues) {
@@ -169,6 +294,13 @@ class IndexWriter {
 
 		Assert.notNull(indexedData, "IndexedData must not be null!");
 
+		if (indexedData instanceof RangeIndexedPropertyValue) {
+
+			// range indexes use a single sorted set per property path
+			connection.zRem(indexKeys.indexKey(indexedData), key);
+			return;
+		}
+
 		Set<byte[]> existingKeys = connection
 				.keys(toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName() + ":*"));
 
@@ -214,12 +346,11 @@ class IndexWriter {
 				return;
 			}
 
-			byte[] indexKey = toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName() + ":");
-			indexKey = ByteUtils.concat(indexKey, toBytes(value));
+			byte[] indexKey = indexKeys.indexKey((SimpleIndexedPropertyValue) indexedData);
 			connection.sAdd(indexKey, key);
 
 			// keep track of indexes used for the object
-			connection.sAdd(ByteUtils.concatAll(toBytes(indexedData.getKeyspace() + ":"), key, toBytes(":idx")), indexKey);
+			connection.sAdd(indexKeys.indexHelperKey(indexedData.getKeyspace(), key), indexKey);
 		} else if (indexedData instanceof GeoIndexedPropertyValue) {
 
 			GeoIndexedPropertyValue geoIndexedData = ((GeoIndexedPropertyValue) indexedData);
@@ -229,11 +360,25 @@ class IndexWriter {
 				return;
 			}
 
-			byte[] indexKey = toBytes(indexedData.getKeyspace() + ":" + indexedData.getIndexName());
+			byte[] indexKey = indexKeys.indexKey(indexedData);
 			connection.geoAdd(indexKey, geoIndexedData.getPoint(), key);
 
 			// keep track of indexes used for the object
-			connection.sAdd(ByteUtils.concatAll(toBytes(indexedData.getKeyspace() + ":"), key, toBytes(":idx")), indexKey);
+			connection.sAdd(indexKeys.indexHelperKey(indexedData.getKeyspace(), key), indexKey);
+			connection.sAdd(indexKeys.sortedIndexHelperKey(indexedData.getKeyspace(), key), indexKey);
+		} else if (indexedData instanceof RangeIndexedPropertyValue) {
+
+			Double score = ((RangeIndexedPropertyValue) indexedData).getScore();
+			if (score == null) {
+				return;
+			}
+
+			byte[] indexKey = indexKeys.indexKey(indexedData);
+			connection.zAdd(indexKey, score, key);
+
+			// keep track of indexes used for the object
+			connection.sAdd(indexKeys.indexHelperKey(indexedData.getKeyspace(), key), indexKey);
+			connection.sAdd(indexKeys.sortedIndexHelperKey(indexedData.getKeyspace(), key), indexKey);
 		} else {
 			throw new IllegalArgumentException(
 					String.format("Cannot write index data for unknown index type %s", indexedData.getClass()));
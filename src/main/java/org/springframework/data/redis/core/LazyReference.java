@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.annotation.Reference;
+
+/**
+ * {@link LazyReference} marks a {@link Reference} property to be resolved on first access instead of when reading the
+ * owning entity. The property is populated with a proxy of the declared type loading the referenced object(s) when one
+ * of its methods is invoked. The declared type must either be an interface or a non-final class.
+ * <p>
+ * Elements of collection-like references pointing to hashes that no longer exist are skipped. Invoking a method on a
+ * single-valued reference pointing to a missing hash fails with a
+ * {@link org.springframework.dao.DataRetrievalFailureException}.
+ *
+ * <pre>
+ * <code>
+ * &#64;RedisHash
+ * class Person {
+ *   &#64;Id String id;
+ *   &#64;Reference &#64;LazyReference List&lt;Person&gt; coworkers;
+ * }
+ * </code>
+ * </pre>
+ *
+ * @since 2.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Target(value = { ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface LazyReference {
+
+}
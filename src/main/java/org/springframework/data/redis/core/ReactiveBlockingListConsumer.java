@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Reactive variant of {@link BlockingListConsumer} emitting popped list elements to a {@link Flux}. Elements are only
+ * requested from the {@link BlockingListConsumer} while there is outstanding demand, one at a time per subscriber.
+ * <p>
+ * Elements are emitted on the {@link BlockingListConsumer#setCallbackExecutor(java.util.concurrent.Executor) callback
+ * executor} of the {@link BlockingListConsumer}, never on one of its workers. Use
+ * {@link Flux#publishOn(reactor.core.scheduler.Scheduler)} to process them on a
+ * {@link reactor.core.scheduler.Scheduler} of choice.
+ *
+ * @param <K> the Redis key type.
+ * @param <V> the Redis value type.
+ * @since 2.0
+ */
+public class ReactiveBlockingListConsumer<K, V> {
+
+	private final BlockingListConsumer<K, V> consumer;
+
+	/**
+	 * Creates a new {@link ReactiveBlockingListConsumer} for the given {@link BlockingListConsumer}.
+	 *
+	 * @param consumer must not be {@literal null}.
+	 */
+	public ReactiveBlockingListConsumer(BlockingListConsumer<K, V> consumer) {
+
+		Assert.notNull(consumer, "BlockingListConsumer must not be null!");
+		this.consumer = consumer;
+	}
+
+	/**
+	 * Emit elements removed from the head of the list stored at {@code key}. The {@link Flux} completes when the
+	 * underlying {@link BlockingListConsumer} is stopped.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @see <a href="http://redis.io/commands/blpop">Redis Documentation: BLPOP</a>
+	 */
+	public Flux<V> leftPop(K key) {
+
+		Assert.notNull(key, "Key must not be null!");
+		return Flux.create(sink -> new Receiver<>(sink, () -> consumer.leftPopAsync(key)));
+	}
+
+	/**
+	 * Emit elements removed from the tail of the list stored at {@code key}. The {@link Flux} completes when the
+	 * underlying {@link BlockingListConsumer} is stopped.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @see <a href="http://redis.io/commands/brpop">Redis Documentation: BRPOP</a>
+	 */
+	public Flux<V> rightPop(K key) {
+
+		Assert.notNull(key, "Key must not be null!");
+		return Flux.create(sink -> new Receiver<>(sink, () -> consumer.rightPopAsync(key)));
+	}
+
+	/**
+	 * Requests the next element from the {@link BlockingListConsumer} once the previous one was emitted and downstream
+	 * demand is left.
+	 */
+	private static class Receiver<V> {
+
+		private final FluxSink<V> sink;
+		private final Supplier<CompletableFuture<V>> pop;
+		private final AtomicLong demand = new AtomicLong();
+
+		private CompletableFuture<V> pending;
+		private boolean disposed;
+
+		Receiver(FluxSink<V> sink, Supplier<CompletableFuture<V>> pop) {
+
+			this.sink = sink;
+			this.pop = pop;
+
+			sink.onRequest(this::request);
+			sink.onDispose(this::dispose);
+		}
+
+		private void request(long n) {
+
+			demand.accumulateAndGet(n, (current, requested) -> {
+				long sum = current + requested;
+				return sum < 0 ? Long.MAX_VALUE : sum;
+			});
+			next();
+		}
+
+		private void next() {
+
+			CompletableFuture<V> next;
+
+			synchronized (this) {
+
+				if (disposed || pending != null || demand.get() == 0) {
+					return;
+				}
+
+				try {
+					next = pending = pop.get();
+				} catch (RuntimeException e) {
+
+					sink.error(e);
+					return;
+				}
+			}
+
+			next.whenComplete(this::onComplete);
+		}
+
+		private void onComplete(V value, Throwable error) {
+
+			synchronized (this) {
+				pending = null;
+				if (disposed) {
+					return;
+				}
+			}
+
+			if (error instanceof CancellationException) {
+				sink.complete();
+				return;
+			}
+
+			if (error != null) {
+				sink.error(error);
+				return;
+			}
+
+			demand.getAndUpdate(current -> current == Long.MAX_VALUE ? current : current - 1);
+			sink.next(value);
+			next();
+		}
+
+		private synchronized void dispose() {
+
+			disposed = true;
+			if (pending != null) {
+				pending.cancel(false);
+			}
+		}
+	}
+}
@@ -0,0 +1,722 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Range.Bound;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentProperty;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.IndexKeys.IndexQuery;
+import org.springframework.data.redis.core.IndexKeys.RangeLookup;
+import org.springframework.data.redis.core.convert.GeoIndexedPropertyValue;
+import org.springframework.data.redis.core.convert.IndexedData;
+import org.springframework.data.redis.core.convert.RangeIndexedPropertyValue;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.convert.ReferenceResolver;
+import org.springframework.data.redis.core.convert.RemoveIndexedData;
+import org.springframework.data.redis.core.convert.SimpleIndexedPropertyValue;
+import org.springframework.data.redis.core.index.RangeIndexDefinition;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
+import org.springframework.data.redis.repository.query.RedisOperationChain;
+import org.springframework.data.redis.repository.query.RedisOperationChain.RangePath;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Reactive counterpart of {@link RedisKeyValueAdapter} storing objects in Redis Hashes using the same layout, secondary
+ * index structures and {@link RedisConverter} as the blocking adapter. Data written by one adapter can be read by the
+ * other. Index maintenance is written to the connection as a single pipelined batch.
+ * <p>
+ * Keyspace event listening ({@link RedisKeyValueAdapter.EnableKeyspaceEvents}) is not handled by this adapter. Phantom
+ * keys for expiring entities are written nevertheless so a {@link RedisKeyValueAdapter} sharing the keyspace can
+ * publish {@link RedisKeyExpiredEvent}s.
+ * <p>
+ * {@link org.springframework.data.annotation.Reference References} are loaded using {@literal HGETALL} on the
+ * connection reading the referencing object. The object is read once all hashes of its references, including references
+ * of referenced objects, have arrived. {@link LazyReference Lazy references} are resolved on first access through the
+ * {@link ReferenceResolver} of the {@link RedisConverter}.
+ *
+ * @since 2.0
+ * @see RedisKeyValueAdapter
+ */
+public class ReactiveRedisKeyValueAdapter {
+
+	private static final int READ_CONCURRENCY = 16;
+
+	private final ReactiveRedisConnectionFactory connectionFactory;
+	private final RedisConverter converter;
+	private final IndexKeys indexKeys;
+
+	/**
+	 * Creates new {@link ReactiveRedisKeyValueAdapter}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 */
+	public ReactiveRedisKeyValueAdapter(ReactiveRedisConnectionFactory connectionFactory, RedisConverter converter) {
+
+		Assert.notNull(connectionFactory, "ReactiveRedisConnectionFactory must not be null!");
+		Assert.notNull(converter, "RedisConverter must not be null!");
+
+		this.connectionFactory = connectionFactory;
+		this.converter = converter;
+		this.indexKeys = new IndexKeys(converter.getConversionService());
+	}
+
+	/**
+	 * Store the given {@code item} using {@code id} within {@code keyspace} and update its secondary indexes.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param item must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @return {@link Mono} emitting the stored {@code item}.
+	 */
+	public <T> Mono<T> put(Object id, T item, String keyspace) {
+
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(item, "Item must not be null!");
+		Assert.notNull(keyspace, "Keyspace must not be null!");
+
+		return Mono.defer(() -> {
+
+			RedisData rdo = item instanceof RedisData ? (RedisData) item : new RedisData();
+			if (!(item instanceof RedisData)) {
+				converter.write(item, rdo);
+			}
+
+			if (rdo.getKeyspace() == null) {
+				rdo.setKeyspace(keyspace);
+			}
+
+			if (rdo.getId() == null) {
+
+				rdo.setId(asString(id));
+
+				if (!(item instanceof RedisData)) {
+
+					RedisPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(item.getClass()).get();
+					KeyValuePersistentProperty idProperty = entity.getIdProperty().get();
+					entity.getPropertyAccessor(item).setProperty(idProperty, Optional.ofNullable(id));
+				}
+			}
+
+			byte[] key = toBytes(rdo.getId());
+			byte[] objectKey = createKey(rdo.getKeyspace(), rdo.getId());
+
+			return execute(connection -> readIndexes(connection, rdo.getKeyspace(), key).flatMapMany(indexes -> {
+
+				return connection.executePipelined(c -> {
+
+					List<Publisher<?>> commands = new ArrayList<>();
+					Map<ByteBuffer, ByteBuffer> hash = toByteBufferMap(rdo.getBucket().rawMap());
+
+					commands.add(c.keyCommands().del(wrap(objectKey)));
+					commands.add(c.hashCommands().hMSet(wrap(objectKey), hash));
+
+					if (rdo.getTimeToLive() != null && rdo.getTimeToLive().longValue() > 0) {
+
+						commands.add(c.keyCommands().expire(wrap(objectKey), Duration.ofSeconds(rdo.getTimeToLive())));
+
+						// add phantom key so values can be restored
+						ByteBuffer phantomKey = wrap(ByteUtils.concat(objectKey, toBytes(":phantom")));
+						commands.add(c.keyCommands().del(phantomKey));
+						commands.add(c.hashCommands().hMSet(phantomKey, hash));
+						commands.add(c.keyCommands().expire(phantomKey, Duration.ofSeconds(rdo.getTimeToLive() + 300)));
+					}
+
+					commands.add(c.setCommands().sAdd(wrap(toBytes(rdo.getKeyspace())), wrap(key)));
+					commands.addAll(removeKeyFromIndexes(c, rdo.getKeyspace(), key, indexes));
+					commands.addAll(addKeyToIndexes(c, key, rdo.getIndexedData()));
+
+					return commands;
+				});
+			})).then(Mono.just(item));
+		});
+	}
+
+	/**
+	 * Check whether an object with the given {@code id} exists within {@code keyspace}.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @return {@link Mono} emitting {@literal true} if the object exists.
+	 */
+	public Mono<Boolean> contains(Object id, String keyspace) {
+
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(keyspace, "Keyspace must not be null!");
+
+		return execute(connection -> connection.setCommands().sIsMember(wrap(toBytes(keyspace)), wrap(toBytes(id))))
+				.next();
+	}
+
+	/**
+	 * Read the object stored with {@code id} within {@code keyspace}.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return {@link Mono} emitting the object or {@link Mono#empty()} if not found.
+	 */
+	public <T> Mono<T> get(Object id, String keyspace, Class<T> type) {
+
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(keyspace, "Keyspace must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		return execute(connection -> read(connection, asString(id), keyspace, type)).next();
+	}
+
+	/**
+	 * Delete the object stored with {@code id} within {@code keyspace} and remove it from its secondary indexes.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return {@link Mono} emitting the deleted object or {@link Mono#empty()} if not found.
+	 */
+	public <T> Mono<T> delete(Object id, String keyspace, Class<T> type) {
+
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(keyspace, "Keyspace must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		String stringId = asString(id);
+		byte[] binId = toBytes(stringId);
+		byte[] keyToDelete = createKey(keyspace, stringId);
+
+		return execute(connection -> read(connection, stringId, keyspace, type).flatMap(value -> {
+
+			return readIndexes(connection, keyspace, binId).flatMapMany(indexes -> connection.executePipelined(c -> {
+
+				List<Publisher<?>> commands = new ArrayList<>();
+
+				commands.add(c.keyCommands().del(wrap(keyToDelete)));
+				commands.add(c.setCommands().sRem(wrap(toBytes(keyspace)), wrap(binId)));
+				commands.addAll(removeKeyFromIndexes(c, keyspace, binId, indexes));
+
+				return commands;
+			})).then(Mono.just(value));
+		})).next();
+	}
+
+	/**
+	 * Read all objects within {@code keyspace}. Objects are emitted as they are read.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return {@link Flux} emitting the objects.
+	 */
+	public <T> Flux<T> getAllOf(String keyspace, Class<T> type) {
+		return getAllOf(keyspace, type, -1, -1);
+	}
+
+	/**
+	 * Read a range of objects within {@code keyspace}. Objects are emitted as they are read.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param offset number of objects to skip. Negative values are treated as {@literal 0}.
+	 * @param rows maximum number of objects. Values less than {@literal 1} read all objects.
+	 * @return {@link Flux} emitting the objects.
+	 */
+	public <T> Flux<T> getAllOf(String keyspace, Class<T> type, long offset, int rows) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		return execute(connection -> readAll(connection,
+				limit(connection.setCommands().sMembers(wrap(toBytes(keyspace))), offset, rows), keyspace, type));
+	}
+
+	/**
+	 * Delete all objects within {@code keyspace} along with their secondary indexes.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @return {@link Mono} signalling completion.
+	 */
+	public Mono<Void> deleteAllOf(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null!");
+
+		ScanOptions options = ScanOptions.scanOptions().match(keyspace + ":*").build();
+
+		return execute(connection -> connection.keyCommands().del(wrap(toBytes(keyspace)))
+				.thenMany(connection.keyCommands().scan(options).buffer(100).concatMap(connection.keyCommands()::mDel)))
+						.then();
+	}
+
+	/**
+	 * Count the objects within {@code keyspace}.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @return {@link Mono} emitting the number of objects.
+	 */
+	public Mono<Long> count(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null!");
+
+		return execute(connection -> connection.setCommands().sCard(wrap(toBytes(keyspace)))).next();
+	}
+
+	/**
+	 * Find objects matching the given {@link RedisOperationChain} within {@code keyspace}. Objects are emitted as they
+	 * are read.
+	 *
+	 * @param criteria can be {@literal null}.
+	 * @param offset number of objects to skip. Negative values are treated as {@literal 0}.
+	 * @param rows maximum number of objects. Values less than {@literal 1} read all matching objects.
+	 * @param keyspace must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return {@link Flux} emitting the matching objects.
+	 */
+	public <T> Flux<T> find(RedisOperationChain criteria, long offset, int rows, String keyspace, Class<T> type) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		if (!IndexKeys.hasIndexCriteria(criteria)) {
+			return getAllOf(keyspace, type, offset, rows);
+		}
+
+		return execute(connection -> readAll(connection, limit(findIds(connection, criteria, keyspace), offset, rows),
+				keyspace, type));
+	}
+
+	/**
+	 * Count objects matching the given {@link RedisOperationChain} within {@code keyspace}.
+	 *
+	 * @param criteria can be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @return {@link Mono} emitting the number of matching objects.
+	 */
+	public Mono<Long> count(RedisOperationChain criteria, String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null!");
+
+		if (criteria != null && !criteria.getRange().isEmpty()) {
+			return execute(connection -> findIds(connection, criteria, keyspace)).count();
+		}
+
+		if (criteria == null || criteria.getSismember().isEmpty()) {
+			return count(keyspace);
+		}
+
+		List<byte[]> intersectKeys = indexKeys.query(criteria, keyspace).getIntersectKeys();
+
+		return execute(connection -> connection.setCommands().sInter(wrap(intersectKeys))).count();
+	}
+
+	/**
+	 * Execute the given {@code callback} using a {@link ReactiveRedisConnection} that is closed once the returned
+	 * {@link Flux} terminates.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return the {@link Flux} returned by {@code callback}.
+	 */
+	public <T> Flux<T> execute(Function<ReactiveRedisConnection, Publisher<T>> callback) {
+
+		Assert.notNull(callback, "Callback must not be null!");
+
+		return Flux.using(connectionFactory::getReactiveConnection, callback, ReactiveRedisConnection::close);
+	}
+
+	/**
+	 * Get the {@link RedisConverter} in use.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public RedisConverter getConverter() {
+		return this.converter;
+	}
+
+	/**
+	 * Emit the ids matching the given {@link RedisOperationChain} using the index lookups of {@link IndexQuery}.
+	 */
+	private Flux<ByteBuffer> findIds(ReactiveRedisConnection connection, RedisOperationChain criteria,
+			String keyspace) {
+
+		IndexQuery query = indexKeys.query(criteria, keyspace);
+		List<Flux<ByteBuffer>> lookups = new ArrayList<>();
+
+		if (!query.getIntersectKeys().isEmpty()) {
+			lookups.add(connection.setCommands().sInter(wrap(query.getIntersectKeys())));
+		}
+
+		if (!query.getUnionKeys().isEmpty()) {
+			lookups.add(connection.setCommands().sUnion(wrap(query.getUnionKeys())));
+		}
+
+		if (query.getGeoKey() != null) {
+			lookups.add(connection.geoCommands().geoRadius(wrap(query.getGeoKey()), query.getGeoWithin())
+					.map(result -> result.getContent().getName()));
+		}
+
+		Flux<byte[]> ids = query.hasCandidateLookups() ? Flux.concat(lookups).map(ByteUtils::getBytes) : null;
+
+		for (RangeLookup range : query.getRanges()) {
+
+			Flux<byte[]> matching = connection.zSetCommands()
+					.zRangeByScore(wrap(range.getKey()), toRange(range.getRange())).map(ByteUtils::getBytes);
+
+			if (ids == null) {
+				ids = matching;
+				continue;
+			}
+
+			ids = Mono.zip(ids.collectList(), matching.collectList())
+					.flatMapIterable(it -> IndexKeys.retain(it.getT1(), it.getT2()));
+		}
+
+		return ids.map(ByteBuffer::wrap);
+	}
+
+	private static Range<Double> toRange(RangePath source) {
+
+		Double min = RangeIndexDefinition.toScore(source.getMin());
+		Double max = RangeIndexDefinition.toScore(source.getMax());
+
+		Bound<Double> lower = min == null ? Bound.unbounded()
+				: source.isMinInclusive() ? Bound.inclusive(min) : Bound.exclusive(min);
+		Bound<Double> upper = max == null ? Bound.unbounded()
+				: source.isMaxInclusive() ? Bound.inclusive(max) : Bound.exclusive(max);
+
+		return Range.of(lower, upper);
+	}
+
+	private <T> Flux<T> readAll(ReactiveRedisConnection connection, Flux<ByteBuffer> ids, String keyspace,
+			Class<T> type) {
+
+		return ids.map(id -> converter.getConversionService().convert(ByteUtils.getBytes(id), String.class))
+				.flatMapSequential(id -> read(connection, id, keyspace, type), READ_CONCURRENCY);
+	}
+
+	private <T> Mono<T> read(ReactiveRedisConnection connection, String id, String keyspace, Class<T> type) {
+
+		byte[] binId = createKey(keyspace, id);
+
+		return hGetAll(connection, binId).flatMap(raw -> {
+
+			RedisData data = new RedisData(raw);
+			data.setId(id);
+			data.setKeyspace(keyspace);
+
+			return read(connection, type, data, new PrefetchedReferences());
+		}).flatMap(target -> readBackTimeToLiveIfSet(connection, binId, target));
+	}
+
+	/**
+	 * Read {@code data} using the references loaded so far. References not loaded yet are fetched using
+	 * {@literal HGETALL} on the given {@code connection} before reading {@code data} again, so each round resolves one
+	 * more level of the object graph.
+	 */
+	private <T> Mono<T> read(ReactiveRedisConnection connection, Class<T> type, RedisData data,
+			PrefetchedReferences references) {
+
+		return Mono.defer(() -> {
+
+			T target = converter.read(type, data, references);
+			List<String> missing = references.drainMissing();
+
+			if (missing.isEmpty()) {
+				return Mono.justOrEmpty(target);
+			}
+
+			return Flux.fromIterable(missing)
+					.flatMap(referenceKey -> hGetAll(connection, toBytes(referenceKey)).map(raw -> Tuples.of(referenceKey, raw)))
+					.doOnNext(reference -> references.add(reference.getT1(), reference.getT2()))
+					.then(read(connection, type, data, references));
+		});
+	}
+
+	private static Mono<Map<byte[], byte[]>> hGetAll(ReactiveRedisConnection connection, byte[] key) {
+
+		return connection.hashCommands().hGetAll(wrap(key)).collect(LinkedHashMap<byte[], byte[]>::new,
+				(map, entry) -> map.put(ByteUtils.getBytes(entry.getKey()), ByteUtils.getBytes(entry.getValue())));
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <T> Mono<T> readBackTimeToLiveIfSet(ReactiveRedisConnection connection, byte[] key, T target) {
+
+		RedisPersistentEntity<?> entity = this.converter.getMappingContext().getPersistentEntity(target.getClass()).get();
+
+		if (!entity.hasExplictTimeToLiveProperty()) {
+			return Mono.just(target);
+		}
+
+		Optional<RedisPersistentProperty> ttlProperty = entity.getExplicitTimeToLiveProperty();
+		if (!ttlProperty.isPresent()) {
+			return Mono.just(target);
+		}
+
+		TimeUnit unit = ttlProperty.get().findAnnotation(TimeToLive.class).map(TimeToLive::unit).orElse(TimeUnit.SECONDS);
+
+		Mono<Long> timeout = ObjectUtils.nullSafeEquals(TimeUnit.SECONDS, unit)
+				? connection.keyCommands().ttl(wrap(key))
+				: connection.keyCommands().pTtl(wrap(key)).map(millis -> unit.convert(millis, TimeUnit.MILLISECONDS));
+
+		return timeout.map(value -> {
+
+			((RedisPersistentEntity) entity).getPropertyAccessor(target).setProperty(ttlProperty.get(),
+					Optional.ofNullable(converter.getConversionService().convert(value, ttlProperty.get().getType())));
+
+			return target;
+		}).defaultIfEmpty(target);
+	}
+
+	/**
+	 * Read the index keys the object identified by {@code key} is currently stored in along with their {@link DataType}.
+	 */
+	private Mono<List<Tuple2<ByteBuffer, DataType>>> readIndexes(ReactiveRedisConnection connection, String keyspace,
+			byte[] key) {
+
+		Mono<List<ByteBuffer>> setIndexKeys = connection.setCommands()
+				.sMembers(wrap(indexKeys.indexHelperKey(keyspace, key))).collectList();
+		Mono<Set<ByteBuffer>> sortedIndexKeys = connection.setCommands()
+				.sMembers(wrap(indexKeys.sortedIndexHelperKey(keyspace, key))).collect(Collectors.toSet());
+
+		return Mono.zip(setIndexKeys, sortedIndexKeys).map(indexes -> {
+
+			List<Tuple2<ByteBuffer, DataType>> result = new ArrayList<>(indexes.getT1().size());
+
+			for (ByteBuffer indexKey : indexes.getT1()) {
+				result.add(Tuples.of(indexKey, indexes.getT2().contains(indexKey) ? DataType.ZSET : DataType.SET));
+			}
+
+			return result;
+		});
+	}
+
+	private List<Publisher<?>> removeKeyFromIndexes(ReactiveRedisConnection connection, String keyspace, byte[] key,
+			List<Tuple2<ByteBuffer, DataType>> indexes) {
+
+		List<Publisher<?>> commands = new ArrayList<>(indexes.size() + 1);
+
+		for (Tuple2<ByteBuffer, DataType> index : indexes) {
+
+			if (DataType.ZSET.equals(index.getT2())) {
+				commands.add(connection.zSetCommands().zRem(index.getT1(), wrap(key)));
+			} else {
+				commands.add(connection.setCommands().sRem(index.getT1(), wrap(key)));
+			}
+		}
+
+		commands.add(connection.keyCommands().del(wrap(indexKeys.indexHelperKey(keyspace, key))));
+		commands.add(connection.keyCommands().del(wrap(indexKeys.sortedIndexHelperKey(keyspace, key))));
+
+		return commands;
+	}
+
+	private List<Publisher<?>> addKeyToIndexes(ReactiveRedisConnection connection, byte[] key,
+			Iterable<IndexedData> indexValues) {
+
+		List<Publisher<?>> commands = new ArrayList<>();
+
+		if (indexValues == null) {
+			return commands;
+		}
+
+		for (IndexedData indexedData : indexValues) {
+
+			if (indexedData instanceof RemoveIndexedData) {
+				continue;
+			}
+
+			ByteBuffer indexHelperKey = wrap(indexKeys.indexHelperKey(indexedData.getKeyspace(), key));
+			ByteBuffer sortedIndexHelperKey = wrap(indexKeys.sortedIndexHelperKey(indexedData.getKeyspace(), key));
+
+			if (indexedData instanceof SimpleIndexedPropertyValue) {
+
+				Object value = ((SimpleIndexedPropertyValue) indexedData).getValue();
+
+				if (value == null) {
+					continue;
+				}
+
+				byte[] indexKey = indexKeys.indexKey((SimpleIndexedPropertyValue) indexedData);
+
+				commands.add(connection.setCommands().sAdd(wrap(indexKey), wrap(key)));
+
+				// keep track of indexes used for the object
+				commands.add(connection.setCommands().sAdd(indexHelperKey, wrap(indexKey)));
+			} else if (indexedData instanceof GeoIndexedPropertyValue) {
+
+				GeoIndexedPropertyValue geoIndexedData = ((GeoIndexedPropertyValue) indexedData);
+
+				if (geoIndexedData.getValue() == null) {
+					continue;
+				}
+
+				byte[] indexKey = indexKeys.indexKey(indexedData);
+
+				commands.add(connection.geoCommands().geoAdd(wrap(indexKey), geoIndexedData.getPoint(), wrap(key)));
+
+				// keep track of indexes used for the object
+				commands.add(connection.setCommands().sAdd(indexHelperKey, wrap(indexKey)));
+				commands.add(connection.setCommands().sAdd(sortedIndexHelperKey, wrap(indexKey)));
+			} else if (indexedData instanceof RangeIndexedPropertyValue) {
+
+				Double score = ((RangeIndexedPropertyValue) indexedData).getScore();
+
+				if (score == null) {
+					continue;
+				}
+
+				byte[] indexKey = indexKeys.indexKey(indexedData);
+
+				commands.add(connection.zSetCommands().zAdd(wrap(indexKey), score, wrap(key)));
+
+				// keep track of indexes used for the object
+				commands.add(connection.setCommands().sAdd(indexHelperKey, wrap(indexKey)));
+				commands.add(connection.setCommands().sAdd(sortedIndexHelperKey, wrap(indexKey)));
+			} else {
+				throw new IllegalArgumentException(
+						String.format("Cannot write index data for unknown index type %s", indexedData.getClass()));
+			}
+		}
+
+		return commands;
+	}
+
+	private static Flux<ByteBuffer> limit(Flux<ByteBuffer> ids, long offset, int rows) {
+
+		Flux<ByteBuffer> result = ids.skip(Math.max(0, offset));
+		return rows > 0 ? result.take(rows) : result;
+	}
+
+	private byte[] createKey(String keyspace, String id) {
+		return toBytes(keyspace + ":" + id);
+	}
+
+	private String asString(Object value) {
+		return value instanceof String ? (String) value
+				: converter.getConversionService().convert(value, String.class);
+	}
+
+	private byte[] toBytes(Object source) {
+
+		if (source instanceof byte[]) {
+			return (byte[]) source;
+		}
+
+		return converter.getConversionService().convert(source, byte[].class);
+	}
+
+	private static Map<ByteBuffer, ByteBuffer> toByteBufferMap(Map<byte[], byte[]> source) {
+
+		Map<ByteBuffer, ByteBuffer> target = new LinkedHashMap<>(source.size());
+
+		for (Entry<byte[], byte[]> entry : source.entrySet()) {
+			target.put(wrap(entry.getKey()), wrap(entry.getValue()));
+		}
+
+		return target;
+	}
+
+	private static ByteBuffer wrap(byte[] source) {
+		return ByteBuffer.wrap(source);
+	}
+
+	private static List<ByteBuffer> wrap(List<byte[]> source) {
+		return source.stream().map(ByteBuffer::wrap).collect(Collectors.toList());
+	}
+
+	/**
+	 * {@link ReferenceResolver} serving the raw hashes of references loaded upfront. References not loaded yet are
+	 * recorded and treated as missing so they can be fetched before reading again.
+	 */
+	private static class PrefetchedReferences implements ReferenceResolver {
+
+		private final Map<String, Map<byte[], byte[]>> hashes = new HashMap<>();
+		private final Set<String> missing = new LinkedHashSet<>();
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.core.convert.ReferenceResolver#resolveReference(java.io.Serializable, java.lang.String)
+		 */
+		@Override
+		public Map<byte[], byte[]> resolveReference(Serializable id, String keyspace) {
+
+			String referenceKey = keyspace + ":" + id;
+			return resolveReferences(Collections.singleton(referenceKey)).get(referenceKey);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.core.convert.ReferenceResolver#resolveReferences(java.util.Collection)
+		 */
+		@Override
+		public Map<String, Map<byte[], byte[]>> resolveReferences(Collection<String> referenceKeys) {
+
+			Map<String, Map<byte[], byte[]>> result = new LinkedHashMap<>(referenceKeys.size());
+
+			for (String referenceKey : referenceKeys) {
+
+				if (hashes.containsKey(referenceKey)) {
+					result.put(referenceKey, hashes.get(referenceKey));
+				} else {
+					missing.add(referenceKey);
+				}
+			}
+
+			return result;
+		}
+
+		void add(String referenceKey, Map<byte[], byte[]> hash) {
+			hashes.put(referenceKey, hash);
+		}
+
+		/**
+		 * @return the references requested but not loaded since the last call.
+		 */
+		List<String> drainMissing() {
+
+			List<String> result = new ArrayList<>(missing);
+			missing.clear();
+
+			return result;
+		}
+	}
+}
@@ -21,9 +21,14 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 
 import org.reactivestreams.Publisher;
 import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
 
 /**
  * Interface that specified a basic set of Redis operations, implemented by {@link ReactiveRedisTemplate}. Not often
@@ -50,6 +55,56 @@ public interface ReactiveRedisOperations<K, V> {
 	 */
 	<T> Flux<T> execute(ReactiveRedisCallback<T> action);
 
+	/**
+	 * Executes the given {@link RedisScript}
+	 *
+	 * @param script must not be {@literal null}.
+	 * @return result value of the script {@link Flux#empty()} if {@link RedisScript#getResultType()} is {@literal null},
+	 *         likely indicating a throw-away status reply (i.e. "OK")
+	 */
+	default <T> Flux<T> execute(RedisScript<T> script) {
+		return execute(script, Collections.emptyList());
+	}
+
+	/**
+	 * Executes the given {@link RedisScript}
+	 *
+	 * @param script must not be {@literal null}.
+	 * @param keys keys that need to be passed to the script.
+	 * @return result value of the script {@link Flux#empty()} if {@link RedisScript#getResultType()} is {@literal null},
+	 *         likely indicating a throw-away status reply (i.e. "OK")
+	 */
+	default <T> Flux<T> execute(RedisScript<T> script, List<K> keys) {
+		return execute(script, keys, Collections.emptyList());
+	}
+
+	/**
+	 * Executes the given {@link RedisScript}
+	 *
+	 * @param script The script to execute. Must not be {@literal null}.
+	 * @param keys keys that need to be passed to the script. Must not be {@literal null}.
+	 * @param args args that need to be passed to the script. Must not be {@literal null}.
+	 * @return result value of the script {@link Flux#empty()} if {@link RedisScript#getResultType()} is {@literal null},
+	 *         likely indicating a throw-away status reply (i.e. "OK")
+	 */
+	<T> Flux<T> execute(RedisScript<T> script, List<K> keys, List<?> args);
+
+	/**
+	 * Executes the given {@link RedisScript}, using the provided {@link RedisElementWriter} and
+	 * {@link RedisElementReader} to serialize the script arguments and deserialize the result.
+	 *
+	 * @param script The script to execute. Must not be {@literal null}.
+	 * @param keys keys that need to be passed to the script. Must not be {@literal null}.
+	 * @param args args that need to be passed to the script. Must not be {@literal null}.
+	 * @param argsWriter The {@link RedisElementWriter} to use for serializing args. Must not be {@literal null}.
+	 * @param resultReader The {@link RedisElementReader} to use for serializing the script return value. Must not be
+	 *          {@literal null}.
+	 * @return result value of the script {@link Flux#empty()} if {@link RedisScript#getResultType()} is {@literal null},
+	 *         likely indicating a throw-away status reply (i.e. "OK")
+	 */
+	<T> Flux<T> execute(RedisScript<T> script, List<K> keys, List<?> args, RedisElementWriter<?> argsWriter,
+			RedisElementReader<T> resultReader);
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with Redis Keys
 	// -------------------------------------------------------------------------
@@ -81,6 +136,29 @@ public interface ReactiveRedisOperations<K, V> {
 	 */
 	Flux<K> keys(K pattern);
 
+	/**
+	 * Use a {@link Flux} to iterate over keys. The resulting {@link Flux} acts as a cursor and issues {@code SCAN}
+	 * commands itself as long as the subscriber signals demand.
+	 *
+	 * @return the {@link Flux} emitting the {@literal keys} one by one or an {@link Flux#empty() empty flux} if none
+	 *         exist.
+	 * @see <a href="http://redis.io/commands/scan">Redis Documentation: SCAN</a>
+	 */
+	default Flux<K> scan() {
+		return scan(ScanOptions.NONE);
+	}
+
+	/**
+	 * Use a {@link Flux} to iterate over keys. The resulting {@link Flux} acts as a cursor and issues {@code SCAN}
+	 * commands itself as long as the subscriber signals demand.
+	 *
+	 * @param options must not be {@literal null}. Use {@link ScanOptions#NONE} instead.
+	 * @return the {@link Flux} emitting the {@literal keys} one by one or an {@link Flux#empty() empty flux} if none
+	 *         exist.
+	 * @see <a href="http://redis.io/commands/scan">Redis Documentation: SCAN</a>
+	 */
+	Flux<K> scan(ScanOptions options);
+
 	/**
 	 * Return a random key from the keyspace.
 	 *
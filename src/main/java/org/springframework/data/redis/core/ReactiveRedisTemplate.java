@@ -30,6 +30,11 @@ import org.springframework.data.redis.connection.ReactiveRedisConnection;
 import org.springframework.data.redis.connection.ReactiveRedisConnection.CommandResponse;
 import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyCommand;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.script.DefaultReactiveScriptExecutor;
+import org.springframework.data.redis.core.script.ReactiveScriptExecutor;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -54,6 +59,7 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 	private final ReactiveRedisConnectionFactory connectionFactory;
 	private final RedisSerializationContext<K, V> serializationContext;
 	private final boolean exposeConnection;
+	private final ReactiveScriptExecutor<K> reactiveScriptExecutor;
 
 	/**
 	 * Creates new {@link ReactiveRedisTemplate} using given {@link ReactiveRedisConnectionFactory} and
@@ -84,6 +90,7 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 		this.connectionFactory = connectionFactory;
 		this.serializationContext = serializationContext;
 		this.exposeConnection = exposeConnection;
+		this.reactiveScriptExecutor = new DefaultReactiveScriptExecutor<>(connectionFactory, serializationContext);
 	}
 
 	/**
@@ -215,9 +222,28 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 		return execute(action, exposeConnection);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.core.ReactiveRedisOperations#execute(org.springframework.data.redis.core.script.RedisScript, java.util.List, java.util.List)
+	 */
+	@Override
+	public <T> Flux<T> execute(RedisScript<T> script, List<K> keys, List<?> args) {
+		return reactiveScriptExecutor.execute(script, keys, args);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.core.ReactiveRedisOperations#execute(org.springframework.data.redis.core.script.RedisScript, java.util.List, java.util.List, org.springframework.data.redis.serializer.RedisElementWriter, org.springframework.data.redis.serializer.RedisElementReader)
+	 */
+	@Override
+	public <T> Flux<T> execute(RedisScript<T> script, List<K> keys, List<?> args, RedisElementWriter<?> argsWriter,
+			RedisElementReader<T> resultReader) {
+		return reactiveScriptExecutor.execute(script, keys, args, argsWriter, resultReader);
+	}
+
 	/**
-	 * Executes the given action object within a connection that can be exposed or not. Additionally, the connection can
-	 * be pipelined. Note the results of the pipeline are discarded (making it suitable for write-only scenarios).
+	 * Executes the given action object within a connection that can be exposed or not. Use
+	 * {@link ReactiveRedisConnection#executePipelined(java.util.function.Function)} or
+	 * {@link ReactiveRedisConnection#executeInTransaction(java.util.function.Function)} within the action to send
+	 * multiple commands in a single batch.
 	 *
 	 * @param <T> return type
 	 * @param action callback object to execute
@@ -273,8 +299,10 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 	}
 
 	/**
-	 * Executes the given action object within a connection that can be exposed or not. Additionally, the connection can
-	 * be pipelined. Note the results of the pipeline are discarded (making it suitable for write-only scenarios).
+	 * Executes the given action object within a connection that can be exposed or not. Use
+	 * {@link ReactiveRedisConnection#executePipelined(java.util.function.Function)} or
+	 * {@link ReactiveRedisConnection#executeInTransaction(java.util.function.Function)} within the action to send
+	 * multiple commands in a single batch.
 	 *
 	 * @param <T> return type
 	 * @param action callback object to execute
@@ -332,6 +360,18 @@ public class ReactiveRedisTemplate<K, V> implements ReactiveRedisOperations<K, V
 				.map(this::readKey);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.redis.core.ReactiveRedisOperations#scan(org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public Flux<K> scan(ScanOptions options) {
+
+		Assert.notNull(options, "ScanOptions must not be null!");
+
+		return createFlux(connection -> connection.keyCommands().scan(options)) //
+				.map(this::readKey);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.redis.core.ReactiveRedisOperations#randomKey()
 	 */
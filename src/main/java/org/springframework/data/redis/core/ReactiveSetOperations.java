@@ -253,6 +253,31 @@ public interface ReactiveSetOperations<K, V> {
 	 */
 	Flux<V> randomMembers(K key, long count);
 
+	/**
+	 * Use a {@link Flux} to iterate over members in the set at {@code key}. The resulting {@link Flux} acts as a cursor
+	 * and issues {@code SSCAN} commands itself as long as the subscriber signals demand.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the {@link Flux} emitting the {@literal values} one by one or an {@link Flux#empty() empty flux} if the key
+	 *         does not exist.
+	 * @see <a href="http://redis.io/commands/sscan">Redis Documentation: SSCAN</a>
+	 */
+	default Flux<V> scan(K key) {
+		return scan(key, ScanOptions.NONE);
+	}
+
+	/**
+	 * Use a {@link Flux} to iterate over members in the set at {@code key} given {@link ScanOptions}. The resulting
+	 * {@link Flux} acts as a cursor and issues {@code SSCAN} commands itself as long as the subscriber signals demand.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param options must not be {@literal null}. Use {@link ScanOptions#NONE} instead.
+	 * @return the {@link Flux} emitting the {@literal values} one by one or an {@link Flux#empty() empty flux} if the key
+	 *         does not exist.
+	 * @see <a href="http://redis.io/commands/sscan">Redis Documentation: SSCAN</a>
+	 */
+	Flux<V> scan(K key, ScanOptions options);
+
 	/**
 	 * Removes the given {@literal key}.
 	 *
@@ -365,6 +365,32 @@ public interface ReactiveZSetOperations<K, V> {
 	 */
 	Flux<V> reverseRangeByLex(K key, Range<String> range, Limit limit);
 
+	/**
+	 * Use a {@link Flux} to iterate over entries in the sorted set at {@code key}. The resulting {@link Flux} acts as a
+	 * cursor and issues {@code ZSCAN} commands itself as long as the subscriber signals demand.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the {@link Flux} emitting the {@link TypedTuple tuples} one by one or an {@link Flux#empty() empty flux} if
+	 *         the key does not exist.
+	 * @see <a href="http://redis.io/commands/zscan">Redis Documentation: ZSCAN</a>
+	 */
+	default Flux<TypedTuple<V>> scan(K key) {
+		return scan(key, ScanOptions.NONE);
+	}
+
+	/**
+	 * Use a {@link Flux} to iterate over entries in the sorted set at {@code key} given {@link ScanOptions}. The
+	 * resulting {@link Flux} acts as a cursor and issues {@code ZSCAN} commands itself as long as the subscriber signals
+	 * demand.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param options must not be {@literal null}. Use {@link ScanOptions#NONE} instead.
+	 * @return the {@link Flux} emitting the {@link TypedTuple tuples} one by one or an {@link Flux#empty() empty flux} if
+	 *         the key does not exist.
+	 * @see <a href="http://redis.io/commands/zscan">Redis Documentation: ZSCAN</a>
+	 */
+	Flux<TypedTuple<V>> scan(K key, ScanOptions options);
+
 	/**
 	 * Removes the given {@literal key}.
 	 *
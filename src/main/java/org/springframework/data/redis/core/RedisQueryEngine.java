@@ -23,9 +23,9 @@ import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.keyvalue.core.CriteriaAccessor;
@@ -34,13 +34,14 @@ import org.springframework.data.keyvalue.core.SortAccessor;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
-import org.springframework.data.redis.core.convert.GeoIndexedPropertyValue;
+import org.springframework.data.redis.connection.RedisZSetCommands.Range;
+import org.springframework.data.redis.core.IndexKeys.IndexQuery;
+import org.springframework.data.redis.core.IndexKeys.RangeLookup;
 import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.index.RangeIndexDefinition;
 import org.springframework.data.redis.repository.query.RedisOperationChain;
-import org.springframework.data.redis.repository.query.RedisOperationChain.NearPath;
-import org.springframework.data.redis.repository.query.RedisOperationChain.PathAndValue;
+import org.springframework.data.redis.repository.query.RedisOperationChain.RangePath;
 import org.springframework.data.redis.util.ByteUtils;
-import org.springframework.util.CollectionUtils;
 
 /**
  * Redis specific {@link QueryEngine} implementation.
@@ -79,9 +80,7 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 	public <T> Collection<T> execute(final RedisOperationChain criteria, final Comparator<?> sort, final long offset,
 			final int rows, final Serializable keyspace, Class<T> type) {
 
-		if (criteria == null
-				|| (CollectionUtils.isEmpty(criteria.getOrSismember()) && CollectionUtils.isEmpty(criteria.getSismember()))
-						&& criteria.getNear() == null) {
+		if (!IndexKeys.hasIndexCriteria(criteria)) {
 			return (Collection<T>) getAdapter().getAllOf(keyspace, offset, rows);
 		}
 
@@ -90,23 +89,7 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 			@Override
 			public Map<byte[], Map<byte[], byte[]>> doInRedis(RedisConnection connection) throws DataAccessException {
 
-				List<byte[]> allKeys = new ArrayList<byte[]>();
-				if (!criteria.getSismember().isEmpty()) {
-					allKeys.addAll(connection.sInter(keys(keyspace + ":", criteria.getSismember())));
-				}
-
-				if (!criteria.getOrSismember().isEmpty()) {
-					allKeys.addAll(connection.sUnion(keys(keyspace + ":", criteria.getOrSismember())));
-				}
-
-				if (criteria.getNear() != null) {
-
-					GeoResults<GeoLocation<byte[]>> x = connection.geoRadius(geoKey(keyspace + ":", criteria.getNear()),
-							new Circle(criteria.getNear().getPoint(), criteria.getNear().getDistance()));
-					for (GeoResult<GeoLocation<byte[]>> y : x) {
-						allKeys.add(y.getContent().getName());
-					}
-				}
+				List<byte[]> allKeys = findKeys(connection, criteria, keyspace);
 
 				byte[] keyspaceBin = getAdapter().getConverter().getConversionService().convert(keyspace + ":", byte[].class);
 
@@ -133,14 +116,19 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 
 		Map<byte[], Map<byte[], byte[]>> raw = this.getAdapter().execute(callback);
 
-		List<T> result = new ArrayList<T>(raw.size());
+		List<RedisData> sources = new ArrayList<RedisData>(raw.size());
 		for (Map.Entry<byte[], Map<byte[], byte[]>> entry : raw.entrySet()) {
 
 			RedisData data = new RedisData(entry.getValue());
 			data.setId(getAdapter().getConverter().getConversionService().convert(entry.getKey(), String.class));
 			data.setKeyspace(keyspace.toString());
 
-			T converted = this.getAdapter().getConverter().read(type, data);
+			sources.add(data);
+		}
+
+		// read the whole page at once so references are resolved in bulk
+		List<T> result = new ArrayList<T>(sources.size());
+		for (T converted : this.getAdapter().getConverter().readAll(type, sources)) {
 
 			if (converted != null) {
 				result.add(converted);
@@ -170,45 +158,87 @@ class RedisQueryEngine extends QueryEngine<RedisKeyValueAdapter, RedisOperationC
 			return this.getAdapter().count(keyspace);
 		}
 
+		if (!criteria.getRange().isEmpty()) {
+
+			return this.getAdapter().execute(new RedisCallback<Long>() {
+
+				@Override
+				public Long doInRedis(RedisConnection connection) throws DataAccessException {
+					return (long) findKeys(connection, criteria, keyspace).size();
+				}
+			});
+		}
+
 		return this.getAdapter().execute(new RedisCallback<Long>() {
 
 			@Override
 			public Long doInRedis(RedisConnection connection) throws DataAccessException {
 
-				String key = keyspace + ":";
-				byte[][] keys = new byte[criteria.getSismember().size()][];
-				int i = 0;
-				for (Object o : criteria.getSismember()) {
-					keys[i] = getAdapter().getConverter().getConversionService().convert(key + o, byte[].class);
-				}
-
-				return (long) connection.sInter(keys).size();
+				IndexQuery query = indexKeys().query(criteria, keyspace.toString());
+				return (long) connection.sInter(toArray(query.getIntersectKeys())).size();
 			}
 		});
 	}
 
-	private byte[][] keys(String prefix, Collection<PathAndValue> source) {
+	/**
+	 * Collect the ids matching the given {@link RedisOperationChain}. Range criteria are evaluated using
+	 * {@literal ZRANGEBYSCORE} and intersected with the ids matching the other criteria.
+	 */
+	private List<byte[]> findKeys(RedisConnection connection, RedisOperationChain criteria, Serializable keyspace) {
+
+		IndexQuery query = indexKeys().query(criteria, keyspace.toString());
 
-		byte[][] keys = new byte[source.size()][];
-		int i = 0;
-		for (PathAndValue pathAndValue : source) {
+		List<byte[]> allKeys = new ArrayList<byte[]>();
+		if (!query.getIntersectKeys().isEmpty()) {
+			allKeys.addAll(connection.sInter(toArray(query.getIntersectKeys())));
+		}
+
+		if (!query.getUnionKeys().isEmpty()) {
+			allKeys.addAll(connection.sUnion(toArray(query.getUnionKeys())));
+		}
 
-			byte[] convertedValue = getAdapter().getConverter().getConversionService().convert(pathAndValue.getFirstValue(),
-					byte[].class);
-			byte[] fullPath = getAdapter().getConverter().getConversionService()
-					.convert(prefix + pathAndValue.getPath() + ":", byte[].class);
+		if (query.getGeoKey() != null) {
 
-			keys[i] = ByteUtils.concat(fullPath, convertedValue);
-			i++;
+			GeoResults<GeoLocation<byte[]>> x = connection.geoRadius(query.getGeoKey(), query.getGeoWithin());
+			for (GeoResult<GeoLocation<byte[]>> y : x) {
+				allKeys.add(y.getContent().getName());
+			}
 		}
-		return keys;
+
+		List<byte[]> result = query.hasCandidateLookups() ? allKeys : null;
+
+		for (RangeLookup range : query.getRanges()) {
+
+			Set<byte[]> ids = connection.zRangeByScore(range.getKey(), toRange(range.getRange()));
+			result = result == null ? new ArrayList<byte[]>(ids) : IndexKeys.retain(result, ids);
+		}
+
+		return result;
+	}
+
+	private IndexKeys indexKeys() {
+		return new IndexKeys(getAdapter().getConverter().getConversionService());
 	}
 
-	private byte[] geoKey(String prefix, NearPath source) {
+	private static Range toRange(RangePath source) {
 
-		String path = GeoIndexedPropertyValue.geoIndexName(source.getPath());
-		return getAdapter().getConverter().getConversionService().convert(prefix + path, byte[].class);
+		Range range = Range.unbounded();
+
+		Double min = RangeIndexDefinition.toScore(source.getMin());
+		if (min != null) {
+			range = source.isMinInclusive() ? range.gte(min) : range.gt(min);
+		}
+
+		Double max = RangeIndexDefinition.toScore(source.getMax());
+		if (max != null) {
+			range = source.isMaxInclusive() ? range.lte(max) : range.lt(max);
+		}
+
+		return range;
+	}
 
+	private static byte[][] toArray(List<byte[]> keys) {
+		return keys.toArray(new byte[keys.size()][]);
 	}
 
 	/**
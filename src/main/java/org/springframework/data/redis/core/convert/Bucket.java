@@ -18,19 +18,25 @@ package org.springframework.data.redis.core.convert;
 import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
  * Bucket is the data bag for Redis hash structures to be used with {@link RedisData}.
+ * <p>
+ * Prefix lookups via {@link #extract(String)} and {@link #extractAllKeysFor(String)} use a lazily created sorted view
+ * of the paths so that reading nested structures does not need to scan all entries. Binary field names passed in via
+ * {@link #newBucketFromRawMap(Map)} are retained and reused by {@link #rawMap()}.
  * 
  * @author Christoph Strobl
  * @since 1.7
@@ -43,12 +49,14 @@ public class Bucket {
 	public static final Charset CHARSET = Charset.forName("UTF-8");
 
 	private final Map<String, byte[]> data;
+	private final Map<String, byte[]> binaryKeys;
+	private NavigableMap<String, byte[]> sortedData;
 
 	/**
 	 * Creates new empty bucket
 	 */
 	public Bucket() {
-		data = new LinkedHashMap<String, byte[]>();
+		this(new LinkedHashMap<String, byte[]>());
 	}
 
 	Bucket(Map<String, byte[]> data) {
@@ -56,6 +64,14 @@ public class Bucket {
 		Assert.notNull(data, "Inital data must not be null!");
 		this.data = new LinkedHashMap<String, byte[]>(data.size());
 		this.data.putAll(data);
+		this.binaryKeys = new HashMap<String, byte[]>(data.size());
+	}
+
+	private Bucket(SortedMap<String, byte[]> data) {
+
+		this.sortedData = new TreeMap<String, byte[]>(data);
+		this.data = sortedData;
+		this.binaryKeys = new HashMap<String, byte[]>(data.size());
 	}
 
 	/**
@@ -68,6 +84,21 @@ public class Bucket {
 
 		Assert.hasText(path, "Path to property must not be null or empty.");
 		data.put(path, value);
+		sortedData = null;
+	}
+
+	/**
+	 * Add {@link String} representation of property dot path with given value reusing the already encoded binary path
+	 * when creating the {@link #rawMap()}.
+	 *
+	 * @param path must not be {@literal null} or {@link String#isEmpty()}.
+	 * @param binaryPath the UTF-8 encoded path. Must not be {@literal null}.
+	 * @param value can be {@literal null}.
+	 */
+	void put(String path, byte[] binaryPath, byte[] value) {
+
+		put(path, value);
+		binaryKeys.put(path, binaryPath);
 	}
 
 	/**
@@ -129,21 +160,14 @@ public class Bucket {
 	}
 
 	/**
-	 * Extracts a bucket containing key/value pairs with the {@code prefix}.
+	 * Extracts a bucket containing key/value pairs with the {@code prefix}. Entries of the returned {@link Bucket} are
+	 * ordered by their path.
 	 * 
 	 * @param prefix
 	 * @return
 	 */
 	public Bucket extract(String prefix) {
-
-		Bucket partial = new Bucket();
-		for (Map.Entry<String, byte[]> entry : data.entrySet()) {
-			if (entry.getKey().startsWith(prefix)) {
-				partial.put(entry.getKey(), entry.getValue());
-			}
-		}
-
-		return partial;
+		return new Bucket(prefixed(prefix));
 	}
 
 	/**
@@ -158,14 +182,14 @@ public class Bucket {
 			return keySet();
 		}
 
-		Pattern pattern = Pattern.compile("(" + Pattern.quote(path) + ")\\.\\[.*?\\]");
+		String prefix = path + ".[";
 
 		Set<String> keys = new LinkedHashSet<String>();
-		for (Map.Entry<String, byte[]> entry : data.entrySet()) {
+		for (String key : prefixed(prefix).keySet()) {
 
-			Matcher matcher = pattern.matcher(entry.getKey());
-			if (matcher.find()) {
-				keys.add(matcher.group());
+			int end = key.indexOf(']', prefix.length());
+			if (end != -1) {
+				keys.add(key.substring(0, end + 1));
 			}
 		}
 
@@ -182,7 +206,7 @@ public class Bucket {
 		Map<byte[], byte[]> raw = new LinkedHashMap<byte[], byte[]>(data.size());
 		for (Map.Entry<String, byte[]> entry : data.entrySet()) {
 			if (entry.getValue() != null) {
-				raw.put(entry.getKey().getBytes(CHARSET), entry.getValue());
+				raw.put(binaryKey(entry.getKey()), entry.getValue());
 			}
 		}
 		return raw;
@@ -202,7 +226,10 @@ public class Bucket {
 		}
 
 		for (Map.Entry<byte[], byte[]> entry : source.entrySet()) {
-			bucket.put(new String(entry.getKey(), CHARSET), entry.getValue());
+
+			String path = new String(entry.getKey(), CHARSET);
+			bucket.put(path, entry.getValue());
+			bucket.binaryKeys.put(path, entry.getKey());
 		}
 		return bucket;
 	}
@@ -250,6 +277,36 @@ public class Bucket {
 
 	}
 
+	/**
+	 * Get all entries whose path starts with {@code prefix} using the sorted view of the paths.
+	 */
+	private SortedMap<String, byte[]> prefixed(String prefix) {
+
+		if (sortedData == null) {
+			sortedData = data instanceof NavigableMap ? (NavigableMap<String, byte[]>) data
+					: new TreeMap<String, byte[]>(data);
+		}
+
+		SortedMap<String, byte[]> tail = sortedData.tailMap(prefix, true);
+		for (String key : tail.keySet()) {
+			if (!key.startsWith(prefix)) {
+				return tail.headMap(key);
+			}
+		}
+
+		return tail;
+	}
+
+	private byte[] binaryKey(String path) {
+
+		byte[] key = binaryKeys.get(path);
+		if (key == null) {
+			key = path.getBytes(CHARSET);
+			binaryKeys.put(path, key);
+		}
+		return key;
+	}
+
 	private String toUtf8String(byte[] raw) {
 
 		try {
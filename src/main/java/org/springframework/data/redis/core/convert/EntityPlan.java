@@ -0,0 +1,253 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
+import org.springframework.data.util.TypeInformation;
+
+/**
+ * Immutable, precomputed description of how {@link MappingRedisConverter} reads and writes the properties of a
+ * {@link RedisPersistentEntity}. Resolves property kinds, component types and conversion capabilities once so that
+ * repeated reads and writes do not need to inspect the mapping metadata again.
+ *
+ * @since 2.0
+ */
+class EntityPlan {
+
+	/**
+	 * How a property is read from a {@link Bucket}.
+	 */
+	enum ReadKind {
+		MAP_OF_SIMPLE_TYPES, MAP_OF_COMPLEX_TYPES, COLLECTION, ENTITY, SIMPLE
+	}
+
+	/**
+	 * How a property is written to a {@link Bucket}.
+	 */
+	enum WriteKind {
+		ID, MAP, COLLECTION, ENTITY, SIMPLE
+	}
+
+	private final RedisPersistentEntity<?> entity;
+	private final List<PropertyPlan> properties;
+	private final List<RedisPersistentProperty> associations;
+
+	private EntityPlan(RedisPersistentEntity<?> entity, List<PropertyPlan> properties,
+			List<RedisPersistentProperty> associations) {
+
+		this.entity = entity;
+		this.properties = Collections.unmodifiableList(properties);
+		this.associations = Collections.unmodifiableList(associations);
+	}
+
+	/**
+	 * Create a new {@link EntityPlan} for the given {@link RedisPersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	static EntityPlan of(RedisPersistentEntity<?> entity, final ConversionService conversionService) {
+
+		final Optional<? extends PreferredConstructor<?, RedisPersistentProperty>> constructor = entity
+				.getPersistenceConstructor();
+		final List<PropertyPlan> properties = new ArrayList<PropertyPlan>();
+		final List<RedisPersistentProperty> associations = new ArrayList<RedisPersistentProperty>();
+
+		entity.doWithProperties(new PropertyHandler<RedisPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(RedisPersistentProperty property) {
+
+				boolean constructorParameter = constructor.isPresent() && constructor.get().isConstructorParameter(property);
+				properties.add(new PropertyPlan(property, constructorParameter, conversionService));
+			}
+		});
+
+		entity.doWithAssociations(new AssociationHandler<RedisPersistentProperty>() {
+
+			@Override
+			public void doWithAssociation(Association<RedisPersistentProperty> association) {
+				associations.add(association.getInverse());
+			}
+		});
+
+		return new EntityPlan(entity, properties, associations);
+	}
+
+	RedisPersistentEntity<?> getEntity() {
+		return entity;
+	}
+
+	/**
+	 * @return the plans of all non association properties in declaration order.
+	 */
+	List<PropertyPlan> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * @return the association properties in declaration order.
+	 */
+	List<RedisPersistentProperty> getAssociations() {
+		return associations;
+	}
+
+	/**
+	 * Precomputed read and write information of a single {@link RedisPersistentProperty}.
+	 */
+	static class PropertyPlan {
+
+		private final RedisPersistentProperty property;
+		private final String name;
+		private final byte[] binaryName;
+		private final boolean constructorParameter;
+		private final ReadKind readKind;
+		private final WriteKind writeKind;
+		private final Class<?> type;
+		private final Class<?> actualType;
+		private final TypeInformation<?> actualTypeInformation;
+		private final TypeInformation<?> componentTypeInformation;
+		private final Class<?> componentType;
+		private final Class<?> mapValueType;
+		private final Class<?> collectionValueType;
+
+		PropertyPlan(RedisPersistentProperty property, boolean constructorParameter, ConversionService conversionService) {
+
+			this.property = property;
+			this.name = property.getName();
+			this.binaryName = name.getBytes(Bucket.CHARSET);
+			this.constructorParameter = constructorParameter;
+			this.type = property.getType();
+			this.actualType = property.getActualType();
+			this.actualTypeInformation = property.getTypeInformation().getActualType();
+			this.componentTypeInformation = property.getTypeInformation().getComponentType().orElse(null);
+			this.componentType = property.getComponentType().orElse(null);
+			this.mapValueType = property.isMap() ? property.getMapValueType().orElse(Object.class) : null;
+			this.collectionValueType = property.isCollectionLike() && componentTypeInformation != null
+					? componentTypeInformation.getActualType().getType() : null;
+
+			if (property.isMap()) {
+				this.readKind = conversionService.canConvert(byte[].class, mapValueType) ? ReadKind.MAP_OF_SIMPLE_TYPES
+						: ReadKind.MAP_OF_COMPLEX_TYPES;
+			} else if (property.isCollectionLike()) {
+				this.readKind = ReadKind.COLLECTION;
+			} else if (property.isEntity() && !conversionService.canConvert(byte[].class, actualTypeInformation.getType())) {
+				this.readKind = ReadKind.ENTITY;
+			} else {
+				this.readKind = ReadKind.SIMPLE;
+			}
+
+			if (property.isIdProperty()) {
+				this.writeKind = WriteKind.ID;
+			} else if (property.isMap()) {
+				this.writeKind = WriteKind.MAP;
+			} else if (property.isCollectionLike()) {
+				this.writeKind = WriteKind.COLLECTION;
+			} else if (property.isEntity()) {
+				this.writeKind = WriteKind.ENTITY;
+			} else {
+				this.writeKind = WriteKind.SIMPLE;
+			}
+		}
+
+		RedisPersistentProperty getProperty() {
+			return property;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the UTF-8 encoded property name to be used as field name on the root level. Must not be modified.
+		 */
+		byte[] getBinaryName() {
+			return binaryName;
+		}
+
+		/**
+		 * @param path the path of the owning object. Must not be {@literal null}.
+		 * @return the path of the property.
+		 */
+		String getPath(String path) {
+			return path.isEmpty() ? name : path + "." + name;
+		}
+
+		boolean isConstructorParameter() {
+			return constructorParameter;
+		}
+
+		ReadKind getReadKind() {
+			return readKind;
+		}
+
+		WriteKind getWriteKind() {
+			return writeKind;
+		}
+
+		Class<?> getType() {
+			return type;
+		}
+
+		Class<?> getActualType() {
+			return actualType;
+		}
+
+		TypeInformation<?> getActualTypeInformation() {
+			return actualTypeInformation;
+		}
+
+		/**
+		 * @return the component {@link TypeInformation} of collection like properties. Can be {@literal null}.
+		 */
+		TypeInformation<?> getComponentTypeInformation() {
+			return componentTypeInformation;
+		}
+
+		/**
+		 * @return the component type, the key type for maps. Can be {@literal null}.
+		 */
+		Class<?> getComponentType() {
+			return componentType;
+		}
+
+		/**
+		 * @return the map value type. {@literal null} for non map properties.
+		 */
+		Class<?> getMapValueType() {
+			return mapValueType;
+		}
+
+		/**
+		 * @return the actual element type of collection like properties. {@literal null} for other properties.
+		 */
+		Class<?> getCollectionValueType() {
+			return collectionValueType;
+		}
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.redis.core.convert;
 import org.springframework.data.geo.Point;
 import org.springframework.data.redis.core.index.GeoIndexDefinition;
 import org.springframework.data.redis.core.index.IndexDefinition;
+import org.springframework.data.redis.core.index.RangeIndexDefinition;
 import org.springframework.data.redis.core.index.SimpleIndexDefinition;
 
 /**
@@ -36,6 +37,8 @@ class IndexedDataFactoryProvider {
 			return new SimpleIndexedPropertyValueFactory((SimpleIndexDefinition) definition);
 		} else if (definition instanceof GeoIndexDefinition) {
 			return new GeoIndexedPropertyValueFactory(((GeoIndexDefinition) definition));
+		} else if (definition instanceof RangeIndexDefinition) {
+			return new RangeIndexedPropertyValueFactory((RangeIndexDefinition) definition);
 		}
 		return null;
 	}
@@ -81,4 +84,22 @@ class IndexedDataFactoryProvider {
 					(Point) indexDefinition.valueTransformer().convert(value));
 		}
 	}
+
+	/**
+	 * @since 2.0
+	 */
+	static class RangeIndexedPropertyValueFactory implements IndexedDataFactory {
+
+		final RangeIndexDefinition indexDefinition;
+
+		public RangeIndexedPropertyValueFactory(RangeIndexDefinition indexDefinition) {
+			this.indexDefinition = indexDefinition;
+		}
+
+		public RangeIndexedPropertyValue createIndexedDataFor(Object value) {
+
+			return new RangeIndexedPropertyValue(indexDefinition.getKeyspace(), indexDefinition.getIndexName(),
+					(Double) indexDefinition.valueTransformer().convert(value));
+		}
+	}
 }
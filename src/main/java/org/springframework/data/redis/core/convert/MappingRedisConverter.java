@@ -18,15 +18,17 @@ package org.springframework.data.redis.core.convert;
 import java.lang.reflect.Array;
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.aop.TargetSource;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.convert.DefaultTypeMapper;
 import org.springframework.data.convert.EntityInstantiator;
@@ -35,18 +37,17 @@ import org.springframework.data.convert.TypeAliasAccessor;
 import org.springframework.data.convert.TypeMapper;
 import org.springframework.data.keyvalue.core.mapping.KeySpaceResolver;
 import org.springframework.data.mapping.Alias;
-import org.springframework.data.mapping.Association;
-import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.PreferredConstructor;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.PersistentPropertyPath;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
 import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.data.redis.core.LazyReference;
 import org.springframework.data.redis.core.PartialUpdate;
 import org.springframework.data.redis.core.PartialUpdate.PropertyUpdate;
 import org.springframework.data.redis.core.PartialUpdate.UpdateCommand;
+import org.springframework.data.redis.core.convert.EntityPlan.PropertyPlan;
+import org.springframework.data.redis.core.convert.EntityPlan.ReadKind;
 import org.springframework.data.redis.core.index.Indexed;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
@@ -115,6 +116,7 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 	private final TypeMapper<RedisData> typeMapper;
 	private final Comparator<String> listKeyComparator = new NullSafeComparator<String>(
 			NaturalOrderingKeyComparator.INSTANCE, true);
+	private final Map<Class<?>, EntityPlan> plans = new ConcurrentHashMap<Class<?>, EntityPlan>();
 
 	private ReferenceResolver referenceResolver;
 	private IndexResolver indexResolver;
@@ -159,11 +161,52 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 	 */
 	@Override
 	public <R> R read(Class<R> type, final RedisData source) {
-		return readInternal("", type, source);
+		return readWith(type, source, referenceResolver);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.convert.RedisConverter#read(java.lang.Class, org.springframework.data.redis.core.convert.RedisData, org.springframework.data.redis.core.convert.ReferenceResolver)
+	 */
+	@Override
+	public <R> R read(Class<R> type, RedisData source, ReferenceResolver referenceResolver) {
+
+		Assert.notNull(referenceResolver, "ReferenceResolver must not be null!");
+
+		return readWith(type, source, referenceResolver);
+	}
+
+	private <R> R readWith(Class<R> type, RedisData source, ReferenceResolver referenceResolver) {
+
+		ReferenceBatch references = new ReferenceBatch(referenceResolver);
+		R result = readInternal("", type, source, references);
+		references.resolve();
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.convert.RedisConverter#readAll(java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <R> List<R> readAll(Class<R> type, List<RedisData> sources) {
+
+		ReferenceBatch references = new ReferenceBatch(referenceResolver);
+		List<R> result = new ArrayList<R>(sources.size());
+
+		for (RedisData source : sources) {
+			result.add(readInternal("", type, source, references));
+		}
+
+		references.resolve();
+
+		return result;
 	}
 
 	@SuppressWarnings("unchecked")
-	private <R> R readInternal(final String path, Class<R> type, final RedisData source) {
+	private <R> R readInternal(final String path, Class<R> type, final RedisData source,
+			final ReferenceBatch references) {
 
 		if (source.getBucket() == null || source.getBucket().isEmpty()) {
 			return null;
@@ -206,53 +249,46 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 						new ConverterAwareParameterValueProvider(path, source, conversionService),
 						Optional.of(this.conversionService)));
 
-		final PersistentPropertyAccessor accessor = entity.get().getPropertyAccessor(instance);
-
-		entity.get().doWithProperties(new PropertyHandler<RedisPersistentProperty>() {
-
-			@Override
-			public void doWithPersistentProperty(RedisPersistentProperty persistentProperty) {
+		PersistentPropertyAccessor accessor = entity.get().getPropertyAccessor(instance);
+		EntityPlan plan = getPlan(entity.get());
 
-				String currentPath = !path.isEmpty() ? path + "." + persistentProperty.getName() : persistentProperty.getName();
+		for (PropertyPlan property : plan.getProperties()) {
 
-				PreferredConstructor<?, RedisPersistentProperty> constructor = entity.get().getPersistenceConstructor().get();
+			if (property.isConstructorParameter()) {
+				continue;
+			}
 
-				if (constructor.isConstructorParameter(persistentProperty)) {
-					return;
-				}
+			RedisPersistentProperty persistentProperty = property.getProperty();
+			String currentPath = property.getPath(path);
 
-				if (persistentProperty.isMap()) {
+			switch (property.getReadKind()) {
 
-					Map<?, ?> targetValue = null;
-					Class<?> mapValueType = persistentProperty.getMapValueType()
-							.orElseThrow(() -> new IllegalArgumentException("Unable to retrieve MapValueType!"));
+				case MAP_OF_SIMPLE_TYPES:
+				case MAP_OF_COMPLEX_TYPES: {
 
-					if (conversionService.canConvert(byte[].class, mapValueType)) {
-						targetValue = readMapOfSimpleTypes(currentPath, persistentProperty.getType(),
-								persistentProperty.getComponentType().get(), mapValueType, source);
-					} else {
-						targetValue = readMapOfComplexTypes(currentPath, persistentProperty.getType(),
-								persistentProperty.getComponentType().get(), mapValueType, source);
-					}
+					Map<?, ?> targetValue = property.getReadKind() == ReadKind.MAP_OF_SIMPLE_TYPES
+							? readMapOfSimpleTypes(currentPath, property.getType(), property.getComponentType(),
+									property.getMapValueType(), source)
+							: readMapOfComplexTypes(currentPath, property.getType(), property.getComponentType(),
+									property.getMapValueType(), source, references);
 
 					if (targetValue != null) {
 						accessor.setProperty(persistentProperty, Optional.ofNullable(targetValue));
 					}
+					break;
 				}
+				case COLLECTION: {
 
-				else if (persistentProperty.isCollectionLike()) {
-
-					Object targetValue = readCollectionOrArray(currentPath, persistentProperty.getType(),
-							persistentProperty.getTypeInformation().getComponentType().get().getActualType().getType(),
-							source.getBucket());
+					Object targetValue = readCollectionOrArray(currentPath, property.getType(),
+							property.getCollectionValueType(), source.getBucket(), references);
 					if (targetValue != null) {
 						accessor.setProperty(persistentProperty, Optional.ofNullable(targetValue));
 					}
+					break;
+				}
+				case ENTITY: {
 
-				} else if (persistentProperty.isEntity() && !conversionService.canConvert(byte[].class,
-						persistentProperty.getTypeInformation().getActualType().getType())) {
-
-					Class<R> targetType = (Class<R>) persistentProperty.getTypeInformation().getActualType().getType();
+					Class<R> targetType = (Class<R>) property.getActualTypeInformation().getType();
 
 					Bucket bucket = source.getBucket().extract(currentPath + ".");
 
@@ -263,86 +299,76 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 						newBucket.getBucket().put(TYPE_HINT_ALIAS, type);
 					}
 
-					R val = readInternal(currentPath, targetType, newBucket);
+					R val = readInternal(currentPath, targetType, newBucket, references);
 
 					accessor.setProperty(persistentProperty, Optional.ofNullable(val));
-				} else {
-
-					if (persistentProperty.isIdProperty() && StringUtils.isEmpty(path.isEmpty())) {
-
-						if (source.getBucket().get(currentPath) == null) {
-							accessor.setProperty(persistentProperty,
-									Optional.of(fromBytes(source.getBucket().get(currentPath), persistentProperty.getActualType())));
-						} else {
-							accessor.setProperty(persistentProperty, Optional.ofNullable(source.getId()));
-						}
-					}
+					break;
+				}
+				default: {
 
-					Class<?> typeToUse = getTypeHint(currentPath, source.getBucket(), persistentProperty.getActualType());
+					Class<?> typeToUse = getTypeHint(currentPath, source.getBucket(), property.getActualType());
 					accessor.setProperty(persistentProperty,
 							Optional.ofNullable(fromBytes(source.getBucket().get(currentPath), typeToUse)));
 				}
 			}
+		}
 
-		});
-
-		readAssociation(path, source, entity.get(), accessor);
+		readAssociation(path, source, plan, accessor, references);
 
 		return (R) instance;
 	}
 
-	private void readAssociation(final String path, final RedisData source, final RedisPersistentEntity<?> entity,
-			final PersistentPropertyAccessor accessor) {
+	private void readAssociation(String path, RedisData source, EntityPlan plan, PersistentPropertyAccessor accessor,
+			ReferenceBatch references) {
 
-		entity.doWithAssociations(new AssociationHandler<RedisPersistentProperty>() {
+		for (RedisPersistentProperty property : plan.getAssociations()) {
 
-			@Override
-			public void doWithAssociation(Association<RedisPersistentProperty> association) {
-
-				String currentPath = !path.isEmpty() ? path + "." + association.getInverse().getName()
-						: association.getInverse().getName();
+			String currentPath = !path.isEmpty() ? path + "." + property.getName() : property.getName();
 
-				if (association.getInverse().isCollectionLike()) {
+			List<String> referenceKeys;
 
-					Bucket bucket = source.getBucket().extract(currentPath + ".[");
+			if (property.isCollectionLike()) {
 
-					Collection<Object> target = CollectionFactory.createCollection(association.getInverse().getType(),
-							association.getInverse().getComponentType().orElse(Object.class), bucket.size());
+				Bucket bucket = source.getBucket().extract(currentPath + ".[");
 
-					for (Entry<String, byte[]> entry : bucket.entrySet()) {
+				List<String> keys = new ArrayList<String>(bucket.keySet());
+				Collections.sort(keys, listKeyComparator);
 
-						String referenceKey = fromBytes(entry.getValue(), String.class);
-						String[] args = referenceKey.split(":");
-
-						Map<byte[], byte[]> rawHash = referenceResolver.resolveReference(args[1], args[0]);
+				referenceKeys = new ArrayList<String>(keys.size());
+				for (String key : keys) {
+					referenceKeys.add(fromBytes(bucket.get(key), String.class));
+				}
 
-						if (!CollectionUtils.isEmpty(rawHash)) {
-							target.add(read(association.getInverse().getActualType(), new RedisData(rawHash)));
-						}
-					}
+			} else {
 
-					accessor.setProperty(association.getInverse(), Optional.ofNullable(target));
+				byte[] binKey = source.getBucket().get(currentPath);
+				if (binKey == null || binKey.length == 0) {
+					continue;
+				}
 
-				} else {
+				referenceKeys = Collections.singletonList(fromBytes(binKey, String.class));
+			}
 
-					byte[] binKey = source.getBucket().get(currentPath);
-					if (binKey == null || binKey.length == 0) {
-						return;
-					}
+			if (property.isAnnotationPresent(LazyReference.class)) {
+				accessor.setProperty(property, Optional.of(createLazyReferenceProxy(property, referenceKeys)));
+			} else {
+				references.add(new PendingReference(accessor, property, referenceKeys));
+			}
+		}
+	}
 
-					String key = fromBytes(binKey, String.class);
+	private Object createLazyReferenceProxy(RedisPersistentProperty property, List<String> referenceKeys) {
 
-					String[] args = key.split(":");
+		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.setTargetSource(new LazyReferenceTargetSource(property, referenceKeys));
 
-					Map<byte[], byte[]> rawHash = referenceResolver.resolveReference(args[1], args[0]);
+		if (property.getType().isInterface()) {
+			proxyFactory.addInterface(property.getType());
+		} else {
+			proxyFactory.setProxyTargetClass(true);
+		}
 
-					if (!CollectionUtils.isEmpty(rawHash)) {
-						accessor.setProperty(association.getInverse(),
-								Optional.ofNullable(read(association.getInverse().getActualType(), new RedisData(rawHash))));
-					}
-				}
-			}
-		});
+		return proxyFactory.getProxy(ClassUtils.getDefaultClassLoader());
 	}
 
 	/*
@@ -563,125 +589,111 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 					toBytes(value.getClass().getName()));
 		}
 
-		final RedisPersistentEntity<?> entity = mappingContext.getPersistentEntity(value.getClass()).get();
-		final PersistentPropertyAccessor accessor = entity.getPropertyAccessor(value);
+		RedisPersistentEntity<?> entity = mappingContext.getPersistentEntity(value.getClass()).get();
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(value);
+		EntityPlan plan = getPlan(entity);
 
-		entity.doWithProperties(new PropertyHandler<RedisPersistentProperty>() {
+		for (PropertyPlan property : plan.getProperties()) {
 
-			@Override
-			public void doWithPersistentProperty(RedisPersistentProperty persistentProperty) {
+			RedisPersistentProperty persistentProperty = property.getProperty();
+			String propertyStringPath = property.getPath(path);
+			byte[] binaryPath = path.isEmpty() ? property.getBinaryName() : null;
+			Optional<Object> propertyValue = accessor.getProperty(persistentProperty);
 
-				String propertyStringPath = (!path.isEmpty() ? path + "." : "") + persistentProperty.getName();
+			switch (property.getWriteKind()) {
 
-				if (persistentProperty.isIdProperty()) {
+				case ID:
 
-					if (accessor.getProperty(persistentProperty).isPresent()) {
-						sink.getBucket().put(propertyStringPath, toBytes(accessor.getProperty(persistentProperty).get()));
+					if (propertyValue.isPresent()) {
+						putToBucket(propertyStringPath, binaryPath, toBytes(propertyValue.get()), sink);
 					}
-					return;
-				}
+					break;
 
-				if (persistentProperty.isMap()) {
+				case MAP:
 
-					if (accessor.getProperty(persistentProperty).isPresent()) {
-						writeMap(keyspace, propertyStringPath, persistentProperty.getMapValueType().orElse(Object.class),
-								(Map<?, ?>) accessor.getProperty(persistentProperty).get(), sink);
+					if (propertyValue.isPresent()) {
+						writeMap(keyspace, propertyStringPath, property.getMapValueType(), (Map<?, ?>) propertyValue.get(), sink);
 					}
-				} else if (persistentProperty.isCollectionLike()) {
+					break;
 
-					final Optional<Object> propertyValue = accessor.getProperty(persistentProperty);
+				case COLLECTION:
 
 					if (!propertyValue.isPresent()) {
-						writeCollection(keyspace, propertyStringPath, (Iterable<?>) null,
-								persistentProperty.getTypeInformation().getComponentType().get(), sink);
-					} else {
+						break;
+					}
 
-						if (Iterable.class.isAssignableFrom(propertyValue.get().getClass())) {
+					if (Iterable.class.isAssignableFrom(propertyValue.get().getClass())) {
 
-							writeCollection(keyspace, propertyStringPath, (Iterable<?>) propertyValue.get(),
-									persistentProperty.getTypeInformation().getComponentType().get(), sink);
-						} else if (propertyValue.isPresent() && propertyValue.get().getClass().isArray()) {
+						writeCollection(keyspace, propertyStringPath, (Iterable<?>) propertyValue.get(),
+								property.getComponentTypeInformation(), sink);
+					} else if (propertyValue.get().getClass().isArray()) {
 
-							writeCollection(keyspace, propertyStringPath, CollectionUtils.arrayToList(propertyValue.get()),
-									persistentProperty.getTypeInformation().getComponentType().get(), sink);
-						} else {
+						writeCollection(keyspace, propertyStringPath, CollectionUtils.arrayToList(propertyValue.get()),
+								property.getComponentTypeInformation(), sink);
+					} else {
 
-							throw new RuntimeException("Don't know how to handle " + propertyValue.getClass() + " type collection");
-						}
+						throw new RuntimeException("Don't know how to handle " + propertyValue.getClass() + " type collection");
 					}
+					break;
 
-				} else if (persistentProperty.isEntity()) {
+				case ENTITY:
 
-					Optional<Object> propertyValue = accessor.getProperty(persistentProperty);
 					if (propertyValue.isPresent()) {
-						writeInternal(keyspace, propertyStringPath, propertyValue.get(),
-								persistentProperty.getTypeInformation().getActualType(), sink);
+						writeInternal(keyspace, propertyStringPath, propertyValue.get(), property.getActualTypeInformation(), sink);
 					}
-				} else {
+					break;
+
+				default:
 
-					Optional<Object> propertyValue = accessor.getProperty(persistentProperty);
 					if (propertyValue.isPresent()) {
-						writeToBucket(propertyStringPath, propertyValue.get(), sink, persistentProperty.getType());
+						writeToBucket(propertyStringPath, binaryPath, propertyValue.get(), sink, property.getType());
 					}
-				}
 			}
-		});
-
-		writeAssociation(path, entity, value, sink);
-	}
-
-	private void writeAssociation(final String path, final RedisPersistentEntity<?> entity, final Object value,
-			final RedisData sink) {
-
-		if (value == null) {
-			return;
 		}
 
-		final PersistentPropertyAccessor accessor = entity.getPropertyAccessor(value);
+		writeAssociation(path, plan, accessor, sink);
+	}
 
-		entity.doWithAssociations(new AssociationHandler<RedisPersistentProperty>() {
+	private void writeAssociation(String path, EntityPlan plan, PersistentPropertyAccessor accessor, RedisData sink) {
 
-			@Override
-			public void doWithAssociation(Association<RedisPersistentProperty> association) {
+		for (RedisPersistentProperty property : plan.getAssociations()) {
 
-				Optional<Object> refObject = accessor.getProperty(association.getInverse());
-				if (!refObject.isPresent()) {
-					return;
-				}
+			Optional<Object> refObject = accessor.getProperty(property);
+			if (!refObject.isPresent()) {
+				continue;
+			}
 
-				if (association.getInverse().isCollectionLike()) {
+			if (property.isCollectionLike()) {
 
-					RedisPersistentEntity<?> ref = mappingContext.getPersistentEntity(
-							association.getInverse().getTypeInformation().getComponentType().get().getActualType()).get();
+				RedisPersistentEntity<?> ref = mappingContext
+						.getPersistentEntity(property.getTypeInformation().getComponentType().get().getActualType()).get();
 
-					String keyspace = ref.getKeySpace();
-					String propertyStringPath = (!path.isEmpty() ? path + "." : "") + association.getInverse().getName();
+				String keyspace = ref.getKeySpace();
+				String propertyStringPath = (!path.isEmpty() ? path + "." : "") + property.getName();
 
-					int i = 0;
-					for (Object o : (Collection<?>) refObject.get()) {
+				int i = 0;
+				for (Object o : (Collection<?>) refObject.get()) {
 
-						Optional<Object> refId = ref.getPropertyAccessor(o).getProperty(ref.getIdProperty().get());
-						if (refId.isPresent()) {
-							sink.getBucket().put(propertyStringPath + ".[" + i + "]", toBytes(keyspace + ":" + refId.get()));
-							i++;
-						}
+					Optional<Object> refId = ref.getPropertyAccessor(o).getProperty(ref.getIdProperty().get());
+					if (refId.isPresent()) {
+						sink.getBucket().put(propertyStringPath + ".[" + i + "]", toBytes(keyspace + ":" + refId.get()));
+						i++;
 					}
+				}
 
-				} else {
+			} else {
 
-					RedisPersistentEntity<?> ref = mappingContext
-							.getPersistentEntity(association.getInverse().getTypeInformation()).get();
-					String keyspace = ref.getKeySpace();
+				RedisPersistentEntity<?> ref = mappingContext.getPersistentEntity(property.getTypeInformation()).get();
+				String keyspace = ref.getKeySpace();
 
-					Optional<Object> refId = ref.getPropertyAccessor(refObject.get()).getProperty(ref.getIdProperty().get());
+				Optional<Object> refId = ref.getPropertyAccessor(refObject.get()).getProperty(ref.getIdProperty().get());
 
-					if (refId.isPresent()) {
-						String propertyStringPath = (!path.isEmpty() ? path + "." : "") + association.getInverse().getName();
-						sink.getBucket().put(propertyStringPath, toBytes(keyspace + ":" + refId.get()));
-					}
+				if (refId.isPresent()) {
+					String propertyStringPath = (!path.isEmpty() ? path + "." : "") + property.getName();
+					sink.getBucket().put(propertyStringPath, toBytes(keyspace + ":" + refId.get()));
 				}
 			}
-		});
+		}
 	}
 
 	/**
@@ -722,6 +734,10 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 	}
 
 	private void writeToBucket(String path, Object value, RedisData sink, Class<?> propertyType) {
+		writeToBucket(path, null, value, sink, propertyType);
+	}
+
+	private void writeToBucket(String path, byte[] binaryPath, Object value, RedisData sink, Class<?> propertyType) {
 
 		if (value == null || (value instanceof Optional && !((Optional<?>) value).isPresent())) {
 			return;
@@ -746,7 +762,7 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 							toBytes(entry.getValue()));
 				}
 			} else if (targetType.filter(it -> ClassUtils.isAssignable(byte[].class, it)).isPresent()) {
-				sink.getBucket().put(path, toBytes(value));
+				putToBucket(path, binaryPath, toBytes(value), sink);
 			} else {
 				throw new IllegalArgumentException(
 						String.format("Cannot convert value '%s' of type %s to bytes.", value, value.getClass()));
@@ -755,7 +771,17 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 
 	}
 
-	private Object readCollectionOrArray(String path, Class<?> collectionType, Class<?> valueType, Bucket bucket) {
+	private static void putToBucket(String path, byte[] binaryPath, byte[] value, RedisData sink) {
+
+		if (binaryPath != null) {
+			sink.getBucket().put(path, binaryPath, value);
+		} else {
+			sink.getBucket().put(path, value);
+		}
+	}
+
+	private Object readCollectionOrArray(String path, Class<?> collectionType, Class<?> valueType, Bucket bucket,
+			ReferenceBatch references) {
 
 		List<String> keys = new ArrayList<String>(bucket.extractAllKeysFor(path));
 		Collections.sort(keys, listKeyComparator);
@@ -781,7 +807,7 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 			if (conversionService.canConvert(byte[].class, typeToUse)) {
 				target.add(fromBytes(elementData.get(key), typeToUse));
 			} else {
-				target.add(readInternal(key, valueType, new RedisData(elementData)));
+				target.add(readInternal(key, valueType, new RedisData(elementData), references));
 			}
 		}
 
@@ -843,15 +869,7 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 				continue;
 			}
 
-			String regex = "^(" + Pattern.quote(path) + "\\.\\[)(.*?)(\\])";
-			Pattern pattern = Pattern.compile(regex);
-
-			Matcher matcher = pattern.matcher(entry.getKey());
-			if (!matcher.find()) {
-				throw new IllegalArgumentException(
-						String.format("Cannot extract map value for key '%s' in path '%s'.", entry.getKey(), path));
-			}
-			String key = matcher.group(2);
+			String key = extractMapKey(path, entry.getKey());
 
 			Class<?> typeToUse = getTypeHint(path + ".[" + key + "]", source.getBucket(), valueType);
 			target.put(key, fromBytes(entry.getValue(), typeToUse));
@@ -869,7 +887,7 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 	 * @return
 	 */
 	private Map<?, ?> readMapOfComplexTypes(String path, Class<?> mapType, Class<?> keyType, Class<?> valueType,
-			RedisData source) {
+			RedisData source, ReferenceBatch references) {
 
 		Set<String> keys = source.getBucket().extractAllKeysFor(path);
 
@@ -877,15 +895,7 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 
 		for (String key : keys) {
 
-			String regex = "^(" + Pattern.quote(path) + "\\.\\[)(.*?)(\\])";
-			Pattern pattern = Pattern.compile(regex);
-
-			Matcher matcher = pattern.matcher(key);
-			if (!matcher.find()) {
-				throw new IllegalArgumentException(
-						String.format("Cannot extract map value for key '%s' in path '%s'.", key, path));
-			}
-			String mapKey = matcher.group(2);
+			String mapKey = extractMapKey(path, key);
 
 			Bucket partial = source.getBucket().extract(key);
 
@@ -894,13 +904,33 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 				partial.put(TYPE_HINT_ALIAS, typeInfo);
 			}
 
-			Object o = readInternal(key, valueType, new RedisData(partial));
+			Object o = readInternal(key, valueType, new RedisData(partial), references);
 			target.put(mapKey, o);
 		}
 
 		return target.isEmpty() ? null : target;
 	}
 
+	/**
+	 * Extract the map key from {@code key} having the form {@code path.[mapKey]...}.
+	 *
+	 * @param path
+	 * @param key
+	 * @return
+	 */
+	private static String extractMapKey(String path, String key) {
+
+		String prefix = path + ".[";
+		int end = key.startsWith(prefix) ? key.indexOf(']', prefix.length()) : -1;
+
+		if (end == -1) {
+			throw new IllegalArgumentException(
+					String.format("Cannot extract map value for key '%s' in path '%s'.", key, path));
+		}
+
+		return key.substring(prefix.length(), end);
+	}
+
 	private Class<?> getTypeHint(String path, Bucket bucket, Class<?> fallback) {
 
 		byte[] typeInfo = bucket.get(path + "." + TYPE_HINT_ALIAS);
@@ -982,6 +1012,7 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 	 */
 	public void setCustomConversions(CustomConversions customConversions) {
 		this.customConversions = customConversions != null ? customConversions : new RedisCustomConversions();
+		this.plans.clear();
 	}
 
 	public void setReferenceResolver(ReferenceResolver referenceResolver) {
@@ -1016,7 +1047,20 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 	}
 
 	private void initializeConverters() {
+
 		customConversions.registerConvertersIn(conversionService);
+		plans.clear();
+	}
+
+	/**
+	 * Get the cached {@link EntityPlan} for the given {@link RedisPersistentEntity}. Plans depend on the registered
+	 * converters and are therefore dropped when those change.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	EntityPlan getPlan(RedisPersistentEntity<?> entity) {
+		return plans.computeIfAbsent(entity.getType(), it -> EntityPlan.of(entity, conversionService));
 	}
 
 	/**
@@ -1091,6 +1135,201 @@ public class MappingRedisConverter implements RedisConverter, InitializingBean {
 		}
 	}
 
+	/**
+	 * Collects {@link org.springframework.data.annotation.Reference references} found while reading an object graph so they can be resolved using as few
+	 * calls to the {@link ReferenceResolver} as possible. References of objects read during resolution are resolved in
+	 * subsequent rounds until no references are left. Each referenced object is read only once per batch.
+	 */
+	private class ReferenceBatch {
+
+		private final ReferenceResolver resolver;
+		private final List<PendingReference> pending = new ArrayList<PendingReference>();
+		private final Map<String, Object> resolved = new HashMap<String, Object>();
+
+		ReferenceBatch(ReferenceResolver resolver) {
+			this.resolver = resolver;
+		}
+
+		void add(PendingReference reference) {
+			pending.add(reference);
+		}
+
+		/**
+		 * Resolve all pending references and assign them to their properties.
+		 */
+		void resolve() {
+
+			while (!pending.isEmpty()) {
+
+				List<PendingReference> current = new ArrayList<PendingReference>(pending);
+				pending.clear();
+
+				Map<String, Class<?>> toLoad = new LinkedHashMap<String, Class<?>>();
+				for (PendingReference reference : current) {
+					for (String referenceKey : reference.referenceKeys) {
+						if (!resolved.containsKey(referenceKey) && !toLoad.containsKey(referenceKey)) {
+							toLoad.put(referenceKey, reference.property.getActualType());
+						}
+					}
+				}
+
+				if (!toLoad.isEmpty()) {
+
+					Map<String, Map<byte[], byte[]>> rawHashes = resolver.resolveReferences(toLoad.keySet());
+
+					for (Entry<String, Class<?>> entry : toLoad.entrySet()) {
+
+						Map<byte[], byte[]> rawHash = rawHashes.get(entry.getKey());
+						resolved.put(entry.getKey(), CollectionUtils.isEmpty(rawHash) ? null
+								: readInternal("", entry.getValue(), new RedisData(rawHash), this));
+					}
+				}
+
+				for (PendingReference reference : current) {
+					reference.apply(resolved);
+				}
+			}
+		}
+
+		/**
+		 * Resolve the given {@link PendingReference} along with all references of the objects read.
+		 *
+		 * @param reference must not be {@literal null}.
+		 * @return the resolved value. Can be {@literal null}.
+		 */
+		Object load(PendingReference reference) {
+
+			add(reference);
+			resolve();
+
+			return reference.getValue(resolved);
+		}
+	}
+
+	/**
+	 * A {@link RedisPersistentProperty} referencing other objects by {@code keyspace:id}.
+	 */
+	private static class PendingReference {
+
+		private final PersistentPropertyAccessor accessor;
+		private final RedisPersistentProperty property;
+		private final List<String> referenceKeys;
+
+		/**
+		 * @param accessor can be {@literal null} if the value is not to be assigned to a property.
+		 * @param property must not be {@literal null}.
+		 * @param referenceKeys must not be {@literal null}.
+		 */
+		PendingReference(PersistentPropertyAccessor accessor, RedisPersistentProperty property,
+				List<String> referenceKeys) {
+
+			this.accessor = accessor;
+			this.property = property;
+			this.referenceKeys = referenceKeys;
+		}
+
+		Object getValue(Map<String, Object> resolved) {
+
+			if (!property.isCollectionLike()) {
+				return resolved.get(referenceKeys.get(0));
+			}
+
+			Collection<Object> target = CollectionFactory.createCollection(property.getType(),
+					property.getComponentType().orElse(Object.class), referenceKeys.size());
+
+			for (String referenceKey : referenceKeys) {
+
+				Object value = resolved.get(referenceKey);
+				if (value != null) {
+					target.add(value);
+				}
+			}
+
+			return target;
+		}
+
+		void apply(Map<String, Object> resolved) {
+
+			if (accessor == null) {
+				return;
+			}
+
+			Object value = getValue(resolved);
+
+			if (value != null) {
+				accessor.setProperty(property, Optional.of(value));
+			}
+		}
+	}
+
+	/**
+	 * {@link TargetSource} resolving a {@link LazyReference} on first access.
+	 */
+	private class LazyReferenceTargetSource implements TargetSource {
+
+		private final RedisPersistentProperty property;
+		private final List<String> referenceKeys;
+
+		private boolean resolved;
+		private Object target;
+
+		LazyReferenceTargetSource(RedisPersistentProperty property, List<String> referenceKeys) {
+
+			this.property = property;
+			this.referenceKeys = referenceKeys;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.aop.TargetClassAware#getTargetClass()
+		 */
+		@Override
+		public Class<?> getTargetClass() {
+			return property.getType();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.aop.TargetSource#isStatic()
+		 */
+		@Override
+		public boolean isStatic() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.aop.TargetSource#getTarget()
+		 */
+		@Override
+		public synchronized Object getTarget() {
+
+			if (!resolved) {
+
+				PendingReference reference = new PendingReference(null, property, referenceKeys);
+				Object value = new ReferenceBatch(referenceResolver).load(reference);
+
+				if (value == null) {
+					throw new DataRetrievalFailureException(String.format(
+							"Cannot resolve lazy reference %s.%s: the referenced hash %s does not exist.",
+							property.getOwner().getType().getName(), property.getName(), referenceKeys));
+				}
+
+				target = value;
+				resolved = true;
+			}
+
+			return target;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.aop.TargetSource#releaseTarget(java.lang.Object)
+		 */
+		@Override
+		public void releaseTarget(Object target) {}
+	}
+
 	private enum NaturalOrderingKeyComparator implements Comparator<String> {
 
 		INSTANCE;
@@ -36,6 +36,8 @@ import org.springframework.data.redis.core.index.IndexDefinition;
 import org.springframework.data.redis.core.index.IndexDefinition.Condition;
 import org.springframework.data.redis.core.index.IndexDefinition.IndexingContext;
 import org.springframework.data.redis.core.index.Indexed;
+import org.springframework.data.redis.core.index.RangeIndexDefinition;
+import org.springframework.data.redis.core.index.RangeIndexed;
 import org.springframework.data.redis.core.index.SimpleIndexDefinition;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
@@ -239,6 +241,12 @@ public class PathIndexResolver implements IndexResolver {
 			GeoIndexDefinition indexDefinition = new GeoIndexDefinition(keyspace, path);
 			indexConfiguration.addIndexDefinition(indexDefinition);
 
+			data.add(indexedDataFactoryProvider.getIndexedDataFactory(indexDefinition).createIndexedDataFor(value));
+		} else if (property != null && property.isAnnotationPresent(RangeIndexed.class)) {
+
+			RangeIndexDefinition indexDefinition = new RangeIndexDefinition(keyspace, path);
+			indexConfiguration.addIndexDefinition(indexDefinition);
+
 			data.add(indexedDataFactoryProvider.getIndexedDataFactory(indexDefinition).createIndexedDataFor(value));
 		}
 
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.redis.core.convert;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.convert.EntityConverter;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
@@ -35,4 +38,39 @@ public interface RedisConverter
 	 */
 	@Override
 	RedisMappingContext getMappingContext();
+
+	/**
+	 * Read multiple objects of the given {@code type}. Implementations may use this to resolve references of all objects
+	 * at once. The default implementation reads one object after the other.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param sources must not be {@literal null}.
+	 * @return the objects read in the order of {@code sources}. Elements are {@literal null} for empty sources.
+	 * @since 2.0
+	 */
+	default <R> List<R> readAll(Class<R> type, List<RedisData> sources) {
+
+		List<R> result = new ArrayList<R>(sources.size());
+
+		for (RedisData source : sources) {
+			result.add(read(type, source));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Read an object of the given {@code type} resolving {@link org.springframework.data.annotation.Reference references}
+	 * through the given {@link ReferenceResolver} instead of the one configured. Allows callers to provide references
+	 * they already loaded, eg. using non-blocking I/O. The default implementation ignores {@code referenceResolver}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @param referenceResolver must not be {@literal null}.
+	 * @return the object read or {@literal null} for an empty source.
+	 * @since 2.0
+	 */
+	default <R> R read(Class<R> type, RedisData source, ReferenceResolver referenceResolver) {
+		return read(type, source);
+	}
 }
@@ -16,6 +16,8 @@
 package org.springframework.data.redis.core.convert;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.springframework.data.annotation.Reference;
@@ -34,4 +36,27 @@ public interface ReferenceResolver {
 	 * @return {@literal null} if referenced object does not exist.
 	 */
 	Map<byte[], byte[]> resolveReference(Serializable id, String keyspace);
+
+	/**
+	 * Resolve multiple references at once. Implementations should retrieve the raw hashes using as few round trips as
+	 * possible. The default implementation resolves one reference after the other.
+	 *
+	 * @param referenceKeys keys in the format {@code keyspace:id}. Must not be {@literal null}.
+	 * @return the raw hashes keyed by their reference key. References that do not exist may be absent or map to an
+	 *         empty {@link Map}. Never {@literal null}.
+	 * @since 2.0
+	 */
+	default Map<String, Map<byte[], byte[]>> resolveReferences(Collection<String> referenceKeys) {
+
+		Map<String, Map<byte[], byte[]>> result = new LinkedHashMap<String, Map<byte[], byte[]>>(referenceKeys.size());
+
+		for (String referenceKey : referenceKeys) {
+
+			int separator = referenceKey.indexOf(':');
+			result.put(referenceKey,
+					resolveReference(referenceKey.substring(separator + 1), referenceKey.substring(0, separator)));
+		}
+
+		return result;
+	}
 }
@@ -16,9 +16,14 @@
 package org.springframework.data.redis.core.convert;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisKeyValueAdapter;
@@ -65,4 +70,62 @@ public class ReferenceResolverImpl implements ReferenceResolver {
 			}
 		});
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.convert.ReferenceResolver#resolveReferences(java.util.Collection)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<String, Map<byte[], byte[]>> resolveReferences(Collection<String> referenceKeys) {
+
+		Assert.notNull(referenceKeys, "Reference keys must not be null!");
+
+		final List<String> keys = new ArrayList<String>(referenceKeys);
+
+		if (keys.size() <= 1) {
+			return ReferenceResolver.super.resolveReferences(keys);
+		}
+
+		List<Object> hashes = redisOps.execute(new RedisCallback<List<Object>>() {
+
+			@Override
+			public List<Object> doInRedis(RedisConnection connection) throws DataAccessException {
+
+				if (connection instanceof RedisClusterConnection || connection.isPipelined() || connection.isQueueing()) {
+					return null;
+				}
+
+				connection.openPipeline();
+
+				try {
+					for (String key : keys) {
+						connection.hGetAll(converter.convert(key));
+					}
+				} catch (RuntimeException e) {
+
+					try {
+						connection.closePipeline();
+					} catch (RuntimeException closeFailure) {
+						e.addSuppressed(closeFailure);
+					}
+					throw e;
+				}
+
+				return connection.closePipeline();
+			}
+		});
+
+		if (hashes == null) {
+			return ReferenceResolver.super.resolveReferences(keys);
+		}
+
+		Map<String, Map<byte[], byte[]>> result = new LinkedHashMap<String, Map<byte[], byte[]>>(keys.size());
+
+		for (int i = 0; i < keys.size(); i++) {
+			result.put(keys.get(i), (Map<byte[], byte[]>) hashes.get(i));
+		}
+
+		return result;
+	}
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.index;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+/**
+ * {@link PathBasedRedisIndexDefinition} for including property values in a secondary index allowing range queries.
+ * <br />
+ * Uses Redis {@literal ZSET} for storage where the transformed value is used as score. <br />
+ * Numbers are stored as is, {@link Date}, {@link Instant} and {@link LocalDateTime} (in UTC) as milliseconds since the
+ * epoch and {@link LocalDate} as days since the epoch.
+ *
+ * @since 2.0
+ */
+public class RangeIndexDefinition extends RedisIndexDefinition implements PathBasedRedisIndexDefinition {
+
+	/**
+	 * Creates new {@link RangeIndexDefinition}.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param path
+	 */
+	public RangeIndexDefinition(String keyspace, String path) {
+		this(keyspace, path, path);
+	}
+
+	/**
+	 * Creates new {@link RangeIndexDefinition}.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param path
+	 * @param name must not be {@literal null}.
+	 */
+	public RangeIndexDefinition(String keyspace, String path, String name) {
+		super(keyspace, path, name);
+		addCondition(new PathCondition(path));
+		setValueTransformer(new ScoreValueTransformer());
+	}
+
+	/**
+	 * Convert the given value into the score used for storing it in a range index.
+	 *
+	 * @param source can be {@literal null}.
+	 * @return {@literal null} if {@code source} is {@literal null}.
+	 * @throws IllegalArgumentException if {@code source} cannot be converted.
+	 */
+	public static Double toScore(Object source) {
+
+		if (source == null) {
+			return null;
+		}
+
+		if (source instanceof Number) {
+			return ((Number) source).doubleValue();
+		}
+
+		if (source instanceof Date) {
+			return (double) ((Date) source).getTime();
+		}
+
+		if (source instanceof Instant) {
+			return (double) ((Instant) source).toEpochMilli();
+		}
+
+		if (source instanceof LocalDateTime) {
+			return (double) ((LocalDateTime) source).toInstant(ZoneOffset.UTC).toEpochMilli();
+		}
+
+		if (source instanceof LocalDate) {
+			return (double) ((LocalDate) source).toEpochDay();
+		}
+
+		throw new IllegalArgumentException(String.format("Cannot convert %s to a score. "
+				+ "RangeIndexed property needs to be a Number, Date, Instant, LocalDate or LocalDateTime!", source.getClass()));
+	}
+
+	/**
+	 * @since 2.0
+	 */
+	static class ScoreValueTransformer implements IndexValueTransformer {
+
+		@Override
+		public Double convert(Object source) {
+			return toScore(source);
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.util.Assert;
+
+/**
+ * Default implementation of {@link ReactiveScriptExecutor}. Optimizes performance by attempting to execute script first
+ * using {@code EVALSHA}. If Redis reports {@code NOSCRIPT}, the script is loaded using {@code SCRIPT LOAD} and
+ * {@code EVALSHA} is retried so subsequent executions can use the cached script.
+ *
+ * @param <K> The type of keys that may be passed during script execution
+ * @since 2.0
+ */
+public class DefaultReactiveScriptExecutor<K> implements ReactiveScriptExecutor<K> {
+
+	private final ReactiveRedisConnectionFactory connectionFactory;
+	private final RedisSerializationContext<K, ?> serializationContext;
+
+	/**
+	 * Creates a new {@link DefaultReactiveScriptExecutor} given {@link ReactiveRedisConnectionFactory} and
+	 * {@link RedisSerializationContext}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param serializationContext must not be {@literal null}.
+	 */
+	public DefaultReactiveScriptExecutor(ReactiveRedisConnectionFactory connectionFactory,
+			RedisSerializationContext<K, ?> serializationContext) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+		Assert.notNull(serializationContext, "RedisSerializationContext must not be null!");
+
+		this.connectionFactory = connectionFactory;
+		this.serializationContext = serializationContext;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.script.ReactiveScriptExecutor#execute(org.springframework.data.redis.core.script.RedisScript, java.util.List, java.util.List)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Flux<T> execute(RedisScript<T> script, List<K> keys, List<?> args) {
+
+		Assert.notNull(script, "Script must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
+		Assert.notNull(args, "Args must not be null!");
+
+		// use the Template's value serializer for args and result
+		return execute(script, keys, args, serializationContext.getValueSerializationPair().getWriter(),
+				(RedisElementReader<T>) serializationContext.getValueSerializationPair().getReader());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.script.ReactiveScriptExecutor#execute(org.springframework.data.redis.core.script.RedisScript, java.util.List, java.util.List, org.springframework.data.redis.serializer.RedisElementWriter, org.springframework.data.redis.serializer.RedisElementReader)
+	 */
+	@Override
+	public <T> Flux<T> execute(RedisScript<T> script, List<K> keys, List<?> args, RedisElementWriter<?> argsWriter,
+			RedisElementReader<T> resultReader) {
+
+		Assert.notNull(script, "Script must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
+		Assert.notNull(args, "Args must not be null!");
+		Assert.notNull(argsWriter, "Argument Writer must not be null!");
+		Assert.notNull(resultReader, "Result Reader must not be null!");
+
+		return execute(connection -> {
+
+			ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+			ByteBuffer[] keysAndArgs = keysAndArgs(argsWriter, keys, args);
+			int keySize = keys.size();
+
+			return eval(connection, script, returnType, keySize, keysAndArgs, resultReader);
+		});
+	}
+
+	protected <T> Flux<T> eval(ReactiveRedisConnection connection, RedisScript<T> script, ReturnType returnType,
+			int numKeys, ByteBuffer[] keysAndArgs, RedisElementReader<T> resultReader) {
+
+		Flux<T> result = connection.scriptingCommands().evalSha(script.getSha1(), returnType, numKeys, keysAndArgs);
+
+		result = result.onErrorResume(e -> {
+
+			if (ScriptUtils.exceptionContainsNoScriptError(e)) {
+				return connection.scriptingCommands().scriptLoad(scriptBytes(script)).flatMapMany(
+						sha1 -> connection.scriptingCommands().<T> evalSha(sha1, returnType, numKeys, keysAndArgs));
+			}
+
+			return Flux.error(e instanceof RuntimeException ? e : new RedisSystemException(e.getMessage(), e));
+		});
+
+		if (script.getResultType() == null) {
+			return result.thenMany(Flux.empty());
+		}
+
+		return result.map(source -> deserializeResult(resultReader, source));
+	}
+
+	protected ByteBuffer[] keysAndArgs(RedisElementWriter<?> argsWriter, List<K> keys, List<?> args) {
+
+		ByteBuffer[] keysAndArgs = new ByteBuffer[keys.size() + args.size()];
+		int i = 0;
+
+		for (K key : keys) {
+			keysAndArgs[i++] = keySerializer(key);
+		}
+
+		for (Object arg : args) {
+			keysAndArgs[i++] = argsSerializer(argsWriter, arg);
+		}
+
+		return keysAndArgs;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private ByteBuffer argsSerializer(RedisElementWriter argsWriter, Object arg) {
+
+		if (arg instanceof byte[]) {
+			return ByteBuffer.wrap((byte[]) arg);
+		}
+
+		if (arg instanceof ByteBuffer) {
+			return (ByteBuffer) arg;
+		}
+
+		return argsWriter.write(arg);
+	}
+
+	protected ByteBuffer scriptBytes(RedisScript<?> script) {
+		return serializationContext.getStringSerializationPair().getWriter().write(script.getScriptAsString());
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	protected <T> T deserializeResult(RedisElementReader<T> reader, Object result) {
+
+		if (result instanceof ByteBuffer) {
+
+			T value = reader.read((ByteBuffer) result);
+
+			if (value == null) {
+				throw new InvalidDataAccessApiUsageException("Deserialized script result is null");
+			}
+
+			return value;
+		}
+
+		if (result instanceof List) {
+
+			List results = new ArrayList(((List) result).size());
+
+			for (Object obj : (List) result) {
+				results.add(deserializeResult(reader, obj));
+			}
+
+			return (T) results;
+		}
+
+		return (T) result;
+	}
+
+	protected ByteBuffer keySerializer(K key) {
+		return serializationContext.getKeySerializationPair().write(key);
+	}
+
+	private <T> Flux<T> execute(Function<ReactiveRedisConnection, Publisher<T>> function) {
+
+		return Flux.defer(() -> {
+
+			ReactiveRedisConnection connection = connectionFactory.getReactiveConnection();
+
+			return Flux.from(function.apply(connection)).doFinally(signal -> connection.close());
+		});
+	}
+}
@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.dao.DataAccessException;
-import org.springframework.dao.NonTransientDataAccessException;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.ReturnType;
@@ -30,7 +29,8 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 /**
  * Default implementation of {@link ScriptExecutor}. Optimizes performance by attempting to execute script first using
  * evalsha, then falling back to eval if Redis has not yet cached the script. Evalsha is not attempted if the script is
- * executed in a pipeline or transaction.
+ * executed in a pipeline or transaction unless the script is registered with a {@link ScriptRegistry}. Registered
+ * scripts are reloaded in case Redis does not know the script anymore.
  * 
  * @author Jennifer Hickey
  * @author Christoph Strobl
@@ -40,12 +40,24 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 public class DefaultScriptExecutor<K> implements ScriptExecutor<K> {
 
 	private RedisTemplate<K, ?> template;
+	private final ScriptRegistry scriptRegistry;
 
 	/**
 	 * @param template The {@link RedisTemplate} to use
 	 */
 	public DefaultScriptExecutor(RedisTemplate<K, ?> template) {
+		this(template, null);
+	}
+
+	/**
+	 * @param template The {@link RedisTemplate} to use
+	 * @param scriptRegistry The {@link ScriptRegistry} holding scripts to always run via evalsha. Can be {@literal null}.
+	 * @since 2.0
+	 */
+	public DefaultScriptExecutor(RedisTemplate<K, ?> template, ScriptRegistry scriptRegistry) {
+
 		this.template = template;
+		this.scriptRegistry = scriptRegistry;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -65,7 +77,12 @@ public class DefaultScriptExecutor<K> implements ScriptExecutor<K> {
 				if (connection.isPipelined() || connection.isQueueing()) {
 					// We could script load first and then do evalsha to ensure sha is present,
 					// but this adds a sha1 to exec/closePipeline results. Instead, just eval
-					connection.eval(scriptBytes(script), returnType, keySize, keysAndArgs);
+					// unless the script is known to be loaded already.
+					if (isRegistered(script)) {
+						connection.evalSha(script.getSha1(), returnType, keySize, keysAndArgs);
+					} else {
+						connection.eval(scriptBytes(script), returnType, keySize, keysAndArgs);
+					}
 					return null;
 				}
 				return eval(connection, script, returnType, keySize, keysAndArgs, resultSerializer);
@@ -81,11 +98,18 @@ public class DefaultScriptExecutor<K> implements ScriptExecutor<K> {
 			result = connection.evalSha(script.getSha1(), returnType, numKeys, keysAndArgs);
 		} catch (Exception e) {
 
-			if (!exceptionContainsNoScriptError(e)) {
+			if (!ScriptUtils.exceptionContainsNoScriptError(e)) {
 				throw e instanceof RuntimeException ? (RuntimeException) e : new RedisSystemException(e.getMessage(), e);
 			}
 
-			result = connection.eval(scriptBytes(script), returnType, numKeys, keysAndArgs);
+			if (isRegistered(script)) {
+
+				// the server lost its script cache, eg. after a restart or failover
+				scriptRegistry.loadScripts(connection);
+				result = connection.evalSha(script.getSha1(), returnType, numKeys, keysAndArgs);
+			} else {
+				result = connection.eval(scriptBytes(script), returnType, numKeys, keysAndArgs);
+			}
 		}
 
 		if (script.getResultType() == null) {
@@ -141,29 +165,13 @@ public class DefaultScriptExecutor<K> implements ScriptExecutor<K> {
 		return (T) result;
 	}
 
+	private boolean isRegistered(RedisScript<?> script) {
+		return scriptRegistry != null && scriptRegistry.isRegistered(script);
+	}
+
 	@SuppressWarnings("rawtypes")
 	protected RedisSerializer keySerializer() {
 		return template.getKeySerializer();
 	}
 
-	private boolean exceptionContainsNoScriptError(Exception e) {
-
-		if (!(e instanceof NonTransientDataAccessException)) {
-			return false;
-		}
-
-		Throwable current = e;
-		while (current != null) {
-
-			String exMessage = current.getMessage();
-			if (exMessage != null && exMessage.contains("NOSCRIPT")) {
-				return true;
-			}
-
-			current = current.getCause();
-		}
-
-		return false;
-	}
-
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisConnectionUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of {@link RedisScript}s that are loaded into the script cache of Redis via {@code SCRIPT LOAD} ahead of
+ * their execution. {@link DefaultScriptExecutor} uses {@code EVALSHA} for registered scripts, also within pipelines and
+ * transactions, and avoids sending the script source with each call.
+ * <p>
+ * Scripts are loaded on {@link #afterPropertiesSet() initialization} and when being {@link #register(RedisScript)
+ * registered} afterwards. On Redis Cluster {@code SCRIPT LOAD} is sent to all master nodes. The script cache of a
+ * server is lost on restart, failover to a replica that has not seen the script or {@code SCRIPT FLUSH}.
+ * {@link DefaultScriptExecutor} therefore {@link #loadScripts(RedisConnection) reloads} all registered scripts once it
+ * encounters a {@code NOSCRIPT} error outside of a pipeline or transaction. Pipelines and transactions fail with
+ * {@code NOSCRIPT} until then, so applications that mainly use pipelines should call {@link #loadScripts()} after
+ * reconnects.
+ *
+ * @since 2.0
+ */
+public class ScriptRegistry implements InitializingBean {
+
+	private final RedisConnectionFactory connectionFactory;
+	private final Map<String, RedisScript<?>> scripts = new ConcurrentHashMap<>();
+	private volatile boolean initialized;
+
+	/**
+	 * Creates new empty {@link ScriptRegistry}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 */
+	public ScriptRegistry(RedisConnectionFactory connectionFactory) {
+		this(connectionFactory, Collections.<RedisScript<?>> emptyList());
+	}
+
+	/**
+	 * Creates new {@link ScriptRegistry} for the given {@link RedisScript}s, eg. all {@link RedisScript} beans.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param scripts must not be {@literal null}.
+	 */
+	public ScriptRegistry(RedisConnectionFactory connectionFactory, Collection<? extends RedisScript<?>> scripts) {
+
+		Assert.notNull(connectionFactory, "RedisConnectionFactory must not be null!");
+		Assert.notNull(scripts, "Scripts must not be null!");
+
+		this.connectionFactory = connectionFactory;
+
+		for (RedisScript<?> script : scripts) {
+			add(script);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		loadScripts();
+		initialized = true;
+	}
+
+	/**
+	 * Register the given {@link RedisScript}. The script is loaded right away if the registry is already initialized.
+	 *
+	 * @param script must not be {@literal null}.
+	 */
+	public void register(RedisScript<?> script) {
+
+		add(script);
+
+		if (initialized) {
+
+			RedisConnection connection = RedisConnectionUtils.getConnection(connectionFactory);
+			try {
+				connection.scriptLoad(scriptBytes(script));
+			} finally {
+				RedisConnectionUtils.releaseConnection(connection, connectionFactory);
+			}
+		}
+	}
+
+	/**
+	 * @param script can be {@literal null}.
+	 * @return {@literal true} if the given {@link RedisScript} is registered.
+	 */
+	public boolean isRegistered(RedisScript<?> script) {
+		return script != null && scripts.containsKey(script.getSha1());
+	}
+
+	/**
+	 * @return the registered {@link RedisScript}s. Never {@literal null}.
+	 */
+	public Collection<RedisScript<?>> getScripts() {
+		return Collections.unmodifiableCollection(scripts.values());
+	}
+
+	/**
+	 * Load all registered {@link RedisScript}s using a connection obtained from the {@link RedisConnectionFactory}.
+	 */
+	public void loadScripts() {
+
+		RedisConnection connection = RedisConnectionUtils.getConnection(connectionFactory);
+		try {
+			loadScripts(connection);
+		} finally {
+			RedisConnectionUtils.releaseConnection(connection, connectionFactory);
+		}
+	}
+
+	/**
+	 * Load all registered {@link RedisScript}s using the given {@link RedisConnection}. The connection must neither be
+	 * pipelined nor queueing.
+	 *
+	 * @param connection must not be {@literal null}.
+	 */
+	public void loadScripts(RedisConnection connection) {
+
+		Assert.notNull(connection, "RedisConnection must not be null!");
+
+		for (RedisScript<?> script : scripts.values()) {
+			connection.scriptLoad(scriptBytes(script));
+		}
+	}
+
+	private void add(RedisScript<?> script) {
+
+		Assert.notNull(script, "RedisScript must not be null!");
+		scripts.put(script.getSha1(), script);
+	}
+
+	private static byte[] scriptBytes(RedisScript<?> script) {
+		return script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.repository.query;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.redis.core.ReactiveRedisKeyValueAdapter;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryQuery} deriving a {@link RedisOperationChain} from the query method name via
+ * {@link RedisQueryCreator} and executing it using a {@link ReactiveRedisKeyValueAdapter}. Supports {@link Flux} and
+ * {@link Mono} return types along with {@code count}, {@code exists}, limiting ({@code findTop3By…}) and paged
+ * ({@link Pageable}) queries. Sorting is not supported and rejected.
+ *
+ * @since 2.0
+ */
+public class ReactiveRedisPartTreeQuery implements RepositoryQuery {
+
+	private final QueryMethod queryMethod;
+	private final RedisPersistentEntity<?> entity;
+	private final ReactiveRedisKeyValueAdapter adapter;
+	private final PartTree tree;
+	private final boolean singleResult;
+
+	/**
+	 * Creates new {@link ReactiveRedisPartTreeQuery}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param queryMethod must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param adapter must not be {@literal null}.
+	 */
+	public ReactiveRedisPartTreeQuery(Method method, QueryMethod queryMethod, RedisPersistentEntity<?> entity,
+			ReactiveRedisKeyValueAdapter adapter) {
+
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(queryMethod, "QueryMethod must not be null!");
+		Assert.notNull(entity, "RedisPersistentEntity must not be null!");
+		Assert.notNull(adapter, "ReactiveRedisKeyValueAdapter must not be null!");
+
+		this.queryMethod = queryMethod;
+		this.entity = entity;
+		this.adapter = adapter;
+		this.tree = new PartTree(queryMethod.getName(), entity.getType());
+		this.singleResult = Mono.class.isAssignableFrom(method.getReturnType());
+
+		if (tree.isDelete()) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Derived delete queries are not supported for reactive repositories: %s", queryMethod));
+		}
+
+		if (tree.getSort().isSorted() || queryMethod.getParameters().hasSortParameter()) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Sorting is not supported for reactive repositories: %s", queryMethod));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
+	 */
+	@Override
+	public Object execute(Object[] parameters) {
+
+		ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
+		KeyValueQuery<RedisOperationChain> query = new RedisQueryCreator(tree, accessor).createQuery();
+
+		RedisOperationChain criteria = query.getCriteria();
+		String keyspace = entity.getKeySpace();
+
+		if (tree.isCountProjection()) {
+			return adapter.count(criteria, keyspace);
+		}
+
+		if (tree.isExistsProjection()) {
+			return adapter.find(criteria, 0, 1, keyspace, entity.getType()).hasElements();
+		}
+
+		if (accessor.getSort().isSorted()) {
+
+			InvalidDataAccessApiUsageException error = new InvalidDataAccessApiUsageException(
+					String.format("Sorting is not supported for reactive repositories: %s", queryMethod));
+			return singleResult ? Mono.error(error) : Flux.error(error);
+		}
+
+		Pageable pageable = accessor.getPageable();
+
+		long offset = pageable.isPaged() ? pageable.getOffset() : query.getOffset();
+		int rows = pageable.isPaged() ? pageable.getPageSize() : tree.isLimiting() ? tree.getMaxResults() : query.getRows();
+
+		Flux<?> result = adapter.find(criteria, offset, rows, keyspace, entity.getType());
+
+		return singleResult ? result.next() : result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
+	 */
+	@Override
+	public QueryMethod getQueryMethod() {
+		return queryMethod;
+	}
+}
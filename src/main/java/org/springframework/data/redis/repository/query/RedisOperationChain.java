@@ -36,6 +36,7 @@ public class RedisOperationChain {
 
 	private Set<PathAndValue> sismember = new LinkedHashSet<PathAndValue>();
 	private Set<PathAndValue> orSismember = new LinkedHashSet<PathAndValue>();
+	private Set<RangePath> range = new LinkedHashSet<RangePath>();
 	private NearPath near;
 
 	public void sismember(String path, Object value) {
@@ -66,6 +67,22 @@ public class RedisOperationChain {
 		return orSismember;
 	}
 
+	/**
+	 * @param range must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void range(RangePath range) {
+		this.range.add(range);
+	}
+
+	/**
+	 * @return never {@literal null}.
+	 * @since 2.0
+	 */
+	public Set<RangePath> getRange() {
+		return range;
+	}
+
 	public void near(NearPath near) {
 		this.near = near;
 	}
@@ -162,4 +179,83 @@ public class RedisOperationChain {
 			return (Distance) it.next();
 		}
 	}
+
+	/**
+	 * Range criteria on a property path. Lower and upper bound values are converted into scores of the range index for
+	 * {@link #getPath()}.
+	 *
+	 * @since 2.0
+	 */
+	public static class RangePath extends PathAndValue {
+
+		private final boolean minInclusive;
+		private final boolean maxInclusive;
+
+		/**
+		 * Creates new {@link RangePath}.
+		 *
+		 * @param path must not be {@literal null}.
+		 * @param min the lower bound. Can be {@literal null} for an unbounded range.
+		 * @param minInclusive whether {@code min} is part of the range.
+		 * @param max the upper bound. Can be {@literal null} for an unbounded range.
+		 * @param maxInclusive whether {@code max} is part of the range.
+		 */
+		public RangePath(String path, Object min, boolean minInclusive, Object max, boolean maxInclusive) {
+
+			super(path, Arrays.<Object> asList(min, max));
+
+			this.minInclusive = minInclusive;
+			this.maxInclusive = maxInclusive;
+		}
+
+		/**
+		 * @return can be {@literal null}.
+		 */
+		public Object getMin() {
+			return getFirstValue();
+		}
+
+		/**
+		 * @return can be {@literal null}.
+		 */
+		public Object getMax() {
+
+			Iterator<Object> it = values().iterator();
+			it.next();
+			return it.next();
+		}
+
+		public boolean isMinInclusive() {
+			return minInclusive;
+		}
+
+		public boolean isMaxInclusive() {
+			return maxInclusive;
+		}
+
+		@Override
+		public String toString() {
+			return getPath() + ":" + (minInclusive ? "[" : "(") + getMin() + "," + getMax() + (maxInclusive ? "]" : ")");
+		}
+
+		@Override
+		public int hashCode() {
+
+			int result = super.hashCode();
+			result = 31 * result + (minInclusive ? 1 : 0);
+			result = 31 * result + (maxInclusive ? 1 : 0);
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (!super.equals(obj) || !(obj instanceof RangePath)) {
+				return false;
+			}
+
+			RangePath that = (RangePath) obj;
+			return this.minInclusive == that.minInclusive && this.maxInclusive == that.maxInclusive;
+		}
+	}
 }
@@ -25,6 +25,7 @@ import org.springframework.data.geo.Metrics;
 import org.springframework.data.geo.Point;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.redis.repository.query.RedisOperationChain.NearPath;
+import org.springframework.data.redis.repository.query.RedisOperationChain.RangePath;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
@@ -63,6 +64,23 @@ public class RedisQueryCreator extends AbstractQueryCreator<KeyValueQuery<RedisO
 			case NEAR:
 				sink.near(getNearPath(part, iterator));
 				break;
+			case BETWEEN:
+				sink.range(new RangePath(part.getProperty().toDotPath(), iterator.next(), true, iterator.next(), true));
+				break;
+			case GREATER_THAN:
+			case AFTER:
+				sink.range(new RangePath(part.getProperty().toDotPath(), iterator.next(), false, null, false));
+				break;
+			case GREATER_THAN_EQUAL:
+				sink.range(new RangePath(part.getProperty().toDotPath(), iterator.next(), true, null, false));
+				break;
+			case LESS_THAN:
+			case BEFORE:
+				sink.range(new RangePath(part.getProperty().toDotPath(), null, false, iterator.next(), false));
+				break;
+			case LESS_THAN_EQUAL:
+				sink.range(new RangePath(part.getProperty().toDotPath(), null, false, iterator.next(), true));
+				break;
 			default:
 				throw new IllegalArgumentException(part.getType() + "is not supported for redis query derivation");
 		}
@@ -85,6 +103,11 @@ public class RedisQueryCreator extends AbstractQueryCreator<KeyValueQuery<RedisO
 	 */
 	@Override
 	protected RedisOperationChain or(RedisOperationChain base, RedisOperationChain criteria) {
+
+		if (!criteria.getRange().isEmpty() || !base.getRange().isEmpty()) {
+			throw new InvalidDataAccessApiUsageException("Range criteria cannot be combined using OR.");
+		}
+
 		base.orSismember(criteria.getSismember());
 		return base;
 	}
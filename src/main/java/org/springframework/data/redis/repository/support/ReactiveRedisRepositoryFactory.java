@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisKeyValueAdapter;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.redis.repository.core.MappingRedisEntityInformation;
+import org.springframework.data.redis.repository.query.ReactiveRedisPartTreeQuery;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.EvaluationContextProvider;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * Factory to create reactive repositories for {@link org.springframework.data.redis.core.RedisHash} entities using a
+ * {@link ReactiveRedisKeyValueAdapter}.
+ *
+ * @since 2.0
+ */
+public class ReactiveRedisRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+	private final ReactiveRedisKeyValueAdapter adapter;
+	private final RedisMappingContext mappingContext;
+
+	/**
+	 * Creates new {@link ReactiveRedisRepositoryFactory}.
+	 *
+	 * @param adapter must not be {@literal null}.
+	 */
+	public ReactiveRedisRepositoryFactory(ReactiveRedisKeyValueAdapter adapter) {
+
+		Assert.notNull(adapter, "ReactiveRedisKeyValueAdapter must not be null!");
+
+		this.adapter = adapter;
+		this.mappingContext = adapter.getConverter().getMappingContext();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getEntityInformation(java.lang.Class)
+	 */
+	@Override
+	public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+		return new MappingRedisEntityInformation<>(getPersistentEntity(domainClass));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getTargetRepository(org.springframework.data.repository.core.RepositoryInformation)
+	 */
+	@Override
+	protected Object getTargetRepository(RepositoryInformation metadata) {
+		return getTargetRepositoryViaReflection(metadata, getPersistentEntity(metadata.getDomainType()), adapter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
+	 */
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		return SimpleReactiveRedisRepository.class;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getQueryLookupStrategy(org.springframework.data.repository.query.QueryLookupStrategy.Key, org.springframework.data.repository.query.EvaluationContextProvider)
+	 */
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
+			EvaluationContextProvider evaluationContextProvider) {
+		return Optional.of(new ReactiveRedisQueryLookupStrategy());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> RedisPersistentEntity<T> getPersistentEntity(Class<T> domainClass) {
+		return (RedisPersistentEntity<T>) mappingContext.getPersistentEntity(domainClass).get();
+	}
+
+	/**
+	 * {@link QueryLookupStrategy} deriving {@link ReactiveRedisPartTreeQuery queries} from the method name.
+	 */
+	private class ReactiveRedisQueryLookupStrategy implements QueryLookupStrategy {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.query.QueryLookupStrategy#resolveQuery(java.lang.reflect.Method, org.springframework.data.repository.core.RepositoryMetadata, org.springframework.data.projection.ProjectionFactory, org.springframework.data.repository.core.NamedQueries)
+		 */
+		@Override
+		public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+				NamedQueries namedQueries) {
+
+			QueryMethod queryMethod = new QueryMethod(method, metadata, factory);
+			return new ReactiveRedisPartTreeQuery(method, queryMethod, getPersistentEntity(metadata.getDomainType()),
+					adapter);
+		}
+	}
+}
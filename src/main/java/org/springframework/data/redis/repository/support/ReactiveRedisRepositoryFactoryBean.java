@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.repository.support;
+
+import java.io.Serializable;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.data.redis.core.ReactiveRedisKeyValueAdapter;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.util.Assert;
+
+/**
+ * Adapter for Springs {@link FactoryBean} interface to allow easy setup of {@link ReactiveRedisRepositoryFactory} via
+ * Spring configuration.
+ *
+ * @param <T> The repository type.
+ * @param <S> The repository domain type.
+ * @param <ID> The repository id type.
+ * @since 2.0
+ */
+public class ReactiveRedisRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+		extends RepositoryFactoryBeanSupport<T, S, ID> {
+
+	private ReactiveRedisKeyValueAdapter adapter;
+
+	/**
+	 * Creates a new {@link ReactiveRedisRepositoryFactoryBean} for the given repository interface.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 */
+	public ReactiveRedisRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+		super(repositoryInterface);
+	}
+
+	/**
+	 * Configures the {@link ReactiveRedisKeyValueAdapter} to be used for the repositories.
+	 *
+	 * @param adapter must not be {@literal null}.
+	 */
+	public void setReactiveRedisKeyValueAdapter(ReactiveRedisKeyValueAdapter adapter) {
+
+		Assert.notNull(adapter, "ReactiveRedisKeyValueAdapter must not be null!");
+
+		this.adapter = adapter;
+		setMappingContext(adapter.getConverter().getMappingContext());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#createRepositoryFactory()
+	 */
+	@Override
+	protected RepositoryFactorySupport createRepositoryFactory() {
+		return new ReactiveRedisRepositoryFactory(adapter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		Assert.state(adapter != null, "ReactiveRedisKeyValueAdapter must not be null!");
+
+		super.afterPropertiesSet();
+	}
+}
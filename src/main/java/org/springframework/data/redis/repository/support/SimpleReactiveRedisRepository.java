@@ -0,0 +1,279 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.repository.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.reactivestreams.Publisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentProperty;
+import org.springframework.data.redis.core.ReactiveRedisKeyValueAdapter;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link ReactiveCrudRepository} implementation for {@link org.springframework.data.redis.core.RedisHash} entities
+ * backed by a {@link ReactiveRedisKeyValueAdapter}. Entities without an identifier get a random {@link UUID} assigned
+ * on save if their id property is of type {@link String} or {@link UUID}.
+ *
+ * @param <T> the domain type.
+ * @param <ID> the id type.
+ * @since 2.0
+ */
+public class SimpleReactiveRedisRepository<T, ID> implements ReactiveCrudRepository<T, ID> {
+
+	private final RedisPersistentEntity<T> entity;
+	private final ReactiveRedisKeyValueAdapter adapter;
+
+	/**
+	 * Creates new {@link SimpleReactiveRedisRepository}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param adapter must not be {@literal null}.
+	 */
+	public SimpleReactiveRedisRepository(RedisPersistentEntity<T> entity, ReactiveRedisKeyValueAdapter adapter) {
+
+		Assert.notNull(entity, "RedisPersistentEntity must not be null!");
+		Assert.notNull(adapter, "ReactiveRedisKeyValueAdapter must not be null!");
+
+		this.entity = entity;
+		this.adapter = adapter;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#save(java.lang.Object)
+	 */
+	@Override
+	public <S extends T> Mono<S> save(S entity) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+
+		return Mono.defer(() -> adapter.put(getOrGenerateId(entity), entity, getKeySpace()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#saveAll(java.lang.Iterable)
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+
+		Assert.notNull(entities, "The given Iterable of entities must not be null!");
+
+		return Flux.fromIterable(entities).concatMap(this::save);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#saveAll(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+
+		Assert.notNull(entityStream, "The given Publisher of entities must not be null!");
+
+		return Flux.from(entityStream).concatMap(this::save);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findById(java.lang.Object)
+	 */
+	@Override
+	public Mono<T> findById(ID id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+
+		return adapter.get(id, getKeySpace(), entity.getType());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findById(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Mono<T> findById(Publisher<ID> publisher) {
+
+		Assert.notNull(publisher, "The given id must not be null!");
+
+		return Mono.from(publisher).flatMap(this::findById);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#existsById(java.lang.Object)
+	 */
+	@Override
+	public Mono<Boolean> existsById(ID id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+
+		return adapter.contains(id, getKeySpace());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#existsById(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Mono<Boolean> existsById(Publisher<ID> publisher) {
+
+		Assert.notNull(publisher, "The given id must not be null!");
+
+		return Mono.from(publisher).flatMap(this::existsById);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAll()
+	 */
+	@Override
+	public Flux<T> findAll() {
+		return adapter.getAllOf(getKeySpace(), entity.getType());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAllById(java.lang.Iterable)
+	 */
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids) {
+
+		Assert.notNull(ids, "The given Iterable of ids must not be null!");
+
+		return findAllById(Flux.fromIterable(ids));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAllById(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<T> findAllById(Publisher<ID> idStream) {
+
+		Assert.notNull(idStream, "The given Publisher of ids must not be null!");
+
+		return Flux.from(idStream).concatMap(this::findById);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#count()
+	 */
+	@Override
+	public Mono<Long> count() {
+		return adapter.count(getKeySpace());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteById(java.lang.Object)
+	 */
+	@Override
+	public Mono<Void> deleteById(ID id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+
+		return adapter.delete(id, getKeySpace(), entity.getType()).then();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#delete(java.lang.Object)
+	 */
+	@Override
+	public Mono<Void> delete(T entity) {
+
+		Assert.notNull(entity, "The given entity must not be null!");
+
+		return Mono.justOrEmpty(getId(entity)).flatMap(id -> adapter.delete(id, getKeySpace(), this.entity.getType()))
+				.then();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll(java.lang.Iterable)
+	 */
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+
+		Assert.notNull(entities, "The given Iterable of entities must not be null!");
+
+		return deleteAll(Flux.fromIterable(entities));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+
+		Assert.notNull(entityStream, "The given Publisher of entities must not be null!");
+
+		return Flux.from(entityStream).concatMap(this::delete).then();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll()
+	 */
+	@Override
+	public Mono<Void> deleteAll() {
+		return adapter.deleteAllOf(getKeySpace());
+	}
+
+	private String getKeySpace() {
+		return entity.getKeySpace();
+	}
+
+	private Optional<Object> getId(T source) {
+		return entity.getIdentifierAccessor(source).getIdentifier();
+	}
+
+	private Object getOrGenerateId(T source) {
+
+		Optional<Object> id = getId(source);
+
+		if (id.isPresent()) {
+			return id.get();
+		}
+
+		KeyValuePersistentProperty idProperty = entity.getIdProperty().get();
+		Object generated;
+
+		if (ClassUtils.isAssignable(String.class, idProperty.getType())) {
+			generated = UUID.randomUUID().toString();
+		} else if (ClassUtils.isAssignable(UUID.class, idProperty.getType())) {
+			generated = UUID.randomUUID();
+		} else {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Cannot generate id of type %s for %s. Please provide an id before saving.",
+							idProperty.getType(), entity.getType()));
+		}
+
+		entity.getPropertyAccessor(source).setProperty(idProperty, Optional.of(generated));
+
+		return generated;
+	}
+}
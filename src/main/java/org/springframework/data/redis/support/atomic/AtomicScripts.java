@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import java.util.Collections;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * Lua scripts backing the atomic operations of the Redis atomics that cannot be expressed with a single command. The
+ * scripts are executed via {@code EVALSHA} so each operation completes within a single round trip. Meant for internal
+ * use.
+ *
+ * @since 2.0
+ */
+abstract class AtomicScripts {
+
+	/**
+	 * Sets {@code ARGV[2]} if the current value is byte-wise equal to {@code ARGV[1]}. Returns {@code 1} on success,
+	 * {@code 0} on mismatch and {@code -1} if the key does not exist.
+	 */
+	static final RedisScript<Long> COMPARE_AND_SET = new DefaultRedisScript<Long>(
+			"local current = redis.call('GET', KEYS[1]) " //
+					+ "if not current then return -1 end " //
+					+ "if current == ARGV[1] then redis.call('SET', KEYS[1], ARGV[2]) return 1 end " //
+					+ "return 0",
+			Long.class);
+
+	/**
+	 * Like {@link #COMPARE_AND_SET} but compares numerically so that e.g. {@code 1} and {@code 1.0} are considered equal.
+	 */
+	static final RedisScript<Long> NUMERIC_COMPARE_AND_SET = new DefaultRedisScript<Long>(
+			"local current = redis.call('GET', KEYS[1]) " //
+					+ "if not current then return -1 end " //
+					+ "if tonumber(current) == tonumber(ARGV[1]) then redis.call('SET', KEYS[1], ARGV[2]) return 1 end " //
+					+ "return 0",
+			Long.class);
+
+	/**
+	 * Adds {@code ARGV[1]} clamping the result to {@code [ARGV[2], ARGV[3]]}. Corrections are applied via {@code INCRBY}
+	 * so that an expiry set on the key is retained.
+	 */
+	static final RedisScript<Long> BOUNDED_ADD = new DefaultRedisScript<Long>(
+			"local value = redis.call('INCRBY', KEYS[1], ARGV[1]) " //
+					+ "local bounded = math.max(tonumber(ARGV[2]), math.min(tonumber(ARGV[3]), value)) " //
+					+ "if bounded ~= value then redis.call('INCRBY', KEYS[1], bounded - value) end " //
+					+ "return bounded",
+			Long.class);
+
+	private static final RedisSerializer<String> ARGS_SERIALIZER = new StringRedisSerializer();
+	private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<Long>(Long.class);
+
+	/**
+	 * Runs the given compare-and-set {@code script} using the value serializer of {@code operations} for the arguments.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param script must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param expect
+	 * @param update
+	 * @return {@literal true} if the value has been updated.
+	 * @throws DataRetrievalFailureException if the key does not exist.
+	 */
+	static <V> boolean compareAndSet(RedisOperations<String, V> operations, RedisScript<Long> script, String key,
+			V expect, V update) {
+
+		Long result = operations.execute(script, operations.getValueSerializer(), RESULT_SERIALIZER,
+				Collections.singletonList(key), expect, update);
+
+		checkResult(result);
+		if (result < 0) {
+			throw new DataRetrievalFailureException(String.format("The key '%s' seems to no longer exist.", key));
+		}
+
+		return result == 1;
+	}
+
+	/**
+	 * Runs {@link #BOUNDED_ADD}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param delta
+	 * @param min
+	 * @param max must be greater or equal to {@code min}.
+	 * @return the updated value.
+	 */
+	static long boundedAdd(RedisOperations<String, ?> operations, String key, long delta, long min, long max) {
+
+		Assert.isTrue(min <= max, "Lower bound must not be greater than the upper bound!");
+
+		Long result = operations.execute(BOUNDED_ADD, ARGS_SERIALIZER, RESULT_SERIALIZER, Collections.singletonList(key),
+				Long.toString(delta), Long.toString(min), Long.toString(max));
+
+		checkResult(result);
+		return result;
+	}
+
+	private static void checkResult(Object result) {
+
+		if (result == null) {
+			throw new IllegalStateException("Cannot run atomic operation with Redis connection in pipeline/multi-exec mode");
+		}
+	}
+}
@@ -16,9 +16,10 @@
 package org.springframework.data.redis.support.atomic;
 
 import java.io.Serializable;
-import java.util.Collections;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.redis.connection.DataType;
@@ -26,7 +27,6 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.BoundKeyOperations;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
@@ -34,7 +34,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.util.Assert;
 
 /**
- * Atomic double backed by Redis. Uses Redis atomic increment/decrement and watch/multi/exec operations for CAS
+ * Atomic double backed by Redis. Uses Redis atomic increment/decrement operations and a Lua script for CAS
  * operations.
  *
  * @author Jennifer Hickey
@@ -187,26 +187,82 @@ public class RedisAtomicDouble extends Number implements Serializable, BoundKeyO
 	 * @param update the new value
 	 * @return true if successful. False return indicates that the actual value was not equal to the expected value.
 	 */
-	public boolean compareAndSet(final double expect, final double update) {
-		return generalOps.execute(new SessionCallback<Boolean>() {
-
-			@SuppressWarnings({ "unchecked", "rawtypes" })
-			public Boolean execute(RedisOperations operations) {
-				for (;;) {
-					operations.watch(Collections.singleton(key));
-					if (expect == get()) {
-						generalOps.multi();
-						set(update);
-						if (operations.exec() != null) {
-							return true;
-						}
-					}
-					{
-						return false;
-					}
-				}
-			}
-		});
+	public boolean compareAndSet(double expect, double update) {
+		return AtomicScripts.compareAndSet(generalOps, AtomicScripts.NUMERIC_COMPARE_AND_SET, key, expect, update);
+	}
+
+	/**
+	 * Atomically updates the current value with the results of applying the given function. The function is applied
+	 * locally and may be re-applied when the value is concurrently modified.
+	 *
+	 * @param updateFunction a side-effect-free function
+	 * @return the previous value
+	 * @since 2.0
+	 */
+	public double getAndUpdate(DoubleUnaryOperator updateFunction) {
+
+		double prev, next;
+		do {
+			prev = get();
+			next = updateFunction.applyAsDouble(prev);
+		} while (!compareAndSet(prev, next));
+		return prev;
+	}
+
+	/**
+	 * Atomically updates the current value with the results of applying the given function. The function is applied
+	 * locally and may be re-applied when the value is concurrently modified.
+	 *
+	 * @param updateFunction a side-effect-free function
+	 * @return the updated value
+	 * @since 2.0
+	 */
+	public double updateAndGet(DoubleUnaryOperator updateFunction) {
+
+		double prev, next;
+		do {
+			prev = get();
+			next = updateFunction.applyAsDouble(prev);
+		} while (!compareAndSet(prev, next));
+		return next;
+	}
+
+	/**
+	 * Atomically updates the current value with the results of applying the given function to the current and given
+	 * values. The function is applied locally and may be re-applied when the value is concurrently modified.
+	 *
+	 * @param x the update value
+	 * @param accumulatorFunction a side-effect-free function of two arguments
+	 * @return the previous value
+	 * @since 2.0
+	 */
+	public double getAndAccumulate(double x, DoubleBinaryOperator accumulatorFunction) {
+
+		double prev, next;
+		do {
+			prev = get();
+			next = accumulatorFunction.applyAsDouble(prev, x);
+		} while (!compareAndSet(prev, next));
+		return prev;
+	}
+
+	/**
+	 * Atomically updates the current value with the results of applying the given function to the current and given
+	 * values. The function is applied locally and may be re-applied when the value is concurrently modified.
+	 *
+	 * @param x the update value
+	 * @param accumulatorFunction a side-effect-free function of two arguments
+	 * @return the updated value
+	 * @since 2.0
+	 */
+	public double accumulateAndGet(double x, DoubleBinaryOperator accumulatorFunction) {
+
+		double prev, next;
+		do {
+			prev = get();
+			next = accumulatorFunction.applyAsDouble(prev, x);
+		} while (!compareAndSet(prev, next));
+		return next;
 	}
 
 	/**
@@ -16,9 +16,10 @@
 package org.springframework.data.redis.support.atomic;
 
 import java.io.Serializable;
-import java.util.Collections;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
 
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.redis.connection.DataType;
@@ -26,7 +27,6 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.BoundKeyOperations;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
@@ -34,7 +34,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.util.Assert;
 
 /**
- * Atomic long backed by Redis. Uses Redis atomic increment/decrement and watch/multi/exec operations for CAS
+ * Atomic long backed by Redis. Uses Redis atomic increment/decrement operations and a Lua script for CAS
  * operations.
  *
  * @see java.util.concurrent.atomic.AtomicLong
@@ -193,26 +193,82 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 	 * @param update the new value
 	 * @return true if successful. False return indicates that the actual value was not equal to the expected value.
 	 */
-	public boolean compareAndSet(final long expect, final long update) {
-		return generalOps.execute(new SessionCallback<Boolean>() {
-
-			@SuppressWarnings("unchecked")
-			public Boolean execute(RedisOperations operations) {
-				for (;;) {
-					operations.watch(Collections.singleton(key));
-					if (expect == get()) {
-						generalOps.multi();
-						set(update);
-						if (operations.exec() != null) {
-							return true;
-						}
-					}
-					{
-						return false;
-					}
-				}
-			}
-		});
+	public boolean compareAndSet(long expect, long update) {
+		return AtomicScripts.compareAndSet(generalOps, AtomicScripts.COMPARE_AND_SET, key, expect, update);
+	}
+
+	/**
+	 * Atomically updates the current value with the results of applying the given function. The function is applied
+	 * locally and may be re-applied when the value is concurrently modified.
+	 *
+	 * @param updateFunction a side-effect-free function
+	 * @return the previous value
+	 * @since 2.0
+	 */
+	public long getAndUpdate(LongUnaryOperator updateFunction) {
+
+		long prev, next;
+		do {
+			prev = get();
+			next = updateFunction.applyAsLong(prev);
+		} while (!compareAndSet(prev, next));
+		return prev;
+	}
+
+	/**
+	 * Atomically updates the current value with the results of applying the given function. The function is applied
+	 * locally and may be re-applied when the value is concurrently modified.
+	 *
+	 * @param updateFunction a side-effect-free function
+	 * @return the updated value
+	 * @since 2.0
+	 */
+	public long updateAndGet(LongUnaryOperator updateFunction) {
+
+		long prev, next;
+		do {
+			prev = get();
+			next = updateFunction.applyAsLong(prev);
+		} while (!compareAndSet(prev, next));
+		return next;
+	}
+
+	/**
+	 * Atomically updates the current value with the results of applying the given function to the current and given
+	 * values. The function is applied locally and may be re-applied when the value is concurrently modified.
+	 *
+	 * @param x the update value
+	 * @param accumulatorFunction a side-effect-free function of two arguments
+	 * @return the previous value
+	 * @since 2.0
+	 */
+	public long getAndAccumulate(long x, LongBinaryOperator accumulatorFunction) {
+
+		long prev, next;
+		do {
+			prev = get();
+			next = accumulatorFunction.applyAsLong(prev, x);
+		} while (!compareAndSet(prev, next));
+		return prev;
+	}
+
+	/**
+	 * Atomically updates the current value with the results of applying the given function to the current and given
+	 * values. The function is applied locally and may be re-applied when the value is concurrently modified.
+	 *
+	 * @param x the update value
+	 * @param accumulatorFunction a side-effect-free function of two arguments
+	 * @return the updated value
+	 * @since 2.0
+	 */
+	public long accumulateAndGet(long x, LongBinaryOperator accumulatorFunction) {
+
+		long prev, next;
+		do {
+			prev = get();
+			next = accumulatorFunction.applyAsLong(prev, x);
+		} while (!compareAndSet(prev, next));
+		return next;
 	}
 
 	/**
@@ -271,6 +327,20 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 		return operations.increment(key, delta);
 	}
 
+	/**
+	 * Atomically adds the given value to the current value within a single round trip, clamping the result to the given
+	 * bounds. Values are handled as Lua numbers on the server and are therefore exact only up to 2^53.
+	 *
+	 * @param delta the value to add
+	 * @param min the lower bound
+	 * @param max the upper bound, must not be less than {@code min}
+	 * @return the updated value
+	 * @since 2.0
+	 */
+	public long addAndGet(long delta, long min, long max) {
+		return AtomicScripts.boundedAdd(generalOps, key, delta, min, max);
+	}
+
 	/**
 	 * Returns the String representation of the current value.
 	 *
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Distributed sequence handing out unique {@code long} values from blocks reserved on a {@link RedisAtomicLong}
+ * (hi/lo allocation). Each block of {@link #getBlockSize() block size} values is reserved with a single
+ * {@code INCRBY}. Values of the current block are then handed out by a local, lock-free counter. Once the remaining
+ * values of a block drop to the {@link #setPrefetchThreshold(int) prefetch threshold}, the next block is reserved in
+ * the background.
+ * <p>
+ * Values are unique across all instances sharing the same key but are neither contiguous nor ordered between them.
+ * Values of blocks not fully used up, e.g. on shutdown, are lost.
+ *
+ * @since 2.0
+ */
+public class RedisSequence {
+
+	private final RedisAtomicLong counter;
+	private final int blockSize;
+
+	private final AtomicReference<Block> current = new AtomicReference<Block>(Block.exhausted());
+	private final AtomicReference<CompletableFuture<Block>> prefetched = new AtomicReference<CompletableFuture<Block>>();
+
+	private volatile int prefetchThreshold;
+	private volatile Executor prefetchExecutor = new SimpleAsyncTaskExecutor(RedisSequence.class.getSimpleName() + "-");
+
+	/**
+	 * Constructs a new <code>RedisSequence</code> instance reserving blocks on the counter stored at {@code key}. Uses
+	 * the value existing in Redis or 0 if none is found.
+	 *
+	 * @param key the redis counter.
+	 * @param factory connection factory.
+	 * @param blockSize number of values reserved per round trip. Must be greater than zero.
+	 */
+	public RedisSequence(String key, RedisConnectionFactory factory, int blockSize) {
+		this(new RedisAtomicLong(key, factory), blockSize);
+	}
+
+	/**
+	 * Constructs a new <code>RedisSequence</code> instance reserving blocks on the given {@link RedisAtomicLong}.
+	 *
+	 * @param counter must not be {@literal null}.
+	 * @param blockSize number of values reserved per round trip. Must be greater than zero.
+	 */
+	public RedisSequence(RedisAtomicLong counter, int blockSize) {
+
+		Assert.notNull(counter, "Counter must not be null!");
+		Assert.isTrue(blockSize > 0, "Block size must be greater than zero!");
+
+		this.counter = counter;
+		this.blockSize = blockSize;
+		this.prefetchThreshold = blockSize / 2;
+	}
+
+	/**
+	 * Sets the number of remaining values of the current block at which the next block gets reserved in the background.
+	 * Defaults to half of the block size. Use {@code 0} to reserve blocks only once the current one is exhausted.
+	 *
+	 * @param prefetchThreshold must not be negative and less than the block size.
+	 */
+	public void setPrefetchThreshold(int prefetchThreshold) {
+
+		Assert.isTrue(prefetchThreshold >= 0, "Prefetch threshold must not be negative!");
+		Assert.isTrue(prefetchThreshold < blockSize, "Prefetch threshold must be less than the block size!");
+		this.prefetchThreshold = prefetchThreshold;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to reserve blocks in the background. Defaults to a
+	 * {@link SimpleAsyncTaskExecutor}.
+	 *
+	 * @param prefetchExecutor must not be {@literal null}.
+	 */
+	public void setPrefetchExecutor(Executor prefetchExecutor) {
+
+		Assert.notNull(prefetchExecutor, "Prefetch executor must not be null!");
+		this.prefetchExecutor = prefetchExecutor;
+	}
+
+	/**
+	 * Returns the next value of the sequence. Only reserving a new block requires a round trip to Redis.
+	 *
+	 * @return the next unique value.
+	 */
+	public long nextValue() {
+
+		for (;;) {
+
+			Block block = current.get();
+			long value = block.next.getAndIncrement();
+
+			if (value <= block.last) {
+
+				if (value == block.prefetchAt) {
+					prefetch();
+				}
+				return value;
+			}
+
+			advance(block);
+		}
+	}
+
+	/**
+	 * @return the number of values reserved per round trip.
+	 */
+	public int getBlockSize() {
+		return blockSize;
+	}
+
+	/**
+	 * @return the key of the underlying counter.
+	 */
+	public String getKey() {
+		return counter.getKey();
+	}
+
+	private synchronized void advance(Block exhausted) {
+
+		if (current.get() != exhausted) {
+			return;
+		}
+
+		CompletableFuture<Block> next = prefetched.getAndSet(null);
+		if (next != null) {
+			try {
+				current.set(next.join());
+				return;
+			} catch (CompletionException e) {
+				// background reservation failed, retry in the calling thread
+			}
+		}
+
+		current.set(reserve());
+	}
+
+	private void prefetch() {
+
+		CompletableFuture<Block> future = new CompletableFuture<Block>();
+		if (!prefetched.compareAndSet(null, future)) {
+			return;
+		}
+
+		try {
+			prefetchExecutor.execute(() -> {
+				try {
+					future.complete(reserve());
+				} catch (RuntimeException e) {
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+	}
+
+	private Block reserve() {
+
+		long last = counter.addAndGet(blockSize);
+		int threshold = prefetchThreshold;
+
+		return new Block(last - blockSize + 1, last, threshold > 0 ? last - threshold : Long.MIN_VALUE);
+	}
+
+	/**
+	 * A reserved range of values {@code [first, last]}.
+	 */
+	private static class Block {
+
+		final AtomicLong next;
+		final long last;
+		final long prefetchAt;
+
+		Block(long first, long last, long prefetchAt) {
+
+			this.next = new AtomicLong(first);
+			this.last = last;
+			this.prefetchAt = prefetchAt;
+		}
+
+		static Block exhausted() {
+			return new Block(1, 0, Long.MIN_VALUE);
+		}
+	}
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * Counter backed by Redis that spreads updates across a configurable number of stripes, similar to
+ * {@link java.util.concurrent.atomic.LongAdder}. Each update increments a randomly chosen stripe key, while
+ * {@link #sum()} reads the stripes with one {@code MGET} per slot they are hash-tagged into.
+ * <p>
+ * By default all stripes share a single slot so that {@link #sum()} is a single {@code MGET}. In a cluster, hot
+ * counters can {@link #RedisStripedCounter(String, RedisOperations, int, int) spread their stripes across several
+ * slots}, and therefore nodes, to scale their write throughput at the cost of one {@code MGET} per slot when reading.
+ * <p>
+ * The stripe keys follow the pattern {@code key:{s:key}:i} where {@code s} is the slot group of stripe {@code i}. Keys
+ * which already contain a hash tag keep all stripes within the slot of that tag.
+ *
+ * @see java.util.concurrent.atomic.LongAdder
+ * @since 2.0
+ */
+public class RedisStripedCounter extends Number {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String key;
+	private final List<String> stripeKeys;
+	private final List<List<String>> stripeKeysBySlot;
+	private final ValueOperations<String, Long> operations;
+	private final RedisOperations<String, Long> generalOps;
+
+	/**
+	 * Constructs a new <code>RedisStripedCounter</code> instance keeping all stripes within a single slot.
+	 *
+	 * @param redisCounter the redis counter.
+	 * @param factory connection factory.
+	 * @param stripes number of stripes, must be greater than zero.
+	 */
+	public RedisStripedCounter(String redisCounter, RedisConnectionFactory factory, int stripes) {
+		this(redisCounter, createTemplate(factory), stripes);
+	}
+
+	/**
+	 * Constructs a new <code>RedisStripedCounter</code> instance.
+	 *
+	 * @param redisCounter the redis counter.
+	 * @param factory connection factory.
+	 * @param stripes number of stripes, must be greater than zero.
+	 * @param slots number of slots to spread the stripes across, must be between one and {@code stripes}.
+	 */
+	public RedisStripedCounter(String redisCounter, RedisConnectionFactory factory, int stripes, int slots) {
+		this(redisCounter, createTemplate(factory), stripes, slots);
+	}
+
+	/**
+	 * Constructs a new <code>RedisStripedCounter</code> instance keeping all stripes within a single slot.
+	 * <p>
+	 * Note: The key serializer of the given {@code template} must be able to deserialize to a {@link String} and the
+	 * value serializer must be able to deserialize to a {@link Long}.
+	 *
+	 * @param redisCounter the redis counter.
+	 * @param template the template.
+	 * @param stripes number of stripes, must be greater than zero.
+	 */
+	public RedisStripedCounter(String redisCounter, RedisOperations<String, Long> template, int stripes) {
+		this(redisCounter, template, stripes, 1);
+	}
+
+	/**
+	 * Constructs a new <code>RedisStripedCounter</code> instance.
+	 * <p>
+	 * Note: The key serializer of the given {@code template} must be able to deserialize to a {@link String} and the
+	 * value serializer must be able to deserialize to a {@link Long}.
+	 *
+	 * @param redisCounter the redis counter.
+	 * @param template the template.
+	 * @param stripes number of stripes, must be greater than zero.
+	 * @param slots number of slots to spread the stripes across, must be between one and {@code stripes}.
+	 */
+	@SuppressWarnings("unchecked")
+	public RedisStripedCounter(String redisCounter, RedisOperations<String, Long> template, int stripes, int slots) {
+
+		Assert.hasText(redisCounter, "a valid counter name is required");
+		Assert.notNull(template, "a valid template is required");
+		Assert.notNull(template.getKeySerializer(), "a valid key serializer in template is required");
+		Assert.notNull(template.getValueSerializer(), "a valid value serializer in template is required");
+		Assert.isTrue(stripes > 0, "number of stripes must be greater than zero");
+		Assert.isTrue(slots > 0 && slots <= stripes, "number of slots must be between one and the number of stripes");
+
+		this.key = redisCounter;
+		this.generalOps = template;
+		this.operations = template.opsForValue();
+
+		RedisSerializer<String> keySerializer = (RedisSerializer<String>) template.getKeySerializer();
+		List<String> stripeKeys = new ArrayList<String>(stripes);
+		Map<Integer, List<String>> stripeKeysBySlot = new LinkedHashMap<Integer, List<String>>(slots);
+
+		for (int i = 0; i < stripes; i++) {
+
+			String stripeKey = stripeKey(redisCounter, i % slots, i);
+			stripeKeys.add(stripeKey);
+			stripeKeysBySlot.computeIfAbsent(ClusterSlotHashUtil.calculateSlot(keySerializer.serialize(stripeKey)),
+					slot -> new ArrayList<String>()).add(stripeKey);
+		}
+
+		this.stripeKeys = Collections.unmodifiableList(stripeKeys);
+		this.stripeKeysBySlot = new ArrayList<List<String>>(stripeKeysBySlot.values());
+	}
+
+	/**
+	 * Adds the given value.
+	 *
+	 * @param delta the value to add.
+	 */
+	public void add(long delta) {
+		operations.increment(stripeKeys.get(ThreadLocalRandom.current().nextInt(stripeKeys.size())), delta);
+	}
+
+	/**
+	 * Equivalent to {@code add(1)}.
+	 */
+	public void increment() {
+		add(1);
+	}
+
+	/**
+	 * Equivalent to {@code add(-1)}.
+	 */
+	public void decrement() {
+		add(-1);
+	}
+
+	/**
+	 * Returns the current sum of all stripes, reading the stripes of each slot with a single {@code MGET}. The returned
+	 * value is not an atomic snapshot when updates happen concurrently on stripes spread across several slots, as the
+	 * slots are read one after the other.
+	 *
+	 * @return the sum.
+	 */
+	public long sum() {
+
+		long sum = 0;
+		for (List<String> sameSlotKeys : stripeKeysBySlot) {
+
+			List<Long> values = operations.multiGet(sameSlotKeys);
+			if (values == null) {
+				throw new IllegalStateException(
+						"Cannot read counter with Redis connection in pipeline/multi-exec mode");
+			}
+
+			for (Long value : values) {
+				if (value != null) {
+					sum += value;
+				}
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * Resets the counter to zero by removing all stripes.
+	 */
+	public void reset() {
+		generalOps.delete(stripeKeys);
+	}
+
+	/**
+	 * @return the name of the counter.
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * @return the keys of the individual stripes.
+	 */
+	public List<String> getStripeKeys() {
+		return stripeKeys;
+	}
+
+	/**
+	 * Returns the String representation of the {@link #sum()}.
+	 *
+	 * @return the String representation of the {@link #sum()}.
+	 */
+	public String toString() {
+		return Long.toString(sum());
+	}
+
+	public int intValue() {
+		return (int) sum();
+	}
+
+	public long longValue() {
+		return sum();
+	}
+
+	public float floatValue() {
+		return (float) sum();
+	}
+
+	public double doubleValue() {
+		return (double) sum();
+	}
+
+	static String stripeKey(String key, int slot, int stripe) {
+		return key + ":{" + slot + ":" + key + "}:" + stripe;
+	}
+
+	private static RedisTemplate<String, Long> createTemplate(RedisConnectionFactory factory) {
+
+		Assert.notNull(factory, "a valid factory is required");
+
+		RedisTemplate<String, Long> redisTemplate = new RedisTemplate<String, Long>();
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new GenericToStringSerializer<Long>(Long.class));
+		redisTemplate.setExposeConnection(true);
+		redisTemplate.setConnectionFactory(factory);
+		redisTemplate.afterPropertiesSet();
+		return redisTemplate;
+	}
+}
@@ -21,8 +21,11 @@ import java.util.Collection;
 import java.util.List;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 /**
  * Utility class used mainly for type conversion by the default collection implementations. Meant for internal use.
@@ -31,6 +34,28 @@ import org.springframework.data.redis.core.SessionCallback;
  */
 abstract class CollectionUtils {
 
+	/**
+	 * Default number of elements fetched per round trip when iterating a Redis collection.
+	 */
+	static final int DEFAULT_ITERATION_BATCH_SIZE = 100;
+
+	/**
+	 * Maximum number of elements sent with a single variadic command by bulk operations.
+	 */
+	static final int BULK_CHUNK_SIZE = 1000;
+
+	/**
+	 * Callback issuing a single variadic command for a chunk of elements.
+	 */
+	interface ChunkCallback {
+
+		/**
+		 * @return the numeric command result or {@literal null} when pipelined.
+		 */
+		@SuppressWarnings("rawtypes")
+		Long doWithChunk(RedisOperations operations, Object[] chunk);
+	}
+
 	@SuppressWarnings("unchecked")
 	static <E> Collection<E> reverse(Collection<? extends E> c) {
 		Object[] reverse = new Object[c.size()];
@@ -52,6 +77,110 @@ abstract class CollectionUtils {
 		return keys;
 	}
 
+	/**
+	 * Splits the given {@code elements} into chunks of at most {@link #BULK_CHUNK_SIZE} elements and pipelines the
+	 * commands issued by the {@code callback} for each chunk. Chunks are sent one after the other without pipelining
+	 * when connected to a Redis Cluster as cluster connections do not support pipelining.
+	 *
+	 * @param operations
+	 * @param elements
+	 * @param callback
+	 * @return the sum of all numeric command results.
+	 */
+	static long executeInChunks(RedisOperations<String, ?> operations, final Collection<?> elements,
+			final ChunkCallback callback) {
+
+		if (elements.isEmpty()) {
+			return 0;
+		}
+
+		if (isClusterConnection(operations)) {
+
+			long sum = 0;
+			for (Object[] chunk : chunk(elements)) {
+
+				Long result = callback.doWithChunk(operations, chunk);
+				sum += result != null ? result : 0;
+			}
+			return sum;
+		}
+
+		List<Object> results = operations.executePipelined(new SessionCallback<Object>() {
+
+			@SuppressWarnings("rawtypes")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+
+				for (Object[] chunk : chunk(elements)) {
+					callback.doWithChunk(operations, chunk);
+				}
+				return null;
+			}
+		});
+
+		long sum = 0;
+		for (Object result : results) {
+			if (result instanceof Number) {
+				sum += ((Number) result).longValue();
+			}
+		}
+		return sum;
+	}
+
+	private static List<Object[]> chunk(Collection<?> elements) {
+
+		List<Object[]> chunks = new ArrayList<Object[]>(elements.size() / BULK_CHUNK_SIZE + 1);
+
+		int remaining = elements.size();
+		Object[] chunk = new Object[Math.min(remaining, BULK_CHUNK_SIZE)];
+		int index = 0;
+
+		for (Object element : elements) {
+
+			chunk[index++] = element;
+			remaining--;
+
+			if (index == chunk.length) {
+				chunks.add(chunk);
+				chunk = new Object[Math.min(remaining, BULK_CHUNK_SIZE)];
+				index = 0;
+			}
+		}
+		return chunks;
+	}
+
+	/**
+	 * Serializes the given {@code value} passing on {@code byte[]} as is if no {@link RedisSerializer} is set.
+	 *
+	 * @param serializer can be {@literal null}.
+	 * @param value
+	 * @return the binary representation of {@code value}.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static byte[] serialize(RedisSerializer serializer, Object value) {
+
+		if (serializer == null && value instanceof byte[]) {
+			return (byte[]) value;
+		}
+		return serializer.serialize(value);
+	}
+
+	/**
+	 * Deserializes the given {@code value} passing on the raw {@code byte[]} if no {@link RedisSerializer} is set.
+	 *
+	 * @param serializer can be {@literal null}.
+	 * @param value
+	 * @return the deserialized {@code value}.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T deserialize(RedisSerializer<?> serializer, byte[] value) {
+		return serializer != null ? (T) serializer.deserialize(value) : (T) value;
+	}
+
+	private static boolean isClusterConnection(RedisOperations<String, ?> operations) {
+		return Boolean.TRUE.equals(operations
+				.execute((RedisCallback<Boolean>) connection -> connection instanceof RedisClusterConnection));
+	}
+
 	static <K> void rename(final K key, final K newKey, RedisOperations<K, ?> operations) {
 		operations.execute(new SessionCallback<Object>() {
 			@SuppressWarnings("unchecked")
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+
+import org.springframework.data.redis.core.ScanIteration;
+
+/**
+ * {@link Iterator} reading elements page by page through a stateless {@code SCAN} variant such as
+ * {@link org.springframework.data.redis.connection.RedisSetCommands#sScanPage(byte[], long, org.springframework.data.redis.core.ScanOptions)}.
+ * Each page is fetched on a connection that is released right after the call, so iterators abandoned before the end
+ * of the iteration do not hold on to a connection. {@link #remove()} does not touch the server so that removal can be
+ * left to {@link RedisIterator#removeFromRedisStorage(Object)}.
+ *
+ * @since 2.0
+ */
+class CursorIterator<E> implements Iterator<E> {
+
+	private final LongFunction<ScanIteration<E>> pages;
+	private Iterator<E> page = Collections.<E> emptyList().iterator();
+	private long cursorId;
+	private boolean finished;
+
+	/**
+	 * Constructs a new <code>CursorIterator</code> instance.
+	 *
+	 * @param pages reads the page starting at the given cursor id.
+	 */
+	CursorIterator(LongFunction<ScanIteration<E>> pages) {
+		this.pages = pages;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		while (!page.hasNext() && !finished) {
+			fetch();
+		}
+
+		return page.hasNext();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public E next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return page.next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove() {
+		// removal is done against the Redis storage
+	}
+
+	/**
+	 * Remove the elements of the current page not consumed yet from this iterator, fetching the next page if there are
+	 * none left.
+	 *
+	 * @return never {@literal null}. Empty once the iteration is complete.
+	 */
+	List<E> takePage() {
+
+		if (!hasNext()) {
+			return Collections.emptyList();
+		}
+
+		List<E> elements = new ArrayList<E>();
+		while (page.hasNext()) {
+			elements.add(page.next());
+		}
+
+		return elements;
+	}
+
+	private void fetch() {
+
+		ScanIteration<E> iteration = pages.apply(cursorId);
+
+		cursorId = iteration.getCursorId();
+		finished = cursorId == 0;
+		page = iteration.iterator();
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import org.springframework.data.redis.core.ScanIteration;
+
+/**
+ * {@link Spliterator} reading elements page by page through a stateless {@code SCAN} variant. No connection is held
+ * between pages, so short-circuited streams need not be closed. {@link #trySplit()} hands off the current page as an
+ * array based {@link Spliterator} while this one continues with the next page. Neither the number of elements nor their
+ * distinctness is reported since a {@code SCAN} may return elements more than once.
+ *
+ * @since 2.0
+ */
+class CursorSpliterator<E> implements Spliterator<E> {
+
+	private final CursorIterator<E> iterator;
+
+	/**
+	 * @param pages reads the page starting at the given cursor id.
+	 */
+	CursorSpliterator(LongFunction<ScanIteration<E>> pages) {
+		this.iterator = new CursorIterator<E>(pages);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+	 */
+	@Override
+	public boolean tryAdvance(Consumer<? super E> action) {
+
+		if (!iterator.hasNext()) {
+			return false;
+		}
+
+		action.accept(iterator.next());
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#trySplit()
+	 */
+	@Override
+	public Spliterator<E> trySplit() {
+
+		List<E> page = iterator.takePage();
+		return page.isEmpty() ? null : Spliterators.<E> spliterator(page.toArray(), Spliterator.NONNULL);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#estimateSize()
+	 */
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#characteristics()
+	 */
+	@Override
+	public int characteristics() {
+		return Spliterator.NONNULL;
+	}
+}
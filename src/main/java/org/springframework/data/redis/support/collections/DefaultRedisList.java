@@ -21,17 +21,23 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.core.BoundListOperations;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.util.Assert;
 
 /**
  * Default implementation for {@link RedisList}. Suitable for not just lists, but also queues (FIFO ordering) or stacks
  * (LIFO ordering) and deques (or double ended queues). Allows the maximum size (or the cap) to be specified to prevent
  * the list from over growing. Note that all write operations will execute immediately, whether a cap is specified or
  * not - the list will always accept new items (trimming the tail after each insert in case of capped collections).
+ * <p>
+ * Iterators and {@link #spliterator() spliterators} fetch the list content lazily in windows of
+ * {@link #setIterationBatchSize(int) iteration batch size} elements instead of loading the entire list at once.
  * 
  * @author Costin Leau
  */
@@ -43,14 +49,141 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 
 	private volatile boolean capped = false;
 
+	private volatile int iterationBatchSize = CollectionUtils.DEFAULT_ITERATION_BATCH_SIZE;
+
 	private class DefaultRedisListIterator extends RedisIterator<E> {
 
-		public DefaultRedisListIterator(Iterator<E> delegate) {
-			super(delegate);
+		private final boolean descending;
+
+		public DefaultRedisListIterator(boolean descending) {
+			super(new WindowedIterator(descending));
+			this.descending = descending;
 		}
 
 		protected void removeFromRedisStorage(E item) {
-			DefaultRedisList.this.remove(item);
+
+			if (descending) {
+				DefaultRedisList.this.removeLastOccurrence(item);
+			} else {
+				DefaultRedisList.this.remove(item);
+			}
+		}
+	}
+
+	/**
+	 * {@link Iterator} reading the list in windows of {@link #iterationBatchSize} elements. Removing an element from the
+	 * underlying list shifts the following ones by one position which is compensated by {@link #remove()}.
+	 */
+	private class WindowedIterator implements Iterator<E> {
+
+		private final boolean descending;
+
+		private long offset = 0;
+		private boolean exhausted = false;
+		private Iterator<E> window = Collections.<E> emptyList().iterator();
+
+		WindowedIterator(boolean descending) {
+			this.descending = descending;
+		}
+
+		public boolean hasNext() {
+
+			while (!window.hasNext() && !exhausted) {
+				fetch();
+			}
+			return window.hasNext();
+		}
+
+		public E next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return window.next();
+		}
+
+		public void remove() {
+			offset--;
+		}
+
+		private void fetch() {
+
+			int batchSize = iterationBatchSize;
+			List<E> elements = descending ? listOps.range(-offset - batchSize, -offset - 1)
+					: listOps.range(offset, offset + batchSize - 1);
+			checkResult(elements);
+
+			if (descending) {
+				Collections.reverse(elements);
+			}
+
+			offset += elements.size();
+			exhausted = elements.size() < batchSize;
+			window = elements.iterator();
+		}
+	}
+
+	/**
+	 * {@link Spliterator} reading an index range of the list in windows of {@link #iterationBatchSize} elements. Splits
+	 * the remaining range in halves as long as each half spans at least one window.
+	 */
+	private class WindowedSpliterator implements Spliterator<E> {
+
+		private long index;
+		private final long fence;
+		private Iterator<E> window = Collections.<E> emptyList().iterator();
+
+		WindowedSpliterator(long index, long fence) {
+			this.index = index;
+			this.fence = fence;
+		}
+
+		public boolean tryAdvance(Consumer<? super E> action) {
+
+			Assert.notNull(action, "Action must not be null!");
+
+			if (!window.hasNext() && !fetch()) {
+				return false;
+			}
+
+			action.accept(window.next());
+			return true;
+		}
+
+		public Spliterator<E> trySplit() {
+
+			long mid = (index + fence) >>> 1;
+			if (window.hasNext() || mid - index < iterationBatchSize) {
+				return null;
+			}
+
+			Spliterator<E> prefix = new WindowedSpliterator(index, mid);
+			index = mid;
+			return prefix;
+		}
+
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.NONNULL;
+		}
+
+		private boolean fetch() {
+
+			if (index >= fence) {
+				return false;
+			}
+
+			long end = Math.min(index + iterationBatchSize, fence);
+			List<E> elements = listOps.range(index, end - 1);
+			checkResult(elements);
+
+			// the list shrunk in the meantime so there is nothing left beyond this window
+			index = elements.size() < end - index ? fence : end;
+			window = elements.iterator();
+			return window.hasNext();
 		}
 	}
 
@@ -95,6 +228,18 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 		capped = (maxSize > 0);
 	}
 
+	/**
+	 * Sets the number of elements fetched per {@code LRANGE} call when iterating the list. Defaults to {@code 100}.
+	 * 
+	 * @param iterationBatchSize must be greater than zero.
+	 * @since 2.0
+	 */
+	public void setIterationBatchSize(int iterationBatchSize) {
+
+		Assert.isTrue(iterationBatchSize > 0, "Iteration batch size must be greater than zero!");
+		this.iterationBatchSize = iterationBatchSize;
+	}
+
 	public List<E> range(long start, long end) {
 		return listOps.range(start, end);
 	}
@@ -104,10 +249,6 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 		return this;
 	}
 
-	private List<E> content() {
-		return listOps.range(0, -1);
-	}
-
 	private void cap() {
 		if (capped) {
 			listOps.trim(0, maxSize - 1);
@@ -115,9 +256,16 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 	}
 
 	public Iterator<E> iterator() {
-		List<E> list = content();
-		checkResult(list);
-		return new DefaultRedisListIterator(list.iterator());
+		return new DefaultRedisListIterator(false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Collection#spliterator()
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new WindowedSpliterator(0, size());
 	}
 
 	public int size() {
@@ -277,9 +425,7 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 	}
 
 	public Iterator<E> descendingIterator() {
-		List<E> content = content();
-		Collections.reverse(content);
-		return new DefaultRedisListIterator(content.iterator());
+		return new DefaultRedisListIterator(true);
 	}
 
 	public E getFirst() {
@@ -15,25 +15,35 @@
  */
 package org.springframework.data.redis.support.collections;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.core.BoundHashOperations;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanIteration;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Default implementation for {@link RedisMap}. Note that the current implementation doesn't provide the same locking
  * semantics across all methods. In highly concurrent environments, race conditions might appear.
+ * <p>
+ * The {@link #entrySet()} view reads the hash page by page via {@code HSCAN}, releasing the connection after each page
+ * so that iterations abandoned early do not keep a connection bound.
  * 
  * @author Costin Leau
  */
@@ -41,6 +51,8 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 
 	private final BoundHashOperations<String, K, V> hashOps;
 
+	private volatile int iterationBatchSize = CollectionUtils.DEFAULT_ITERATION_BATCH_SIZE;
+
 	private class DefaultRedisMapEntry implements Map.Entry<K, V> {
 
 		private K key;
@@ -64,6 +76,47 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 		}
 	}
 
+	/**
+	 * Live {@link Set} view of the hash entries backed by {@code HSCAN}.
+	 */
+	private class DefaultRedisMapEntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+		public Iterator<Map.Entry<K, V>> iterator() {
+
+			Iterator<Map.Entry<K, V>> entries = new CursorIterator<Map.Entry<K, V>>(DefaultRedisMap.this::scanPage);
+
+			return new RedisIterator<Map.Entry<K, V>>(entries) {
+
+				protected void removeFromRedisStorage(Map.Entry<K, V> item) {
+					hashOps.delete(item.getKey());
+				}
+			};
+		}
+
+		public Spliterator<Map.Entry<K, V>> spliterator() {
+			return new CursorSpliterator<Map.Entry<K, V>>(DefaultRedisMap.this::scanPage);
+		}
+
+		public int size() {
+			return DefaultRedisMap.this.size();
+		}
+
+		public boolean contains(Object o) {
+
+			if (!(o instanceof Map.Entry)) {
+				return false;
+			}
+
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+			V value = get(entry.getKey());
+			return value != null && ObjectUtils.nullSafeEquals(value, entry.getValue());
+		}
+
+		public void clear() {
+			DefaultRedisMap.this.clear();
+		}
+	}
+
 	/**
 	 * Constructs a new <code>DefaultRedisMap</code> instance.
 	 * 
@@ -83,6 +136,19 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 		this.hashOps = boundOps;
 	}
 
+	/**
+	 * Sets the {@code COUNT} hint passed on to {@code HSCAN} when iterating the {@link #entrySet()}. Defaults to
+	 * {@code 100}.
+	 * 
+	 * @param iterationBatchSize must be greater than zero.
+	 * @since 2.0
+	 */
+	public void setIterationBatchSize(int iterationBatchSize) {
+
+		Assert.isTrue(iterationBatchSize > 0, "Iteration batch size must be greater than zero!");
+		this.iterationBatchSize = iterationBatchSize;
+	}
+
 	public Long increment(K key, long delta) {
 		return hashOps.increment(key, delta);
 	}
@@ -110,19 +176,7 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 	}
 
 	public Set<java.util.Map.Entry<K, V>> entrySet() {
-		Set<K> keySet = keySet();
-		checkResult(keySet);
-		Collection<V> multiGet = hashOps.multiGet(keySet);
-
-		Iterator<K> keys = keySet.iterator();
-		Iterator<V> values = multiGet.iterator();
-
-		Set<Map.Entry<K, V>> entries = new LinkedHashSet<Entry<K, V>>();
-		while (keys.hasNext()) {
-			entries.add(new DefaultRedisMapEntry(keys.next(), values.next()));
-		}
-
-		return entries;
+		return new DefaultRedisMapEntrySet();
 	}
 
 	public V get(Object key) {
@@ -296,6 +350,28 @@ public class DefaultRedisMap<K, V> implements RedisMap<K, V> {
 		}
 	}
 
+	private ScanIteration<Map.Entry<K, V>> scanPage(long cursorId) {
+
+		RedisOperations<String, ?> operations = getOperations();
+		byte[] rawKey = CollectionUtils.serialize(operations.getKeySerializer(), getKey());
+		ScanOptions options = ScanOptions.scanOptions().count(iterationBatchSize).build();
+
+		ScanIteration<Map.Entry<byte[], byte[]>> page = operations.execute(
+				(RedisCallback<ScanIteration<Map.Entry<byte[], byte[]>>>) connection -> connection.hashCommands()
+						.hScanPage(rawKey, cursorId, options));
+		checkResult(page);
+
+		List<Map.Entry<K, V>> entries = new ArrayList<Map.Entry<K, V>>(page.getItems().size());
+		for (Map.Entry<byte[], byte[]> entry : page) {
+
+			K key = CollectionUtils.deserialize(operations.getHashKeySerializer(), entry.getKey());
+			V value = CollectionUtils.deserialize(operations.getHashValueSerializer(), entry.getValue());
+			entries.add(new DefaultRedisMapEntry(key, value));
+		}
+
+		return new ScanIteration<Map.Entry<K, V>>(page.getCursorId(), entries);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.support.collections.RedisMap#scan()
@@ -15,21 +15,31 @@
  */
 package org.springframework.data.redis.support.collections;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.UUID;
 
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.core.BoundSetOperations;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanIteration;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.util.Assert;
 
 /**
  * Default implementation for {@link RedisSet}. Note that the collection support works only with normal,
  * non-pipeline/multi-exec connections as it requires a reply to be sent right away.
+ * <p>
+ * Iterators and {@link #spliterator() spliterators} read the members page by page via {@code SSCAN}, releasing the
+ * connection after each page so that iterations abandoned early do not keep a connection bound. As with {@code SSCAN}
+ * itself, an element may be returned more than once if the set is rehashed while being iterated.
  * 
  * @author Costin Leau
  * @author Christoph Strobl
@@ -38,6 +48,8 @@ public class DefaultRedisSet<E> extends AbstractRedisCollection<E> implements Re
 
 	private final BoundSetOperations<String, E> boundSetOps;
 
+	private volatile int iterationBatchSize = CollectionUtils.DEFAULT_ITERATION_BATCH_SIZE;
+
 	private class DefaultRedisSetIterator extends RedisIterator<E> {
 
 		public DefaultRedisSetIterator(Iterator<E> delegate) {
@@ -70,6 +82,18 @@ public class DefaultRedisSet<E> extends AbstractRedisCollection<E> implements Re
 		this.boundSetOps = boundOps;
 	}
 
+	/**
+	 * Sets the {@code COUNT} hint passed on to {@code SSCAN} when iterating the set. Defaults to {@code 100}.
+	 * 
+	 * @param iterationBatchSize must be greater than zero.
+	 * @since 2.0
+	 */
+	public void setIterationBatchSize(int iterationBatchSize) {
+
+		Assert.isTrue(iterationBatchSize > 0, "Iteration batch size must be greater than zero!");
+		this.iterationBatchSize = iterationBatchSize;
+	}
+
 	public Set<E> diff(RedisSet<?> set) {
 		return boundSetOps.diff(set.getKey());
 	}
@@ -131,6 +155,26 @@ public class DefaultRedisSet<E> extends AbstractRedisCollection<E> implements Re
 		return result == 1;
 	}
 
+	/**
+	 * Adds all elements via variadic {@code SADD} commands, sending large collections in pipelined chunks.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean addAll(Collection<? extends E> c) {
+		return CollectionUtils.executeInChunks(getOperations(), c,
+				(operations, chunk) -> operations.opsForSet().add(getKey(), chunk)) > 0;
+	}
+
+	/**
+	 * Removes all elements via variadic {@code SREM} commands, sending large collections in pipelined chunks.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean removeAll(Collection<?> c) {
+		return CollectionUtils.executeInChunks(getOperations(), c,
+				(operations, chunk) -> operations.opsForSet().remove(getKey(), chunk)) > 0;
+	}
+
 	public void clear() {
 		// intersect the set with a non existing one
 		// TODO: find a safer way to clean the set
@@ -145,9 +189,34 @@ public class DefaultRedisSet<E> extends AbstractRedisCollection<E> implements Re
 	}
 
 	public Iterator<E> iterator() {
-		Set<E> members = boundSetOps.members();
-		checkResult(members);
-		return new DefaultRedisSetIterator(members.iterator());
+		return new DefaultRedisSetIterator(new CursorIterator<E>(this::scanPage));
+	}
+
+	private ScanIteration<E> scanPage(long cursorId) {
+
+		RedisOperations<String, E> operations = getOperations();
+		byte[] rawKey = CollectionUtils.serialize(operations.getKeySerializer(), getKey());
+		ScanOptions options = ScanOptions.scanOptions().count(iterationBatchSize).build();
+
+		ScanIteration<byte[]> page = operations.execute((RedisCallback<ScanIteration<byte[]>>) connection -> connection
+				.setCommands().sScanPage(rawKey, cursorId, options));
+		checkResult(page);
+
+		List<E> elements = new ArrayList<E>(page.getItems().size());
+		for (byte[] element : page) {
+			elements.add(CollectionUtils.deserialize(operations.getValueSerializer(), element));
+		}
+
+		return new ScanIteration<E>(page.getCursorId(), elements);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Set#spliterator()
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new CursorSpliterator<E>(this::scanPage);
 	}
 
 	public boolean remove(Object o) {
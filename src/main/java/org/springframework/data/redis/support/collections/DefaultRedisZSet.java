@@ -17,6 +17,8 @@ package org.springframework.data.redis.support.collections;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
@@ -27,6 +29,7 @@ import org.springframework.data.redis.connection.RedisZSetCommands.Range;
 import org.springframework.data.redis.core.BoundZSetOperations;
 import org.springframework.data.redis.core.ConvertingCursor;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
@@ -191,6 +194,54 @@ public class DefaultRedisZSet<E> extends AbstractRedisCollection<E> implements R
 		return result;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.support.collections.RedisZSet#addAll(java.util.Map)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean addAll(Map<? extends E, Double> elementsWithScores) {
+
+		return CollectionUtils.executeInChunks(getOperations(), elementsWithScores.entrySet(), (operations, chunk) -> {
+
+			Set<TypedTuple<Object>> tuples = new LinkedHashSet<TypedTuple<Object>>(chunk.length);
+			for (Object element : chunk) {
+				Map.Entry<?, Double> entry = (Map.Entry<?, Double>) element;
+				tuples.add(new DefaultTypedTuple<Object>(entry.getKey(), entry.getValue()));
+			}
+			return operations.opsForZSet().add(getKey(), tuples);
+		}) > 0;
+	}
+
+	/**
+	 * Adds all elements with the {@link #getDefaultScore() default score} via variadic {@code ZADD} commands, sending
+	 * large collections in pipelined chunks.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean addAll(Collection<? extends E> c) {
+
+		final Double score = getDefaultScore();
+		return CollectionUtils.executeInChunks(getOperations(), c, (operations, chunk) -> {
+
+			Set<TypedTuple<Object>> tuples = new LinkedHashSet<TypedTuple<Object>>(chunk.length);
+			for (Object element : chunk) {
+				tuples.add(new DefaultTypedTuple<Object>(element, score));
+			}
+			return operations.opsForZSet().add(getKey(), tuples);
+		}) > 0;
+	}
+
+	/**
+	 * Removes all elements via variadic {@code ZREM} commands, sending large collections in pipelined chunks.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean removeAll(Collection<?> c) {
+		return CollectionUtils.executeInChunks(getOperations(), c,
+				(operations, chunk) -> operations.opsForZSet().remove(getKey(), chunk)) > 0;
+	}
+
 	public void clear() {
 		boundZSetOps.removeRange(0, -1);
 	}
@@ -18,6 +18,7 @@ package org.springframework.data.redis.support.collections;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedSet;
@@ -106,6 +107,16 @@ public interface RedisZSet<E> extends RedisCollection<E>, Set<E> {
 	 */
 	boolean add(E e);
 
+	/**
+	 * Adds the given elements with their associated scores to the set, or updates the scores of elements that already
+	 * exist. Large inputs are sent in pipelined chunks of variadic {@code ZADD} commands.
+	 * 
+	 * @param elementsWithScores elements mapped to their score
+	 * @return true if at least one new element was added, false otherwise (only scores have been updated)
+	 * @since 2.0
+	 */
+	boolean addAll(Map<? extends E, Double> elementsWithScores);
+
 	/**
 	 * Returns the score of the given element. Returns null if the element is not contained by the set.
 	 * 
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.connection.ClusterScanCursor.NodeScanCallback;
+import org.springframework.data.redis.connection.RedisClusterNode.LinkState;
+import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+
+/**
+ * Unit tests for {@link ClusterScanCursor}.
+ */
+public class ClusterScanCursorUnitTests {
+
+	static final RedisClusterNode MASTER_1 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7379)
+			.serving(new SlotRange(0, 5460)).withId("ef570f86c7b1a953846668debc177a3a16733420").promotedAs(NodeType.MASTER)
+			.linkState(LinkState.CONNECTED).build();
+	static final RedisClusterNode MASTER_2 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7380)
+			.serving(new SlotRange(5461, 10922)).withId("0f2ee5df45d18c50aca07228cc18b1da96fd5e84")
+			.promotedAs(NodeType.MASTER).linkState(LinkState.CONNECTED).build();
+	static final RedisClusterNode MASTER_3 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7381)
+			.serving(new SlotRange(10923, 16383)).withId("3b9b8192a874fa8f1f09dbc0ee20afab5738eee7")
+			.promotedAs(NodeType.MASTER).linkState(LinkState.CONNECTED).build();
+
+	static final NodeScanCallback<KeySpace> CALLBACK = KeySpace::scan;
+
+	Map<RedisClusterNode, KeySpace> keySpaces = new HashMap<>();
+	ClusterCommandExecutor executor;
+
+	@Before
+	public void setUp() {
+
+		keySpaces.put(MASTER_1, new KeySpace("a1", "a2", "a3", "a4", "a5"));
+		keySpaces.put(MASTER_2, new KeySpace());
+		keySpaces.put(MASTER_3, new KeySpace("c1", "c2", "c3"));
+
+		executor = new ClusterCommandExecutor(
+				() -> new ClusterTopology(new LinkedHashSet<>(Arrays.asList(MASTER_3, MASTER_1, MASTER_2))),
+				new ClusterNodeResourceProvider() {
+
+					@Override
+					@SuppressWarnings("unchecked")
+					public <S> S getResourceForSpecificNode(RedisClusterNode node) {
+						return (S) keySpaces.get(node);
+					}
+
+					@Override
+					public void returnResourceForSpecificNode(RedisClusterNode node, Object resource) {}
+				}, new PassThroughExceptionTranslationStrategy(source -> null));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		executor.destroy();
+	}
+
+	@Test
+	public void shouldScanAllMastersInNodeOrder() {
+
+		ClusterScanCursor cursor = open(0, ScanOptions.NONE, 1);
+
+		assertThat(cursor.getNodes()).containsExactly(MASTER_1, MASTER_2, MASTER_3);
+		assertThat(drain(cursor)).containsExactly("a1", "a2", "a3", "a4", "a5", "c1", "c2", "c3");
+		assertThat(cursor.getCursorId()).isEqualTo(0L);
+	}
+
+	@Test
+	public void shouldApplyCountPerNodePage() {
+
+		ClusterScanCursor cursor = open(0, ScanOptions.scanOptions().count(2).build(), 1);
+
+		assertThat(cursor.getCursorId()).isEqualTo(2L);
+		assertThat(drain(cursor)).containsExactly("a1", "a2", "a3", "a4", "a5", "c1", "c2", "c3");
+		assertThat(keySpaces.get(MASTER_1).pages).isEqualTo(3);
+		assertThat(keySpaces.get(MASTER_3).pages).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldScanNodesInParallel() {
+
+		ClusterScanCursor cursor = open(0, ScanOptions.scanOptions().count(2).build(), 3);
+
+		assertThat(drain(cursor)).containsExactlyInAnyOrder("a1", "a2", "a3", "a4", "a5", "c1", "c2", "c3");
+		assertThat(cursor.getCursorId()).isEqualTo(0L);
+	}
+
+	@Test
+	public void shouldResumeFromCompositeCursorId() {
+
+		ScanOptions options = ScanOptions.scanOptions().count(2).build();
+
+		ClusterScanCursor cursor = open(0, options, 1);
+		List<String> keys = new ArrayList<>(Arrays.asList(string(cursor.next()), string(cursor.next())));
+
+		keys.addAll(drain(open(cursor.getCursorId(), options, 1)));
+
+		assertThat(keys).containsExactly("a1", "a2", "a3", "a4", "a5", "c1", "c2", "c3");
+	}
+
+	@Test
+	public void shouldResumeAtNextNodeWhenPreviousNodeIsExhausted() {
+
+		ScanOptions options = ScanOptions.scanOptions().count(5).build();
+
+		ClusterScanCursor cursor = open(0, options, 1);
+
+		assertThat(drain(open(cursor.getCursorId(), options, 1))).containsExactly("c1", "c2", "c3");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveParallelism() {
+		new ClusterScanCursor(0, ScanOptions.NONE, executor, CALLBACK, 0);
+	}
+
+	private ClusterScanCursor open(long cursorId, ScanOptions options, int parallelism) {
+		return (ClusterScanCursor) new ClusterScanCursor(cursorId, options, executor, CALLBACK, parallelism).open();
+	}
+
+	private static List<String> drain(Cursor<byte[]> cursor) {
+
+		List<String> keys = new ArrayList<>();
+		while (cursor.hasNext()) {
+			keys.add(string(cursor.next()));
+		}
+		return keys;
+	}
+
+	private static String string(byte[] bytes) {
+		return new String(bytes);
+	}
+
+	/**
+	 * Keys of a single node handed out in pages of {@link ScanOptions#getCount()} using the offset as cursor.
+	 */
+	static class KeySpace {
+
+		final List<byte[]> keys = new ArrayList<>();
+		int pages;
+
+		KeySpace(String... keys) {
+
+			for (String key : keys) {
+				this.keys.add(key.getBytes());
+			}
+		}
+
+		synchronized ScanIteration<byte[]> scan(long cursorId, ScanOptions options) {
+
+			pages++;
+
+			int from = (int) cursorId;
+			int to = Math.min(keys.size(), from + (options.getCount() != null ? options.getCount().intValue() : 10));
+
+			return new ScanIteration<>(to == keys.size() ? 0 : to,
+					from < to ? keys.subList(from, to) : Collections.<byte[]> emptyList());
+		}
+	}
+}
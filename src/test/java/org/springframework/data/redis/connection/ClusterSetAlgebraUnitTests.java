@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanCursor;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+
+/**
+ * Unit tests for {@link ClusterSetAlgebra}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ClusterSetAlgebraUnitTests {
+
+	static final byte[] KEY_1 = "key-1".getBytes();
+	static final byte[] KEY_2 = "key-2".getBytes();
+	static final byte[] KEY_3 = "key-3".getBytes();
+	static final byte[] DEST = "dest".getBytes();
+
+	@Mock RedisSetCommands setCommands;
+	@Mock RedisKeyCommands keyCommands;
+
+	Map<String, Set<String>> sets = new HashMap<>();
+	List<String> lookups = new ArrayList<>();
+	ClusterSetAlgebra algebra;
+
+	@Before
+	public void setUp() {
+
+		sets.put("key-1", new LinkedHashSet<>(Arrays.asList("a", "b", "c", "d")));
+		sets.put("key-2", new LinkedHashSet<>(Arrays.asList("b", "c")));
+		sets.put("key-3", new LinkedHashSet<>(Arrays.asList("c", "d", "b")));
+
+		when(setCommands.sCard(any())).thenAnswer(invocation -> (long) members(invocation.getArgument(0)).size());
+		when(setCommands.sScan(any(), any())).thenAnswer(invocation -> cursor(members(invocation.getArgument(0))));
+		when(setCommands.sAdd(any(), any())).thenAnswer(invocation -> {
+
+			Object[] arguments = invocation.getArguments();
+			Set<String> target = sets.computeIfAbsent(new String((byte[]) arguments[0]), key -> new LinkedHashSet<>());
+			for (int i = 1; i < arguments.length; i++) {
+				target.add(new String((byte[]) arguments[i]));
+			}
+			return (long) arguments.length - 1;
+		});
+		when(keyCommands.del(any())).thenAnswer(invocation -> {
+			return sets.remove(new String((byte[]) invocation.getArgument(0))) != null ? 1L : 0L;
+		});
+
+		algebra = new ClusterSetAlgebra(setCommands, keyCommands, (key, values) -> {
+
+			lookups.add(new String(key));
+
+			List<Boolean> result = new ArrayList<>(values.size());
+			for (byte[] value : values) {
+				result.add(members(key).contains(new String(value)));
+			}
+			return result;
+		}, 2);
+	}
+
+	@Test
+	public void intersectShouldScanSmallestSetOnly() {
+
+		assertThat(strings(algebra.intersect(KEY_1, KEY_2, KEY_3))).containsOnly("b", "c");
+
+		verify(setCommands).sScan(eq(KEY_2), any());
+		verify(setCommands, never()).sScan(eq(KEY_1), any());
+		verify(setCommands, never()).sScan(eq(KEY_3), any());
+		assertThat(lookups).doesNotContain("key-2");
+	}
+
+	@Test
+	public void intersectShouldShortCircuitOnEmptySet() {
+
+		assertThat(algebra.intersect(KEY_1, "missing".getBytes())).isEmpty();
+
+		verify(setCommands, never()).sScan(any(), any());
+	}
+
+	@Test
+	public void unionShouldCombineAllSets() {
+		assertThat(strings(algebra.union(KEY_2, KEY_3))).containsOnly("b", "c", "d");
+	}
+
+	@Test
+	public void diffShouldRemoveMembersOfOtherSets() {
+		assertThat(strings(algebra.diff(KEY_1, KEY_2))).containsOnly("a", "d");
+	}
+
+	@Test
+	public void intersectAndStoreShouldReplaceDestinationInChunks() {
+
+		sets.put("dest", new LinkedHashSet<>(Collections.singleton("stale")));
+
+		assertThat(algebra.intersectAndStore(DEST, KEY_1, KEY_3)).isEqualTo(3L);
+		assertThat(sets.get("dest")).containsOnly("b", "c", "d");
+		verify(setCommands, times(2)).sAdd(eq(DEST), any());
+	}
+
+	@Test
+	public void unionAndStoreShouldHandleDestinationAmongSources() {
+
+		assertThat(algebra.unionAndStore(KEY_2, KEY_2, KEY_3)).isEqualTo(3L);
+		assertThat(sets.get("key-2")).containsOnly("b", "c", "d");
+	}
+
+	private Set<String> members(byte[] key) {
+		return sets.getOrDefault(new String(key), Collections.emptySet());
+	}
+
+	private static Cursor<byte[]> cursor(Set<String> members) {
+
+		List<byte[]> values = new ArrayList<>();
+		for (String member : members) {
+			values.add(member.getBytes());
+		}
+
+		return new ScanCursor<byte[]>() {
+
+			@Override
+			protected ScanIteration<byte[]> doScan(long cursorId, ScanOptions options) {
+				return new ScanIteration<>(0, values);
+			}
+		}.open();
+	}
+
+	private static Set<String> strings(Set<byte[]> values) {
+
+		Set<String> result = new LinkedHashSet<>();
+		for (byte[] value : values) {
+			result.add(new String(value));
+		}
+		return result;
+	}
+}
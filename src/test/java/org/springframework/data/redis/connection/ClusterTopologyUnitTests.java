@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.redis.connection.ClusterTestVariables.*;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.Test;
+import org.springframework.data.redis.ClusterStateFailureException;
+import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
+
+/**
+ * Unit tests for {@link ClusterTopology}.
+ */
+public class ClusterTopologyUnitTests {
+
+	static final RedisClusterNode MASTER_1 = servingNode(CLUSTER_NODE_1, new SlotRange(0, 8191));
+	static final RedisClusterNode MASTER_2 = servingNode(CLUSTER_NODE_2, new SlotRange(8192, 16000));
+	static final RedisClusterNode SLAVE_1 = servingNode(SLAVE_OF_NODE_1, new SlotRange(0, 8191));
+
+	ClusterTopology topology = new ClusterTopology(new LinkedHashSet<>(Arrays.asList(MASTER_1, MASTER_2, SLAVE_1)));
+
+	@Test
+	public void shouldResolveSlotServingNodesInNodeOrder() {
+
+		assertThat(topology.getSlotServingNodes(0)).containsExactly(MASTER_1, SLAVE_1);
+		assertThat(topology.getSlotServingNodes(8192)).containsExactly(MASTER_2);
+	}
+
+	@Test
+	public void shouldShareSlotServingNodesForSlotsServedBySameNodes() {
+		assertThat(topology.getSlotServingNodes(1)).isSameAs(topology.getSlotServingNodes(8191));
+	}
+
+	@Test
+	public void shouldReturnEmptySetForUnassignedOrInvalidSlot() {
+
+		assertThat(topology.getSlotServingNodes(16383)).isEmpty();
+		assertThat(topology.getSlotServingNodes(-1)).isEmpty();
+		assertThat(topology.getSlotServingNodes(16384)).isEmpty();
+	}
+
+	@Test
+	public void shouldResolveKeyServingMasterNode() {
+
+		byte[] key = "key".getBytes();
+		RedisClusterNode expected = ClusterSlotHashUtil.calculateSlot(key) <= 8191 ? MASTER_1 : MASTER_2;
+
+		assertThat(topology.getKeyServingMasterNode(key)).isEqualTo(expected);
+		assertThat(topology.getKeyServingNodes(key)).contains(expected);
+	}
+
+	@Test
+	public void shouldResolveNonContiguousAndOverlappingSlotRanges() {
+
+		RedisClusterNode master = servingNode(CLUSTER_NODE_3, new SlotRange(Arrays.asList(1, 2, 3, 10, 11)));
+		RedisClusterNode slave = servingNode(SLAVE_OF_NODE_1, new SlotRange(3, 10));
+		ClusterTopology topology = new ClusterTopology(new LinkedHashSet<>(Arrays.asList(master, slave)));
+
+		assertThat(topology.getSlotServingNodes(0)).isEmpty();
+		assertThat(topology.getSlotServingNodes(2)).containsExactly(master);
+		assertThat(topology.getSlotServingNodes(3)).containsExactly(master, slave);
+		assertThat(topology.getSlotServingNodes(5)).containsExactly(slave);
+		assertThat(topology.getSlotServingNodes(10)).containsExactly(master, slave);
+		assertThat(topology.getSlotServingNodes(11)).containsExactly(master);
+		assertThat(topology.getSlotServingNodes(12)).isEmpty();
+		assertThat(topology.getSlotServingNodes(3)).isSameAs(topology.getSlotServingNodes(10));
+	}
+
+	@Test(expected = ClusterStateFailureException.class)
+	public void shouldRejectKeyServingMasterNodeLookupForUnassignedSlot() {
+		new ClusterTopology(new LinkedHashSet<>(Arrays.asList(SLAVE_1))).getKeyServingMasterNode("key".getBytes());
+	}
+
+	private static RedisClusterNode servingNode(RedisClusterNode node, SlotRange slots) {
+
+		return RedisClusterNode.newRedisClusterNode().listeningAt(node.getHost(), node.getPort()).withId(node.getId())
+				.promotedAs(node.getType()).serving(slots).build();
+	}
+}
@@ -37,6 +37,7 @@ import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.GeoResults;
@@ -54,6 +55,7 @@ import org.springframework.data.redis.connection.RedisStringCommands.BitOperatio
 import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
 import org.springframework.data.redis.connection.RedisZSetCommands.Range;
 import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.types.Expiration;
@@ -197,6 +199,28 @@ public class JedisClusterConnectionTests implements ClusterConnectionTests {
 		assertThat(keysOnNode, not(hasItems(KEY_1_BYTES)));
 	}
 
+	@Test
+	public void scanShouldReturnKeysOfAllNodes() {
+
+		nativeConnection.set(KEY_1, VALUE_1);
+		nativeConnection.set(KEY_2, VALUE_2);
+		nativeConnection.set(KEY_3, VALUE_3);
+
+		assertThat(scanAll(clusterConnection.scan(scanOptions().count(1).build())),
+				hasItems(KEY_1_BYTES, KEY_2_BYTES, KEY_3_BYTES));
+	}
+
+	@Test
+	public void scanShouldReturnKeysOfAllNodesWhenScanningInParallel() {
+
+		nativeConnection.set(KEY_1, VALUE_1);
+		nativeConnection.set(KEY_2, VALUE_2);
+		nativeConnection.set(KEY_3, VALUE_3);
+
+		assertThat(scanAll(clusterConnection.scan(scanOptions().match("key*").build(), 3)),
+				hasItems(KEY_1_BYTES, KEY_2_BYTES, KEY_3_BYTES));
+	}
+
 	@Test // DATAREDIS-315
 	public void randomKeyShouldReturnCorrectlyWhenKeysAvailable() {
 
@@ -1581,6 +1605,36 @@ public class JedisClusterConnectionTests implements ClusterConnectionTests {
 		assertThat(i, is(nrOfValues));
 	}
 
+	@Test
+	public void evalShouldRunScriptOnNodeServingKeys() {
+
+		nativeConnection.set(SAME_SLOT_KEY_1, VALUE_1);
+
+		byte[] result = clusterConnection.eval(JedisConverters.toBytes("return redis.call('get', KEYS[1])"),
+				ReturnType.VALUE, 2, SAME_SLOT_KEY_1_BYTES, SAME_SLOT_KEY_2_BYTES);
+
+		assertThat(result, is(VALUE_1_BYTES));
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void evalShouldRejectKeysMappingToDifferentSlots() {
+		clusterConnection.eval(JedisConverters.toBytes("return 1"), ReturnType.INTEGER, 2, KEY_1_BYTES, KEY_2_BYTES);
+	}
+
+	@Test
+	public void scriptLoadShouldLoadScriptOnAllMasters() {
+
+		String sha = clusterConnection.scriptLoad(JedisConverters.toBytes("return redis.call('incr', KEYS[1])"));
+
+		assertThat(clusterConnection.scriptExists(sha), contains(true));
+		assertThat(clusterConnection.evalSha(sha, ReturnType.INTEGER, 1, KEY_1_BYTES), is(1L));
+		assertThat(clusterConnection.evalSha(sha, ReturnType.INTEGER, 1, KEY_2_BYTES), is(1L));
+
+		clusterConnection.scriptFlush();
+
+		assertThat(clusterConnection.scriptExists(sha), contains(false));
+	}
+
 	@Test(expected = DataAccessException.class) // DATAREDIS-315
 	public void multiShouldThrowException() {
 		clusterConnection.multi();
@@ -2116,4 +2170,13 @@ public class JedisClusterConnectionTests implements ClusterConnectionTests {
 
 		assertThat(clusterConnection.geoRemove(KEY_1_BYTES, ARIGENTO.getName()), is(1L));
 	}
+
+	private static List<byte[]> scanAll(Cursor<byte[]> cursor) {
+
+		List<byte[]> keys = new ArrayList<>();
+		while (cursor.hasNext()) {
+			keys.add(cursor.next());
+		}
+		return keys;
+	}
 }
@@ -28,6 +28,7 @@ import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -205,6 +206,28 @@ public class LettuceClusterConnectionTests implements ClusterConnectionTests {
 		assertThat(keysOnNode, not(hasItems(KEY_1_BYTES)));
 	}
 
+	@Test
+	public void scanShouldReturnKeysOfAllNodes() {
+
+		nativeConnection.set(KEY_1, VALUE_1);
+		nativeConnection.set(KEY_2, VALUE_2);
+		nativeConnection.set(KEY_3, VALUE_3);
+
+		assertThat(scanAll(clusterConnection.scan(scanOptions().count(1).build())),
+				hasItems(KEY_1_BYTES, KEY_2_BYTES, KEY_3_BYTES));
+	}
+
+	@Test
+	public void scanShouldReturnKeysOfAllNodesWhenScanningInParallel() {
+
+		nativeConnection.set(KEY_1, VALUE_1);
+		nativeConnection.set(KEY_2, VALUE_2);
+		nativeConnection.set(KEY_3, VALUE_3);
+
+		assertThat(scanAll(clusterConnection.scan(scanOptions().match("key*").build(), 3)),
+				hasItems(KEY_1_BYTES, KEY_2_BYTES, KEY_3_BYTES));
+	}
+
 	@Test // DATAREDIS-315
 	public void randomKeyShouldReturnCorrectlyWhenKeysAvailable() {
 
@@ -2134,4 +2157,13 @@ public class LettuceClusterConnectionTests implements ClusterConnectionTests {
 
 		assertThat(clusterConnection.geoRemove(KEY_1_BYTES, ARIGENTO_BYTES.getName()), is(1L));
 	}
+
+	private static List<byte[]> scanAll(Cursor<byte[]> cursor) {
+
+		List<byte[]> keys = new ArrayList<>();
+		while (cursor.hasNext()) {
+			keys.add(cursor.next());
+		}
+		return keys;
+	}
 }
@@ -17,7 +17,9 @@ package org.springframework.data.redis.connection.lettuce;
 
 import static org.hamcrest.core.AnyOf.*;
 import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsNot.*;
 import static org.hamcrest.core.IsNull.*;
+import static org.hamcrest.core.IsSame.*;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.redis.connection.ClusterTestVariables.*;
@@ -31,6 +33,7 @@ import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode.NodeFlag;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -42,8 +45,10 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.redis.connection.ClusterCommandExecutor;
 import org.springframework.data.redis.connection.ClusterNodeResourceProvider;
+import org.springframework.data.redis.connection.ClusterTopology;
 import org.springframework.data.redis.connection.RedisClusterCommands.AddSlots;
 import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.lettuce.LettuceClusterConnection.LettuceClusterTopologyProvider;
 
 /**
  * @author Christoph Strobl
@@ -75,27 +80,9 @@ public class LettuceClusterConnectionUnitTests {
 
 		Partitions partitions = new Partitions();
 
-		io.lettuce.core.cluster.models.partitions.RedisClusterNode partition1 = new io.lettuce.core.cluster.models.partitions.RedisClusterNode();
-		partition1.setNodeId(CLUSTER_NODE_1.getId());
-		partition1.setConnected(true);
-		partition1.setFlags(Collections.singleton(NodeFlag.MASTER));
-		partition1.setUri(RedisURI.create("redis://" + CLUSTER_HOST + ":" + MASTER_NODE_1_PORT));
-
-		io.lettuce.core.cluster.models.partitions.RedisClusterNode partition2 = new io.lettuce.core.cluster.models.partitions.RedisClusterNode();
-		partition2.setNodeId(CLUSTER_NODE_2.getId());
-		partition2.setConnected(true);
-		partition2.setFlags(Collections.singleton(NodeFlag.MASTER));
-		partition2.setUri(RedisURI.create("redis://" + CLUSTER_HOST + ":" + MASTER_NODE_2_PORT));
-
-		io.lettuce.core.cluster.models.partitions.RedisClusterNode partition3 = new io.lettuce.core.cluster.models.partitions.RedisClusterNode();
-		partition3.setNodeId(CLUSTER_NODE_3.getId());
-		partition3.setConnected(true);
-		partition3.setFlags(Collections.singleton(NodeFlag.MASTER));
-		partition3.setUri(RedisURI.create("redis://" + CLUSTER_HOST + ":" + MASTER_NODE_3_PORT));
-
-		partitions.addPartition(partition1);
-		partitions.addPartition(partition2);
-		partitions.addPartition(partition3);
+		partitions.addPartition(partition(CLUSTER_NODE_1, MASTER_NODE_1_PORT));
+		partitions.addPartition(partition(CLUSTER_NODE_2, MASTER_NODE_2_PORT));
+		partitions.addPartition(partition(CLUSTER_NODE_3, MASTER_NODE_3_PORT));
 
 		when(resourceProvider.getResourceForSpecificNode(CLUSTER_NODE_1)).thenReturn(clusterConnection1Mock);
 		when(resourceProvider.getResourceForSpecificNode(CLUSTER_NODE_2)).thenReturn(clusterConnection2Mock);
@@ -346,4 +333,40 @@ public class LettuceClusterConnectionUnitTests {
 		verify(clusterConnection1Mock, never()).configResetstat();
 	}
 
+	@Test
+	public void topologyProviderShouldReuseTopologyWhilePartitionsAreUnchanged() {
+
+		LettuceClusterTopologyProvider provider = new LettuceClusterTopologyProvider(clusterMock);
+		ClusterTopology topology = provider.getTopology();
+
+		assertThat(provider.getTopology(), is(sameInstance(topology)));
+		assertThat(topology.getNodes().size(), is(3));
+	}
+
+	@Test
+	public void topologyProviderShouldRebuildTopologyOnPartitionsReload() {
+
+		LettuceClusterTopologyProvider provider = new LettuceClusterTopologyProvider(clusterMock);
+		ClusterTopology topology = provider.getTopology();
+
+		Partitions partitions = clusterMock.getPartitions();
+		List<io.lettuce.core.cluster.models.partitions.RedisClusterNode> reloaded = new ArrayList<>(
+				partitions.getPartitions());
+
+		reloaded.set(0, partition(CLUSTER_NODE_1, MASTER_NODE_1_PORT));
+
+		partitions.reload(reloaded);
+
+		assertThat(provider.getTopology(), is(not(sameInstance(topology))));
+	}
+
+	private static io.lettuce.core.cluster.models.partitions.RedisClusterNode partition(RedisClusterNode node, int port) {
+
+		io.lettuce.core.cluster.models.partitions.RedisClusterNode partition = new io.lettuce.core.cluster.models.partitions.RedisClusterNode();
+		partition.setNodeId(node.getId());
+		partition.setConnected(true);
+		partition.setFlags(Collections.singleton(NodeFlag.MASTER));
+		partition.setUri(RedisURI.create("redis://" + CLUSTER_HOST + ":" + port));
+		return partition;
+	}
 }
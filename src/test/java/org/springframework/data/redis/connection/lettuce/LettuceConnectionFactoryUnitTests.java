@@ -20,6 +20,7 @@ import static org.hamcrest.core.IsEqual.*;
 import static org.hamcrest.core.IsInstanceOf.*;
 import static org.hamcrest.core.IsNull.*;
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 import static org.springframework.data.redis.connection.ClusterTestVariables.*;
 import static org.springframework.data.redis.connection.lettuce.LettuceTestClientResources.*;
 import static org.springframework.test.util.ReflectionTestUtils.*;
@@ -27,8 +28,18 @@ import static org.springframework.test.util.ReflectionTestUtils.*;
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.resource.ClientResources;
 
 import java.security.NoSuchAlgorithmException;
@@ -41,6 +52,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.springframework.data.redis.ConnectionFactoryTracker;
 import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
@@ -488,4 +500,157 @@ public class LettuceConnectionFactoryUnitTests {
 
 		connectionFactory.setUseSsl(false);
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void clusterConnectionsShouldShareNativeConnection() {
+
+		RedisClusterClient clientMock = mock(RedisClusterClient.class);
+		StatefulRedisClusterConnection<byte[], byte[]> connectionMock = mock(StatefulRedisClusterConnection.class);
+		RedisAdvancedClusterAsyncCommands<byte[], byte[]> asyncMock = mock(RedisAdvancedClusterAsyncCommands.class);
+		when(clientMock.connect(any(RedisCodec.class))).thenReturn(connectionMock);
+		when(connectionMock.async()).thenReturn(asyncMock);
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(clusterConfig);
+		connectionFactory.setClientResources(getSharedClientResources());
+		connectionFactory.afterPropertiesSet();
+		ConnectionFactoryTracker.add(connectionFactory);
+		setField(connectionFactory, "client", clientMock);
+
+		RedisClusterConnection first = connectionFactory.getClusterConnection();
+		RedisClusterConnection second = connectionFactory.getClusterConnection();
+
+		assertThat(first.getNativeConnection(), is(equalTo((Object) asyncMock)));
+		assertThat(second.getNativeConnection(), is(equalTo((Object) asyncMock)));
+
+		first.close();
+		second.close();
+
+		verify(clientMock, times(1)).connect(any(RedisCodec.class));
+		verify(connectionMock, never()).close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void clusterConnectionsShouldUseDedicatedConnectionWhenSharingDisabled() {
+
+		RedisClusterClient clientMock = mock(RedisClusterClient.class);
+		StatefulRedisClusterConnection<byte[], byte[]> connectionMock = mock(StatefulRedisClusterConnection.class);
+		when(clientMock.connect(any(RedisCodec.class))).thenReturn(connectionMock);
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(clusterConfig);
+		connectionFactory.setClientResources(getSharedClientResources());
+		connectionFactory.setShareNativeConnection(false);
+		connectionFactory.afterPropertiesSet();
+		ConnectionFactoryTracker.add(connectionFactory);
+		setField(connectionFactory, "client", clientMock);
+
+		connectionFactory.getClusterConnection().getNativeConnection();
+		connectionFactory.getClusterConnection().getNativeConnection();
+
+		verify(clientMock, times(2)).connect(any(RedisCodec.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void validatedSharedConnectionShouldNotBePingedOnGetConnection() {
+
+		RedisClient clientMock = mock(RedisClient.class);
+		StatefulRedisConnection<byte[], byte[]> connectionMock = mock(StatefulRedisConnection.class);
+		when(clientMock.connect(any(RedisCodec.class))).thenReturn(connectionMock);
+		when(clientMock.getResources()).thenReturn(getSharedClientResources());
+		when(connectionMock.isOpen()).thenReturn(true);
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(),
+				LettuceClientConfiguration.builder().clientResources(getSharedClientResources())
+						.healthCheckInterval(Duration.ofHours(1)).build());
+		connectionFactory.setValidateConnection(true);
+		connectionFactory.afterPropertiesSet();
+		ConnectionFactoryTracker.add(connectionFactory);
+		setField(connectionFactory, "client", clientMock);
+
+		connectionFactory.getConnection().getNativeConnection();
+		connectionFactory.getConnection().getNativeConnection();
+
+		verify(clientMock, times(1)).connect(any(RedisCodec.class));
+		verify(connectionMock, never()).sync();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void failedHealthCheckShouldReplaceSharedConnection() {
+
+		RedisClient clientMock = mock(RedisClient.class);
+		StatefulRedisConnection<byte[], byte[]> connectionMock = mock(StatefulRedisConnection.class);
+		RedisAsyncCommands<byte[], byte[]> asyncMock = mock(RedisAsyncCommands.class);
+		when(clientMock.connect(any(RedisCodec.class))).thenReturn(connectionMock);
+		when(clientMock.getResources()).thenReturn(getSharedClientResources());
+		when(connectionMock.isOpen()).thenReturn(true);
+		when(connectionMock.async()).thenReturn(asyncMock);
+
+		AsyncCommand<byte[], byte[], String> ping = new AsyncCommand<>(
+				new Command<>(CommandType.PING, new StatusOutput<>(LettuceConnection.CODEC)));
+		ping.completeExceptionally(new RedisException("Connection lost"));
+		when(asyncMock.ping()).thenReturn(ping);
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(),
+				LettuceClientConfiguration.builder().clientResources(getSharedClientResources())
+						.healthCheckInterval(Duration.ofHours(1)).build());
+		connectionFactory.setValidateConnection(true);
+		connectionFactory.afterPropertiesSet();
+		ConnectionFactoryTracker.add(connectionFactory);
+		setField(connectionFactory, "client", clientMock);
+
+		connectionFactory.getConnection().getNativeConnection();
+		connectionFactory.checkSharedConnection();
+		connectionFactory.getConnection().getNativeConnection();
+
+		verify(clientMock, times(2)).connect(any(RedisCodec.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void pendingHealthCheckShouldNotReplaceSharedConnection() {
+
+		RedisClient clientMock = mock(RedisClient.class);
+		StatefulRedisConnection<byte[], byte[]> connectionMock = mock(StatefulRedisConnection.class);
+		RedisAsyncCommands<byte[], byte[]> asyncMock = mock(RedisAsyncCommands.class);
+		when(clientMock.connect(any(RedisCodec.class))).thenReturn(connectionMock);
+		when(clientMock.getResources()).thenReturn(getSharedClientResources());
+		when(connectionMock.isOpen()).thenReturn(true);
+		when(connectionMock.async()).thenReturn(asyncMock);
+
+		AsyncCommand<byte[], byte[], String> ping = new AsyncCommand<>(
+				new Command<>(CommandType.PING, new StatusOutput<>(LettuceConnection.CODEC)));
+		when(asyncMock.ping()).thenReturn(ping);
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(),
+				LettuceClientConfiguration.builder().clientResources(getSharedClientResources())
+						.healthCheckInterval(Duration.ofHours(1)).build());
+		connectionFactory.setValidateConnection(true);
+		connectionFactory.afterPropertiesSet();
+		ConnectionFactoryTracker.add(connectionFactory);
+		setField(connectionFactory, "client", clientMock);
+
+		connectionFactory.getConnection().getNativeConnection();
+		connectionFactory.checkSharedConnection();
+		connectionFactory.checkSharedConnection();
+		connectionFactory.getConnection().getNativeConnection();
+
+		verify(clientMock, times(1)).connect(any(RedisCodec.class));
+		verify(asyncMock, times(1)).ping();
+		assertThat(ping.isCancelled(), is(false));
+	}
+
+	@Test
+	public void shouldCreateDedicatedConnectionPoolWhenConfigured() {
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(),
+				LettuceClientConfiguration.builder().clientResources(getSharedClientResources())
+						.dedicatedConnectionPool(DedicatedConnectionPoolSettings.of(8, Duration.ofMinutes(1))).build());
+		connectionFactory.afterPropertiesSet();
+		ConnectionFactoryTracker.add(connectionFactory);
+
+		assertThat(getField(connectionFactory, "pool"), instanceOf(LettuceDedicatedConnectionPool.class));
+	}
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.connection.PoolException;
+
+/**
+ * Unit tests for {@link LettuceDedicatedConnectionPool}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class LettuceDedicatedConnectionPoolUnitTests {
+
+	@Mock RedisClient clientMock;
+	@Mock StatefulRedisConnection<byte[], byte[]> connection1;
+	@Mock StatefulRedisConnection<byte[], byte[]> connection2;
+	@Mock Supplier<StatefulConnection<byte[], byte[]>> connector;
+
+	@Before
+	public void setUp() {
+
+		when(connector.get()).thenReturn(connection1, connection2);
+		when(connection1.isOpen()).thenReturn(true);
+		when(connection2.isOpen()).thenReturn(true);
+	}
+
+	@Test
+	public void shouldReuseReturnedConnection() {
+
+		LettuceDedicatedConnectionPool pool = pool(DedicatedConnectionPoolSettings.of(2, Duration.ZERO));
+
+		StatefulConnection<byte[], byte[]> connection = pool.getResource();
+		pool.returnResource(connection);
+
+		assertThat(pool.getResource()).isSameAs(connection);
+		verify(connector, times(1)).get();
+	}
+
+	@Test
+	public void shouldFailWhenPoolIsExhausted() {
+
+		LettuceDedicatedConnectionPool pool = pool(DedicatedConnectionPoolSettings.of(1, Duration.ZERO).withMaxWait(
+				Duration.ZERO));
+
+		pool.getResource();
+
+		assertThatThrownBy(pool::getResource).isInstanceOf(PoolException.class);
+	}
+
+	@Test
+	public void shouldCloseBrokenConnectionAndReleaseItsSlot() {
+
+		LettuceDedicatedConnectionPool pool = pool(DedicatedConnectionPoolSettings.of(1, Duration.ZERO).withMaxWait(
+				Duration.ZERO));
+
+		pool.returnBrokenResource(pool.getResource());
+
+		assertThat(pool.getResource()).isSameAs(connection2);
+		verify(connection1).close();
+	}
+
+	@Test
+	public void shouldRejectConnectionReturnedTwice() {
+
+		LettuceDedicatedConnectionPool pool = pool(DedicatedConnectionPoolSettings.of(1, Duration.ZERO).withMaxWait(
+				Duration.ZERO));
+
+		StatefulConnection<byte[], byte[]> connection = pool.getResource();
+		pool.returnResource(connection);
+
+		assertThatThrownBy(() -> pool.returnResource(connection)).isInstanceOf(PoolException.class);
+		assertThat(pool.getResource()).isSameAs(connection);
+		assertThatThrownBy(pool::getResource).isInstanceOf(PoolException.class);
+	}
+
+	@Test
+	public void shouldNotHandOutClosedIdleConnection() {
+
+		LettuceDedicatedConnectionPool pool = pool(DedicatedConnectionPoolSettings.of(1, Duration.ZERO));
+
+		pool.returnResource(pool.getResource());
+		when(connection1.isOpen()).thenReturn(false);
+
+		assertThat(pool.getResource()).isSameAs(connection2);
+		verify(connection1).close();
+	}
+
+	@Test
+	public void shouldEvictConnectionsExceedingIdleTimeout() {
+
+		LettuceDedicatedConnectionPool pool = pool(DedicatedConnectionPoolSettings.of(2, Duration.ofNanos(1)));
+
+		StatefulConnection<byte[], byte[]> first = pool.getResource();
+		StatefulConnection<byte[], byte[]> second = pool.getResource();
+		pool.returnResource(first);
+		pool.returnResource(second);
+
+		pool.evictIdle();
+
+		assertThat(pool.getIdleCount()).isZero();
+		verify(connection1).close();
+		verify(connection2).close();
+	}
+
+	@Test
+	public void shouldCloseIdleConnectionsOnDestroy() {
+
+		LettuceDedicatedConnectionPool pool = pool(DedicatedConnectionPoolSettings.of(1, Duration.ZERO));
+
+		pool.returnResource(pool.getResource());
+		pool.destroy();
+
+		verify(connection1).close();
+		assertThatThrownBy(pool::getResource).isInstanceOf(IllegalStateException.class);
+	}
+
+	private LettuceDedicatedConnectionPool pool(DedicatedConnectionPoolSettings settings) {
+		return new LettuceDedicatedConnectionPool(clientMock, connector, settings, null);
+	}
+}
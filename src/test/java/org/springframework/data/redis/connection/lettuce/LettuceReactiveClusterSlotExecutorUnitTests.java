@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+
+/**
+ * Unit tests for {@link LettuceReactiveClusterSlotExecutor}.
+ */
+public class LettuceReactiveClusterSlotExecutorUnitTests {
+
+	LettuceReactiveClusterSlotExecutor executor = new LettuceReactiveClusterSlotExecutor(2);
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveConcurrency() {
+		new LettuceReactiveClusterSlotExecutor(0);
+	}
+
+	@Test
+	public void executeInKeyOrderShouldIssueOneCommandPerSlot() {
+
+		List<ByteBuffer> keys = keys("{a}1", "{b}1", "{a}2", "{c}1", "{b}2");
+		List<List<String>> invocations = Collections.synchronizedList(new ArrayList<>());
+
+		StepVerifier.create(executor.executeInKeyOrder(keys, slotKeys -> {
+
+			invocations.add(strings(slotKeys));
+			return Flux.fromIterable(slotKeys).map(key -> "value-" + string(key));
+		})).expectNext(Arrays.asList("value-{a}1", "value-{b}1", "value-{a}2", "value-{c}1", "value-{b}2"))
+				.verifyComplete();
+
+		assertThat(invocations).containsExactlyInAnyOrder(Arrays.asList("{a}1", "{a}2"), Arrays.asList("{b}1", "{b}2"),
+				Collections.singletonList("{c}1"));
+	}
+
+	@Test
+	public void executeInKeyOrderShouldRetainKeyOrderWhenSlotsCompleteOutOfOrder() {
+
+		List<ByteBuffer> keys = keys("{a}1", "{b}1", "{c}1");
+
+		StepVerifier.create(executor.executeInKeyOrder(keys,
+				slotKeys -> Flux.fromIterable(strings(slotKeys))
+						.delayElements(Duration.ofMillis(string(slotKeys.get(0)).startsWith("{a}") ? 50 : 1))))
+				.expectNext(Arrays.asList("{a}1", "{b}1", "{c}1")) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void executeAndSumShouldLimitConcurrency() {
+
+		List<ByteBuffer> keys = keys("{a}1", "{b}1", "{c}1", "{d}1", "{e}1");
+
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+
+		StepVerifier.create(executor.executeAndSum(keys, slotKeys -> Mono.delay(Duration.ofMillis(10)) //
+				.doOnSubscribe(subscription -> maxActive.accumulateAndGet(active.incrementAndGet(), Math::max)) //
+				.doOnTerminate(active::decrementAndGet) //
+				.map(ignore -> (long) slotKeys.size()))) //
+				.expectNext(5L) //
+				.verifyComplete();
+
+		assertThat(maxActive.get()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	public void executeAndMergeShouldUseSingleCommandForSameSlot() {
+
+		List<ByteBuffer> keys = keys("{a}1", "{a}2");
+		assertThat(ClusterSlotHashUtil.isSameSlotForAllKeys(keys)).isTrue();
+
+		AtomicInteger invocations = new AtomicInteger();
+
+		StepVerifier.create(executor.executeAndMerge(keys, slotKeys -> {
+
+			invocations.incrementAndGet();
+			return Flux.fromIterable(strings(slotKeys));
+		})).expectNext("{a}1", "{a}2").verifyComplete();
+
+		assertThat(invocations.get()).isEqualTo(1);
+	}
+
+	private static List<ByteBuffer> keys(String... keys) {
+
+		List<ByteBuffer> result = new ArrayList<>(keys.length);
+
+		for (String key : keys) {
+			result.add(ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8)));
+		}
+
+		return result;
+	}
+
+	private static List<String> strings(List<ByteBuffer> keys) {
+
+		List<String> result = new ArrayList<>(keys.size());
+
+		for (ByteBuffer key : keys) {
+			result.add(string(key));
+		}
+
+		return result;
+	}
+
+	private static String string(ByteBuffer key) {
+		return StandardCharsets.UTF_8.decode(key.duplicate()).toString();
+	}
+}
@@ -31,6 +31,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.junit.Test;
+import org.springframework.data.redis.core.ScanOptions;
 
 /**
  * @author Christoph Strobl
@@ -207,4 +208,24 @@ public class LettuceReactiveHashCommandsTests extends LettuceReactiveCommandsTes
 				.verifyComplete();
 
 	}
+
+	@Test
+	public void hScanShouldIterateOverHash() {
+
+		nativeCommands.hset(KEY_1, FIELD_1, VALUE_1);
+		nativeCommands.hset(KEY_1, FIELD_2, VALUE_2);
+		nativeCommands.hset(KEY_1, FIELD_3, VALUE_3);
+
+		Map<ByteBuffer, ByteBuffer> expected = new HashMap<>();
+		expected.put(FIELD_1_BBUFFER, VALUE_1_BBUFFER);
+		expected.put(FIELD_2_BBUFFER, VALUE_2_BBUFFER);
+		expected.put(FIELD_3_BBUFFER, VALUE_3_BBUFFER);
+
+		StepVerifier.create(connection.hashCommands().hScan(KEY_1_BBUFFER, ScanOptions.scanOptions().count(1).build())
+				.buffer(3)) //
+				.consumeNextWith(list -> {
+					assertTrue(list.containsAll(expected.entrySet()));
+				}) //
+				.verifyComplete();
+	}
 }
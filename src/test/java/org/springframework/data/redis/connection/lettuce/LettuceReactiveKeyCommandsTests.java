@@ -34,6 +34,7 @@ import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyCommand;
 import org.springframework.data.redis.connection.ReactiveRedisConnection.NumericResponse;
+import org.springframework.data.redis.core.ScanOptions;
 
 /**
  * Integration tests for {@link LettuceReactiveKeyCommands}.
@@ -179,6 +180,28 @@ public class LettuceReactiveKeyCommandsTests extends LettuceReactiveCommandsTest
 		StepVerifier.create(result).expectNextCount(2).verifyComplete();
 	}
 
+	@Test
+	public void mExistsShouldCountExistingKeysAcrossSlots() {
+
+		nativeCommands.set(KEY_1, VALUE_1);
+		nativeCommands.set(KEY_2, VALUE_2);
+
+		StepVerifier.create(connection.keyCommands().mExists(Arrays.asList(KEY_1_BBUFFER, KEY_2_BBUFFER, KEY_3_BBUFFER))) //
+				.expectNext(2L) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void touchShouldCountTouchedKeysAcrossSlots() {
+
+		nativeCommands.set(KEY_1, VALUE_1);
+		nativeCommands.set(KEY_3, VALUE_3);
+
+		StepVerifier.create(connection.keyCommands().touch(Arrays.asList(KEY_1_BBUFFER, KEY_2_BBUFFER, KEY_3_BBUFFER))) //
+				.expectNext(2L) //
+				.verifyComplete();
+	}
+
 	@Test // DATAREDIS-602
 	public void shouldExpireKeysCorrectly() {
 
@@ -287,4 +310,39 @@ public class LettuceReactiveKeyCommandsTests extends LettuceReactiveCommandsTest
 				.verify();
 		assertThat(nativeCommands.exists(KEY_1), is(0L));
 	}
+
+	@Test
+	public void scanShouldIterateOverKeyspace() {
+
+		nativeCommands.set(KEY_1, VALUE_2);
+		nativeCommands.set(KEY_2, VALUE_2);
+		nativeCommands.set(KEY_3, VALUE_3);
+
+		nativeCommands.set(VALUE_1, KEY_1);
+		nativeCommands.set(VALUE_2, KEY_2);
+		nativeCommands.set(VALUE_3, KEY_3);
+
+		StepVerifier.create(connection.keyCommands().scan(ScanOptions.scanOptions().count(2).build())) //
+				.expectNextCount(6) //
+				.verifyComplete();
+
+		StepVerifier.create(connection.keyCommands().scan(ScanOptions.scanOptions().match("key*").build())) //
+				.expectNextCount(3) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void scanShouldFetchPagesOnDemand() {
+
+		nativeCommands.set(KEY_1, VALUE_2);
+		nativeCommands.set(KEY_2, VALUE_2);
+		nativeCommands.set(KEY_3, VALUE_3);
+
+		StepVerifier.create(connection.keyCommands().scan(ScanOptions.scanOptions().count(1).build()), 0) //
+				.thenRequest(1) //
+				.expectNextCount(1) //
+				.thenRequest(2) //
+				.expectNextCount(2) //
+				.verifyComplete();
+	}
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.hamcrest.core.Is.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+/**
+ * Integration tests for batched command execution on {@link LettuceReactiveRedisConnection}.
+ */
+public class LettuceReactiveRedisConnectionTests extends LettuceReactiveCommandsTestsBase {
+
+	@Test
+	public void executePipelinedShouldEmitResultsInOrder() {
+
+		nativeCommands.set(SAME_SLOT_KEY_1, VALUE_1);
+
+		StepVerifier.create(connection.executePipelined(c -> Arrays.asList( //
+				c.stringCommands().get(SAME_SLOT_KEY_1_BBUFFER), //
+				c.stringCommands().set(SAME_SLOT_KEY_2_BBUFFER, VALUE_2_BBUFFER), //
+				c.numberCommands().incr(SAME_SLOT_KEY_3_BBUFFER)))) //
+				.expectNext(VALUE_1_BBUFFER, true, 1L) //
+				.verifyComplete();
+
+		assertThat(nativeCommands.get(SAME_SLOT_KEY_2), is(VALUE_2));
+	}
+
+	@Test
+	public void executePipelinedShouldLeaveConnectionUsable() {
+
+		StepVerifier.create(connection.executePipelined(c -> Arrays.asList( //
+				c.stringCommands().set(KEY_1_BBUFFER, VALUE_1_BBUFFER)))) //
+				.expectNext(true) //
+				.verifyComplete();
+
+		StepVerifier.create(connection.stringCommands().get(KEY_1_BBUFFER)) //
+				.expectNext(VALUE_1_BBUFFER) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void executeInTransactionShouldEmitResultsInOrder() {
+
+		assumeThat(connection instanceof LettuceReactiveRedisClusterConnection, is(false));
+
+		nativeCommands.set(KEY_1, VALUE_1);
+
+		StepVerifier.create(connection.executeInTransaction(c -> Arrays.asList( //
+				c.stringCommands().get(KEY_1_BBUFFER), //
+				c.stringCommands().set(KEY_2_BBUFFER, VALUE_2_BBUFFER), //
+				c.numberCommands().incr(KEY_3_BBUFFER)))) //
+				.expectNext(VALUE_1_BBUFFER, true, 1L) //
+				.verifyComplete();
+
+		assertThat(nativeCommands.get(KEY_2), is(VALUE_2));
+	}
+
+	@Test
+	public void executeInTransactionShouldCompleteEmptyWhenWatchedKeyChanged() {
+
+		assumeThat(connection instanceof LettuceReactiveRedisClusterConnection, is(false));
+
+		nativeCommands.set(KEY_1, VALUE_1);
+
+		StepVerifier.create(connection.watch(KEY_1_BBUFFER)).expectNext("OK").verifyComplete();
+
+		nativeCommands.set(KEY_1, VALUE_2);
+
+		StepVerifier.create(connection.executeInTransaction(c -> Arrays.asList( //
+				c.stringCommands().set(KEY_1_BBUFFER, VALUE_3_BBUFFER)))) //
+				.verifyComplete();
+
+		assertThat(nativeCommands.get(KEY_1), is(VALUE_2));
+	}
+
+	@Test
+	public void executeInTransactionShouldFailOnClusterConnection() {
+
+		assumeThat(connection instanceof LettuceReactiveRedisClusterConnection, is(true));
+
+		StepVerifier.create(connection.executeInTransaction(c -> Arrays.asList( //
+				c.stringCommands().set(KEY_1_BBUFFER, VALUE_1_BBUFFER)))) //
+				.expectError(InvalidDataAccessApiUsageException.class) //
+				.verify();
+	}
+}
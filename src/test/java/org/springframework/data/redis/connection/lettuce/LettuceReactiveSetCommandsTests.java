@@ -27,6 +27,7 @@ import reactor.test.StepVerifier;
 import java.util.Arrays;
 
 import org.junit.Test;
+import org.springframework.data.redis.core.ScanOptions;
 
 public class LettuceReactiveSetCommandsTests extends LettuceReactiveCommandsTestsBase {
 
@@ -231,4 +232,20 @@ public class LettuceReactiveSetCommandsTests extends LettuceReactiveCommandsTest
 				.verifyComplete();
 	}
 
+	@Test
+	public void sScanShouldIterateOverSet() {
+
+		nativeCommands.sadd(KEY_1, VALUE_1, VALUE_2, VALUE_3);
+
+		StepVerifier.create(connection.setCommands().sScan(KEY_1_BBUFFER, ScanOptions.scanOptions().count(1).build())
+				.buffer(3)) //
+				.consumeNextWith(
+						list -> assertThat(list, containsInAnyOrder(VALUE_1_BBUFFER, VALUE_2_BBUFFER, VALUE_3_BBUFFER))) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void sScanShouldCompleteForAbsentKey() {
+		StepVerifier.create(connection.setCommands().sScan(KEY_1_BBUFFER)).verifyComplete();
+	}
 }
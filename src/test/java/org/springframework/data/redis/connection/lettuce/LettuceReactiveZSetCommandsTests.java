@@ -28,6 +28,7 @@ import org.hamcrest.collection.IsIterableContainingInOrder;
 import org.junit.Test;
 import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.DefaultTuple;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.test.util.LettuceRedisClientProvider;
 
 /**
@@ -499,4 +500,20 @@ public class LettuceReactiveZSetCommandsTests extends LettuceReactiveCommandsTes
 						ByteBuffer.wrap("d".getBytes()), ByteBuffer.wrap("c".getBytes()), ByteBuffer.wrap("b".getBytes())));
 	}
 
+	@Test
+	public void zScanShouldIterateOverSortedSet() {
+
+		nativeCommands.zadd(KEY_1, 1D, VALUE_1);
+		nativeCommands.zadd(KEY_1, 2D, VALUE_2);
+		nativeCommands.zadd(KEY_1, 3D, VALUE_3);
+
+		StepVerifier.create(connection.zSetCommands().zScan(KEY_1_BBUFFER, ScanOptions.scanOptions().count(1).build())
+				.collectList()) //
+				.consumeNextWith(list -> {
+					assertThat(list.size(), is(3));
+					assertTrue(list.contains(new DefaultTuple(VALUE_1_BYTES, 1D)));
+					assertTrue(list.contains(new DefaultTuple(VALUE_3_BYTES, 3D)));
+				}) //
+				.verifyComplete();
+	}
 }
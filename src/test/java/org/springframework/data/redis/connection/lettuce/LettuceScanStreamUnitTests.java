@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.ScanCursor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LettuceScanStream}.
+ */
+public class LettuceScanStreamUnitTests {
+
+	@Test
+	public void shouldEmitElementsOfAllPages() {
+
+		StepVerifier.create(LettuceScanStream.scan(cursor -> Mono.just(page(cursor, 3)), KeyScanCursor::getKeys)) //
+				.expectNext("0a", "0b", "1a", "1b", "2a", "2b") //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldIterateManyPagesWithoutNesting() {
+
+		StepVerifier.create(LettuceScanStream.scan(cursor -> Mono.just(page(cursor, 10000)), KeyScanCursor::getKeys)) //
+				.expectNextCount(20000) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldFetchNextPageOnlyOnDemand() {
+
+		AtomicInteger scans = new AtomicInteger();
+
+		StepVerifier.create(LettuceScanStream.scan(cursor -> {
+
+			scans.incrementAndGet();
+			return Mono.just(page(cursor, 3));
+		}, KeyScanCursor::getKeys), 1) //
+				.expectNext("0a") //
+				.then(() -> assertThat(scans.get()).isEqualTo(1)) //
+				.thenCancel() //
+				.verify();
+	}
+
+	private static KeyScanCursor<String> page(ScanCursor cursor, int pages) {
+
+		int position = Integer.parseInt(cursor.getCursor());
+
+		KeyScanCursor<String> next = new KeyScanCursor<>();
+		next.getKeys().add(position + "a");
+		next.getKeys().add(position + "b");
+		next.setCursor(Integer.toString(position + 1));
+		next.setFinished(position + 1 == pages);
+		return next;
+	}
+}
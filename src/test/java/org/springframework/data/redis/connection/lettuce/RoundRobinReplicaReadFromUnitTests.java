@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.lettuce.core.ReadFrom.Nodes;
+import io.lettuce.core.models.role.RedisInstance.Role;
+import io.lettuce.core.models.role.RedisNodeDescription;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RoundRobinReplicaReadFrom}.
+ */
+public class RoundRobinReplicaReadFromUnitTests {
+
+	RedisNodeDescription master = node(Role.MASTER);
+	RedisNodeDescription replica1 = node(Role.SLAVE);
+	RedisNodeDescription replica2 = node(Role.SLAVE);
+
+	Nodes nodes = mock(Nodes.class);
+	RoundRobinReplicaReadFrom readFrom = new RoundRobinReplicaReadFrom();
+
+	@Before
+	public void setUp() {
+		when(nodes.getNodes()).thenReturn(Arrays.asList(master, replica1, replica2));
+	}
+
+	@Test
+	public void shouldRotateReplicasAndListMasterLast() {
+
+		assertThat(readFrom.select(nodes)).containsExactly(replica1, replica2, master);
+		assertThat(readFrom.select(nodes)).containsExactly(replica2, replica1, master);
+		assertThat(readFrom.select(nodes)).containsExactly(replica1, replica2, master);
+	}
+
+	@Test
+	public void shouldFallBackToMasterWithoutReplicas() {
+
+		when(nodes.getNodes()).thenReturn(Arrays.asList(master));
+
+		assertThat(readFrom.select(nodes)).containsExactly(master);
+	}
+
+	private static RedisNodeDescription node(Role role) {
+
+		RedisNodeDescription node = mock(RedisNodeDescription.class);
+		when(node.getRole()).thenReturn(role);
+		return node;
+	}
+}
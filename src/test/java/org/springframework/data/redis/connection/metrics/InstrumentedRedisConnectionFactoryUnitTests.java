@@ -0,0 +1,323 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DecoratedRedisConnection;
+import org.springframework.data.redis.connection.ReactiveClusterStringCommands;
+import org.springframework.data.redis.connection.ReactiveRedisClusterConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.ByteBufferResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyCommand;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveStringCommands;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+import org.springframework.data.redis.connection.RedisStringCommands;
+
+/**
+ * Unit tests for {@link InstrumentedRedisConnectionFactory} and {@link InstrumentedReactiveRedisConnectionFactory}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class InstrumentedRedisConnectionFactoryUnitTests {
+
+	static final byte[] KEY = "key".getBytes();
+	static final byte[] VALUE = "value".getBytes();
+
+	static final RedisClusterNode NODE = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7379)
+			.promotedAs(NodeType.MASTER).serving(new SlotRange(0, 16383)).build();
+
+	@Mock RedisConnectionFactory connectionFactory;
+	@Mock RedisConnection connection;
+	@Mock RedisClusterConnection clusterConnection;
+	@Mock RedisStringCommands stringCommands;
+
+	CommandMetrics metrics;
+	InstrumentedRedisConnectionFactory factory;
+
+	@Before
+	public void setUp() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		when(connectionFactory.getClusterConnection()).thenReturn(clusterConnection);
+
+		metrics = new CommandMetrics();
+		factory = new InstrumentedRedisConnectionFactory(connectionFactory, metrics);
+	}
+
+	@Test
+	public void shouldRecordCommandWithPayloadSizes() {
+
+		factory.setRecordResultSizes(true);
+		when(connection.get(KEY)).thenReturn(VALUE);
+
+		assertThat(factory.getConnection().get(KEY)).isEqualTo(VALUE);
+
+		CommandStatistics statistics = metrics.getCommandStatistics().get("GET");
+		assertThat(statistics.getCount()).isEqualTo(1);
+		assertThat(statistics.getBytesOut()).isEqualTo(KEY.length);
+		assertThat(statistics.getBytesIn()).isEqualTo(VALUE.length);
+		assertThat(statistics.getLatency().getCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldNotSizeResultsByDefault() {
+
+		when(connection.get(KEY)).thenReturn(VALUE);
+
+		factory.getConnection().get(KEY);
+
+		CommandStatistics statistics = metrics.getCommandStatistics().get("GET");
+		assertThat(statistics.getBytesOut()).isEqualTo(KEY.length);
+		assertThat(statistics.getBytesIn()).isZero();
+	}
+
+	@Test
+	public void shouldRecordFailedCommand() {
+
+		when(connection.get(KEY)).thenThrow(new InvalidDataAccessApiUsageException("o_O"));
+
+		assertThatThrownBy(() -> factory.getConnection().get(KEY)).isInstanceOf(InvalidDataAccessApiUsageException.class);
+		assertThat(metrics.getCommandStatistics().get("GET").getErrorCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRecordCommandsOfFeatureSpecificInterfaces() {
+
+		when(connection.stringCommands()).thenReturn(stringCommands);
+		when(stringCommands.get(KEY)).thenReturn(VALUE);
+
+		assertThat(factory.getConnection().stringCommands().get(KEY)).isEqualTo(VALUE);
+		assertThat(metrics.getCommandStatistics()).containsOnlyKeys("GET");
+	}
+
+	@Test
+	public void shouldNotRecordLatencyOfQueuedCommands() {
+
+		factory.setRecordResultSizes(true);
+		when(connection.closePipeline()).thenReturn(Collections.<Object> singletonList(VALUE));
+
+		RedisConnection instrumented = factory.getConnection();
+		instrumented.openPipeline();
+		instrumented.get(KEY);
+		instrumented.closePipeline();
+		instrumented.get(KEY);
+
+		assertThat(metrics.getCommandStatistics().get("GET").getCount()).isEqualTo(2);
+		assertThat(metrics.getCommandStatistics().get("GET").getLatency().getCount()).isEqualTo(1);
+		assertThat(metrics.getCommandStatistics().get("CLOSEPIPELINE").getLatency().getCount()).isEqualTo(1);
+		assertThat(metrics.getCommandStatistics().get("CLOSEPIPELINE").getBytesIn()).isEqualTo(VALUE.length);
+	}
+
+	@Test
+	public void shouldTrackTransactionsOfFeatureSpecificInterfaces() {
+
+		when(connection.stringCommands()).thenReturn(stringCommands);
+
+		RedisConnection instrumented = factory.getConnection();
+		instrumented.multi();
+		instrumented.stringCommands().get(KEY);
+		instrumented.exec();
+
+		assertThat(metrics.getCommandStatistics().get("GET").getLatency().getCount()).isZero();
+		verify(connection, atMost(1)).isQueueing();
+	}
+
+	@Test
+	public void shouldExposeDelegate() {
+
+		RedisConnection instrumented = factory.getConnection();
+
+		assertThat(instrumented).isInstanceOf(DecoratedRedisConnection.class);
+		assertThat(((DecoratedRedisConnection) instrumented).getDelegate()).isSameAs(connection);
+		assertThat(metrics.getCommandStatistics()).isEmpty();
+	}
+
+	@Test
+	public void shouldRecordNodeOfClusterCommands() {
+
+		RedisClusterConnection topologyConnection = mock(RedisClusterConnection.class);
+		when(connectionFactory.getClusterConnection()).thenReturn(clusterConnection, topologyConnection);
+		when(topologyConnection.clusterGetNodes()).thenReturn(Collections.singleton(NODE));
+		factory.setTopologyRefreshExecutor(Runnable::run);
+
+		RedisClusterConnection instrumented = factory.getClusterConnection();
+		instrumented.get(KEY);
+		instrumented.ping(NODE);
+		instrumented.get(KEY);
+
+		assertThat(metrics.getNodeStatistics()).containsOnlyKeys("127.0.0.1:7379");
+		assertThat(metrics.getNodeStatistics().get("127.0.0.1:7379").getCount()).isEqualTo(2);
+		verify(clusterConnection, never()).clusterGetNodes();
+		verify(topologyConnection).close();
+	}
+
+	@Test
+	public void shouldNotRecordAccessors() {
+
+		RedisConnection instrumented = factory.getConnection();
+		instrumented.isPipelined();
+		instrumented.isQueueing();
+		instrumented.isSubscribed();
+		instrumented.getSubscription();
+		instrumented.getNativeConnection();
+		instrumented.isClosed();
+		instrumented.close();
+
+		assertThat(metrics.getCommandStatistics()).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldRecordReactiveCommandOnTermination() {
+
+		ReactiveRedisConnectionFactory reactiveFactory = mock(ReactiveRedisConnectionFactory.class);
+		ReactiveRedisConnection reactiveConnection = mock(ReactiveRedisConnection.class);
+		ReactiveStringCommands reactiveStringCommands = mock(ReactiveStringCommands.class);
+
+		when(reactiveFactory.getReactiveConnection()).thenReturn(reactiveConnection);
+		when(reactiveConnection.stringCommands()).thenReturn(reactiveStringCommands);
+		when(reactiveStringCommands.get(any(Publisher.class))).thenAnswer(invocation -> Flux
+				.from((Publisher<KeyCommand>) invocation.getArgument(0))
+				.map(command -> new ByteBufferResponse<>(command, ByteBuffer.wrap(VALUE))));
+
+		InstrumentedReactiveRedisConnectionFactory instrumentedFactory = new InstrumentedReactiveRedisConnectionFactory(
+				reactiveFactory, metrics);
+		instrumentedFactory.setRecordResultSizes(true);
+		ReactiveStringCommands instrumented = instrumentedFactory.getReactiveConnection().stringCommands();
+
+		StepVerifier.create(instrumented.get(Mono.just(new KeyCommand(ByteBuffer.wrap(KEY))))) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		CommandStatistics statistics = metrics.getCommandStatistics().get("GET");
+		assertThat(statistics.getCount()).isEqualTo(1);
+		assertThat(statistics.getBytesOut()).isEqualTo(KEY.length);
+		assertThat(statistics.getBytesIn()).isEqualTo(VALUE.length);
+		assertThat(statistics.getErrorCount()).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldRecordEachSubscriptionOfReactiveCommand() {
+
+		ReactiveRedisConnectionFactory reactiveFactory = mock(ReactiveRedisConnectionFactory.class);
+		ReactiveRedisConnection reactiveConnection = mock(ReactiveRedisConnection.class);
+		ReactiveStringCommands reactiveStringCommands = mock(ReactiveStringCommands.class);
+
+		when(reactiveFactory.getReactiveConnection()).thenReturn(reactiveConnection);
+		when(reactiveConnection.stringCommands()).thenReturn(reactiveStringCommands);
+		when(reactiveStringCommands.get(any(Publisher.class))).thenAnswer(invocation -> Flux
+				.from((Publisher<KeyCommand>) invocation.getArgument(0))
+				.map(command -> new ByteBufferResponse<>(command, ByteBuffer.wrap(VALUE))));
+
+		InstrumentedReactiveRedisConnectionFactory instrumentedFactory = new InstrumentedReactiveRedisConnectionFactory(
+				reactiveFactory, metrics);
+		instrumentedFactory.setRecordResultSizes(true);
+		ReactiveStringCommands instrumented = instrumentedFactory.getReactiveConnection().stringCommands();
+
+		Flux<?> get = instrumented.get(Mono.just(new KeyCommand(ByteBuffer.wrap(KEY))));
+
+		StepVerifier.create(get).expectNextCount(1).verifyComplete();
+		StepVerifier.create(get).expectNextCount(1).verifyComplete();
+
+		CommandStatistics statistics = metrics.getCommandStatistics().get("GET");
+		assertThat(statistics.getCount()).isEqualTo(2);
+		assertThat(statistics.getBytesOut()).isEqualTo(2 * KEY.length);
+		assertThat(statistics.getBytesIn()).isEqualTo(2 * VALUE.length);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldRecordEachResponseOfReactiveCommandStream() {
+
+		ReactiveRedisConnectionFactory reactiveFactory = mock(ReactiveRedisConnectionFactory.class);
+		ReactiveRedisConnection reactiveConnection = mock(ReactiveRedisConnection.class);
+		ReactiveStringCommands reactiveStringCommands = mock(ReactiveStringCommands.class);
+
+		when(reactiveFactory.getReactiveConnection()).thenReturn(reactiveConnection);
+		when(reactiveConnection.stringCommands()).thenReturn(reactiveStringCommands);
+		when(reactiveStringCommands.get(any(Publisher.class))).thenAnswer(invocation -> Flux
+				.from((Publisher<KeyCommand>) invocation.getArgument(0))
+				.map(command -> new ByteBufferResponse<>(command, ByteBuffer.wrap(VALUE))));
+
+		ReactiveStringCommands instrumented = new InstrumentedReactiveRedisConnectionFactory(reactiveFactory, metrics)
+				.getReactiveConnection().stringCommands();
+
+		StepVerifier.create(instrumented.get(Flux.just(new KeyCommand(ByteBuffer.wrap(KEY)),
+				new KeyCommand(ByteBuffer.wrap("other".getBytes()))))) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		CommandStatistics statistics = metrics.getCommandStatistics().get("GET");
+		assertThat(statistics.getCount()).isEqualTo(2);
+		assertThat(statistics.getLatency().getCount()).isEqualTo(2);
+		assertThat(statistics.getBytesOut()).isEqualTo(KEY.length + "other".length());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldRecordNodeOfReactiveClusterCommands() {
+
+		ReactiveRedisConnectionFactory reactiveFactory = mock(ReactiveRedisConnectionFactory.class,
+				withSettings().extraInterfaces(RedisConnectionFactory.class));
+		ReactiveRedisClusterConnection reactiveConnection = mock(ReactiveRedisClusterConnection.class);
+		ReactiveClusterStringCommands reactiveStringCommands = mock(ReactiveClusterStringCommands.class);
+		RedisClusterConnection topologyConnection = mock(RedisClusterConnection.class);
+
+		when(reactiveFactory.getReactiveClusterConnection()).thenReturn(reactiveConnection);
+		when(((RedisConnectionFactory) reactiveFactory).getClusterConnection()).thenReturn(topologyConnection);
+		when(topologyConnection.clusterGetNodes()).thenReturn(Collections.singleton(NODE));
+		when(reactiveConnection.stringCommands()).thenReturn(reactiveStringCommands);
+		when(reactiveStringCommands.get(any(Publisher.class))).thenAnswer(invocation -> Flux
+				.from((Publisher<KeyCommand>) invocation.getArgument(0))
+				.map(command -> new ByteBufferResponse<>(command, ByteBuffer.wrap(VALUE))));
+
+		InstrumentedReactiveRedisConnectionFactory instrumentedFactory = new InstrumentedReactiveRedisConnectionFactory(
+				reactiveFactory, metrics);
+		instrumentedFactory.setTopologyRefreshExecutor(Runnable::run);
+		ReactiveStringCommands instrumented = instrumentedFactory.getReactiveClusterConnection().stringCommands();
+
+		StepVerifier.create(instrumented.get(Flux.just(new KeyCommand(ByteBuffer.wrap(KEY)),
+				new KeyCommand(ByteBuffer.wrap(KEY))))) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(metrics.getNodeStatistics()).containsOnlyKeys("127.0.0.1:7379");
+		assertThat(metrics.getNodeStatistics().get("127.0.0.1:7379").getCount()).isEqualTo(1);
+		verify(topologyConnection).close();
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramUnitTests {
+
+	@Test
+	public void shouldMapValuesToContiguousBuckets() {
+
+		for (long value = 0; value < 100_000; value++) {
+
+			int index = LatencyHistogram.indexOf(value);
+
+			assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+			assertThat(index == 0 || LatencyHistogram.upperBoundOf(index - 1) < value).isTrue();
+		}
+
+		assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	public void shouldReportPercentilesWithinBucketPrecision() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1; value <= 10_000; value++) {
+			histogram.record(value * 1000);
+		}
+
+		assertThat(histogram.getCount()).isEqualTo(10_000);
+		assertThat(histogram.getMax()).isEqualTo(10_000_000);
+		assertThat(histogram.getMean()).isEqualTo(5_000_500);
+		assertThat(histogram.getValueAtPercentile(50)).isBetween(5_000_000L, 5_000_000L * 104 / 100);
+		assertThat(histogram.getValueAtPercentile(99)).isBetween(9_900_000L, 9_900_000L * 104 / 100);
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000_000);
+	}
+
+	@Test
+	public void shouldResetRecordedValues() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(42);
+		histogram.reset();
+
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getMax()).isZero();
+		assertThat(histogram.getValueAtPercentile(99)).isZero();
+	}
+}
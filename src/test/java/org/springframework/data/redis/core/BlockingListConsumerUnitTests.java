@@ -0,0 +1,292 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.BlockingListConsumer.Direction;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Unit tests for {@link BlockingListConsumer} and {@link ReactiveBlockingListConsumer}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class BlockingListConsumerUnitTests {
+
+	static final byte[] KEY = "queue".getBytes();
+
+	@Mock RedisOperations<String, String> template;
+	@Mock RedisConnection connection;
+
+	BlockingListConsumer<String, String> consumer;
+
+	@Before
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void setUp() {
+
+		doReturn(new StringRedisSerializer()).when(template).getKeySerializer();
+		doReturn(new StringRedisSerializer()).when(template).getValueSerializer();
+		when(template.execute(any(RedisCallback.class)))
+				.thenAnswer(invocation -> ((RedisCallback) invocation.getArgument(0)).doInRedis(connection));
+
+		consumer = new BlockingListConsumer<>(template);
+		consumer.afterPropertiesSet();
+	}
+
+	@After
+	public void tearDown() {
+		consumer.destroy();
+	}
+
+	@Test
+	public void shouldHandOutPoppedElementToWaitingConsumer() throws Exception {
+
+		when(connection.bLPop(anyInt(), any())).thenReturn(Arrays.asList(KEY, "foo".getBytes()))
+				.thenAnswer(invocation -> idle());
+
+		assertThat(consumer.leftPopAsync("queue").get(1, TimeUnit.SECONDS)).isEqualTo("foo");
+	}
+
+	@Test
+	public void shouldServeManyConsumersFromSingleWorker() throws Exception {
+
+		when(connection.bRPop(anyInt(), any())).thenReturn(Arrays.asList(KEY, "foo".getBytes()),
+				Arrays.asList(KEY, "bar".getBytes())).thenAnswer(invocation -> idle());
+
+		CompletableFuture<String> first = consumer.rightPopAsync("queue");
+		CompletableFuture<String> second = consumer.rightPopAsync("queue");
+
+		assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("foo");
+		assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("bar");
+	}
+
+	@Test
+	public void shouldReturnNullWhenTimeoutIsReached() {
+
+		when(connection.bLPop(anyInt(), any())).thenAnswer(invocation -> idle());
+
+		assertThat(consumer.leftPop("queue", 10, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	@Test
+	public void shouldPushBackElementWithoutWaitingConsumer() {
+
+		consumer.dispatch(connection, Direction.LEFT, KEY, "foo".getBytes());
+		consumer.dispatch(connection, Direction.RIGHT, KEY, "bar".getBytes());
+
+		verify(connection).lPush(KEY, "foo".getBytes());
+		verify(connection).rPush(KEY, "bar".getBytes());
+	}
+
+	@Test
+	public void shouldPushBackElementOfWithdrawnConsumer() {
+
+		when(connection.bLPop(anyInt(), any())).thenAnswer(invocation -> idle());
+
+		consumer.leftPopAsync("queue").cancel(false);
+		consumer.dispatch(connection, Direction.LEFT, KEY, "foo".getBytes());
+
+		verify(connection).lPush(KEY, "foo".getBytes());
+	}
+
+	@Test
+	public void shouldPushBackElementOfConsumerWithdrawnBeforeCallback() {
+
+		List<Runnable> callbacks = new ArrayList<>();
+		consumer.setCallbackExecutor(callbacks::add);
+		when(connection.bLPop(anyInt(), any())).thenAnswer(invocation -> idle());
+
+		CompletableFuture<String> waiter = consumer.leftPopAsync("queue");
+		consumer.dispatch(connection, Direction.LEFT, KEY, "foo".getBytes());
+		waiter.cancel(false);
+		callbacks.forEach(Runnable::run);
+
+		verify(connection).lPush(KEY, "foo".getBytes());
+	}
+
+	@Test
+	public void shouldDropElementThatCannotBeDeserialized() {
+
+		doReturn(new PoisonRejectingSerializer()).when(template).getValueSerializer();
+		when(connection.bLPop(anyInt(), any())).thenAnswer(invocation -> idle());
+
+		CompletableFuture<String> waiter = consumer.leftPopAsync("queue");
+		consumer.dispatch(connection, Direction.LEFT, KEY, "poison".getBytes());
+
+		assertThatThrownBy(() -> waiter.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(SerializationException.class);
+		verify(connection, never()).lPush(KEY, "poison".getBytes());
+	}
+
+	@Test
+	public void shouldMoveElementThatCannotBeDeserializedToDeadLetterKey() {
+
+		doReturn(new PoisonRejectingSerializer()).when(template).getValueSerializer();
+		consumer.setDeadLetterKey("queue:dead-letter");
+
+		consumer.dispatch(connection, Direction.LEFT, KEY, "poison".getBytes());
+
+		verify(connection).rPush("queue:dead-letter".getBytes(), "poison".getBytes());
+		verify(connection, never()).lPush(KEY, "poison".getBytes());
+	}
+
+	@Test
+	public void elementThatCannotBeDeserializedShouldNotBlockFollowingConsumers() throws Exception {
+
+		doReturn(new PoisonRejectingSerializer()).when(template).getValueSerializer();
+		when(connection.bLPop(anyInt(), any())).thenAnswer(invocation -> idle());
+
+		consumer.dispatch(connection, Direction.LEFT, KEY, "poison".getBytes());
+
+		CompletableFuture<String> first = consumer.leftPopAsync("queue");
+		CompletableFuture<String> second = consumer.leftPopAsync("queue");
+
+		consumer.dispatch(connection, Direction.LEFT, KEY, "poison".getBytes());
+		consumer.dispatch(connection, Direction.LEFT, KEY, "foo".getBytes());
+
+		assertThatThrownBy(() -> first.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(SerializationException.class);
+		assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("foo");
+		verify(connection, never()).lPush(KEY, "poison".getBytes());
+	}
+
+	@Test
+	public void shouldCompleteConsumersOnCallbackExecutor() throws Exception {
+
+		ExecutorService callbackExecutor = Executors
+				.newSingleThreadExecutor(runnable -> new Thread(runnable, "callback"));
+		consumer.setCallbackExecutor(callbackExecutor);
+		when(connection.bLPop(anyInt(), any())).thenAnswer(invocation -> idle());
+
+		try {
+
+			CompletableFuture<String> thread = consumer.leftPopAsync("queue")
+					.thenApply(value -> Thread.currentThread().getName());
+			consumer.dispatch(connection, Direction.LEFT, KEY, "foo".getBytes());
+
+			assertThat(thread.get(1, TimeUnit.SECONDS)).isEqualTo("callback");
+		} finally {
+			callbackExecutor.shutdown();
+		}
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void shouldKeepConnectionAcrossPolls() throws Exception {
+
+		when(connection.bLPop(anyInt(), any())).thenReturn(Arrays.asList(KEY, "foo".getBytes()),
+				Arrays.asList(KEY, "bar".getBytes())).thenAnswer(invocation -> idle());
+
+		assertThat(consumer.leftPopAsync("queue").get(1, TimeUnit.SECONDS)).isEqualTo("foo");
+		assertThat(consumer.leftPopAsync("queue").get(1, TimeUnit.SECONDS)).isEqualTo("bar");
+
+		verify(template, times(1)).execute(any(RedisCallback.class));
+	}
+
+	@Test
+	public void shouldOnlyWatchKeysOfSameSlotOnCluster() throws Exception {
+
+		RedisClusterConnection clusterConnection = mock(RedisClusterConnection.class);
+		doAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(clusterConnection)).when(template)
+				.execute(any(RedisCallback.class));
+		List<byte[][]> watched = new CopyOnWriteArrayList<>();
+		when(clusterConnection.bLPop(anyInt(), any())).thenAnswer(invocation -> {
+
+			Object[] args = invocation.getArguments();
+			watched.add(Arrays.copyOfRange(args, 1, args.length, byte[][].class));
+			return idle();
+		});
+
+		consumer.destroy();
+		consumer = new BlockingListConsumer<>(template);
+		consumer.afterPropertiesSet();
+
+		consumer.leftPopAsync("{a}.queue");
+		consumer.leftPopAsync("{b}.queue");
+
+		verify(clusterConnection, timeout(1000).atLeast(2)).bLPop(anyInt(), any());
+
+		for (byte[][] captured : watched) {
+			assertThat(ClusterSlotHashUtil.isSameSlotForAllKeys(captured)).isTrue();
+		}
+	}
+
+	@Test
+	public void destroyShouldCancelPendingConsumers() {
+
+		when(connection.bLPop(anyInt(), any())).thenAnswer(invocation -> idle());
+
+		CompletableFuture<String> waiter = consumer.leftPopAsync("queue");
+		consumer.destroy();
+
+		assertThat(waiter).isCancelled();
+	}
+
+	@Test
+	public void fluxShouldEmitPoppedElementsOnDemand() {
+
+		when(connection.bLPop(anyInt(), any())).thenReturn(Arrays.asList(KEY, "foo".getBytes()),
+				Arrays.asList(KEY, "bar".getBytes())).thenAnswer(invocation -> idle());
+
+		StepVerifier.create(new ReactiveBlockingListConsumer<>(consumer).leftPop("queue"), 1) //
+				.expectNext("foo") //
+				.thenRequest(1) //
+				.expectNext("bar") //
+				.thenCancel() //
+				.verify(Duration.ofSeconds(1));
+	}
+
+	static class PoisonRejectingSerializer extends StringRedisSerializer {
+
+		@Override
+		public String deserialize(byte[] bytes) {
+
+			String value = super.deserialize(bytes);
+			if ("poison".equals(value)) {
+				throw new SerializationException("o_O");
+			}
+			return value;
+		}
+	}
+
+	private static Object idle() throws InterruptedException {
+
+		Thread.sleep(10);
+		return null;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.IndexKeys.IndexQuery;
+import org.springframework.data.redis.core.convert.MappingRedisConverter;
+import org.springframework.data.redis.core.convert.SimpleIndexedPropertyValue;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.query.RedisOperationChain;
+import org.springframework.data.redis.repository.query.RedisOperationChain.NearPath;
+import org.springframework.data.redis.repository.query.RedisOperationChain.RangePath;
+
+/**
+ * Unit tests for {@link IndexKeys}.
+ */
+public class IndexKeysUnitTests {
+
+	private static final Charset CHARSET = Charset.forName("UTF-8");
+
+	IndexKeys indexKeys;
+
+	@Before
+	public void setUp() {
+
+		MappingRedisConverter converter = new MappingRedisConverter(new RedisMappingContext(), null, null);
+		converter.afterPropertiesSet();
+
+		indexKeys = new IndexKeys(converter.getConversionService());
+	}
+
+	@Test
+	public void shouldCreateIndexKeys() {
+
+		assertThat(indexKeys.indexKey(new SimpleIndexedPropertyValue("persons", "firstname", "rand")))
+				.isEqualTo(bytes("persons:firstname:rand"));
+		assertThat(indexKeys.indexHelperKey("persons", bytes("1"))).isEqualTo(bytes("persons:1:idx"));
+		assertThat(indexKeys.sortedIndexHelperKey("persons", bytes("1"))).isEqualTo(bytes("persons:1:idx:zset"));
+	}
+
+	@Test
+	public void queryShouldCollectSetAndGeoLookups() {
+
+		RedisOperationChain criteria = new RedisOperationChain();
+		criteria.sismember("firstname", "rand");
+		criteria.sismember("lastname", "al'thor");
+		criteria.orSismember("age", 24);
+		criteria.near(new NearPath("address.location", new Point(1, 2), new Distance(10)));
+
+		IndexQuery query = indexKeys.query(criteria, "persons");
+
+		assertThat(query.getIntersectKeys()).containsExactly(bytes("persons:firstname:rand"),
+				bytes("persons:lastname:al'thor"));
+		assertThat(query.getUnionKeys()).containsExactly(bytes("persons:age:24"));
+		assertThat(query.getGeoKey()).isEqualTo(bytes("persons:address:location"));
+		assertThat(query.getGeoWithin().getCenter()).isEqualTo(new Point(1, 2));
+		assertThat(query.getRanges()).isEmpty();
+		assertThat(query.hasCandidateLookups()).isTrue();
+	}
+
+	@Test
+	public void queryShouldUseRangeLookupsAsCandidatesWithoutOtherCriteria() {
+
+		RedisOperationChain criteria = new RedisOperationChain();
+		criteria.range(new RangePath("age", 18, true, 30, false));
+
+		IndexQuery query = indexKeys.query(criteria, "persons");
+
+		assertThat(query.hasCandidateLookups()).isFalse();
+		assertThat(query.getRanges()).hasSize(1);
+		assertThat(query.getRanges().get(0).getKey()).isEqualTo(bytes("persons:age"));
+	}
+
+	@Test
+	public void retainShouldKeepOrderOfCandidates() {
+
+		List<byte[]> result = IndexKeys.retain(Arrays.asList(bytes("3"), bytes("1"), bytes("2")),
+				Arrays.asList(bytes("1"), bytes("3")));
+
+		assertThat(result).containsExactly(bytes("3"), bytes("1"));
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(CHARSET);
+	}
+}
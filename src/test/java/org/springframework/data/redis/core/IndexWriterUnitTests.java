@@ -29,10 +29,12 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.geo.Point;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.convert.GeoIndexedPropertyValue;
 import org.springframework.data.redis.core.convert.IndexedData;
@@ -119,8 +121,7 @@ public class IndexWriterUnitTests {
 		byte[] indexKey1 = "persons:firstname:rand".getBytes(CHARSET);
 		byte[] indexKey2 = "persons:firstname:mat".getBytes(CHARSET);
 
-		when(connectionMock.keys(any(byte[].class)))
-				.thenReturn(new LinkedHashSet<byte[]>(Arrays.asList(indexKey1, indexKey2)));
+		when(connectionMock.scan(any(ScanOptions.class))).thenReturn(cursorOf(indexKey1, indexKey2));
 
 		writer.removeAllIndexes(KEYSPACE);
 
@@ -128,6 +129,54 @@ public class IndexWriterUnitTests {
 
 		verify(connectionMock, times(1)).del(captor.capture());
 		assertThat(captor.getAllValues(), hasItems(indexKey1, indexKey2));
+		verify(connectionMock, never()).keys(any(byte[].class));
+	}
+
+	@Test
+	public void removeAllIndexesShouldDeleteScannedKeysInBatches() {
+
+		byte[][] keys = new byte[250][];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = ("persons:firstname:" + i).getBytes(CHARSET);
+		}
+
+		when(connectionMock.scan(any(ScanOptions.class))).thenReturn(cursorOf(keys));
+
+		writer.removeAllIndexes(KEYSPACE);
+
+		verify(connectionMock, times(3)).del(Mockito.<byte[]> anyVararg());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void removeKeyFromIndexesShouldUseTrackedIndexTypesWithinPipeline() {
+
+		byte[] setIndex = "persons:firstname:rand".getBytes(CHARSET);
+		byte[] geoIndex = "persons:location".getBytes(CHARSET);
+
+		when(connectionMock.closePipeline()).thenReturn(
+				Arrays.<Object> asList(new LinkedHashSet<byte[]>(Arrays.asList(setIndex, geoIndex)),
+						new LinkedHashSet<byte[]>(Collections.singleton(geoIndex.clone()))),
+				Collections.emptyList());
+
+		writer.removeKeyFromIndexes(KEYSPACE, KEY_BIN);
+
+		verify(connectionMock, times(2)).openPipeline();
+		verify(connectionMock).sRem(setIndex, KEY_BIN);
+		verify(connectionMock).zRem(geoIndex, KEY_BIN);
+		verify(connectionMock, never()).sRem(geoIndex, KEY_BIN);
+		verify(connectionMock).del("persons:key-1:idx".getBytes(CHARSET), "persons:key-1:idx:zset".getBytes(CHARSET));
+		verify(connectionMock, never()).type(any(byte[].class));
+	}
+
+	@Test
+	public void addGeoIndexShouldTrackSortedIndexKey() {
+
+		writer.addKeyToIndex(KEY_BIN, new GeoIndexedPropertyValue(KEYSPACE, "location", new Point(1, 2)));
+
+		verify(connectionMock).sAdd(eq("persons:key-1:idx".getBytes(CHARSET)), eq("persons:location".getBytes(CHARSET)));
+		verify(connectionMock).sAdd(eq("persons:key-1:idx:zset".getBytes(CHARSET)),
+				eq("persons:location".getBytes(CHARSET)));
 	}
 
 	@Test(expected = InvalidDataAccessApiUsageException.class) // DATAREDIS-425
@@ -197,6 +246,17 @@ public class IndexWriterUnitTests {
 		verify(connectionMock).geoRemove(indexKey1, KEY_BIN);
 	}
 
+	private static Cursor<byte[]> cursorOf(final byte[]... keys) {
+
+		return new ScanCursor<byte[]>() {
+
+			@Override
+			protected ScanIteration<byte[]> doScan(long cursorId, ScanOptions options) {
+				return new ScanIteration<byte[]>(0, Arrays.asList(keys));
+			}
+		}.open();
+	}
+
 	static class StubIndxedData implements IndexedData {
 
 		@Override
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Bucket}.
+ */
+public class BucketUnitTests {
+
+	@Test
+	public void extractShouldOnlyReturnEntriesWithPrefix() {
+
+		Bucket bucket = new Bucket();
+		bucket.put("address.city", "two rivers".getBytes(Bucket.CHARSET));
+		bucket.put("address.country", "andor".getBytes(Bucket.CHARSET));
+		bucket.put("addresses.[0].city", "tar valon".getBytes(Bucket.CHARSET));
+		bucket.put("firstname", "rand".getBytes(Bucket.CHARSET));
+
+		assertThat(bucket.extract("address.").keySet()).containsExactly("address.city", "address.country");
+		assertThat(bucket.extract("unknown.").isEmpty()).isTrue();
+	}
+
+	@Test
+	public void extractShouldReflectValuesAddedAfterPreviousExtract() {
+
+		Bucket bucket = new Bucket();
+		bucket.put("address.city", "two rivers".getBytes(Bucket.CHARSET));
+
+		assertThat(bucket.extract("address.").size()).isEqualTo(1);
+
+		bucket.put("address.country", "andor".getBytes(Bucket.CHARSET));
+
+		assertThat(bucket.extract("address.").size()).isEqualTo(2);
+	}
+
+	@Test
+	public void extractedBucketShouldReflectValuesAddedToIt() {
+
+		Bucket bucket = new Bucket();
+		bucket.put("address.city", "two rivers".getBytes(Bucket.CHARSET));
+
+		Bucket address = bucket.extract("address.");
+		address.put("address.country", "andor".getBytes(Bucket.CHARSET));
+
+		assertThat(address.extract("address.").keySet()).containsExactly("address.city", "address.country");
+		assertThat(bucket.extract("address.").size()).isEqualTo(1);
+	}
+
+	@Test
+	public void extractAllKeysForShouldReturnElementPathsOfGivenPathOnly() {
+
+		Bucket bucket = new Bucket();
+		bucket.put("coworkers.[0].firstname", "mat".getBytes(Bucket.CHARSET));
+		bucket.put("coworkers.[0].nicknames.[0]", "prince of the ravens".getBytes(Bucket.CHARSET));
+		bucket.put("coworkers.[1].firstname", "perrin".getBytes(Bucket.CHARSET));
+		bucket.put("formerCoworkers.[0].firstname", "egwene".getBytes(Bucket.CHARSET));
+
+		assertThat(bucket.extractAllKeysFor("coworkers")).containsExactly("coworkers.[0]", "coworkers.[1]");
+		assertThat(bucket.extractAllKeysFor("coworkers.[0].nicknames")).containsExactly("coworkers.[0].nicknames.[0]");
+		assertThat(bucket.extractAllKeysFor("Coworkers")).isEmpty();
+	}
+
+	@Test
+	public void rawMapShouldReuseBinaryKeysOfRawSource() {
+
+		byte[] key = "firstname".getBytes(Bucket.CHARSET);
+		byte[] value = "rand".getBytes(Bucket.CHARSET);
+
+		Map<byte[], byte[]> source = new LinkedHashMap<byte[], byte[]>();
+		source.put(key, value);
+
+		Map<byte[], byte[]> raw = Bucket.newBucketFromRawMap(source).rawMap();
+
+		assertThat(raw.keySet()).containsExactly(key);
+		assertThat(raw.get(key)).isSameAs(value);
+	}
+}
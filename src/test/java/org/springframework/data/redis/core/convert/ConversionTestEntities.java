@@ -34,6 +34,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Reference;
+import org.springframework.data.redis.core.LazyReference;
 import org.springframework.data.redis.core.RedisHash;
 import org.springframework.data.redis.core.TimeToLive;
 import org.springframework.data.redis.core.index.Indexed;
@@ -86,6 +87,12 @@ public class ConversionTestEntities {
 		@Reference AddressWithId addressRef;
 	}
 
+	public static class PersonWithLazyReference extends Person {
+
+		@Reference @LazyReference List<Location> bookmarks;
+		@Reference @LazyReference Location home;
+	}
+
 	public static class Address {
 
 		String city;
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.core.convert.ConversionTestEntities.Location;
+import org.springframework.data.redis.core.convert.ConversionTestEntities.Person;
+import org.springframework.data.redis.core.convert.EntityPlan.PropertyPlan;
+import org.springframework.data.redis.core.convert.EntityPlan.ReadKind;
+import org.springframework.data.redis.core.convert.EntityPlan.WriteKind;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+
+/**
+ * Unit tests for {@link EntityPlan}.
+ */
+public class EntityPlanUnitTests {
+
+	MappingRedisConverter converter;
+
+	@Before
+	public void setUp() {
+
+		converter = new MappingRedisConverter(new RedisMappingContext(), null, null);
+		converter.afterPropertiesSet();
+	}
+
+	@Test
+	public void shouldResolvePropertyKinds() {
+
+		Map<String, PropertyPlan> properties = propertiesOf(plan(Person.class));
+
+		assertThat(properties.get("id").getWriteKind()).isEqualTo(WriteKind.ID);
+		assertThat(properties.get("firstname").getReadKind()).isEqualTo(ReadKind.SIMPLE);
+		assertThat(properties.get("address").getReadKind()).isEqualTo(ReadKind.ENTITY);
+		assertThat(properties.get("nicknames").getReadKind()).isEqualTo(ReadKind.COLLECTION);
+		assertThat(properties.get("nicknames").getCollectionValueType()).isEqualTo(String.class);
+		assertThat(properties.get("physicalAttributes").getReadKind()).isEqualTo(ReadKind.MAP_OF_SIMPLE_TYPES);
+		assertThat(properties.get("relatives").getReadKind()).isEqualTo(ReadKind.MAP_OF_COMPLEX_TYPES);
+		assertThat(properties.get("firstname").getBinaryName()).isEqualTo("firstname".getBytes(Bucket.CHARSET));
+	}
+
+	@Test
+	public void shouldSeparateAssociations() {
+
+		EntityPlan plan = plan(Person.class);
+
+		assertThat(plan.getAssociations()).extracting("name").contains("location", "visited");
+		assertThat(propertiesOf(plan)).doesNotContainKeys("location", "visited");
+	}
+
+	@Test
+	public void shouldCachePlanPerType() {
+
+		RedisPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(Location.class).get();
+
+		assertThat(converter.getPlan(entity)).isSameAs(converter.getPlan(entity));
+	}
+
+	@Test
+	public void shouldDropCachedPlansWhenConversionsChange() {
+
+		RedisPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(Location.class).get();
+		EntityPlan plan = converter.getPlan(entity);
+
+		converter.setCustomConversions(new RedisCustomConversions());
+		converter.afterPropertiesSet();
+
+		assertThat(converter.getPlan(entity)).isNotSameAs(plan);
+	}
+
+	private EntityPlan plan(Class<?> type) {
+		return converter.getPlan(converter.getMappingContext().getPersistentEntity(type).get());
+	}
+
+	private static Map<String, PropertyPlan> propertiesOf(EntityPlan plan) {
+
+		Map<String, PropertyPlan> properties = new LinkedHashMap<String, PropertyPlan>();
+		for (PropertyPlan property : plan.getProperties()) {
+			properties.put(property.getName(), property);
+		}
+		return properties;
+	}
+}
@@ -43,6 +43,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.mapping.model.MappingException;
@@ -699,6 +700,7 @@ public class MappingRedisConverterUnitTests {
 		locationMap.put("id", location.id);
 		locationMap.put("name", location.name);
 
+		doCallRealMethod().when(resolverMock).resolveReferences(any());
 		when(resolverMock.resolveReference(eq("1"), eq("locations")))
 				.thenReturn(Bucket.newBucketFromStringMap(locationMap).rawMap());
 
@@ -741,6 +743,7 @@ public class MappingRedisConverterUnitTests {
 		locationMap.put("id", location.id);
 		locationMap.put("name", location.name);
 
+		doCallRealMethod().when(resolverMock).resolveReferences(any());
 		when(resolverMock.resolveReference(eq("1"), eq("locations")))
 				.thenReturn(Bucket.newBucketFromStringMap(locationMap).rawMap());
 
@@ -806,6 +809,7 @@ public class MappingRedisConverterUnitTests {
 
 		Bucket.newBucketFromStringMap(tearMap).rawMap();
 
+		doCallRealMethod().when(resolverMock).resolveReferences(any());
 		when(resolverMock.resolveReference(eq("1"), eq("locations")))
 				.thenReturn(Bucket.newBucketFromStringMap(tarValonMap).rawMap());
 		when(resolverMock.resolveReference(eq("2"), eq("locations")))
@@ -825,6 +829,134 @@ public class MappingRedisConverterUnitTests {
 		assertThat(target.visited.get(2), is(tear));
 	}
 
+	@Test
+	public void readResolvesReferencesOfObjectGraphInOneBatchPerLevel() {
+
+		Map<String, String> tarValonMap = new LinkedHashMap<String, String>();
+		tarValonMap.put("id", "1");
+		tarValonMap.put("name", "tar valon");
+
+		Map<String, String> falmeMap = new LinkedHashMap<String, String>();
+		falmeMap.put("id", "2");
+		falmeMap.put("name", "falme");
+
+		Map<String, Map<byte[], byte[]>> hashes = new LinkedHashMap<String, Map<byte[], byte[]>>();
+		hashes.put("locations:1", Bucket.newBucketFromStringMap(tarValonMap).rawMap());
+		hashes.put("locations:2", Bucket.newBucketFromStringMap(falmeMap).rawMap());
+
+		when(resolverMock.resolveReferences(any())).thenReturn(hashes);
+
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		map.put("location", "locations:1");
+		map.put("visited.[0]", "locations:1");
+		map.put("visited.[1]", "locations:2");
+		map.put("coworkers.[0].location", "locations:2");
+
+		Person target = converter.read(Person.class, new RedisData(Bucket.newBucketFromStringMap(map)));
+
+		assertThat(target.location.name, is("tar valon"));
+		assertThat(target.visited.get(0), is(sameInstance(target.location)));
+		assertThat(target.visited.get(1).name, is("falme"));
+		assertThat(target.coworkers.get(0).location, is(sameInstance(target.visited.get(1))));
+
+		verify(resolverMock, times(1)).resolveReferences(any());
+		verify(resolverMock, never()).resolveReference(any(), any());
+	}
+
+	@Test
+	public void readOrdersListOfReferencesByIndex() {
+
+		Map<String, Map<byte[], byte[]>> hashes = new LinkedHashMap<String, Map<byte[], byte[]>>();
+		Map<String, String> map = new LinkedHashMap<String, String>();
+
+		for (int i = 0; i < 12; i++) {
+
+			Map<String, String> location = new LinkedHashMap<String, String>();
+			location.put("id", "" + i);
+			location.put("name", "location-" + i);
+
+			hashes.put("locations:" + i, Bucket.newBucketFromStringMap(location).rawMap());
+			map.put("visited.[" + i + "]", "locations:" + i);
+		}
+
+		when(resolverMock.resolveReferences(any())).thenReturn(hashes);
+
+		Person target = converter.read(Person.class, new RedisData(Bucket.newBucketFromStringMap(map)));
+
+		assertThat(target.visited, hasSize(12));
+		for (int i = 0; i < 12; i++) {
+			assertThat(target.visited.get(i).id, is("" + i));
+		}
+	}
+
+	@Test
+	public void readShouldResolveReferencesThroughGivenResolver() {
+
+		Map<String, String> tarValonMap = new LinkedHashMap<String, String>();
+		tarValonMap.put("id", "1");
+		tarValonMap.put("name", "tar valon");
+
+		Map<String, Map<byte[], byte[]>> hashes = new LinkedHashMap<String, Map<byte[], byte[]>>();
+		hashes.put("locations:1", Bucket.newBucketFromStringMap(tarValonMap).rawMap());
+
+		ReferenceResolver resolver = mock(ReferenceResolver.class);
+		when(resolver.resolveReferences(any())).thenReturn(hashes);
+
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		map.put("location", "locations:1");
+
+		Person target = converter.read(Person.class, new RedisData(Bucket.newBucketFromStringMap(map)), resolver);
+
+		assertThat(target.location.name, is("tar valon"));
+
+		verify(resolver, times(1)).resolveReferences(any());
+		verifyZeroInteractions(resolverMock);
+	}
+
+	@Test
+	public void readResolvesLazyReferenceOnFirstAccess() {
+
+		Map<String, String> tarValonMap = new LinkedHashMap<String, String>();
+		tarValonMap.put("id", "1");
+		tarValonMap.put("name", "tar valon");
+
+		Map<String, Map<byte[], byte[]>> hashes = new LinkedHashMap<String, Map<byte[], byte[]>>();
+		hashes.put("locations:1", Bucket.newBucketFromStringMap(tarValonMap).rawMap());
+
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		map.put("bookmarks.[0]", "locations:1");
+
+		PersonWithLazyReference target = converter.read(PersonWithLazyReference.class,
+				new RedisData(Bucket.newBucketFromStringMap(map)));
+
+		verifyZeroInteractions(resolverMock);
+
+		when(resolverMock.resolveReferences(any())).thenReturn(hashes);
+
+		assertThat(target.bookmarks, hasSize(1));
+		assertThat(target.bookmarks.get(0).name, is("tar valon"));
+
+		verify(resolverMock, times(1)).resolveReferences(any());
+	}
+
+	@Test
+	public void readFailsDescriptivelyOnAccessOfLazyReferenceToMissingHash() {
+
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		map.put("home", "locations:1");
+
+		PersonWithLazyReference target = converter.read(PersonWithLazyReference.class,
+				new RedisData(Bucket.newBucketFromStringMap(map)));
+
+		when(resolverMock.resolveReferences(any())).thenReturn(Collections.emptyMap());
+
+		exception.expect(DataRetrievalFailureException.class);
+		exception.expectMessage("home");
+		exception.expectMessage("locations:1");
+
+		target.home.toString();
+	}
+
 	@Test // DATAREDIS-425
 	public void writeSetsAnnotatedTimeToLiveCorrectly() {
 
@@ -24,6 +24,8 @@ import static org.mockito.Mockito.*;
 import static org.springframework.data.redis.core.convert.ConversionTestEntities.*;
 
 import java.lang.annotation.Annotation;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -54,6 +56,7 @@ import org.springframework.data.redis.core.convert.ConversionTestEntities.TheWhe
 import org.springframework.data.redis.core.index.GeoIndexed;
 import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.index.Indexed;
+import org.springframework.data.redis.core.index.RangeIndexed;
 import org.springframework.data.redis.core.index.SimpleIndexDefinition;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.util.ClassTypeInformation;
@@ -494,6 +497,38 @@ public class PathIndexResolverUnitTests {
 		indexResolver.resolveIndexesFor(ClassTypeInformation.from(GeoIndexedOnArray.class), source);
 	}
 
+	@Test
+	public void resolveRangeIndexOnNumericAndTemporalFields() {
+
+		RangeIndexedOnValues source = new RangeIndexedOnValues();
+		source.age = 43;
+		source.birthdate = LocalDate.ofEpochDay(100);
+		source.created = Instant.ofEpochMilli(1000);
+
+		Set<IndexedData> indexes = indexResolver.resolveIndexesFor(ClassTypeInformation.from(RangeIndexedOnValues.class),
+				source);
+
+		String keyspace = RangeIndexedOnValues.class.getName();
+
+		assertThat(indexes.size(), is(3));
+		assertThat(indexes,
+				IsCollectionContaining.<IndexedData> hasItems(new RangeIndexedPropertyValue(keyspace, "age", 43D),
+						new RangeIndexedPropertyValue(keyspace, "birthdate", 100D),
+						new RangeIndexedPropertyValue(keyspace, "created", 1000D)));
+	}
+
+	@Test
+	public void resolveRangeIndexOnNonNumericFieldThrowsError() {
+
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("RangeIndexed property needs to be a Number");
+
+		RangeIndexedOnString source = new RangeIndexedOnString();
+		source.value = "rand";
+
+		indexResolver.resolveIndexesFor(ClassTypeInformation.from(RangeIndexedOnString.class), source);
+	}
+
 	private IndexedData resolve(String path, Object value) {
 
 		Set<IndexedData> data = indexResolver.resolveIndex(KEYSPACE_PERSON, path, propertyMock, value);
@@ -549,4 +584,15 @@ public class PathIndexResolverUnitTests {
 	static class GeoIndexedOnArray {
 		@GeoIndexed double[] location;
 	}
+
+	static class RangeIndexedOnValues {
+
+		@RangeIndexed Integer age;
+		@RangeIndexed LocalDate birthdate;
+		@RangeIndexed Instant created;
+	}
+
+	static class RangeIndexedOnString {
+		@RangeIndexed String value;
+	}
 }
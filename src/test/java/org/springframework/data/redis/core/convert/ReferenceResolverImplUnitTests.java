@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+
+/**
+ * Unit tests for {@link ReferenceResolverImpl}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ReferenceResolverImplUnitTests {
+
+	static final byte[] PERSON_1 = "persons:1".getBytes();
+	static final byte[] PERSON_2 = "persons:2".getBytes();
+
+	@Mock RedisOperations<?, ?> redisOps;
+	@Mock RedisConnection connection;
+	@Mock RedisClusterConnection clusterConnection;
+
+	@Test
+	public void shouldPipelineMultipleReferences() {
+
+		executeCallbacksOn(connection);
+		when(connection.closePipeline()).thenReturn(Arrays.<Object> asList(Collections.emptyMap(),
+				Collections.emptyMap()));
+
+		Map<String, Map<byte[], byte[]>> result = new ReferenceResolverImpl(redisOps)
+				.resolveReferences(Arrays.asList("persons:1", "persons:2"));
+
+		assertThat(result).containsOnlyKeys("persons:1", "persons:2");
+		verify(connection).openPipeline();
+	}
+
+	@Test
+	public void shouldNotPipelineOnClusterConnection() {
+
+		executeCallbacksOn(clusterConnection);
+		when(clusterConnection.hGetAll(any())).thenReturn(Collections.emptyMap());
+
+		Map<String, Map<byte[], byte[]>> result = new ReferenceResolverImpl(redisOps)
+				.resolveReferences(Arrays.asList("persons:1", "persons:2"));
+
+		assertThat(result).containsOnlyKeys("persons:1", "persons:2");
+		verify(clusterConnection, never()).openPipeline();
+		verify(clusterConnection).hGetAll(PERSON_1);
+		verify(clusterConnection).hGetAll(PERSON_2);
+	}
+
+	@Test
+	public void shouldNotPipelineWhenAlreadyQueueing() {
+
+		executeCallbacksOn(connection);
+		when(connection.isQueueing()).thenReturn(true);
+
+		new ReferenceResolverImpl(redisOps).resolveReferences(Arrays.asList("persons:1", "persons:2"));
+
+		verify(connection, never()).openPipeline();
+		verify(connection).hGetAll(PERSON_1);
+		verify(connection).hGetAll(PERSON_2);
+	}
+
+	@Test
+	public void shouldNotClosePipelineThatFailedToOpen() {
+
+		executeCallbacksOn(connection);
+		doThrow(new InvalidDataAccessApiUsageException("o_O")).when(connection).openPipeline();
+
+		assertThatThrownBy(
+				() -> new ReferenceResolverImpl(redisOps).resolveReferences(Arrays.asList("persons:1", "persons:2")))
+						.isInstanceOf(InvalidDataAccessApiUsageException.class);
+		verify(connection, never()).closePipeline();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void executeCallbacksOn(RedisConnection target) {
+		when(redisOps.execute(any(RedisCallback.class)))
+				.thenAnswer(invocation -> ((RedisCallback) invocation.getArgument(0)).doInRedis(target));
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.SettingsUtils;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceTestClientResources;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+/**
+ * Integration tests for {@link DefaultReactiveScriptExecutor}.
+ */
+public class DefaultReactiveScriptExecutorTests {
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate stringTemplate;
+
+	private DefaultReactiveScriptExecutor<String> executor;
+
+	@BeforeClass
+	public static void setUp() {
+
+		connectionFactory = new LettuceConnectionFactory(SettingsUtils.getHost(), SettingsUtils.getPort());
+		connectionFactory.setClientResources(LettuceTestClientResources.getSharedClientResources());
+		connectionFactory.setShutdownTimeout(0);
+		connectionFactory.afterPropertiesSet();
+
+		stringTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterClass
+	public static void cleanUp() {
+
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@Before
+	public void before() {
+
+		RedisConnection connection = connectionFactory.getConnection();
+		connection.scriptFlush();
+		connection.flushDb();
+		connection.close();
+
+		executor = new DefaultReactiveScriptExecutor<>(connectionFactory, RedisSerializationContext.string());
+	}
+
+	@After
+	public void tearDown() {
+		connectionFactory.getConnection().flushDb();
+	}
+
+	@Test
+	public void shouldReturnLong() {
+
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("org/springframework/data/redis/core/script/increment.lua"));
+		script.setResultType(Long.class);
+
+		StepVerifier.create(executor.execute(script, Collections.singletonList("mykey"))).verifyComplete();
+
+		stringTemplate.opsForValue().set("mykey", "2");
+
+		StepVerifier.create(executor.execute(script, Collections.singletonList("mykey"))).expectNext(3L)
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldReturnBoolean() {
+
+		DefaultRedisScript<Boolean> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("org/springframework/data/redis/core/script/cas.lua"));
+		script.setResultType(Boolean.class);
+
+		stringTemplate.opsForValue().set("counter", "0");
+
+		StepVerifier.create(executor.execute(script, Collections.singletonList("counter"), Arrays.asList("0", "3")))
+				.expectNext(true).verifyComplete();
+
+		StepVerifier.create(executor.execute(script, Collections.singletonList("counter"), Arrays.asList("0", "3")))
+				.expectNext(false).verifyComplete();
+	}
+
+	@Test
+	public void shouldLoadScriptOnNoScriptErrorAndUseEvalShaAfterwards() {
+
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("org/springframework/data/redis/core/script/increment.lua"));
+		script.setResultType(Long.class);
+
+		stringTemplate.opsForValue().set("mykey", "2");
+
+		StepVerifier.create(executor.execute(script, Collections.singletonList("mykey"))).expectNext(3L)
+				.verifyComplete();
+
+		RedisConnection connection = connectionFactory.getConnection();
+		List<Boolean> exists = connection.scriptExists(script.getSha1());
+		connection.close();
+
+		assertThat(exists).containsExactly(true);
+	}
+
+	@Test
+	public void shouldReturnStatusAsEmpty() {
+
+		DefaultRedisScript<String> script = new DefaultRedisScript<>();
+		script.setScriptText("return redis.call('SET',KEYS[1], ARGV[1])");
+
+		StepVerifier.create(executor.execute(script, Collections.singletonList("foo"), Collections.singletonList("bar")))
+				.verifyComplete();
+
+		assertThat(stringTemplate.opsForValue().get("foo")).isEqualTo("bar");
+	}
+}
@@ -17,6 +17,8 @@ package org.springframework.data.redis.core.script;
 
 import static org.mockito.Mockito.*;
 
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -100,4 +102,33 @@ public class DefaultScriptExecutorUnitTests {
 
 		executor.execute(SCRIPT, null);
 	}
+
+	@Test
+	public void excuteShouldUseEvalShaInPipelineForRegisteredScript() {
+
+		when(redisConnectionMock.isPipelined()).thenReturn(true);
+
+		executor = new DefaultScriptExecutor<String>(template,
+				new ScriptRegistry(connectionFactoryMock, Collections.singleton(SCRIPT)));
+		executor.execute(SCRIPT, null);
+
+		verify(redisConnectionMock, times(1)).evalSha(eq(SCRIPT.getSha1()), any(ReturnType.class), anyInt());
+		verify(redisConnectionMock, never()).eval(any(byte[].class), any(ReturnType.class), anyInt());
+	}
+
+	@Test
+	public void excuteShouldReloadRegisteredScriptsInCaseNoSha1PresentForGivenScript() {
+
+		when(redisConnectionMock.evalSha(anyString(), any(ReturnType.class), anyInt()))
+				.thenThrow(new RedisSystemException("NOSCRIPT No matching script. Please use EVAL.", new Exception()))
+				.thenReturn("FOO".getBytes());
+
+		executor = new DefaultScriptExecutor<String>(template,
+				new ScriptRegistry(connectionFactoryMock, Collections.singleton(SCRIPT)));
+		executor.execute(SCRIPT, null);
+
+		verify(redisConnectionMock, times(1)).scriptLoad(SCRIPT.getScriptAsString().getBytes());
+		verify(redisConnectionMock, times(2)).evalSha(anyString(), any(ReturnType.class), anyInt());
+		verify(redisConnectionMock, never()).eval(any(byte[].class), any(ReturnType.class), anyInt());
+	}
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Unit tests for {@link ScriptRegistry}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ScriptRegistryUnitTests {
+
+	static final DefaultRedisScript<Long> INCR = new DefaultRedisScript<Long>("return redis.call('incr', KEYS[1])",
+			Long.class);
+	static final DefaultRedisScript<String> GET = new DefaultRedisScript<String>("return redis.call('get', KEYS[1])",
+			String.class);
+
+	@Mock RedisConnectionFactory connectionFactoryMock;
+	@Mock RedisConnection connectionMock;
+
+	@Test
+	public void shouldLoadRegisteredScriptsOnInitialization() {
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+
+		ScriptRegistry registry = new ScriptRegistry(connectionFactoryMock, Arrays.asList(INCR, GET));
+		registry.afterPropertiesSet();
+
+		verify(connectionMock).scriptLoad(INCR.getScriptAsString().getBytes());
+		verify(connectionMock).scriptLoad(GET.getScriptAsString().getBytes());
+		verify(connectionMock).close();
+	}
+
+	@Test
+	public void shouldLoadScriptRegisteredAfterInitialization() {
+
+		when(connectionFactoryMock.getConnection()).thenReturn(connectionMock);
+
+		ScriptRegistry registry = new ScriptRegistry(connectionFactoryMock);
+		registry.afterPropertiesSet();
+
+		registry.register(INCR);
+
+		assertThat(registry.isRegistered(INCR)).isTrue();
+		assertThat(registry.isRegistered(new DefaultRedisScript<Long>(INCR.getScriptAsString(), Long.class))).isTrue();
+		assertThat(registry.isRegistered(GET)).isFalse();
+		verify(connectionMock).scriptLoad(INCR.getScriptAsString().getBytes());
+	}
+
+	@Test
+	public void shouldNotLoadScriptsBeforeInitialization() {
+
+		ScriptRegistry registry = new ScriptRegistry(connectionFactoryMock);
+		registry.register(INCR);
+
+		assertThat(registry.getScripts()).containsExactly(INCR);
+		verifyZeroInteractions(connectionFactoryMock);
+	}
+}
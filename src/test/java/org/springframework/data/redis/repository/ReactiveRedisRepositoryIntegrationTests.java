@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.redis.SettingsUtils;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceTestClientResources;
+import org.springframework.data.redis.core.ReactiveRedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.convert.MappingRedisConverter;
+import org.springframework.data.redis.core.index.Indexed;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.ReactiveRedisRepositoryFactory;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * Integration tests for reactive Redis repositories backed by {@link ReactiveRedisKeyValueAdapter}.
+ */
+public class ReactiveRedisRepositoryIntegrationTests {
+
+	private static LettuceConnectionFactory connectionFactory;
+
+	private ReactiveRedisKeyValueAdapter adapter;
+	private PersonRepository repository;
+
+	@BeforeClass
+	public static void setUp() {
+
+		connectionFactory = new LettuceConnectionFactory(SettingsUtils.getHost(), SettingsUtils.getPort());
+		connectionFactory.setClientResources(LettuceTestClientResources.getSharedClientResources());
+		connectionFactory.setShutdownTimeout(0);
+		connectionFactory.afterPropertiesSet();
+	}
+
+	@AfterClass
+	public static void cleanUp() {
+
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@Before
+	public void before() {
+
+		RedisConnection connection = connectionFactory.getConnection();
+		connection.flushDb();
+		connection.close();
+
+		MappingRedisConverter converter = new MappingRedisConverter(new RedisMappingContext(), null, (id, keyspace) -> {
+			throw new IllegalStateException("References must be loaded using the reactive connection");
+		});
+		converter.afterPropertiesSet();
+
+		adapter = new ReactiveRedisKeyValueAdapter(connectionFactory, converter);
+		repository = new ReactiveRedisRepositoryFactory(adapter).getRepository(PersonRepository.class);
+	}
+
+	@Test
+	public void saveShouldGenerateIdAndFindById() {
+
+		Person rand = new Person(null, "rand", "al'thor");
+
+		StepVerifier.create(repository.save(rand)).expectNext(rand).verifyComplete();
+
+		assertThat(rand.getId()).isNotNull();
+
+		StepVerifier.create(repository.findById(rand.getId())).expectNext(rand).verifyComplete();
+		StepVerifier.create(repository.existsById(rand.getId())).expectNext(true).verifyComplete();
+	}
+
+	@Test
+	public void derivedQueryShouldUseIndexes() {
+
+		Person rand = new Person("1", "rand", "al'thor");
+		Person egwene = new Person("2", "egwene", "al'vere");
+		Person mat = new Person("3", "mat", "cauthon");
+
+		StepVerifier.create(repository.saveAll(Arrays.asList(rand, egwene, mat))).expectNextCount(3).verifyComplete();
+
+		StepVerifier.create(repository.findByFirstname("egwene")).expectNext(egwene).verifyComplete();
+		StepVerifier.create(repository.findOneByLastname("cauthon")).expectNext(mat).verifyComplete();
+		StepVerifier.create(repository.countByFirstname("rand")).expectNext(1L).verifyComplete();
+	}
+
+	@Test
+	public void saveShouldUpdateIndexes() {
+
+		Person rand = new Person("1", "rand", "al'thor");
+
+		StepVerifier.create(repository.save(rand)).expectNextCount(1).verifyComplete();
+
+		rand.setFirstname("dragon");
+
+		StepVerifier.create(repository.save(rand)).expectNextCount(1).verifyComplete();
+
+		StepVerifier.create(repository.findByFirstname("rand")).verifyComplete();
+		StepVerifier.create(repository.findByFirstname("dragon")).expectNext(rand).verifyComplete();
+	}
+
+	@Test
+	public void deleteShouldRemoveEntityAndIndexes() {
+
+		Person rand = new Person("1", "rand", "al'thor");
+		Person mat = new Person("2", "mat", "cauthon");
+
+		StepVerifier.create(repository.saveAll(Arrays.asList(rand, mat))).expectNextCount(2).verifyComplete();
+		StepVerifier.create(repository.delete(rand)).verifyComplete();
+
+		StepVerifier.create(repository.findById("1")).verifyComplete();
+		StepVerifier.create(repository.findByFirstname("rand")).verifyComplete();
+		StepVerifier.create(repository.findAll()).expectNext(mat).verifyComplete();
+		StepVerifier.create(repository.count()).expectNext(1L).verifyComplete();
+	}
+
+	@Test
+	public void deleteAllShouldRemoveKeyspace() {
+
+		StepVerifier.create(repository.saveAll(Arrays.asList(new Person("1", "rand", "al'thor"),
+				new Person("2", "mat", "cauthon")))).expectNextCount(2).verifyComplete();
+
+		StepVerifier.create(repository.deleteAll()).verifyComplete();
+
+		StepVerifier.create(repository.count()).expectNext(0L).verifyComplete();
+		StepVerifier.create(repository.findByFirstname("rand")).verifyComplete();
+	}
+
+	@Test
+	public void getShouldResolveReferences() {
+
+		Person rand = new Person("1", "rand", "al'thor");
+		Couple couple = new Couple("1", rand);
+
+		StepVerifier.create(repository.save(rand)).expectNextCount(1).verifyComplete();
+		StepVerifier.create(adapter.put(couple.getId(), couple, "reactive-couples")).expectNextCount(1).verifyComplete();
+
+		StepVerifier.create(adapter.get("1", "reactive-couples", Couple.class)).expectNext(couple).verifyComplete();
+	}
+
+	@Test
+	public void getShouldLeaveMissingReferenceUnset() {
+
+		Person rand = new Person("1", "rand", "al'thor");
+		Couple couple = new Couple("1", rand);
+
+		StepVerifier.create(adapter.put(couple.getId(), couple, "reactive-couples")).expectNextCount(1).verifyComplete();
+
+		StepVerifier.create(adapter.get("1", "reactive-couples", Couple.class)).expectNext(new Couple("1", null))
+				.verifyComplete();
+	}
+
+	interface PersonRepository extends ReactiveCrudRepository<Person, String> {
+
+		Flux<Person> findByFirstname(String firstname);
+
+		Mono<Person> findOneByLastname(String lastname);
+
+		Mono<Long> countByFirstname(String firstname);
+	}
+
+	@Data
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@RedisHash("reactive-persons")
+	static class Person {
+
+		@Id String id;
+		@Indexed String firstname;
+		@Indexed String lastname;
+	}
+
+	@Data
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@RedisHash("reactive-couples")
+	static class Couple {
+
+		@Id String id;
+		@Reference Person partner;
+	}
+}
@@ -19,6 +19,7 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
 import java.io.Serializable;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -43,6 +44,7 @@ import org.springframework.data.redis.core.index.GeoIndexed;
 import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.index.IndexDefinition;
 import org.springframework.data.redis.core.index.Indexed;
+import org.springframework.data.redis.core.index.RangeIndexed;
 import org.springframework.data.redis.core.index.SimpleIndexDefinition;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -346,6 +348,59 @@ public abstract class RedisRepositoryIntegrationTestBase {
 		assertThat(result, not(hasItems(p1)));
 	}
 
+	@Test
+	public void rangeQueryShouldReturnResultsWithinBounds() {
+
+		Person eddard = new Person("eddard", "stark", 43);
+		Person robb = new Person("robb", "stark", 17);
+		Person sansa = new Person("sansa", "stark", 13);
+
+		repo.saveAll(Arrays.asList(eddard, robb, sansa));
+
+		assertThat(repo.findByAgeBetween(13, 17), containsInAnyOrder(robb, sansa));
+		assertThat(repo.findByAgeGreaterThan(17), contains(eddard));
+		assertThat(repo.countByAgeLessThan(17), is(1L));
+	}
+
+	@Test
+	public void rangeQueryShouldBeIntersectedWithSimpleCriteria() {
+
+		Person eddard = new Person("eddard", "stark", 43);
+		Person robb = new Person("robb", "stark", 17);
+		Person otherEddard = new Person("eddard", "karstark", 12);
+
+		repo.saveAll(Arrays.asList(eddard, robb, otherEddard));
+
+		assertThat(repo.findByAgeGreaterThanEqualAndFirstname(17, "eddard"), contains(eddard));
+	}
+
+	@Test
+	public void rangeQueryShouldConsiderTemporalValues() {
+
+		Person eddard = new Person("eddard", "stark", 43);
+		eddard.birthdate = LocalDate.of(1970, 1, 1);
+
+		Person robb = new Person("robb", "stark", 17);
+		robb.birthdate = LocalDate.of(1996, 5, 10);
+
+		repo.saveAll(Arrays.asList(eddard, robb));
+
+		assertThat(repo.findByBirthdateAfter(LocalDate.of(1980, 1, 1)), contains(robb));
+	}
+
+	@Test
+	public void rangeIndexShouldBeUpdatedOnSave() {
+
+		Person robb = new Person("robb", "stark", 17);
+		repo.save(robb);
+
+		robb.age = 21;
+		repo.save(robb);
+
+		assertThat(repo.findByAgeGreaterThan(18), contains(robb));
+		assertThat(repo.findByAgeBetween(0, 18), is(empty()));
+	}
+
 	public static interface PersonRepository extends PagingAndSortingRepository<Person, String> {
 
 		List<Person> findByFirstname(String firstname);
@@ -367,6 +422,16 @@ public abstract class RedisRepositoryIntegrationTestBase {
 		Page<Person> findBy(Pageable page);
 
 		List<Person> findByHometownLocationNear(Point point, Distance distance);
+
+		List<Person> findByAgeBetween(Integer from, Integer to);
+
+		List<Person> findByAgeGreaterThan(Integer age);
+
+		List<Person> findByAgeGreaterThanEqualAndFirstname(Integer age, String firstname);
+
+		List<Person> findByBirthdateAfter(LocalDate date);
+
+		long countByAgeLessThan(Integer age);
 	}
 
 	public static interface CityRepository extends CrudRepository<City, String> {
@@ -409,6 +474,8 @@ public abstract class RedisRepositoryIntegrationTestBase {
 		String lastname;
 		@Reference City city;
 		City hometown;
+		@RangeIndexed Integer age;
+		@RangeIndexed LocalDate birthdate;
 
 		public Person() {}
 
@@ -418,6 +485,12 @@ public abstract class RedisRepositoryIntegrationTestBase {
 			this.lastname = lastname;
 		}
 
+		public Person(String firstname, String lastname, Integer age) {
+
+			this(firstname, lastname);
+			this.age = age;
+		}
+
 		public City getCity() {
 			return city;
 		}
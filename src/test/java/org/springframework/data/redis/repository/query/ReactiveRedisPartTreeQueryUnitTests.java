@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.ReactiveRedisKeyValueAdapter;
+import org.springframework.data.redis.core.convert.ConversionTestEntities.Person;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.QueryMethod;
+
+/**
+ * Unit tests for {@link ReactiveRedisPartTreeQuery}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ReactiveRedisPartTreeQueryUnitTests {
+
+	@Mock ReactiveRedisKeyValueAdapter adapter;
+	@Mock QueryMethod queryMethod;
+
+	RedisPersistentEntity<?> entity = new RedisMappingContext().getPersistentEntity(Person.class).get();
+
+	@Test
+	public void shouldApplyPageable() throws Exception {
+
+		when(adapter.find(any(), anyLong(), anyInt(), any(), any())).thenReturn(Flux.empty());
+
+		Object result = createQuery("findByFirstname", String.class, Pageable.class)
+				.execute(new Object[] { "rand", PageRequest.of(2, 10) });
+
+		StepVerifier.create((Publisher<?>) result).verifyComplete();
+
+		verify(adapter).find(any(RedisOperationChain.class), eq(20L), eq(10), eq("persons"), eq(Person.class));
+	}
+
+	@Test
+	public void shouldApplyLimitWithoutPageable() throws Exception {
+
+		when(adapter.find(any(), anyLong(), anyInt(), any(), any())).thenReturn(Flux.empty());
+
+		Object result = createQuery("findTop3ByFirstname", String.class).execute(new Object[] { "rand" });
+
+		StepVerifier.create((Publisher<?>) result).verifyComplete();
+
+		verify(adapter).find(any(RedisOperationChain.class), anyLong(), eq(3), eq("persons"), eq(Person.class));
+	}
+
+	@Test
+	public void shouldRejectSortedPageable() throws Exception {
+
+		Object result = createQuery("findByFirstname", String.class, Pageable.class)
+				.execute(new Object[] { "rand", PageRequest.of(0, 10, Sort.by("age")) });
+
+		StepVerifier.create((Publisher<?>) result).expectError(InvalidDataAccessApiUsageException.class).verify();
+
+		verifyZeroInteractions(adapter);
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void shouldRejectSortParameter() throws Exception {
+		createQuery("findByFirstname", String.class, Sort.class);
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void shouldRejectOrderBy() throws Exception {
+		createQuery("findByFirstnameOrderByAgeDesc", String.class);
+	}
+
+	private ReactiveRedisPartTreeQuery createQuery(String name, Class<?>... parameterTypes) throws Exception {
+
+		Method method = SampleRepository.class.getMethod(name, parameterTypes);
+
+		when(queryMethod.getName()).thenReturn(name);
+		doReturn(new DefaultParameters(method)).when(queryMethod).getParameters();
+
+		return new ReactiveRedisPartTreeQuery(method, queryMethod, entity, adapter);
+	}
+
+	interface SampleRepository extends Repository<Person, String> {
+
+		Flux<Person> findByFirstname(String firstname, Pageable pageable);
+
+		Flux<Person> findTop3ByFirstname(String firstname);
+
+		Flux<Person> findByFirstname(String firstname, Sort sort);
+
+		Flux<Person> findByFirstnameOrderByAgeDesc(String firstname);
+	}
+}
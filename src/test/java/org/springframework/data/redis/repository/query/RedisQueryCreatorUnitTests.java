@@ -22,6 +22,7 @@ import static org.hamcrest.core.IsNull.*;
 import static org.junit.Assert.*;
 
 import java.lang.reflect.Method;
+import java.util.Date;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -37,6 +38,7 @@ import org.springframework.data.geo.Shape;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.redis.core.convert.ConversionTestEntities.Person;
 import org.springframework.data.redis.repository.query.RedisOperationChain.PathAndValue;
+import org.springframework.data.redis.repository.query.RedisOperationChain.RangePath;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.DefaultParameters;
@@ -173,6 +175,55 @@ public class RedisQueryCreatorUnitTests {
 		creator.createQuery();
 	}
 
+	@Test
+	public void findByBetweenCreatesInclusiveRange() throws SecurityException, NoSuchMethodException {
+
+		RedisQueryCreator creator = createQueryCreatorForMethodWithArgs(
+				SampleRepository.class.getMethod("findByAgeBetween", Integer.class, Integer.class), new Object[] { 18, 43 });
+
+		KeyValueQuery<RedisOperationChain> query = creator.createQuery();
+
+		assertThat(query.getCriteria().getRange(), hasSize(1));
+		assertThat(query.getCriteria().getRange(), hasItem(new RangePath("age", 18, true, 43, true)));
+	}
+
+	@Test
+	public void findByAfterCreatesRangeWithExclusiveLowerBound() throws SecurityException, NoSuchMethodException {
+
+		Date date = new Date();
+
+		RedisQueryCreator creator = createQueryCreatorForMethodWithArgs(
+				SampleRepository.class.getMethod("findByBirthdateAfter", Date.class), new Object[] { date });
+
+		KeyValueQuery<RedisOperationChain> query = creator.createQuery();
+
+		assertThat(query.getCriteria().getRange(), hasItem(new RangePath("birthdate", date, false, null, false)));
+	}
+
+	@Test
+	public void findByLessThanEqualAndSimplePropertyCombinesRangeAndSismember()
+			throws SecurityException, NoSuchMethodException {
+
+		RedisQueryCreator creator = createQueryCreatorForMethodWithArgs(
+				SampleRepository.class.getMethod("findByAgeLessThanEqualAndFirstname", Integer.class, String.class),
+				new Object[] { 43, "eddard" });
+
+		KeyValueQuery<RedisOperationChain> query = creator.createQuery();
+
+		assertThat(query.getCriteria().getRange(), hasItem(new RangePath("age", null, false, 43, true)));
+		assertThat(query.getCriteria().getSismember(), hasItem(new PathAndValue("firstname", "eddard")));
+	}
+
+	@Test
+	public void findByRangeUsingOrIsRejected() throws SecurityException, NoSuchMethodException {
+
+		exception.expect(InvalidDataAccessApiUsageException.class);
+
+		createQueryCreatorForMethodWithArgs(
+				SampleRepository.class.getMethod("findByAgeGreaterThanOrFirstname", Integer.class, String.class),
+				new Object[] { 43, "eddard" }).createQuery();
+	}
+
 	private RedisQueryCreator createQueryCreatorForMethodWithArgs(Method method, Object[] args) {
 
 		PartTree partTree = new PartTree(method.getName(), method.getReturnType());
@@ -197,5 +248,13 @@ public class RedisQueryCreatorUnitTests {
 		Person findByLocationNear(Shape point, Object distance);
 
 		Person findByLocationNear(Shape point);
+
+		Person findByAgeBetween(Integer from, Integer to);
+
+		Person findByBirthdateAfter(Date date);
+
+		Person findByAgeLessThanEqualAndFirstname(Integer age, String firstname);
+
+		Person findByAgeGreaterThanOrFirstname(Integer age, String firstname);
 	}
 }
@@ -101,6 +101,24 @@ public class RedisAtomicDoubleTests extends AbstractRedisAtomicsTests {
 		assertTrue(doubleCounter.compareAndSet(10.6, 0));
 	}
 
+	@Test
+	public void testCheckAndSetAfterIncrement() {
+
+		doubleCounter.set(0);
+		doubleCounter.addAndGet(1);
+		assertTrue(doubleCounter.compareAndSet(1.0, 2.5));
+		assertEquals(2.5, doubleCounter.get(), 0.0);
+	}
+
+	@Test
+	public void testUpdateAndGet() {
+
+		doubleCounter.set(1.5);
+		assertEquals(3.0, doubleCounter.updateAndGet(value -> value * 2), 0.0);
+		assertEquals(3.0, doubleCounter.getAndAccumulate(0.5, Double::sum), 0.0);
+		assertEquals(3.5, doubleCounter.get(), 0.0);
+	}
+
 	@Test
 	public void testIncrementAndGet() throws Exception {
 		assumeTrue(!(ConnectionUtils.isJedis(factory)));
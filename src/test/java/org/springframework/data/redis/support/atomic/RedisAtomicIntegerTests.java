@@ -93,6 +93,31 @@ public class RedisAtomicIntegerTests extends AbstractRedisAtomicsTests {
 		assertTrue(intCounter.compareAndSet(10, 0));
 	}
 
+	@Test
+	public void testUpdateAndGet() {
+
+		intCounter.set(5);
+		assertEquals(10, intCounter.updateAndGet(value -> value * 2));
+		assertEquals(10, intCounter.getAndUpdate(value -> value + 1));
+		assertEquals(11, intCounter.get());
+	}
+
+	@Test
+	public void testAccumulateAndGet() {
+
+		intCounter.set(5);
+		assertEquals(7, intCounter.accumulateAndGet(7, Math::max));
+		assertEquals(7, intCounter.getAndAccumulate(3, Math::max));
+	}
+
+	@Test
+	public void testBoundedAddAndGet() {
+
+		intCounter.set(8);
+		assertEquals(10, intCounter.addAndGet(5, 0, 10));
+		assertEquals(0, intCounter.addAndGet(-20, 0, 10));
+	}
+
 	@Test
 	public void testIncrementAndGet() {
 		intCounter.set(0);
@@ -89,6 +89,50 @@ public class RedisAtomicLongTests extends AbstractRedisAtomicsTests {
 		assertTrue(longCounter.compareAndSet(10, 0));
 	}
 
+	@Test
+	public void testCheckAndSetAfterIncrement() {
+
+		longCounter.set(0);
+		longCounter.incrementAndGet();
+		assertTrue(longCounter.compareAndSet(1, 5));
+		assertEquals(5, longCounter.get());
+	}
+
+	@Test(expected = DataRetrievalFailureException.class)
+	public void testCheckAndSetOnRemovedKey() {
+
+		template.delete(longCounter.getKey());
+		longCounter.compareAndSet(0, 1);
+	}
+
+	@Test
+	public void testUpdateAndGet() {
+
+		longCounter.set(5);
+		assertEquals(10, longCounter.updateAndGet(value -> value * 2));
+		assertEquals(10, longCounter.getAndUpdate(value -> value + 1));
+		assertEquals(11, longCounter.get());
+	}
+
+	@Test
+	public void testAccumulateAndGet() {
+
+		longCounter.set(5);
+		assertEquals(7, longCounter.accumulateAndGet(7, Math::max));
+		assertEquals(7, longCounter.getAndAccumulate(3, Math::max));
+		assertEquals(7, longCounter.get());
+	}
+
+	@Test
+	public void testBoundedAddAndGet() {
+
+		longCounter.set(8);
+		assertEquals(9, longCounter.addAndGet(1, 0, 10));
+		assertEquals(10, longCounter.addAndGet(5, 0, 10));
+		assertEquals(0, longCounter.addAndGet(-20, 0, 10));
+		assertEquals(0, longCounter.get());
+	}
+
 	@Test
 	public void testIncrementAndGet() throws Exception {
 		longCounter.set(0);
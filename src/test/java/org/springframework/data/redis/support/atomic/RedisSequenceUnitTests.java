@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+/**
+ * Unit tests for {@link RedisSequence}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class RedisSequenceUnitTests {
+
+	@Mock RedisAtomicLong counter;
+	AtomicLong value = new AtomicLong();
+
+	@Before
+	public void setUp() {
+		when(counter.addAndGet(anyLong())).thenAnswer(invocation -> value.addAndGet(invocation.getArgument(0)));
+	}
+
+	@Test
+	public void shouldHandOutValuesOfReservedBlock() {
+
+		RedisSequence sequence = new RedisSequence(counter, 10);
+		sequence.setPrefetchThreshold(0);
+
+		for (long i = 1; i <= 10; i++) {
+			assertThat(sequence.nextValue()).isEqualTo(i);
+		}
+
+		verify(counter, times(1)).addAndGet(10);
+	}
+
+	@Test
+	public void shouldReserveNextBlockWhenExhausted() {
+
+		RedisSequence sequence = new RedisSequence(counter, 10);
+		sequence.setPrefetchThreshold(0);
+
+		for (int i = 0; i < 10; i++) {
+			sequence.nextValue();
+		}
+
+		assertThat(sequence.nextValue()).isEqualTo(11L);
+		verify(counter, times(2)).addAndGet(10);
+	}
+
+	@Test
+	public void shouldPrefetchNextBlock() {
+
+		RedisSequence sequence = new RedisSequence(counter, 10);
+		sequence.setPrefetchExecutor(Runnable::run);
+		sequence.setPrefetchThreshold(3);
+
+		for (int i = 0; i < 7; i++) {
+			sequence.nextValue();
+		}
+
+		verify(counter, times(2)).addAndGet(10);
+
+		for (long i = 8; i <= 20; i++) {
+			assertThat(sequence.nextValue()).isEqualTo(i);
+		}
+		verify(counter, times(3)).addAndGet(10);
+	}
+
+	@Test
+	public void shouldFallBackToSynchronousReservationWhenPrefetchFails() {
+
+		RedisSequence sequence = new RedisSequence(counter, 10);
+		sequence.setPrefetchExecutor(Runnable::run);
+		sequence.setPrefetchThreshold(5);
+
+		sequence.nextValue();
+		when(counter.addAndGet(anyLong())).thenThrow(new RedisConnectionFailureException("o_O"))
+				.thenAnswer(invocation -> value.addAndGet(invocation.getArgument(0)));
+
+		for (int i = 0; i < 9; i++) {
+			sequence.nextValue();
+		}
+
+		assertThat(sequence.nextValue()).isEqualTo(11L);
+	}
+
+	@Test
+	public void shouldHandOutUniqueValuesConcurrently() throws Exception {
+
+		RedisSequence sequence = new RedisSequence(counter, 7);
+		Set<Long> values = ConcurrentHashMap.newKeySet();
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<?>> futures = new ArrayList<Future<?>>();
+		for (int i = 0; i < 8; i++) {
+			futures.add(executor.submit(() -> {
+				for (int j = 0; j < 1000; j++) {
+					assertThat(values.add(sequence.nextValue())).isTrue();
+				}
+			}));
+		}
+
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertThat(values).hasSize(8000);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectThresholdNotLessThanBlockSize() {
+		new RedisSequence(counter, 10).setPrefetchThreshold(10);
+	}
+}
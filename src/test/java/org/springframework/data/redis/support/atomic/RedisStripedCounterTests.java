@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.atomic;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.springframework.data.redis.ConnectionFactoryTracker;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Integration test of {@link RedisStripedCounter}.
+ */
+@RunWith(Parameterized.class)
+public class RedisStripedCounterTests extends AbstractRedisAtomicsTests {
+
+	private RedisStripedCounter counter;
+	private RedisConnectionFactory factory;
+
+	public RedisStripedCounterTests(RedisConnectionFactory factory) {
+
+		this.counter = new RedisStripedCounter(getClass().getSimpleName() + ":striped", factory, 8);
+		this.factory = factory;
+
+		ConnectionFactoryTracker.add(factory);
+	}
+
+	@After
+	public void stop() {
+		RedisConnection connection = factory.getConnection();
+		connection.flushDb();
+		connection.close();
+	}
+
+	@AfterClass
+	public static void cleanUp() {
+		ConnectionFactoryTracker.cleanUp();
+	}
+
+	@Parameters
+	public static Collection<Object[]> testParams() {
+		return AtomicCountersParam.testParams();
+	}
+
+	@Test
+	public void sumOfEmptyCounterIsZero() {
+		assertEquals(0, counter.sum());
+	}
+
+	@Test
+	public void sumsUpdatesAcrossStripes() {
+
+		for (int i = 0; i < 100; i++) {
+			counter.increment();
+		}
+		counter.add(10);
+		counter.decrement();
+
+		assertEquals(109, counter.sum());
+		assertEquals(109, counter.longValue());
+	}
+
+	@Test
+	public void resetRemovesAllStripes() {
+
+		for (int i = 0; i < 20; i++) {
+			counter.increment();
+		}
+		counter.reset();
+
+		assertEquals(0, counter.sum());
+	}
+
+	@Test
+	public void stripesShareSingleSlotByDefault() {
+
+		assertThat(counter.getStripeKeys().size(), is(8));
+		assertThat(slotsOf(counter).size(), is(1));
+	}
+
+	@Test
+	public void stripesAreDistributedAcrossGivenSlots() {
+
+		RedisStripedCounter spread = new RedisStripedCounter(getClass().getSimpleName() + ":spread", factory, 8, 4);
+
+		assertThat(spread.getStripeKeys().size(), is(8));
+		assertThat(slotsOf(spread).size(), is(4));
+	}
+
+	@Test
+	public void sumsUpdatesAcrossSlots() {
+
+		RedisStripedCounter spread = new RedisStripedCounter(getClass().getSimpleName() + ":spread", factory, 8, 4);
+
+		for (int i = 0; i < 100; i++) {
+			spread.increment();
+		}
+
+		assertEquals(100, spread.sum());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsZeroStripes() {
+		new RedisStripedCounter("invalid", factory, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMoreSlotsThanStripes() {
+		new RedisStripedCounter("invalid", factory, 2, 3);
+	}
+
+	private static Set<Integer> slotsOf(RedisStripedCounter counter) {
+
+		Set<Integer> slots = new HashSet<Integer>();
+		for (String stripeKey : counter.getStripeKeys()) {
+			slots.add(ClusterSlotHashUtil.calculateSlot(stripeKey));
+		}
+		return slots;
+	}
+}
@@ -25,6 +25,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -356,6 +357,79 @@ public abstract class AbstractRedisListTests<T> extends AbstractRedisCollectionT
 
 	}
 
+	@Test
+	public void testIteratorFetchesWindows() {
+
+		List<T> expected = fillList(7);
+		((DefaultRedisList<T>) list).setIterationBatchSize(3);
+
+		Iterator<T> iterator = list.iterator();
+		for (T t : expected) {
+			assertTrue(iterator.hasNext());
+			assertThat(iterator.next(), isEqual(t));
+		}
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void testIteratorRemoveAcrossWindows() {
+
+		List<T> expected = fillList(7);
+		((DefaultRedisList<T>) list).setIterationBatchSize(3);
+
+		Iterator<T> iterator = list.iterator();
+		int index = 0;
+		while (iterator.hasNext()) {
+			assertThat(iterator.next(), isEqual(expected.get(index)));
+			if (index++ % 2 == 0) {
+				iterator.remove();
+			}
+		}
+
+		assertEquals(7, index);
+		assertEquals(3, list.size());
+		assertThat(list.get(0), isEqual(expected.get(1)));
+		assertThat(list.get(2), isEqual(expected.get(5)));
+	}
+
+	@Test
+	public void testDescendingIteratorFetchesWindows() {
+
+		List<T> expected = fillList(7);
+		((DefaultRedisList<T>) list).setIterationBatchSize(3);
+
+		Iterator<T> iterator = list.descendingIterator();
+		for (int i = expected.size() - 1; i >= 0; i--) {
+			assertThat(iterator.next(), isEqual(expected.get(i)));
+		}
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void testParallelStreamKeepsOrder() {
+
+		List<T> expected = fillList(10);
+		((DefaultRedisList<T>) list).setIterationBatchSize(2);
+
+		List<T> result = list.parallelStream().collect(Collectors.toList());
+
+		assertEquals(expected.size(), result.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertThat(result.get(i), isEqual(expected.get(i)));
+		}
+	}
+
+	private List<T> fillList(int size) {
+
+		List<T> elements = new ArrayList<T>(size);
+		for (int i = 0; i < size; i++) {
+			T t = getT();
+			elements.add(t);
+			list.add(t);
+		}
+		return elements;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testDrainToCollectionWithMaxElements() {
@@ -25,6 +25,7 @@ import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -400,6 +401,47 @@ public abstract class AbstractRedisMapTests<K, V> {
 		assertThat(values, not(hasItem(v2)));
 	}
 
+	@Test
+	public void testEntrySetSpanningMultiplePages() {
+
+		assumeTrue(map instanceof DefaultRedisMap);
+		((DefaultRedisMap<K, V>) map).setIterationBatchSize(10);
+
+		Map<K, V> expected = new LinkedHashMap<K, V>();
+		for (int i = 0; i < 300; i++) {
+			expected.put(getKey(), getValue());
+		}
+		map.putAll(expected);
+
+		int count = 0;
+		for (Entry<K, V> entry : map.entrySet()) {
+			assertThat(entry.getValue(), isEqual(map.get(entry.getKey())));
+			count++;
+		}
+
+		assertEquals(expected.size(), count);
+		assertEquals(expected.size(), map.entrySet().parallelStream().count());
+	}
+
+	@Test
+	public void testEntrySetIteratorRemove() {
+
+		assumeTrue(map instanceof DefaultRedisMap);
+		((DefaultRedisMap<K, V>) map).setIterationBatchSize(10);
+
+		for (int i = 0; i < 300; i++) {
+			map.put(getKey(), getValue());
+		}
+
+		Iterator<Entry<K, V>> iterator = map.entrySet().iterator();
+		while (iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+
+		assertTrue(map.isEmpty());
+	}
+
 	@Test
 	public void testPutIfAbsent() {
 
@@ -254,6 +254,88 @@ public abstract class AbstractRedisSetTests<T> extends AbstractRedisCollectionTe
 		assertEquals(0, result.size());
 	}
 
+	@Test
+	public void testAddAllAndRemoveAllSpanningMultipleChunks() {
+
+		List<T> elements = new ArrayList<T>();
+		for (int i = 0; i < 2500; i++) {
+			elements.add(getT());
+		}
+
+		assertTrue(set.addAll(elements));
+		assertFalse(set.addAll(elements.subList(0, 10)));
+		assertEquals(2500, set.size());
+
+		assertTrue(set.removeAll(elements.subList(0, 1500)));
+		assertEquals(1000, set.size());
+		assertFalse(set.removeAll(elements.subList(0, 1500)));
+	}
+
+	@Test
+	public void testIteratorSpanningMultiplePages() {
+
+		List<T> elements = fillSet(300);
+		((DefaultRedisSet<T>) set).setIterationBatchSize(10);
+
+		List<T> remaining = new ArrayList<T>(elements);
+		Iterator<T> iterator = set.iterator();
+		while (iterator.hasNext()) {
+			removeMatching(remaining, iterator.next());
+		}
+
+		assertEquals(0, remaining.size());
+	}
+
+	@Test
+	public void testIteratorRemoveSpanningMultiplePages() {
+
+		fillSet(300);
+		((DefaultRedisSet<T>) set).setIterationBatchSize(10);
+
+		Iterator<T> iterator = set.iterator();
+		while (iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+
+		assertEquals(0, set.size());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testParallelStreamSpanningMultiplePages() {
+
+		List<T> elements = fillSet(300);
+		((DefaultRedisSet<T>) set).setIterationBatchSize(10);
+
+		List<T> remaining = new ArrayList<T>(elements);
+		for (Object element : set.parallelStream().toArray()) {
+			removeMatching(remaining, (T) element);
+		}
+
+		assertEquals(0, remaining.size());
+	}
+
+	private List<T> fillSet(int size) {
+
+		List<T> elements = new ArrayList<T>(size);
+		for (int i = 0; i < size; i++) {
+			elements.add(getT());
+		}
+		set.addAll(elements);
+		return elements;
+	}
+
+	private void removeMatching(List<T> elements, T element) {
+
+		Iterator<T> iterator = elements.iterator();
+		while (iterator.hasNext()) {
+			if (isEqual(element).matches(iterator.next())) {
+				iterator.remove();
+			}
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testToArray() {
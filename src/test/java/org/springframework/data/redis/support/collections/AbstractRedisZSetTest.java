@@ -21,8 +21,12 @@ import static org.junit.Assume.*;
 import static org.springframework.data.redis.matcher.RedisTestMatchers.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
@@ -118,6 +122,45 @@ public abstract class AbstractRedisZSetTest<T> extends AbstractRedisCollectionTe
 		assertEquals(d, zSet.score(t3));
 	}
 
+	@Test
+	public void testAddAllWithScores() {
+
+		T t1 = getT();
+		T t2 = getT();
+		T t3 = getT();
+
+		Map<T, Double> elements = new LinkedHashMap<T, Double>();
+		elements.put(t1, 5D);
+		elements.put(t2, 3D);
+		elements.put(t3, 4D);
+
+		assertTrue(zSet.addAll(elements));
+		assertFalse(zSet.addAll(elements));
+
+		Iterator<T> iterator = zSet.iterator();
+		assertThat(iterator.next(), isEqual(t2));
+		assertThat(iterator.next(), isEqual(t3));
+		assertThat(iterator.next(), isEqual(t1));
+		assertThat(zSet.score(t1), is(5D));
+	}
+
+	@Test
+	public void testAddAllAndRemoveAllSpanningMultipleChunks() {
+
+		List<T> elements = new ArrayList<T>();
+		for (int i = 0; i < 2500; i++) {
+			elements.add(getT());
+		}
+
+		assertTrue(zSet.addAll(elements));
+		assertEquals(2500, zSet.size());
+		assertThat(zSet.score(elements.get(2499)), is(zSet.getDefaultScore()));
+
+		assertTrue(zSet.removeAll(elements.subList(0, 1500)));
+		assertEquals(1000, zSet.size());
+		assertFalse(zSet.removeAll(elements.subList(0, 1500)));
+	}
+
 	@Test
 	public void testFirst() {
 		T t1 = getT();
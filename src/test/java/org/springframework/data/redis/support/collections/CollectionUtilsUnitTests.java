@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+
+/**
+ * Unit tests for {@link CollectionUtils}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class CollectionUtilsUnitTests {
+
+	@Mock RedisOperations<String, Object> operations;
+	@Mock RedisConnection connection;
+	@Mock RedisClusterConnection clusterConnection;
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void shouldPipelineChunks() {
+
+		executeCallbacksOn(connection);
+		when(operations.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+
+			((SessionCallback) invocation.getArgument(0)).execute(operations);
+			return Arrays.<Object> asList(1000L, 1L);
+		});
+
+		List<Integer> chunkSizes = new ArrayList<>();
+		long result = CollectionUtils.executeInChunks(operations, elements(1001), (ops, chunk) -> {
+
+			chunkSizes.add(chunk.length);
+			return null;
+		});
+
+		assertThat(result).isEqualTo(1001);
+		assertThat(chunkSizes).containsExactly(1000, 1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldNotPipelineChunksOnClusterConnection() {
+
+		executeCallbacksOn(clusterConnection);
+
+		List<Integer> chunkSizes = new ArrayList<>();
+		long result = CollectionUtils.executeInChunks(operations, elements(1001), (ops, chunk) -> {
+
+			chunkSizes.add(chunk.length);
+			return (long) chunk.length;
+		});
+
+		assertThat(result).isEqualTo(1001);
+		assertThat(chunkSizes).containsExactly(1000, 1);
+		verify(operations, never()).executePipelined(any(SessionCallback.class));
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void executeCallbacksOn(RedisConnection target) {
+		when(operations.execute(any(RedisCallback.class)))
+				.thenAnswer(invocation -> ((RedisCallback) invocation.getArgument(0)).doInRedis(target));
+	}
+
+	private static List<Object> elements(int count) {
+
+		List<Object> elements = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			elements.add("element-" + i);
+		}
+		return elements;
+	}
+}
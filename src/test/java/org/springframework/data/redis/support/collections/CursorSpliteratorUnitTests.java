@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.core.ScanIteration;
+
+/**
+ * Unit tests for {@link CursorSpliterator}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class CursorSpliteratorUnitTests {
+
+	@Mock LongFunction<ScanIteration<String>> pages;
+
+	@Test
+	public void shouldFetchFirstPageOnFirstUse() {
+
+		when(pages.apply(0L)).thenReturn(page(0, "spring"));
+
+		Spliterator<String> spliterator = new CursorSpliterator<String>(pages);
+
+		verifyZeroInteractions(pages);
+		assertThat(spliterator.tryAdvance(element -> {})).isTrue();
+		assertThat(spliterator.tryAdvance(element -> {})).isFalse();
+		verify(pages).apply(0L);
+	}
+
+	@Test
+	public void shouldNotReportSizeOrDistinctness() {
+
+		Spliterator<String> spliterator = new CursorSpliterator<String>(pages);
+
+		assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+		assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isFalse();
+		assertThat(spliterator.hasCharacteristics(Spliterator.DISTINCT)).isFalse();
+		assertThat(spliterator.estimateSize()).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	public void shouldFollowCursorIdUntilZero() {
+
+		when(pages.apply(0L)).thenReturn(page(42, "spring"));
+		when(pages.apply(42L)).thenReturn(page(7));
+		when(pages.apply(7L)).thenReturn(page(0, "data", "redis"));
+
+		assertThat(StreamSupport.stream(new CursorSpliterator<String>(pages), false).collect(Collectors.toList()))
+				.containsExactly("spring", "data", "redis");
+	}
+
+	@Test
+	public void shortCircuitedStreamShouldNotFetchFurtherPages() {
+
+		when(pages.apply(0L)).thenReturn(page(42, "spring", "data"));
+
+		assertThat(StreamSupport.stream(new CursorSpliterator<String>(pages), false).findFirst()).contains("spring");
+		verify(pages, never()).apply(42L);
+	}
+
+	@Test
+	public void trySplitShouldHandOffFetchedPage() {
+
+		when(pages.apply(0L)).thenReturn(page(42, "spring", "data"));
+		when(pages.apply(42L)).thenReturn(page(0, "redis"));
+
+		Spliterator<String> spliterator = new CursorSpliterator<String>(pages);
+		spliterator.tryAdvance(element -> {});
+
+		Spliterator<String> split = spliterator.trySplit();
+
+		assertThat(split.hasCharacteristics(Spliterator.SIZED)).isTrue();
+		assertThat(drain(split)).containsExactly("data");
+		assertThat(drain(spliterator)).containsExactly("redis");
+		assertThat(spliterator.trySplit()).isNull();
+	}
+
+	private static List<String> drain(Spliterator<String> spliterator) {
+
+		List<String> elements = new ArrayList<String>();
+		spliterator.forEachRemaining(elements::add);
+		return elements;
+	}
+
+	private static ScanIteration<String> page(long cursorId, String... elements) {
+		return new ScanIteration<String>(cursorId, Arrays.asList(elements));
+	}
+}
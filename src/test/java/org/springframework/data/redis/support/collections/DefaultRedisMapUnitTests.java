@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Unit tests for {@link DefaultRedisMap}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class DefaultRedisMapUnitTests {
+
+	@Mock RedisConnectionFactory connectionFactory;
+	@Mock RedisConnection connection;
+
+	DefaultRedisMap<String, String> map;
+
+	@Before
+	public void setUp() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+
+		StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+		map = new DefaultRedisMap<String, String>("map", template);
+	}
+
+	@Test
+	public void entryIteratorAbandonedAfterFirstPageShouldReleaseConnection() {
+
+		Map<byte[], byte[]> page = Collections.singletonMap("spring".getBytes(), "data".getBytes());
+		when(connection.hScanPage(any(byte[].class), eq(0L), any(ScanOptions.class)))
+				.thenReturn(new ScanIteration<Map.Entry<byte[], byte[]>>(42, page.entrySet()));
+
+		Iterator<Map.Entry<String, String>> iterator = map.entrySet().iterator();
+		Map.Entry<String, String> entry = iterator.next();
+
+		assertThat(entry.getKey()).isEqualTo("spring");
+		assertThat(entry.getValue()).isEqualTo("data");
+		verify(connectionFactory).getConnection();
+		verify(connection).close();
+		verify(connection, never()).hScanPage(any(byte[].class), eq(42L), any(ScanOptions.class));
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Unit tests for {@link DefaultRedisSet}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class DefaultRedisSetUnitTests {
+
+	@Mock RedisConnectionFactory connectionFactory;
+	@Mock RedisConnection connection;
+
+	DefaultRedisSet<String> set;
+
+	@Before
+	public void setUp() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+
+		StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+		set = new DefaultRedisSet<String>("set", template);
+	}
+
+	@Test
+	public void iteratorAbandonedAfterFirstPageShouldReleaseConnection() {
+
+		when(connection.sScanPage(any(byte[].class), eq(0L), any(ScanOptions.class)))
+				.thenReturn(new ScanIteration<byte[]>(42, Arrays.asList("spring".getBytes(), "data".getBytes())));
+
+		Iterator<String> iterator = set.iterator();
+
+		assertThat(iterator.next()).isEqualTo("spring");
+		verify(connectionFactory).getConnection();
+		verify(connection).close();
+		verify(connection, never()).sScanPage(any(byte[].class), eq(42L), any(ScanOptions.class));
+	}
+
+	@Test
+	public void iteratorShouldReleaseConnectionAfterEachPage() {
+
+		when(connection.sScanPage(any(byte[].class), eq(0L), any(ScanOptions.class)))
+				.thenReturn(new ScanIteration<byte[]>(42, Arrays.asList("spring".getBytes())));
+		when(connection.sScanPage(any(byte[].class), eq(42L), any(ScanOptions.class)))
+				.thenReturn(new ScanIteration<byte[]>(0, Arrays.asList("data".getBytes())));
+
+		assertThat(set.iterator()).containsExactly("spring", "data");
+		verify(connectionFactory, times(2)).getConnection();
+		verify(connection, times(2)).close();
+	}
+}